@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.benchmarks.aggregator;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.aggregator.AggregatingMessageHandler;
+import org.springframework.integration.aggregator.DefaultAggregatingMessageGroupProcessor;
+import org.springframework.integration.config.EnableIntegration;
+import org.springframework.integration.store.SimpleMessageStore;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+
+/**
+ * JMH benchmarks for the {@link AggregatingMessageHandler} backed by the {@link SimpleMessageStore}.
+ * <p>
+ * Each benchmark invocation sends all the messages for one group, so the score is per released group.
+ * Every thread works with its own pool of correlation keys, which are reused after the group is released
+ * (the {@code expireGroupsUponCompletion} is {@code true}).
+ *
+ * @since 6.5
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AggregatorBenchmarks {
+
+	@Benchmark
+	@Threads(1)
+	public void aggregateSingleThread(AggregatorState aggregator, GroupsState groups) {
+		aggregate(aggregator, groups);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void aggregateConcurrent(AggregatorState aggregator, GroupsState groups) {
+		aggregate(aggregator, groups);
+	}
+
+	private static void aggregate(AggregatorState aggregator, GroupsState groups) {
+		for (Message<?> message : groups.nextGroup()) {
+			aggregator.handler.handleMessage(message);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class AggregatorState {
+
+		AnnotationConfigApplicationContext context;
+
+		AggregatingMessageHandler handler;
+
+		@Setup
+		public void setup(Blackhole blackhole) {
+			this.context = new AnnotationConfigApplicationContext();
+			this.context.registerBean("blackhole", Blackhole.class, () -> blackhole);
+			this.context.register(AggregatorConfiguration.class);
+			this.context.refresh();
+			this.handler = this.context.getBean(AggregatingMessageHandler.class);
+		}
+
+		@TearDown
+		public void tearDown() {
+			this.context.close();
+		}
+
+	}
+
+	@State(Scope.Thread)
+	public static class GroupsState {
+
+		private static final int GROUPS = 128;
+
+		@Param({ "2", "10", "100" })
+		int groupSize;
+
+		Message<?>[][] groups;
+
+		int index;
+
+		@Setup
+		public void setup() {
+			this.groups = new Message<?>[GROUPS][];
+			for (int i = 0; i < GROUPS; i++) {
+				String correlationId = UUID.randomUUID().toString();
+				Message<?>[] group = new Message<?>[this.groupSize];
+				for (int j = 0; j < this.groupSize; j++) {
+					group[j] =
+							MessageBuilder.withPayload(j)
+									.setCorrelationId(correlationId)
+									.setSequenceNumber(j + 1)
+									.setSequenceSize(this.groupSize)
+									.build();
+				}
+				this.groups[i] = group;
+			}
+		}
+
+		Message<?>[] nextGroup() {
+			Message<?>[] group = this.groups[this.index];
+			this.index = (this.index + 1) % GROUPS;
+			return group;
+		}
+
+	}
+
+	@Configuration
+	@EnableIntegration
+	public static class AggregatorConfiguration {
+
+		@Bean
+		public SimpleMessageStore messageStore() {
+			return new SimpleMessageStore();
+		}
+
+		@Bean
+		public AggregatingMessageHandler aggregator(Blackhole blackhole) {
+			AggregatingMessageHandler handler =
+					new AggregatingMessageHandler(new DefaultAggregatingMessageGroupProcessor(), messageStore());
+			handler.setExpireGroupsUponCompletion(true);
+			handler.setOutputChannel((message, timeout) -> {
+				blackhole.consume(message);
+				return true;
+			});
+			return handler;
+		}
+
+	}
+
+}
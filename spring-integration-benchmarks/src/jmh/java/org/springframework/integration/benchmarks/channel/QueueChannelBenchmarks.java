@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.benchmarks.channel;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.config.EnableIntegration;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+
+/**
+ * JMH benchmarks for the {@link QueueChannel}.
+ * <p>
+ * The {@code sendAndReceive} benchmark measures the single-threaded cost of
+ * a {@code send()}/{@code receive()} pair.
+ * The {@code contended} group measures the queue under concurrent producers
+ * and consumers.
+ *
+ * @since 6.5
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueueChannelBenchmarks {
+
+	@Benchmark
+	public Message<?> sendAndReceive(QueueState state) {
+		state.channel.send(state.message);
+		return state.channel.receive(0);
+	}
+
+	@Benchmark
+	@Group("contended")
+	@GroupThreads(4)
+	public boolean producer(QueueState state) {
+		return state.channel.send(state.message, 10);
+	}
+
+	@Benchmark
+	@Group("contended")
+	@GroupThreads(4)
+	public Message<?> consumer(QueueState state) {
+		return state.channel.receive(10);
+	}
+
+	@State(Scope.Group)
+	public static class QueueState {
+
+		AnnotationConfigApplicationContext context;
+
+		QueueChannel channel;
+
+		Message<String> message;
+
+		@Setup
+		public void setup() {
+			this.context = new AnnotationConfigApplicationContext(QueueChannelConfiguration.class);
+			this.channel = this.context.getBean(QueueChannel.class);
+			this.message = MessageBuilder.withPayload("test").build();
+		}
+
+		@TearDown
+		public void tearDown() {
+			this.context.close();
+		}
+
+	}
+
+	@Configuration
+	@EnableIntegration
+	public static class QueueChannelConfiguration {
+
+		@Bean
+		public QueueChannel queueChannel() {
+			return new QueueChannel(10_000);
+		}
+
+	}
+
+}
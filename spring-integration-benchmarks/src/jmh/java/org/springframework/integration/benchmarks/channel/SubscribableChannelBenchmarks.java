@@ -0,0 +1,258 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.benchmarks.channel;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.channel.AbstractSubscribableChannel;
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.channel.ExecutorChannel;
+import org.springframework.integration.channel.PartitionedChannel;
+import org.springframework.integration.channel.PublishSubscribeChannel;
+import org.springframework.integration.config.EnableIntegration;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * JMH benchmarks for the {@link org.springframework.messaging.SubscribableChannel}
+ * implementations: {@link DirectChannel}, {@link PublishSubscribeChannel},
+ * {@link ExecutorChannel} and {@link PartitionedChannel}.
+ * <p>
+ * The synchronous channels are measured per {@code send()}.
+ * The asynchronous channels are measured end-to-end: a batch of messages is sent
+ * and the benchmark waits until all of them have been handled,
+ * so the score is normalized per delivered message.
+ *
+ * @since 6.5
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubscribableChannelBenchmarks {
+
+	private static final int BATCH = 1000;
+
+	@Benchmark
+	public boolean directChannel(DirectState state) {
+		return state.channel.send(state.message);
+	}
+
+	@Benchmark
+	public boolean publishSubscribeChannel(PublishSubscribeState state) {
+		return state.channel.send(state.message);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void executorChannel(ExecutorState state) throws InterruptedException {
+		state.sendBatchAndAwait();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void partitionedChannel(PartitionedState state) throws InterruptedException {
+		state.sendBatchAndAwait();
+	}
+
+	@State(Scope.Benchmark)
+	public static class DirectState {
+
+		AnnotationConfigApplicationContext context;
+
+		DirectChannel channel;
+
+		Message<String> message;
+
+		@Setup
+		public void setup(Blackhole blackhole) {
+			this.context = new AnnotationConfigApplicationContext(ChannelsConfiguration.class);
+			this.channel = this.context.getBean("directChannel", DirectChannel.class);
+			this.channel.subscribe(blackhole::consume);
+			this.message = MessageBuilder.withPayload("test").build();
+		}
+
+		@TearDown
+		public void tearDown() {
+			this.context.close();
+		}
+
+	}
+
+	@State(Scope.Benchmark)
+	public static class PublishSubscribeState {
+
+		@Param({ "1", "3" })
+		int subscribers;
+
+		AnnotationConfigApplicationContext context;
+
+		PublishSubscribeChannel channel;
+
+		Message<String> message;
+
+		@Setup
+		public void setup(Blackhole blackhole) {
+			this.context = new AnnotationConfigApplicationContext(ChannelsConfiguration.class);
+			this.channel = this.context.getBean("publishSubscribeChannel", PublishSubscribeChannel.class);
+			for (int i = 0; i < this.subscribers; i++) {
+				this.channel.subscribe(blackhole::consume);
+			}
+			this.message = MessageBuilder.withPayload("test").build();
+		}
+
+		@TearDown
+		public void tearDown() {
+			this.context.close();
+		}
+
+	}
+
+	/**
+	 * The base state for asynchronous channels: counts down a latch per handled message.
+	 */
+	public abstract static class AbstractAsyncState {
+
+		AnnotationConfigApplicationContext context;
+
+		AbstractSubscribableChannel channel;
+
+		Message<?>[] messages;
+
+		volatile CountDownLatch latch;
+
+		@Setup
+		public void setup(Blackhole blackhole) {
+			this.context = new AnnotationConfigApplicationContext(ChannelsConfiguration.class);
+			this.channel = obtainChannel(this.context);
+			this.channel.subscribe((message) -> {
+				blackhole.consume(message);
+				this.latch.countDown();
+			});
+			this.messages = new Message<?>[BATCH];
+			for (int i = 0; i < BATCH; i++) {
+				this.messages[i] =
+						MessageBuilder.withPayload("test")
+								.setHeader(IntegrationMessageHeaderAccessor.CORRELATION_ID, i % 64)
+								.build();
+			}
+		}
+
+		@Setup(Level.Invocation)
+		public void resetLatch() {
+			this.latch = new CountDownLatch(BATCH);
+		}
+
+		void sendBatchAndAwait() throws InterruptedException {
+			for (Message<?> message : this.messages) {
+				this.channel.send(message);
+			}
+			if (!this.latch.await(30, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("Not all messages have been handled in time");
+			}
+		}
+
+		@TearDown
+		public void tearDown() {
+			this.context.close();
+		}
+
+		protected abstract AbstractSubscribableChannel obtainChannel(AnnotationConfigApplicationContext context);
+
+	}
+
+	@State(Scope.Benchmark)
+	public static class ExecutorState extends AbstractAsyncState {
+
+		@Override
+		protected AbstractSubscribableChannel obtainChannel(AnnotationConfigApplicationContext context) {
+			return context.getBean("executorChannel", ExecutorChannel.class);
+		}
+
+	}
+
+	@State(Scope.Benchmark)
+	public static class PartitionedState extends AbstractAsyncState {
+
+		@Override
+		protected AbstractSubscribableChannel obtainChannel(AnnotationConfigApplicationContext context) {
+			return context.getBean("partitionedChannel", PartitionedChannel.class);
+		}
+
+	}
+
+	@Configuration
+	@EnableIntegration
+	public static class ChannelsConfiguration {
+
+		@Bean
+		public DirectChannel directChannel() {
+			return new DirectChannel();
+		}
+
+		@Bean
+		public PublishSubscribeChannel publishSubscribeChannel() {
+			return new PublishSubscribeChannel();
+		}
+
+		@Bean
+		public ThreadPoolTaskExecutor benchmarkExecutor() {
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setCorePoolSize(4);
+			executor.setMaxPoolSize(4);
+			executor.setQueueCapacity(BATCH);
+			executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+			return executor;
+		}
+
+		@Bean
+		public ExecutorChannel executorChannel() {
+			return new ExecutorChannel(benchmarkExecutor());
+		}
+
+		@Bean
+		public PartitionedChannel partitionedChannel() {
+			return new PartitionedChannel(4);
+		}
+
+	}
+
+}
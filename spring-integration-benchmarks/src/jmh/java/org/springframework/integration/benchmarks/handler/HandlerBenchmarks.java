@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.benchmarks.handler;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.config.EnableIntegration;
+import org.springframework.integration.handler.MessageHandlerChain;
+import org.springframework.integration.handler.ServiceActivatingHandler;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.handler.annotation.Header;
+
+/**
+ * JMH benchmarks for the POJO method invocation via {@link ServiceActivatingHandler}
+ * (and therefore {@link org.springframework.integration.handler.support.MessagingMethodInvokerHelper})
+ * and for a {@link MessageHandlerChain} of such handlers.
+ *
+ * @since 6.5
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HandlerBenchmarks {
+
+	@Benchmark
+	public void serviceActivatorPayload(HandlerState state) {
+		state.payloadHandler.handleMessage(state.message);
+	}
+
+	@Benchmark
+	public void serviceActivatorPayloadAndHeader(HandlerState state) {
+		state.headerHandler.handleMessage(state.message);
+	}
+
+	@Benchmark
+	public void handlerChain(HandlerState state) {
+		state.chain.handleMessage(state.message);
+	}
+
+	@State(Scope.Benchmark)
+	public static class HandlerState {
+
+		AnnotationConfigApplicationContext context;
+
+		ServiceActivatingHandler payloadHandler;
+
+		ServiceActivatingHandler headerHandler;
+
+		MessageHandlerChain chain;
+
+		Message<String> message;
+
+		@Setup
+		public void setup(Blackhole blackhole) {
+			this.context = new AnnotationConfigApplicationContext();
+			this.context.registerBean("blackhole", Blackhole.class, () -> blackhole);
+			this.context.register(HandlersConfiguration.class);
+			this.context.refresh();
+			this.payloadHandler = this.context.getBean("payloadHandler", ServiceActivatingHandler.class);
+			this.headerHandler = this.context.getBean("headerHandler", ServiceActivatingHandler.class);
+			this.chain = this.context.getBean(MessageHandlerChain.class);
+			this.message =
+					MessageBuilder.withPayload("test")
+							.setHeader("suffix", "-suffix")
+							.build();
+		}
+
+		@TearDown
+		public void tearDown() {
+			this.context.close();
+		}
+
+	}
+
+	@Configuration
+	@EnableIntegration
+	public static class HandlersConfiguration {
+
+		@Bean
+		public Service service() {
+			return new Service();
+		}
+
+		@Bean
+		public ServiceActivatingHandler payloadHandler(Blackhole blackhole) {
+			ServiceActivatingHandler handler = new ServiceActivatingHandler(service(), "upperCase");
+			handler.setOutputChannel((message, timeout) -> {
+				blackhole.consume(message);
+				return true;
+			});
+			return handler;
+		}
+
+		@Bean
+		public ServiceActivatingHandler headerHandler(Blackhole blackhole) {
+			ServiceActivatingHandler handler = new ServiceActivatingHandler(service(), "append");
+			handler.setOutputChannel((message, timeout) -> {
+				blackhole.consume(message);
+				return true;
+			});
+			return handler;
+		}
+
+		@Bean
+		public MessageHandlerChain chain(Blackhole blackhole) {
+			MessageHandlerChain chain = new MessageHandlerChain();
+			chain.setHandlers(List.of(chainUpperCase(), chainAppend(), chainLowerCase()));
+			chain.setOutputChannel((message, timeout) -> {
+				blackhole.consume(message);
+				return true;
+			});
+			return chain;
+		}
+
+		@Bean
+		public ServiceActivatingHandler chainUpperCase() {
+			return new ServiceActivatingHandler(service(), "upperCase");
+		}
+
+		@Bean
+		public ServiceActivatingHandler chainAppend() {
+			return new ServiceActivatingHandler(service(), "append");
+		}
+
+		@Bean
+		public ServiceActivatingHandler chainLowerCase() {
+			return new ServiceActivatingHandler(service(), "lowerCase");
+		}
+
+	}
+
+	public static class Service {
+
+		public String upperCase(String payload) {
+			return payload.toUpperCase();
+		}
+
+		public String lowerCase(String payload) {
+			return payload.toLowerCase();
+		}
+
+		public String append(String payload, @Header("suffix") String suffix) {
+			return payload + suffix;
+		}
+
+	}
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.benchmarks.history;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.integration.history.MessageHistory;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.support.context.NamedComponent;
+import org.springframework.messaging.Message;
+
+/**
+ * JMH benchmarks for the {@link MessageHistory} tracking.
+ * <p>
+ * The {@code fanOutHop} benchmark clones the history of a message which has already passed
+ * {@code historyLength} components (as a {@code PublishSubscribeChannel} or a splitter does)
+ * and tracks one more component for the new message.
+ * Run with the {@code gc} profiler to see the allocation per hop, which should not depend on the history length.
+ *
+ * @since 6.5
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageHistoryBenchmarks {
+
+	@Benchmark
+	public Message<?> fanOutHop(HistoryState state) {
+		Message<String> branch =
+				MessageBuilder.fromMessage(state.message)
+						.cloneMessageHistoryIfAny()
+						.build();
+		return MessageHistory.write(branch, state.nextComponent);
+	}
+
+	@Benchmark
+	public void readHistory(HistoryState state, Blackhole blackhole) {
+		for (Properties entry : MessageHistory.read(state.message)) {
+			blackhole.consume(entry);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class HistoryState {
+
+		@Param({ "1", "10", "50" })
+		int historyLength;
+
+		Message<String> message;
+
+		NamedComponent nextComponent;
+
+		@Setup
+		public void setup() {
+			Message<String> message = MessageBuilder.withPayload("test").build();
+			for (int i = 0; i < this.historyLength; i++) {
+				message = MessageHistory.write(message, new Component("component-" + i));
+			}
+			this.message = message;
+			this.nextComponent = new Component("next");
+		}
+
+	}
+
+	private record Component(String name) implements NamedComponent {
+
+		@Override
+		public String getComponentName() {
+			return this.name;
+		}
+
+		@Override
+		public String getComponentType() {
+			return "benchmark";
+		}
+
+	}
+
+}
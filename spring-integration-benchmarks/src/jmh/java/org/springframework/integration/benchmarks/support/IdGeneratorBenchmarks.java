@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.benchmarks.support;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.integration.support.IdGenerators;
+import org.springframework.util.AlternativeJdkIdGenerator;
+import org.springframework.util.IdGenerator;
+
+/**
+ * JMH benchmarks for the {@link IdGenerator} implementations under 32 concurrent producers:
+ * the {@link AlternativeJdkIdGenerator} (the default for the {@link org.springframework.messaging.MessageHeaders}),
+ * the {@link IdGenerators.JdkIdGenerator}, the {@link IdGenerators.SimpleIncrementingIdGenerator}
+ * and the {@link IdGenerators.TimeOrderedIdGenerator}.
+ *
+ * @since 6.5
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+public class IdGeneratorBenchmarks {
+
+	@Benchmark
+	public UUID alternativeJdk(GeneratorsState state) {
+		return state.alternativeJdk.generateId();
+	}
+
+	@Benchmark
+	public UUID jdk(GeneratorsState state) {
+		return state.jdk.generateId();
+	}
+
+	@Benchmark
+	public UUID simpleIncrementing(GeneratorsState state) {
+		return state.simpleIncrementing.generateId();
+	}
+
+	@Benchmark
+	public UUID timeOrdered(GeneratorsState state) {
+		return state.timeOrdered.generateId();
+	}
+
+	@State(Scope.Benchmark)
+	public static class GeneratorsState {
+
+		final IdGenerator alternativeJdk = new AlternativeJdkIdGenerator();
+
+		final IdGenerator jdk = new IdGenerators.JdkIdGenerator();
+
+		final IdGenerator simpleIncrementing = new IdGenerators.SimpleIncrementingIdGenerator();
+
+		final IdGenerator timeOrdered = new IdGenerators.TimeOrderedIdGenerator();
+
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.benchmarks.support;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.integration.support.CopyOnWriteMessageBuilderFactory;
+import org.springframework.integration.support.DefaultMessageBuilderFactory;
+import org.springframework.integration.support.MessageBuilderFactory;
+import org.springframework.messaging.Message;
+
+/**
+ * JMH benchmarks for the {@link MessageBuilderFactory} implementations.
+ * <p>
+ * Each benchmark invocation emulates a flow of transformers: the message with {@code headers} headers
+ * is rebuilt {@code HOPS} times with a changed payload and one changed header.
+ *
+ * @since 6.5
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageBuilderBenchmarks {
+
+	private static final int HOPS = 10;
+
+	@Benchmark
+	public Message<?> defaultBuilder(BuilderState state) {
+		return flow(state.defaultFactory, state.message);
+	}
+
+	@Benchmark
+	public Message<?> copyOnWriteBuilder(BuilderState state) {
+		return flow(state.copyOnWriteFactory, state.message);
+	}
+
+	private static Message<?> flow(MessageBuilderFactory factory, Message<Integer> message) {
+		Message<Integer> result = message;
+		for (int i = 0; i < HOPS; i++) {
+			result =
+					factory.withPayload(result.getPayload() + 1)
+							.copyHeaders(result.getHeaders())
+							.setHeader("hop", i)
+							.build();
+		}
+		return result;
+	}
+
+	@State(Scope.Benchmark)
+	public static class BuilderState {
+
+		@Param({ "5", "30", "50" })
+		int headers;
+
+		MessageBuilderFactory defaultFactory = new DefaultMessageBuilderFactory();
+
+		MessageBuilderFactory copyOnWriteFactory = new CopyOnWriteMessageBuilderFactory();
+
+		Message<Integer> message;
+
+		@Setup
+		public void setup() {
+			var builder = this.defaultFactory.withPayload(0);
+			for (int i = 0; i < this.headers; i++) {
+				builder.setHeader("header-" + i, "value-" + i);
+			}
+			this.message = builder.build();
+		}
+
+	}
+
+}
@@ -27,7 +27,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.locks.Lock;
 import java.util.function.BiFunction;
 
@@ -94,6 +97,10 @@ import org.springframework.util.ObjectUtils;
  * are purged from the store on start up (or when {@link #purgeOrphanedGroups()} is called).
  * If {@link #expireDuration} is provided, the task is scheduled to perform
  * {@link #purgeOrphanedGroups()} periodically.
+ * <p>
+ * When a {@link #setReleaseExecutor(Executor) releaseExecutor} is provided, only the group completion
+ * is detected under the group lock, and the group is marked as complete in the store;
+ * the output processing of the released group and then its store clean up are performed on that executor.
  *
  * @author Iwein Fuld
  * @author Dave Syer
@@ -111,10 +118,18 @@ import org.springframework.util.ObjectUtils;
 public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageProducingHandler
 		implements DiscardingMessageHandler, ApplicationEventPublisherAware, ManageableLifecycle {
 
+	/**
+	 * The default number of groups released on the {@link #setReleaseExecutor(Executor) releaseExecutor}
+	 * and not processed yet.
+	 */
+	public static final int DEFAULT_MAX_PENDING_RELEASES = 1000;
+
 	private final Comparator<Message<?>> sequenceNumberComparator = new MessageSequenceComparator();
 
 	private final Map<UUID, ScheduledFuture<?>> expireGroupScheduledFutures = new ConcurrentHashMap<>();
 
+	private final Map<Object, ReleasedGroup> releasedGroups = new ConcurrentHashMap<>();
+
 	private MessageGroupProcessor outputProcessor;
 
 	private MessageGroupStore messageStore;
@@ -163,6 +178,12 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 
 	private boolean releaseLockBeforeSend;
 
+	private Executor releaseExecutor;
+
+	private int maxPendingReleases = DEFAULT_MAX_PENDING_RELEASES;
+
+	private Semaphore releasePermits;
+
 	private volatile boolean running;
 
 	private BiFunction<Message<?>, String, String> groupConditionSupplier;
@@ -342,6 +363,30 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 		this.releaseLockBeforeSend = releaseLockBeforeSend;
 	}
 
+	/**
+	 * Set an {@link Executor} to process released groups asynchronously.
+	 * Exposed publicly by the handlers which may emit released groups out of order.
+	 * @param releaseExecutor the executor for released groups.
+	 * @since 6.5
+	 * @see AggregatingMessageHandler#setReleaseExecutor(Executor)
+	 */
+	protected void setReleaseExecutor(@Nullable Executor releaseExecutor) {
+		this.releaseExecutor = releaseExecutor;
+	}
+
+	/**
+	 * Set the maximum number of groups released on the {@link #setReleaseExecutor(Executor) releaseExecutor}
+	 * which are not processed yet.
+	 * Defaults to {@value #DEFAULT_MAX_PENDING_RELEASES}.
+	 * @param maxPendingReleases the maximum number of pending releases.
+	 * @since 6.5
+	 * @see AggregatingMessageHandler#setMaxPendingReleases(int)
+	 */
+	protected void setMaxPendingReleases(int maxPendingReleases) {
+		Assert.isTrue(maxPendingReleases > 0, "'maxPendingReleases' must be greater than 0");
+		this.maxPendingReleases = maxPendingReleases;
+	}
+
 	/**
 	 * Configure a timeout in milliseconds for purging old orphaned groups from the store.
 	 * Used on startup and when an {@link #expireDuration} is provided, the task for running
@@ -439,6 +484,10 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 		this.lockRegistrySet = true;
 		this.forceReleaseProcessor = createGroupTimeoutProcessor();
 
+		if (this.releaseExecutor != null) {
+			this.releasePermits = new Semaphore(this.maxPendingReleases);
+		}
+
 		if (this.releaseStrategy instanceof GroupConditionProvider groupConditionProvider) {
 			this.groupConditionSupplier = groupConditionProvider.getGroupConditionSupplier();
 		}
@@ -572,6 +621,7 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 	private boolean processMessageForGroup(Message<?> message, Object correlationKey, UUID groupIdUuid, Lock lock) {
 		boolean noOutput = true;
 		cancelScheduledFutureIfAny(correlationKey, groupIdUuid, true);
+		cleanUpReleasedGroup(correlationKey);
 		MessageGroup messageGroup = this.messageStore.getMessageGroup(correlationKey);
 		if (this.sequenceAware) {
 			messageGroup = new SequenceAwareMessageGroup(messageGroup);
@@ -585,15 +635,17 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 			messageGroup = setGroupConditionIfAny(message, messageGroup);
 
 			if (this.releaseStrategy.canRelease(messageGroup)) {
-				Collection<Message<?>> completedMessages = null;
-				try {
-					noOutput = false;
-					completedMessages = completeGroup(message, correlationKey, messageGroup, lock);
-				}
-				finally {
-					// Possible clean (implementation dependency) up
-					// even if there was an exception processing messages
-					afterRelease(messageGroup, completedMessages);
+				if (this.releasePermits == null || !releaseAsync(message, correlationKey, messageGroup)) {
+					Collection<Message<?>> completedMessages = null;
+					try {
+						noOutput = false;
+						completedMessages = completeGroup(message, correlationKey, messageGroup, lock);
+					}
+					finally {
+						// Possible clean (implementation dependency) up
+						// even if there was an exception processing messages
+						afterRelease(messageGroup, completedMessages);
+					}
 				}
 				if (!isExpireGroupsUponCompletion() && this.minimumTimeoutForEmptyGroups > 0) {
 					removeEmptyGroupAfterTimeout(groupIdUuid, this.minimumTimeoutForEmptyGroups);
@@ -610,6 +662,110 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 		return noOutput;
 	}
 
+	/**
+	 * Hand the released group off to the {@link #releaseExecutor}.
+	 * Must be called under the group lock.
+	 * The group is marked as complete in the store, so the messages arriving for it before its clean up
+	 * are discarded, and the group is not expired.
+	 * @return false if the group has to be released on the calling thread.
+	 */
+	private boolean releaseAsync(Message<?> message, Object correlationKey, MessageGroup messageGroup) {
+		if (!this.releasePermits.tryAcquire()) {
+			return false;
+		}
+		MessageGroup group = new SimpleMessageGroup(messageGroup);
+		group.setCondition(messageGroup.getCondition());
+		this.messageStore.completeGroup(correlationKey);
+		ReleasedGroup releasedGroup = new ReleasedGroup(group);
+		this.releasedGroups.put(correlationKey, releasedGroup);
+		try {
+			this.releaseExecutor.execute(() -> processReleasedGroup(message, correlationKey, releasedGroup));
+			return true;
+		}
+		catch (RejectedExecutionException ex) {
+			this.releasedGroups.remove(correlationKey);
+			this.releasePermits.release();
+			this.logger.debug(ex, () -> "The release of group [" + correlationKey + "] was rejected by the "
+					+ "'releaseExecutor', releasing on the calling thread");
+			return false;
+		}
+	}
+
+	private void processReleasedGroup(Message<?> message, Object correlationKey, ReleasedGroup releasedGroup) {
+		try {
+			sendOutputs(processMessageGroup(message, correlationKey, releasedGroup.group), message);
+		}
+		catch (Exception ex) {
+			sendErrorMessage(message, ex);
+		}
+		finally {
+			releasedGroup.processed = true;
+			try {
+				cleanUpReleasedGroupUnderLock(correlationKey);
+			}
+			finally {
+				this.releasePermits.release();
+			}
+		}
+	}
+
+	/**
+	 * Clean up the store for the asynchronously released groups which output is already processed,
+	 * but the clean up failed for them before.
+	 * A failure for one group is logged and does not prevent the clean up of the others.
+	 * The groups which are not processed yet are left intact.
+	 */
+	private void cleanUpProcessedReleasedGroups() {
+		for (Map.Entry<Object, ReleasedGroup> entry : this.releasedGroups.entrySet()) {
+			if (entry.getValue().processed && !cleanUpReleasedGroupUnderLock(entry.getKey())) {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Perform the store clean up for the processed asynchronously released group under its lock.
+	 * A failure is logged and the group is left for the next message or expiry for it,
+	 * or for the {@link #stop()} of this handler.
+	 * @return false if the thread is interrupted.
+	 */
+	private boolean cleanUpReleasedGroupUnderLock(Object correlationKey) {
+		try {
+			Lock lock = this.lockRegistry.obtain(UUIDConverter.getUUID(correlationKey).toString());
+			lock.lockInterruptibly();
+			try {
+				cleanUpReleasedGroup(correlationKey);
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			this.logger.debug(() -> "Thread was interrupted while cleaning up released group [" + correlationKey + "]");
+			return false;
+		}
+		catch (Exception ex) {
+			this.logger.error(ex, () -> "Failed to clean up released group [" + correlationKey + "]");
+		}
+		return true;
+	}
+
+	/**
+	 * Perform the store clean up for the asynchronously released group,
+	 * if it is still pending and its output is already processed.
+	 * Must be called under the group lock.
+	 */
+	private void cleanUpReleasedGroup(Object correlationKey) {
+		if (!this.releasedGroups.isEmpty()) {
+			ReleasedGroup releasedGroup = this.releasedGroups.get(correlationKey);
+			if (releasedGroup != null && releasedGroup.processed) {
+				afterRelease(releasedGroup.group, null);
+				this.releasedGroups.remove(correlationKey);
+			}
+		}
+	}
+
 	private void cancelScheduledFutureIfAny(Object correlationKey, UUID groupIdUuid, boolean mayInterruptIfRunning) {
 		ScheduledFuture<?> scheduledFuture = this.expireGroupScheduledFutures.remove(groupIdUuid);
 		if (scheduledFuture != null) {
@@ -777,6 +933,7 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 			lock.lockInterruptibly();
 			try {
 				cancelScheduledFutureIfAny(correlationKey, groupId, false);
+				cleanUpReleasedGroup(correlationKey);
 				MessageGroup groupNow = group;
 				/*
 				 * If the group argument is not already complete,
@@ -923,34 +1080,9 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 	protected Collection<Message<?>> completeGroup(Message<?> message, Object correlationKey, MessageGroup group,
 			Lock lock) {
 
-		Collection<Message<?>> partialSequence = null;
 		Object result;
 		try {
-			this.logger.debug(() -> "Completing group with correlationKey [" + correlationKey + "]");
-
-			result = this.outputProcessor.processMessageGroup(group);
-			if (isResultCollectionOfMessages(result)) {
-				partialSequence = (Collection<Message<?>>) result;
-			}
-
-			if (this.popSequence && partialSequence == null) {
-				AbstractIntegrationMessageBuilder<?> messageBuilder = null;
-				if (result instanceof AbstractIntegrationMessageBuilder<?>) {
-					messageBuilder = (AbstractIntegrationMessageBuilder<?>) result;
-				}
-				else if (!(result instanceof Message<?>)) {
-					messageBuilder =
-							getMessageBuilderFactory()
-									.withPayload(result)
-									.copyHeaders(message.getHeaders());
-				}
-				else if (compareSequences((Message<?>) result, message)) {
-					messageBuilder =
-							getMessageBuilderFactory()
-									.fromMessage((Message<?>) result);
-				}
-				result = messageBuilder != null ? messageBuilder.popSequenceDetails() : result;
-			}
+			result = processMessageGroup(message, correlationKey, group);
 		}
 		finally {
 			if (this.releaseLockBeforeSend) {
@@ -958,7 +1090,32 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 			}
 		}
 		sendOutputs(result, message);
-		return partialSequence;
+		return isResultCollectionOfMessages(result) ? (Collection<Message<?>>) result : null;
+	}
+
+	private Object processMessageGroup(Message<?> message, Object correlationKey, MessageGroup group) {
+		this.logger.debug(() -> "Completing group with correlationKey [" + correlationKey + "]");
+
+		Object result = this.outputProcessor.processMessageGroup(group);
+		if (this.popSequence && !isResultCollectionOfMessages(result)) {
+			AbstractIntegrationMessageBuilder<?> messageBuilder = null;
+			if (result instanceof AbstractIntegrationMessageBuilder<?>) {
+				messageBuilder = (AbstractIntegrationMessageBuilder<?>) result;
+			}
+			else if (!(result instanceof Message<?>)) {
+				messageBuilder =
+						getMessageBuilderFactory()
+								.withPayload(result)
+								.copyHeaders(message.getHeaders());
+			}
+			else if (compareSequences((Message<?>) result, message)) {
+				messageBuilder =
+						getMessageBuilderFactory()
+								.fromMessage((Message<?>) result);
+			}
+			result = messageBuilder != null ? messageBuilder.popSequenceDetails() : result;
+		}
+		return result;
 	}
 
 	private static boolean compareSequences(Message<?> msg1, Message<?> msg2) {
@@ -1009,6 +1166,7 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 	@Override
 	public void destroy() {
 		this.expireGroupScheduledFutures.values().forEach(future -> future.cancel(true));
+		cleanUpProcessedReleasedGroups();
 	}
 
 	@Override
@@ -1041,6 +1199,7 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 			if (this.releaseStrategy instanceof Lifecycle lifecycle) {
 				lifecycle.stop();
 			}
+			cleanUpProcessedReleasedGroups();
 		}
 	}
 
@@ -1131,4 +1290,19 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 
 	}
 
+	/**
+	 * The copy of the asynchronously released group and the state of its output processing.
+	 */
+	private static final class ReleasedGroup {
+
+		private final MessageGroup group;
+
+		private volatile boolean processed;
+
+		ReleasedGroup(MessageGroup group) {
+			this.group = group;
+		}
+
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2024 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,11 +17,13 @@
 package org.springframework.integration.aggregator;
 
 import java.util.Collection;
+import java.util.concurrent.Executor;
 
 import org.springframework.integration.IntegrationPatternType;
 import org.springframework.integration.store.MessageGroup;
 import org.springframework.integration.store.MessageGroupStore;
 import org.springframework.integration.store.SimpleMessageStore;
+import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 
 /**
@@ -63,6 +65,44 @@ public class AggregatingMessageHandler extends AbstractCorrelatingMessageHandler
 		this.expireGroupsUponCompletion = expireGroupsUponCompletion;
 	}
 
+	/**
+	 * Set an {@link Executor} to process released groups asynchronously.
+	 * The group completion is still detected under the group lock, but the output processing,
+	 * the sending of the result and the store clean up of the released group are performed on this executor,
+	 * so the lock is not held while they run.
+	 * Therefore, the results of different groups may be emitted in a different order than the groups
+	 * have been completed.
+	 * The released group is marked as complete in the store, so the messages arriving for it
+	 * before its clean up are discarded.
+	 * The store clean up of each group is performed only after its own output processing;
+	 * if it fails, it is retried when a new message or an expiry is handled for the same group,
+	 * or when this handler is stopped or destroyed.
+	 * When {@link #setMaxPendingReleases(int) maxPendingReleases} groups are already in flight,
+	 * or the executor rejects the task, the group is released on the calling thread.
+	 * Exceptions from the output processing are sent to the error channel.
+	 * In this mode the {@link #setReleaseLockBeforeSend(boolean) releaseLockBeforeSend} option is ignored,
+	 * and the {@code completedMessages} argument of the {@link #afterRelease(MessageGroup, Collection)}
+	 * for asynchronously released groups is {@code null}.
+	 * @param releaseExecutor the executor for released groups.
+	 * @since 6.5
+	 */
+	@Override
+	public void setReleaseExecutor(@Nullable Executor releaseExecutor) {
+		super.setReleaseExecutor(releaseExecutor);
+	}
+
+	/**
+	 * Set the maximum number of groups released on the {@link #setReleaseExecutor(Executor) releaseExecutor}
+	 * which are not processed yet.
+	 * Defaults to {@value #DEFAULT_MAX_PENDING_RELEASES}.
+	 * @param maxPendingReleases the maximum number of pending releases.
+	 * @since 6.5
+	 */
+	@Override
+	public void setMaxPendingReleases(int maxPendingReleases) {
+		super.setMaxPendingReleases(maxPendingReleases);
+	}
+
 	@Override
 	public IntegrationPatternType getIntegrationPatternType() {
 		return IntegrationPatternType.aggregator;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2024 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,8 @@ package org.springframework.integration.aggregator;
 import java.util.Iterator;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.springframework.core.log.LogMessage;
 import org.springframework.integration.core.MessageSource;
@@ -54,7 +56,7 @@ import org.springframework.messaging.Message;
  */
 public class CorrelatingMessageBarrier extends AbstractMessageHandler implements MessageSource<Object> {
 
-	private final ConcurrentMap<Object, Object> correlationLocks = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Object, Lock> correlationLocks = new ConcurrentHashMap<>();
 
 	private final MessageGroupStore store;
 
@@ -89,24 +91,28 @@ public class CorrelatingMessageBarrier extends AbstractMessageHandler implements
 	@Override
 	protected void handleMessageInternal(Message<?> message) {
 		Object correlationKey = this.correlationStrategy.getCorrelationKey(message);
-		Object lock = getLock(correlationKey);
-		synchronized (lock) {
+		Lock lock = getLock(correlationKey);
+		lock.lock();
+		try {
 			this.store.addMessagesToGroup(correlationKey, message);
 		}
+		finally {
+			lock.unlock();
+		}
 		logger.debug(LogMessage.format("Handled message for key [%s]: %s.", correlationKey, message));
 	}
 
-	private Object getLock(Object correlationKey) {
-		Object existingLock = this.correlationLocks.putIfAbsent(correlationKey, correlationKey);
-		return existingLock == null ? correlationKey : existingLock;
+	private Lock getLock(Object correlationKey) {
+		return this.correlationLocks.computeIfAbsent(correlationKey, (key) -> new ReentrantLock());
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public Message<Object> receive() {
 		for (Object key : this.correlationLocks.keySet()) {
-			Object lock = getLock(key);
-			synchronized (lock) {
+			Lock lock = getLock(key);
+			lock.lock();
+			try {
 				MessageGroup group = this.store.getMessageGroup(key);
 				//group might be removed by another thread
 				if (group != null && this.releaseStrategy.canRelease(group)) {
@@ -124,6 +130,9 @@ public class CorrelatingMessageBarrier extends AbstractMessageHandler implements
 					return (Message<Object>) nextMessage;
 				}
 			}
+			finally {
+				lock.unlock();
+			}
 		}
 		return null;
 	}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aggregator;
+
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link IncrementalReleaseStrategy} which releases a group when the number
+ * of messages added to it reaches a threshold.
+ *
+ * @since 6.5
+ */
+public class CountIncrementalReleaseStrategy implements IncrementalReleaseStrategy {
+
+	private final int threshold;
+
+	/**
+	 * Construct an instance based on the provided threshold.
+	 * @param threshold the number of messages to accept before releasing.
+	 */
+	public CountIncrementalReleaseStrategy(int threshold) {
+		Assert.isTrue(threshold > 0, "'threshold' must be greater than 0");
+		this.threshold = threshold;
+	}
+
+	@Override
+	public String accumulate(Message<?> message, @Nullable String state) {
+		return Integer.toString(state == null ? 1 : Integer.parseInt(state) + 1);
+	}
+
+	@Override
+	public boolean canRelease(@Nullable String state) {
+		return state != null && Integer.parseInt(state) >= this.threshold;
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aggregator;
+
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link IncrementalReleaseStrategy} which releases a group when the provided timeout
+ * has elapsed since the first message was added to it.
+ * The accumulated state is the time of the first addition.
+ * <p>
+ * The strategy is consulted only when a message arrives or a group timeout occurs,
+ * so the correlating handler should be configured with a {@code groupTimeout}
+ * to release the groups to which no more messages are added.
+ *
+ * @since 6.5
+ */
+public class DeadlineIncrementalReleaseStrategy implements IncrementalReleaseStrategy {
+
+	private final long timeout;
+
+	/**
+	 * Construct an instance based on the provided timeout.
+	 * @param timeout the time since the first message in the group to release it.
+	 */
+	public DeadlineIncrementalReleaseStrategy(Duration timeout) {
+		Assert.notNull(timeout, "'timeout' must not be null");
+		Assert.isTrue(!timeout.isNegative(), "'timeout' must not be negative");
+		this.timeout = timeout.toMillis();
+	}
+
+	@Override
+	public String accumulate(Message<?> message, @Nullable String state) {
+		return state != null ? state : Long.toString(System.currentTimeMillis());
+	}
+
+	@Override
+	public boolean canRelease(@Nullable String state) {
+		return state != null && System.currentTimeMillis() - Long.parseLong(state) >= this.timeout;
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aggregator;
+
+import java.util.function.BiFunction;
+
+import org.springframework.integration.store.MessageGroup;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+
+/**
+ * A {@link ReleaseStrategy} which makes a decision from a small accumulated state
+ * instead of the messages in the group.
+ * The state is folded from every message added to the group and kept as a group condition
+ * in the {@link org.springframework.integration.store.MessageGroupMetadata},
+ * so neither the {@link #accumulate(Message, String)} nor the {@link #canRelease(String)}
+ * iterates, copies or loads the messages of the group, whatever its size is.
+ * <p>
+ * The state is folded from all the messages added to the group since its creation,
+ * therefore this kind of strategy is not suitable for partial releases
+ * when messages are removed from a group which is not completed.
+ * <p>
+ * Since the state is populated via {@link GroupConditionProvider}, it replaces any
+ * {@link AbstractCorrelatingMessageHandler#setGroupConditionSupplier(BiFunction)} configured
+ * on the correlating handler.
+ *
+ * @since 6.5
+ */
+public interface IncrementalReleaseStrategy extends ReleaseStrategy, GroupConditionProvider {
+
+	/**
+	 * Fold the message which has just been added to the group into the accumulated state.
+	 * @param message the added message.
+	 * @param state the state accumulated so far; {@code null} for the first message in the group.
+	 * @return the new state.
+	 */
+	String accumulate(Message<?> message, @Nullable String state);
+
+	/**
+	 * Decide if the group can be released according to its accumulated state.
+	 * @param state the accumulated state; {@code null} if no message has been added to the group yet.
+	 * @return true if the group can be released.
+	 */
+	boolean canRelease(@Nullable String state);
+
+	@Override
+	default boolean canRelease(MessageGroup group) {
+		return canRelease(group.getCondition());
+	}
+
+	@Override
+	default BiFunction<Message<?>, String, String> getGroupConditionSupplier() {
+		return this::accumulate;
+	}
+
+}
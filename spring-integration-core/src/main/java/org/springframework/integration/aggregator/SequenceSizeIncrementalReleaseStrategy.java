@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aggregator;
+
+import org.springframework.integration.StaticMessageHeaderAccessor;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+
+/**
+ * An {@link IncrementalReleaseStrategy} which releases a group when the number
+ * of messages added to it reaches the {@code sequenceSize} header of the messages.
+ * The accumulated state is {@code count/sequenceSize}, where the sequence size
+ * is taken from the last added message.
+ * A group of messages without a sequence size is never released by this strategy.
+ *
+ * @since 6.5
+ */
+public class SequenceSizeIncrementalReleaseStrategy implements IncrementalReleaseStrategy {
+
+	private static final String SEPARATOR = "/";
+
+	@Override
+	public String accumulate(Message<?> message, @Nullable String state) {
+		int count = state == null ? 1 : Integer.parseInt(state, 0, state.indexOf(SEPARATOR), 10) + 1;
+		return count + SEPARATOR + StaticMessageHeaderAccessor.getSequenceSize(message);
+	}
+
+	@Override
+	public boolean canRelease(@Nullable String state) {
+		if (state == null) {
+			return false;
+		}
+		int separator = state.indexOf(SEPARATOR);
+		int sequenceSize = Integer.parseInt(state, separator + 1, state.length(), 10);
+		return sequenceSize > 0 && Integer.parseInt(state, 0, separator, 10) >= sequenceSize;
+	}
+
+}
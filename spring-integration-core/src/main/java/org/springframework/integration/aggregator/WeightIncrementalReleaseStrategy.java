@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aggregator;
+
+import java.nio.ByteBuffer;
+import java.util.function.ToLongFunction;
+
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link IncrementalReleaseStrategy} which releases a group when the total weight
+ * of messages added to it reaches a threshold.
+ * By default, the weight of a message is the size of its payload in bytes:
+ * the length of a {@code byte[]}, the remaining bytes of a {@link ByteBuffer}
+ * or the length of a {@link CharSequence}; any other payload weighs {@code 0}.
+ * A custom weigher can be provided via {@link #setWeigher(ToLongFunction)}.
+ *
+ * @since 6.5
+ */
+public class WeightIncrementalReleaseStrategy implements IncrementalReleaseStrategy {
+
+	private final long threshold;
+
+	private ToLongFunction<Message<?>> weigher = WeightIncrementalReleaseStrategy::payloadSize;
+
+	/**
+	 * Construct an instance based on the provided threshold.
+	 * @param threshold the total weight of messages to accept before releasing.
+	 */
+	public WeightIncrementalReleaseStrategy(long threshold) {
+		Assert.isTrue(threshold > 0, "'threshold' must be greater than 0");
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Set a function to determine the weight of a message.
+	 * @param weigher the function to weigh a message.
+	 */
+	public void setWeigher(ToLongFunction<Message<?>> weigher) {
+		Assert.notNull(weigher, "'weigher' must not be null");
+		this.weigher = weigher;
+	}
+
+	@Override
+	public String accumulate(Message<?> message, @Nullable String state) {
+		long weight = this.weigher.applyAsLong(message);
+		return Long.toString(state == null ? weight : Long.parseLong(state) + weight);
+	}
+
+	@Override
+	public boolean canRelease(@Nullable String state) {
+		return state != null && Long.parseLong(state) >= this.threshold;
+	}
+
+	private static long payloadSize(Message<?> message) {
+		Object payload = message.getPayload();
+		if (payload instanceof byte[] bytes) {
+			return bytes.length;
+		}
+		else if (payload instanceof ByteBuffer byteBuffer) {
+			return byteBuffer.remaining();
+		}
+		else if (payload instanceof CharSequence charSequence) {
+			return charSequence.length();
+		}
+		return 0;
+	}
+
+}
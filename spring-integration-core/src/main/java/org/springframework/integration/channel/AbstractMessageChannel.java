@@ -16,7 +16,6 @@
 
 package org.springframework.integration.channel;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -411,9 +410,9 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 	}
 
 	private boolean sendInternal(Message<?> message, long timeout) {
-		Deque<ChannelInterceptor> interceptorStack = null;
+		InterceptorPipeline interceptorPipeline = this.interceptors.pipeline;
+		boolean intercepted = false;
 		boolean sent = false;
-		ChannelInterceptorList interceptorList = this.interceptors;
 		Message<?> messageToSend = message;
 		try {
 			messageToSend = convertPayloadIfNecessary(messageToSend);
@@ -421,12 +420,12 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 			if (debugEnabled) {
 				logger.debug("preSend on channel '" + this + "', message: " + messageToSend);
 			}
-			if (interceptorList.getSize() > 0) {
-				interceptorStack = new ArrayDeque<>();
-				messageToSend = interceptorList.preSend(messageToSend, this, interceptorStack);
+			if (interceptorPipeline.interceptors.length > 0) {
+				messageToSend = interceptorPipeline.applyPreSend(messageToSend, this);
 				if (messageToSend == null) {
 					return false;
 				}
+				intercepted = true;
 			}
 
 			sent = doSend(messageToSend, timeout);
@@ -434,15 +433,15 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 			if (debugEnabled) {
 				logger.debug("postSend (sent=" + sent + ") on channel '" + this + "', message: " + messageToSend);
 			}
-			if (interceptorStack != null) {
-				interceptorList.postSend(messageToSend, this, sent);
-				interceptorList.afterSendCompletion(messageToSend, this, sent, null, interceptorStack);
+			if (intercepted) {
+				interceptorPipeline.applyPostSend(messageToSend, this, sent);
+				interceptorPipeline.triggerAfterSendCompletion(messageToSend, this, sent, null);
 			}
 			return sent;
 		}
 		catch (Exception ex) {
-			if (interceptorStack != null) {
-				interceptorList.afterSendCompletion(messageToSend, this, sent, ex, interceptorStack);
+			if (intercepted) {
+				interceptorPipeline.triggerAfterSendCompletion(messageToSend, this, sent, ex);
 			}
 			throw IntegrationUtils.wrapInDeliveryExceptionIfNecessary(messageToSend,
 					() -> "failed to send Message to channel '" + getComponentName() + "'", ex);
@@ -531,6 +530,8 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 
 	/**
 	 * A convenience wrapper class for the list of ChannelInterceptors.
+	 * Any change to the list rebuilds an immutable {@link InterceptorPipeline} snapshot
+	 * which is used by the {@code send()} operation.
 	 */
 	protected static class ChannelInterceptorList {
 
@@ -540,18 +541,20 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 
 		private final LogAccessor logger;
 
-		private int size;
+		private volatile InterceptorPipeline pipeline;
 
 		public ChannelInterceptorList(LogAccessor logger) {
 			this.logger = logger;
+			this.pipeline = new InterceptorPipeline(new ChannelInterceptor[0], logger);
 		}
 
 		public boolean set(List<ChannelInterceptor> interceptors) {
 			this.lock.lock();
 			try {
 				this.interceptors.clear();
-				this.size = interceptors.size();
-				return this.interceptors.addAll(interceptors);
+				boolean changed = this.interceptors.addAll(interceptors);
+				rebuildPipeline();
+				return changed;
 			}
 			finally {
 				this.lock.unlock();
@@ -559,17 +562,30 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 		}
 
 		public int getSize() {
-			return this.size;
+			return this.pipeline.interceptors.length;
 		}
 
 		public boolean add(ChannelInterceptor interceptor) {
-			this.size++;
-			return this.interceptors.add(interceptor);
+			this.lock.lock();
+			try {
+				boolean added = this.interceptors.add(interceptor);
+				rebuildPipeline();
+				return added;
+			}
+			finally {
+				this.lock.unlock();
+			}
 		}
 
 		public void add(int index, ChannelInterceptor interceptor) {
-			this.size++;
-			this.interceptors.add(index, interceptor);
+			this.lock.lock();
+			try {
+				this.interceptors.add(index, interceptor);
+				rebuildPipeline();
+			}
+			finally {
+				this.lock.unlock();
+			}
 		}
 
 		@Nullable
@@ -577,27 +593,23 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 				Deque<ChannelInterceptor> interceptorStack) {
 
 			Message<?> message = messageArg;
-			if (this.size > 0) {
-				for (ChannelInterceptor interceptor : this.interceptors) {
-					Message<?> previous = message;
-					message = interceptor.preSend(message, channel);
-					if (message == null) {
-						this.logger.debug(() -> interceptor.getClass().getSimpleName()
-								+ " returned null from preSend, i.e. precluding the send.");
-						afterSendCompletion(previous, channel, false, null, interceptorStack);
-						return null;
-					}
-					interceptorStack.add(interceptor);
+			for (ChannelInterceptor interceptor : this.pipeline.interceptors) {
+				Message<?> previous = message;
+				message = interceptor.preSend(message, channel);
+				if (message == null) {
+					this.logger.debug(() -> interceptor.getClass().getSimpleName()
+							+ " returned null from preSend, i.e. precluding the send.");
+					afterSendCompletion(previous, channel, false, null, interceptorStack);
+					return null;
 				}
+				interceptorStack.add(interceptor);
 			}
 			return message;
 		}
 
 		public void postSend(Message<?> message, MessageChannel channel, boolean sent) {
-			if (this.size > 0) {
-				for (ChannelInterceptor interceptor : this.interceptors) {
-					interceptor.postSend(message, channel, sent);
-				}
+			for (ChannelInterceptor interceptor : this.pipeline.interceptors) {
+				interceptor.postSend(message, channel, sent);
 			}
 		}
 
@@ -616,14 +628,12 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 		}
 
 		public boolean preReceive(MessageChannel channel, Deque<ChannelInterceptor> interceptorStack) {
-			if (this.size > 0) {
-				for (ChannelInterceptor interceptor : this.interceptors) {
-					if (!interceptor.preReceive(channel)) {
-						afterReceiveCompletion(null, channel, null, interceptorStack);
-						return false;
-					}
-					interceptorStack.add(interceptor);
+			for (ChannelInterceptor interceptor : this.pipeline.interceptors) {
+				if (!interceptor.preReceive(channel)) {
+					afterReceiveCompletion(null, channel, null, interceptorStack);
+					return false;
 				}
+				interceptorStack.add(interceptor);
 			}
 			return true;
 		}
@@ -631,12 +641,10 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 		@Nullable
 		public Message<?> postReceive(Message<?> messageArg, MessageChannel channel) {
 			Message<?> message = messageArg;
-			if (this.size > 0) {
-				for (ChannelInterceptor interceptor : this.interceptors) {
-					message = interceptor.postReceive(message, channel);
-					if (message == null) {
-						return null;
-					}
+			for (ChannelInterceptor interceptor : this.pipeline.interceptors) {
+				message = interceptor.postReceive(message, channel);
+				if (message == null) {
+					return null;
 				}
 			}
 			return message;
@@ -663,22 +671,144 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 		}
 
 		public boolean remove(ChannelInterceptor interceptor) {
-			if (this.interceptors.remove(interceptor)) {
-				this.size--;
-				return true;
+			this.lock.lock();
+			try {
+				boolean removed = this.interceptors.remove(interceptor);
+				rebuildPipeline();
+				return removed;
 			}
-			else {
-				return false;
+			finally {
+				this.lock.unlock();
 			}
 		}
 
 		@Nullable
 		public ChannelInterceptor remove(int index) {
-			ChannelInterceptor removed = this.interceptors.remove(index);
-			if (removed != null) {
-				this.size--;
+			this.lock.lock();
+			try {
+				ChannelInterceptor removed = this.interceptors.remove(index);
+				rebuildPipeline();
+				return removed;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		private void rebuildPipeline() {
+			this.pipeline = new InterceptorPipeline(this.interceptors.toArray(new ChannelInterceptor[0]), this.logger);
+		}
+
+	}
+
+	/**
+	 * An immutable snapshot of the channel interceptors for the {@code send()} operation.
+	 * The {@code preSend()}, {@code postSend()} and {@code afterSendCompletion()} are called only
+	 * on interceptors which override the respective default no-op {@link ChannelInterceptor} method.
+	 */
+	private static final class InterceptorPipeline {
+
+		private final ChannelInterceptor[] interceptors;
+
+		private final boolean[] preSend;
+
+		private final ChannelInterceptor[] postSend;
+
+		private final boolean[] afterSendCompletion;
+
+		private final LogAccessor logger;
+
+		InterceptorPipeline(ChannelInterceptor[] interceptors, LogAccessor logger) {
+			this.interceptors = interceptors;
+			this.logger = logger;
+			this.preSend = new boolean[interceptors.length];
+			this.afterSendCompletion = new boolean[interceptors.length];
+			List<ChannelInterceptor> postSendInterceptors = new ArrayList<>();
+			for (int i = 0; i < interceptors.length; i++) {
+				ChannelInterceptor interceptor = interceptors[i];
+				this.preSend[i] = overrides(interceptor, "preSend", Message.class, MessageChannel.class);
+				this.afterSendCompletion[i] =
+						overrides(interceptor, "afterSendCompletion",
+								Message.class, MessageChannel.class, boolean.class, Exception.class);
+				if (overrides(interceptor, "postSend", Message.class, MessageChannel.class, boolean.class)) {
+					postSendInterceptors.add(interceptor);
+				}
+			}
+			this.postSend = postSendInterceptors.toArray(new ChannelInterceptor[0]);
+		}
+
+		/**
+		 * Apply {@code preSend()} of all the interceptors.
+		 * If one of them returns {@code null} or throws an exception, the {@code afterSendCompletion()}
+		 * is triggered for the interceptors applied before it.
+		 * @param messageArg the message to send.
+		 * @param channel the channel.
+		 * @return the message to send or null if the send must not happen.
+		 */
+		@Nullable
+		Message<?> applyPreSend(Message<?> messageArg, MessageChannel channel) {
+			Message<?> message = messageArg;
+			int index = 0;
+			try {
+				for (; index < this.interceptors.length; index++) {
+					if (this.preSend[index]) {
+						ChannelInterceptor interceptor = this.interceptors[index];
+						Message<?> previous = message;
+						message = interceptor.preSend(message, channel);
+						if (message == null) {
+							this.logger.debug(() -> interceptor.getClass().getSimpleName()
+									+ " returned null from preSend, i.e. precluding the send.");
+							triggerAfterSendCompletion(previous, channel, false, null, index);
+							return null;
+						}
+					}
+				}
+			}
+			catch (RuntimeException ex) {
+				triggerAfterSendCompletion(message, channel, false, ex, index);
+				throw ex;
+			}
+			return message;
+		}
+
+		void applyPostSend(Message<?> message, MessageChannel channel, boolean sent) {
+			for (ChannelInterceptor interceptor : this.postSend) {
+				interceptor.postSend(message, channel, sent);
+			}
+		}
+
+		void triggerAfterSendCompletion(Message<?> message, MessageChannel channel, boolean sent,
+				@Nullable Exception ex) {
+
+			triggerAfterSendCompletion(message, channel, sent, ex, this.interceptors.length);
+		}
+
+		private void triggerAfterSendCompletion(Message<?> message, MessageChannel channel, boolean sent,
+				@Nullable Exception ex, int appliedCount) {
+
+			for (int i = appliedCount - 1; i >= 0; i--) {
+				if (this.afterSendCompletion[i]) {
+					ChannelInterceptor interceptor = this.interceptors[i];
+					try {
+						interceptor.afterSendCompletion(message, channel, sent, ex);
+					}
+					catch (Exception ex2) {
+						this.logger.error(ex2, () -> "Exception from afterSendCompletion in " + interceptor);
+					}
+				}
+			}
+		}
+
+		private static boolean overrides(ChannelInterceptor interceptor, String methodName,
+				Class<?>... parameterTypes) {
+
+			try {
+				return !ChannelInterceptor.class.equals(
+						interceptor.getClass().getMethod(methodName, parameterTypes).getDeclaringClass());
+			}
+			catch (NoSuchMethodException ex) {
+				return true;
 			}
-			return removed;
 		}
 
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.springframework.integration.channel;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 
@@ -119,6 +120,92 @@ public abstract class AbstractPollableChannel extends AbstractMessageChannel
 		}
 	}
 
+	/**
+	 * Receive up to {@code maxMessages} available messages from this channel in a single operation.
+	 * The {@code timeout} is applied only while waiting for the first message:
+	 * if the channel contains no messages, this method blocks until the first message arrives
+	 * or the timeout elapses, then all the rest messages (up to {@code maxMessages})
+	 * are taken without waiting.
+	 * The {@link ChannelInterceptor#preReceive} is called only once per batch,
+	 * the {@link ChannelInterceptor#postReceive} and {@link ChannelInterceptor#afterReceiveCompletion}
+	 * are called for every received message.
+	 * When interceptors are present, the messages are taken one by one and intercepted as soon as
+	 * they are dequeued, so an interceptor failure does not discard the rest of the batch:
+	 * the failure is thrown if it happens for the first message; otherwise it is logged
+	 * and the messages received so far are returned.
+	 * @param maxMessages the maximum number of messages to receive.
+	 * @param timeout the timeout in milliseconds to wait for the first message.
+	 * @return the list of received messages; empty if no message is available within the allotted time
+	 * or the receiving thread is interrupted.
+	 * @since 6.5
+	 * @see #receive(long)
+	 */
+	public List<Message<?>> receiveBatch(int maxMessages, long timeout) { // NOSONAR complexity
+		ChannelInterceptorList interceptorList = getIChannelInterceptorList();
+		Deque<ChannelInterceptor> interceptorStack = null;
+		List<Message<?>> result = new ArrayList<>();
+		int received = 0;
+		boolean completed = false;
+		try {
+			if (interceptorList.getSize() > 0) {
+				interceptorStack = new ArrayDeque<>();
+
+				if (!interceptorList.preReceive(this, interceptorStack)) {
+					return result;
+				}
+			}
+			if (interceptorStack == null) {
+				result.addAll(doReceiveBatch(maxMessages, timeout));
+				received = result.size();
+				for (int i = 0; i < received; i++) {
+					incrementReceiveCounter();
+				}
+			}
+			else {
+				Message<?> message = doReceive(timeout);
+				while (message != null) {
+					incrementReceiveCounter();
+					received++;
+					completed = false;
+					Message<?> intercepted = interceptorList.postReceive(message, this);
+					completed = true;
+					interceptorList.afterReceiveCompletion(intercepted, this, null, interceptorStack);
+					if (intercepted != null) {
+						result.add(intercepted);
+					}
+					if (received >= maxMessages) {
+						break;
+					}
+					message = doReceive(0);
+				}
+			}
+		}
+		catch (RuntimeException ex) {
+			if (!completed) {
+				interceptorList.afterReceiveCompletion(null, this, ex, interceptorStack);
+			}
+			if (received == 0) {
+				incrementReceiveErrorCounter(ex);
+			}
+			if (result.isEmpty()) {
+				throw ex;
+			}
+			logger.error(ex, () -> "Failed to receive a message from channel '" + this + "'; returning "
+					+ result.size() + " message(s) received before the failure");
+			return result;
+		}
+		if (received == 0) {
+			if (isLoggingEnabled() && logger.isTraceEnabled()) {
+				logger.trace("postReceive on channel '" + this + "', no messages");
+			}
+			interceptorList.afterReceiveCompletion(null, this, null, interceptorStack);
+		}
+		else if (isLoggingEnabled() && logger.isDebugEnabled()) {
+			logger.debug(LogMessage.format("postReceive on channel '%s', %d messages", this, received));
+		}
+		return result;
+	}
+
 	private void incrementReceiveCounter() {
 		MetricsCaptor metricsCaptor = getMetricsCaptor();
 		if (metricsCaptor != null) {
@@ -211,4 +298,27 @@ public abstract class AbstractPollableChannel extends AbstractMessageChannel
 	@Nullable
 	protected abstract Message<?> doReceive(long timeout);
 
+	/**
+	 * Receive up to {@code maxMessages} messages waiting up to the {@code timeout} only for the first one.
+	 * The default implementation calls {@link #doReceive(long)} for the first message
+	 * and then {@code doReceive(0)} until {@code null} or {@code maxMessages} is reached.
+	 * Subclasses may override this method to drain the underlying store in a single operation.
+	 * @param maxMessages the maximum number of messages to receive.
+	 * @param timeout The timeout for the first message.
+	 * @return the received messages, or an empty list.
+	 * @since 6.5
+	 */
+	protected List<Message<?>> doReceiveBatch(int maxMessages, long timeout) {
+		List<Message<?>> messages = new ArrayList<>();
+		Message<?> message = doReceive(timeout);
+		while (message != null) {
+			messages.add(message);
+			if (messages.size() >= maxMessages) {
+				break;
+			}
+			message = doReceive(0);
+		}
+		return messages;
+	}
+
 }
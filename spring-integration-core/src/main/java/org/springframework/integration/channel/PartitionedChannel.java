@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 the original author or authors.
+ * Copyright 2023-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,18 @@
 
 package org.springframework.integration.channel;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.integration.dispatcher.LoadBalancingStrategy;
 import org.springframework.integration.dispatcher.PartitionedDispatcher;
+import org.springframework.integration.support.management.metrics.GaugeFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
@@ -40,6 +45,14 @@ import org.springframework.util.Assert;
  * <p>
  * The default {@link ThreadFactory} is based on the bean name of this channel plus {@code -partition-thread-}.
  * Thus, every thread name will reflect a partition it belongs to.
+ * If {@link org.springframework.integration.context.IntegrationProperties#VIRTUAL_THREADS_ENABLED} is set,
+ * the default {@link ThreadFactory} creates virtual threads.
+ * <p>
+ * With the {@link #setWorkStealingThreads(int)} option, partitions are not pinned to dedicated threads,
+ * but scheduled on a shared work-stealing pool, still preserving the order of messages per partition.
+ * <p>
+ * When metrics are enabled, a {@code spring.integration.channel.partition.queue.size} gauge
+ * is registered for every partition.
  * <p>
  * The rest of the logic is similar to the {@link ExecutorChannel}, which includes:
  * - load balancing for subscribers;
@@ -54,6 +67,8 @@ import org.springframework.util.Assert;
  */
 public class PartitionedChannel extends AbstractExecutorChannel {
 
+	private final List<GaugeFacade> partitionQueueSizeGauges = new ArrayList<>();
+
 	@Nullable
 	private ThreadFactory threadFactory;
 
@@ -91,6 +106,18 @@ public class PartitionedChannel extends AbstractExecutorChannel {
 		this.threadFactory = threadFactory;
 	}
 
+	/**
+	 * Switch to virtual partitions scheduled on a shared work-stealing pool
+	 * with the provided number of threads instead of a dedicated thread per partition.
+	 * Propagated down to the {@link PartitionedDispatcher}.
+	 * @param workStealingThreads the number of threads for the work-stealing pool.
+	 * @since 6.5
+	 * @see PartitionedDispatcher#setWorkStealingThreads(int)
+	 */
+	public void setWorkStealingThreads(int workStealingThreads) {
+		getDispatcher().setWorkStealingThreads(workStealingThreads);
+	}
+
 	/**
 	 * Specify whether the channel's dispatcher should have failover enabled.
 	 * By default, it will. Set this value to 'false' to disable it.
@@ -120,6 +147,23 @@ public class PartitionedChannel extends AbstractExecutorChannel {
 		getDispatcher().setLoadBalancingStrategy(loadBalancingStrategy);
 	}
 
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		super.registerMetricsCaptor(metricsCaptor);
+		PartitionedDispatcher partitionedDispatcher = getDispatcher();
+		for (int i = 0; i < partitionedDispatcher.getPartitionCount(); i++) {
+			int partition = i;
+			this.partitionQueueSizeGauges.add(
+					metricsCaptor.gaugeBuilder("spring.integration.channel.partition.queue.size", this,
+									(channel) -> partitionedDispatcher.getPartitionQueueSize(partition))
+							.tag("name", getComponentName() == null ? "unknown" : getComponentName())
+							.tag("type", "channel")
+							.tag("partition", Integer.toString(partition))
+							.description("The number of messages waiting in the partition queue")
+							.build());
+		}
+	}
+
 	@Override
 	protected PartitionedDispatcher getDispatcher() {
 		return (PartitionedDispatcher) this.dispatcher;
@@ -130,7 +174,11 @@ public class PartitionedChannel extends AbstractExecutorChannel {
 		super.onInit();
 
 		if (this.threadFactory == null) {
-			this.threadFactory = new CustomizableThreadFactory(getComponentName() + "-partition-thread-");
+			String threadNamePrefix = getComponentName() + "-partition-thread-";
+			this.threadFactory =
+					getIntegrationProperties().isVirtualThreadsEnabled()
+							? new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory()
+							: new CustomizableThreadFactory(threadNamePrefix);
 		}
 		PartitionedDispatcher partitionedDispatcher = getDispatcher();
 		partitionedDispatcher.setThreadFactory(this.threadFactory);
@@ -156,6 +204,8 @@ public class PartitionedChannel extends AbstractExecutorChannel {
 	public void destroy() {
 		super.destroy();
 		getDispatcher().shutdown();
+		this.partitionQueueSizeGauges.forEach(GaugeFacade::remove);
+		this.partitionQueueSizeGauges.clear();
 	}
 
 }
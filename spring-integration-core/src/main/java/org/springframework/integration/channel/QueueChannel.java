@@ -186,6 +186,27 @@ public class QueueChannel extends AbstractPollableChannel implements QueueChanne
 		return message;
 	}
 
+	@Override
+	protected List<Message<?>> doReceiveBatch(int maxMessages, long timeout) {
+		List<Message<?>> messages = new ArrayList<>();
+		Message<?> first = doReceive(timeout);
+		if (first != null) {
+			messages.add(first);
+			if (maxMessages > 1) {
+				if (this.queue instanceof BlockingQueue) {
+					((BlockingQueue<Message<?>>) this.queue).drainTo(messages, maxMessages - 1);
+				}
+				else {
+					Message<?> message;
+					while (messages.size() < maxMessages && (message = this.queue.poll()) != null) {
+						messages.add(message);
+					}
+				}
+			}
+		}
+		return messages;
+	}
+
 	@Override
 	public List<Message<?>> clear() {
 		List<Message<?>> clearedMessages = new ArrayList<>();
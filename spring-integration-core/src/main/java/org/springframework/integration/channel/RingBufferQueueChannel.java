@@ -0,0 +1,366 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.channel;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.integration.core.MessageSelector;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link QueueChannel} backed by a pre-allocated, lock-free, multi-producer/multi-consumer
+ * array ring buffer.
+ * In contrast to the default {@link java.util.concurrent.LinkedBlockingQueue}, no node is
+ * allocated per message and producers and consumers never contend on a lock:
+ * a slot is claimed with a single CAS on the producer (or consumer) sequence.
+ * <p>
+ * The capacity is rounded up to the next power of two (and at least {@code 2}).
+ * <p>
+ * When the buffer is full (for {@code send()}) or empty (for {@code receive()})
+ * and the timeout is not {@code 0}, the calling thread waits according to the
+ * configured {@link WaitStrategy}; {@link WaitStrategy#PARK} by default.
+ * <p>
+ * The {@link #purge(MessageSelector)} with a selector drains the buffer and re-offers the
+ * accepted messages, so concurrently sent messages may be reordered against them.
+ * If concurrent producers have taken the freed slots, the purging thread waits for a slot
+ * according to the {@link WaitStrategy}; if it is interrupted meanwhile, the accepted messages
+ * which could not be put back are returned together with the purged ones.
+ *
+ * @since 6.5
+ */
+public class RingBufferQueueChannel extends QueueChannel {
+
+	private final MessageRingBuffer ringBuffer;
+
+	private WaitStrategy waitStrategy = WaitStrategy.PARK;
+
+	/**
+	 * Create a channel with the specified capacity, rounded up to the next power of two.
+	 * @param capacity the capacity.
+	 */
+	public RingBufferQueueChannel(int capacity) {
+		this(new MessageRingBuffer(capacity));
+	}
+
+	/**
+	 * Create a channel with the specified capacity and {@link WaitStrategy}.
+	 * @param capacity the capacity.
+	 * @param waitStrategy the {@link WaitStrategy} for blocking sends and receives.
+	 */
+	public RingBufferQueueChannel(int capacity, WaitStrategy waitStrategy) {
+		this(capacity);
+		setWaitStrategy(waitStrategy);
+	}
+
+	private RingBufferQueueChannel(MessageRingBuffer ringBuffer) {
+		super(ringBuffer);
+		this.ringBuffer = ringBuffer;
+	}
+
+	/**
+	 * Set a {@link WaitStrategy} for threads waiting on a full or empty buffer.
+	 * @param waitStrategy the {@link WaitStrategy} to use.
+	 */
+	public void setWaitStrategy(WaitStrategy waitStrategy) {
+		Assert.notNull(waitStrategy, "'waitStrategy' must not be null");
+		this.waitStrategy = waitStrategy;
+	}
+
+	/**
+	 * Return the actual (power of two) capacity of the underlying ring buffer.
+	 * @return the capacity.
+	 */
+	public int getCapacity() {
+		return this.ringBuffer.capacity;
+	}
+
+	@Override
+	protected boolean doSend(Message<?> message, long timeout) {
+		Assert.notNull(message, "'message' must not be null");
+		if (this.ringBuffer.offer(message)) {
+			return true;
+		}
+		if (timeout == 0) {
+			return false;
+		}
+		long deadline = timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : 0;
+		int attempt = 0;
+		while (!this.ringBuffer.offer(message)) {
+			if (Thread.currentThread().isInterrupted() || (timeout > 0 && System.nanoTime() - deadline >= 0)) {
+				return false;
+			}
+			this.waitStrategy.idle(attempt++);
+		}
+		return true;
+	}
+
+	@Override
+	@Nullable
+	protected Message<?> doReceive(long timeout) {
+		Message<?> message = this.ringBuffer.poll();
+		if (message != null || timeout == 0) {
+			return message;
+		}
+		long deadline = timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : 0;
+		int attempt = 0;
+		while ((message = this.ringBuffer.poll()) == null) {
+			if (Thread.currentThread().isInterrupted() || (timeout > 0 && System.nanoTime() - deadline >= 0)) {
+				return null;
+			}
+			this.waitStrategy.idle(attempt++);
+		}
+		return message;
+	}
+
+	@Override
+	public List<Message<?>> purge(@Nullable MessageSelector selector) {
+		if (selector == null) {
+			return clear();
+		}
+		List<Message<?>> purgedMessages = new ArrayList<>();
+		boolean interrupted = false;
+		for (Message<?> message : clear()) {
+			if (interrupted || !selector.accept(message)) {
+				purgedMessages.add(message);
+			}
+			else if (!putBack(message)) {
+				interrupted = true;
+				purgedMessages.add(message);
+			}
+		}
+		return purgedMessages;
+	}
+
+	/**
+	 * Offer the message until there is a slot for it, unless the thread is interrupted.
+	 */
+	private boolean putBack(Message<?> message) {
+		int attempt = 0;
+		while (!this.ringBuffer.offer(message)) {
+			if (Thread.currentThread().isInterrupted()) {
+				return false;
+			}
+			this.waitStrategy.idle(attempt++);
+		}
+		return true;
+	}
+
+	@Override
+	public int getRemainingCapacity() {
+		return this.ringBuffer.capacity - this.ringBuffer.size();
+	}
+
+	/**
+	 * The strategy for a thread waiting for a slot (producer) or a message (consumer)
+	 * in the ring buffer.
+	 */
+	public enum WaitStrategy {
+
+		/**
+		 * Busy spin with {@link Thread#onSpinWait()}.
+		 * The lowest hand-off latency; burns a CPU core per waiting thread.
+		 */
+		SPIN {
+
+			@Override
+			void idle(int attempt) {
+				Thread.onSpinWait();
+			}
+
+		},
+
+		/**
+		 * Give up the CPU with {@link Thread#yield()} between attempts.
+		 */
+		YIELD {
+
+			@Override
+			void idle(int attempt) {
+				Thread.yield();
+			}
+
+		},
+
+		/**
+		 * Spin for a short while, then park the thread with an exponential back-off
+		 * from 1 microsecond up to 1 millisecond.
+		 */
+		PARK {
+
+			private static final int SPIN_TRIES = 100;
+
+			private static final int MAX_BACK_OFF_SHIFT = 10;
+
+			@Override
+			void idle(int attempt) {
+				if (attempt < SPIN_TRIES) {
+					Thread.onSpinWait();
+				}
+				else {
+					LockSupport.parkNanos(1000L << Math.min(attempt - SPIN_TRIES, MAX_BACK_OFF_SHIFT));
+				}
+			}
+
+		};
+
+		abstract void idle(int attempt);
+
+	}
+
+	/**
+	 * A bounded MPMC array queue based on the Dmitry Vyukov's algorithm:
+	 * each slot carries a sequence which tells producers and consumers
+	 * whether it is free for the current lap or holds a published element.
+	 */
+	private static final class MessageRingBuffer extends AbstractQueue<Message<?>> {
+
+		private final int capacity;
+
+		private final int mask;
+
+		private final AtomicLongArray sequences;
+
+		private final AtomicReferenceArray<Message<?>> slots;
+
+		private final AtomicLong producerPosition = new AtomicLong();
+
+		private final AtomicLong consumerPosition = new AtomicLong();
+
+		MessageRingBuffer(int requestedCapacity) {
+			Assert.isTrue(requestedCapacity > 0, "The capacity must be a positive integer.");
+			Assert.isTrue(requestedCapacity <= (1 << 30), "The capacity must not exceed 2^30.");
+			// The sequence-per-slot algorithm requires at least two slots
+			this.capacity = requestedCapacity <= 2 ? 2 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+			this.mask = this.capacity - 1;
+			this.sequences = new AtomicLongArray(this.capacity);
+			for (int i = 0; i < this.capacity; i++) {
+				this.sequences.set(i, i);
+			}
+			this.slots = new AtomicReferenceArray<>(this.capacity);
+		}
+
+		@Override
+		public boolean offer(Message<?> message) {
+			Assert.notNull(message, "'message' must not be null");
+			long position = this.producerPosition.get();
+			while (true) {
+				int index = (int) position & this.mask;
+				long difference = this.sequences.get(index) - position;
+				if (difference == 0) {
+					if (this.producerPosition.compareAndSet(position, position + 1)) {
+						this.slots.lazySet(index, message);
+						this.sequences.lazySet(index, position + 1);
+						return true;
+					}
+					position = this.producerPosition.get();
+				}
+				else if (difference < 0) {
+					return false;
+				}
+				else {
+					position = this.producerPosition.get();
+				}
+			}
+		}
+
+		@Override
+		@Nullable
+		public Message<?> poll() {
+			long position = this.consumerPosition.get();
+			while (true) {
+				int index = (int) position & this.mask;
+				long difference = this.sequences.get(index) - (position + 1);
+				if (difference == 0) {
+					if (this.consumerPosition.compareAndSet(position, position + 1)) {
+						Message<?> message = this.slots.get(index);
+						this.slots.lazySet(index, null);
+						this.sequences.lazySet(index, position + this.capacity);
+						return message;
+					}
+					position = this.consumerPosition.get();
+				}
+				else if (difference < 0) {
+					return null;
+				}
+				else {
+					position = this.consumerPosition.get();
+				}
+			}
+		}
+
+		@Override
+		@Nullable
+		public Message<?> peek() {
+			long position = this.consumerPosition.get();
+			int index = (int) position & this.mask;
+			if (this.sequences.get(index) == position + 1) {
+				return this.slots.get(index);
+			}
+			return null;
+		}
+
+		@Override
+		public int size() {
+			long consumer = this.consumerPosition.get();
+			while (true) {
+				long producer = this.producerPosition.get();
+				long consumerAfter = this.consumerPosition.get();
+				if (consumer == consumerAfter) {
+					return (int) Math.max(0, Math.min(producer - consumer, this.capacity));
+				}
+				consumer = consumerAfter;
+			}
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return this.producerPosition.get() <= this.consumerPosition.get();
+		}
+
+		/**
+		 * A weakly-consistent, read-only iterator over the published slots
+		 * between the current consumer and producer positions.
+		 */
+		@Override
+		public Iterator<Message<?>> iterator() {
+			long from = this.consumerPosition.get();
+			long to = this.producerPosition.get();
+			List<Message<?>> snapshot = new ArrayList<>();
+			for (long position = from; position < to; position++) {
+				int index = (int) position & this.mask;
+				Message<?> message = this.slots.get(index);
+				if (message != null && this.sequences.get(index) == position + 1) {
+					snapshot.add(message);
+				}
+			}
+			return Collections.unmodifiableList(snapshot).iterator();
+		}
+
+	}
+
+}
@@ -0,0 +1,379 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.channel;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.integration.context.IntegrationObjectSupport;
+import org.springframework.integration.support.channel.HeaderChannelRegistry;
+import org.springframework.integration.support.management.IntegrationManagement;
+import org.springframework.integration.support.management.ManageableLifecycle;
+import org.springframework.integration.support.management.metrics.GaugeFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link HeaderChannelRegistry} for a high number of registered channels.
+ * <p>
+ * In contrast to the {@link DefaultHeaderChannelRegistry}, the channels are distributed
+ * over several maps (shards) keyed by a {@code long} sequence, and the channel name is a short
+ * registry prefix followed by the sequence in radix 36.
+ * Each registration is also recorded in the bucket of its expiry time (with a 1 second resolution),
+ * so the reaper visits only the buckets which have expired, not all the registered channels.
+ * <p>
+ * As with the {@link DefaultHeaderChannelRegistry}, channels are expired after a configurable delay
+ * (60 seconds by default) and the reaper runs with that delay.
+ * When metrics are enabled, the {@code spring.integration.header.channel.registry.size}
+ * and {@code spring.integration.header.channel.registry.expired} gauges are registered.
+ *
+ * @since 6.5
+ */
+public class ShardedHeaderChannelRegistry extends IntegrationObjectSupport
+		implements HeaderChannelRegistry, ManageableLifecycle, IntegrationManagement, Runnable {
+
+	/**
+	 * The default number of shards.
+	 */
+	public static final int DEFAULT_SHARDS = 16;
+
+	private static final long DEFAULT_REAPER_DELAY = 60000;
+
+	private static final long EXPIRY_RESOLUTION = 1000;
+
+	private static final int RADIX = Character.MAX_RADIX;
+
+	private static final String METER_PREFIX_REGISTRY = METER_PREFIX + "header.channel.registry.";
+
+	private final String prefix = compactUuid() + ":";
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private final Map<Long, Registration>[] shards;
+
+	private final int shardMask;
+
+	private final ConcurrentNavigableMap<Long, Queue<Long>> expiryBuckets = new ConcurrentSkipListMap<>();
+
+	private final LongAdder expiredCount = new LongAdder();
+
+	private final List<GaugeFacade> gauges = new ArrayList<>();
+
+	private final Lock lock = new ReentrantLock();
+
+	private long reaperDelay;
+
+	private boolean removeOnGet;
+
+	private volatile ScheduledFuture<?> reaperScheduledFuture;
+
+	private volatile boolean running;
+
+	private volatile boolean explicitlyStopped;
+
+	/**
+	 * Construct a registry with the default delay for channel expiry and the default number of shards.
+	 */
+	public ShardedHeaderChannelRegistry() {
+		this(DEFAULT_REAPER_DELAY);
+	}
+
+	/**
+	 * Construct a registry with the provided delay (milliseconds) for channel expiry
+	 * and the default number of shards.
+	 * @param reaperDelay the delay in milliseconds.
+	 */
+	public ShardedHeaderChannelRegistry(long reaperDelay) {
+		this(reaperDelay, DEFAULT_SHARDS);
+	}
+
+	/**
+	 * Construct a registry with the provided delay (milliseconds) for channel expiry
+	 * and the number of shards, rounded up to the next power of two.
+	 * @param reaperDelay the delay in milliseconds.
+	 * @param shards the number of shards.
+	 */
+	@SuppressWarnings("unchecked")
+	public ShardedHeaderChannelRegistry(long reaperDelay, int shards) {
+		Assert.isTrue(shards > 0 && shards <= (1 << 16), "'shards' must be between 1 and 65536");
+		setReaperDelay(reaperDelay);
+		int shardCount = shards == 1 ? 1 : Integer.highestOneBit(shards - 1) << 1;
+		this.shards = new Map[shardCount];
+		for (int i = 0; i < shardCount; i++) {
+			this.shards[i] = new ConcurrentHashMap<>();
+		}
+		this.shardMask = shardCount - 1;
+	}
+
+	/**
+	 * Set the reaper delay.
+	 * @param reaperDelay the delay in milliseconds.
+	 */
+	public final void setReaperDelay(long reaperDelay) {
+		Assert.isTrue(reaperDelay > 0, "'reaperDelay' must be > 0");
+		this.reaperDelay = reaperDelay;
+	}
+
+	public final long getReaperDelay() {
+		return this.reaperDelay;
+	}
+
+	/**
+	 * Set to true to immediately remove the channel mapping when
+	 * {@link #channelNameToChannel(String)} is invoked.
+	 * @param removeOnGet true to remove immediately, default false.
+	 */
+	public void setRemoveOnGet(boolean removeOnGet) {
+		this.removeOnGet = removeOnGet;
+	}
+
+	@Override
+	public final int size() {
+		int size = 0;
+		for (Map<Long, Registration> shard : this.shards) {
+			size += shard.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Return the number of channels removed by the reaper since the registry was created.
+	 * @return the number of expired channels.
+	 */
+	public long getExpiredCount() {
+		return this.expiredCount.sum();
+	}
+
+	@Override
+	public String getComponentType() {
+		return "header-channel-registry";
+	}
+
+	@Override
+	protected void onInit() {
+		super.onInit();
+		Assert.notNull(getTaskScheduler(), "a task scheduler is required");
+	}
+
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		this.gauges.add(buildGauge(metricsCaptor, "size", (registry) -> size(),
+				"The number of channels in the registry"));
+		this.gauges.add(buildGauge(metricsCaptor, "expired", (registry) -> getExpiredCount(),
+				"The number of channels removed from the registry by the reaper"));
+	}
+
+	private GaugeFacade buildGauge(MetricsCaptor metricsCaptor, String name,
+			ToDoubleFunction<Object> value, String description) {
+
+		return metricsCaptor.gaugeBuilder(METER_PREFIX_REGISTRY + name, this, value)
+				.tag("name", getComponentName() == null ? "unknown" : getComponentName())
+				.tag("type", getComponentType())
+				.description(description)
+				.build();
+	}
+
+	@Override
+	public void start() {
+		this.lock.lock();
+		try {
+			if (!this.running) {
+				Assert.notNull(getTaskScheduler(), "a task scheduler is required");
+				this.reaperScheduledFuture = getTaskScheduler()
+						.schedule(this, Instant.now().plusMillis(this.reaperDelay));
+
+				this.running = true;
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void stop() {
+		this.lock.lock();
+		try {
+			this.running = false;
+			if (this.reaperScheduledFuture != null) {
+				this.reaperScheduledFuture.cancel(true);
+				this.reaperScheduledFuture = null;
+			}
+			this.explicitlyStopped = true;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	@Override
+	public void destroy() {
+		this.gauges.forEach(GaugeFacade::remove);
+		this.gauges.clear();
+	}
+
+	@Override
+	@Nullable
+	public Object channelToChannelName(@Nullable Object channel) {
+		return channelToChannelName(channel, this.reaperDelay);
+	}
+
+	@Override
+	@Nullable
+	public Object channelToChannelName(@Nullable Object channel, long timeToLive) {
+		if (!this.running && !this.explicitlyStopped && getTaskScheduler() != null) {
+			start();
+		}
+		if (channel instanceof MessageChannel messageChannel) {
+			long key = this.sequence.incrementAndGet();
+			long expireAt = System.currentTimeMillis() + timeToLive;
+			shard(key).put(key, new Registration(messageChannel, expireAt));
+			addToExpiryBucket(key, expireAt);
+			String name = this.prefix + Long.toString(key, RADIX);
+			this.logger.debug(() -> "Registered " + channel + " as " + name);
+			return name;
+		}
+		else {
+			return channel;
+		}
+	}
+
+	@Override
+	@Nullable
+	public MessageChannel channelNameToChannel(@Nullable String name) {
+		if (name != null && name.startsWith(this.prefix)) {
+			long key;
+			try {
+				key = Long.parseLong(name, this.prefix.length(), name.length(), RADIX);
+			}
+			catch (NumberFormatException ex) {
+				return null;
+			}
+			Map<Long, Registration> shard = shard(key);
+			Registration registration = this.removeOnGet ? shard.remove(key) : shard.get(key);
+			if (registration != null) {
+				MessageChannel channel = registration.channel();
+				this.logger.debug(() -> "Retrieved " + channel + " with " + name);
+				return channel;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Cancel the scheduled reap task and run immediately; then reschedule.
+	 */
+	@Override
+	public void runReaper() {
+		this.lock.lock();
+		try {
+			if (this.reaperScheduledFuture != null) {
+				this.reaperScheduledFuture.cancel(true);
+				this.reaperScheduledFuture = null;
+			}
+
+			run();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void run() {
+		this.lock.lock();
+		try {
+			this.logger.trace(() -> "Reaper started; channels size=" + size());
+			long now = System.currentTimeMillis();
+			Map.Entry<Long, Queue<Long>> bucket;
+			while ((bucket = this.expiryBuckets.firstEntry()) != null && bucket.getKey() <= now) {
+				this.expiryBuckets.remove(bucket.getKey());
+				Long key;
+				while ((key = bucket.getValue().poll()) != null) {
+					Registration registration = shard(key).remove(key);
+					if (registration != null) {
+						this.expiredCount.increment();
+						Long expiredKey = key;
+						this.logger.debug(() -> "Expiring " + this.prefix + Long.toString(expiredKey, RADIX)
+								+ " (" + registration.channel() + ")");
+					}
+				}
+			}
+			this.reaperScheduledFuture = getTaskScheduler()
+					.schedule(this, Instant.now().plusMillis(this.reaperDelay));
+
+			this.logger.trace(() -> "Reaper completed; channels size=" + size());
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private Map<Long, Registration> shard(long key) {
+		return this.shards[(int) key & this.shardMask];
+	}
+
+	/**
+	 * Add the key to the bucket of the first resolution boundary after its expiry time.
+	 * If the reaper removes the bucket concurrently, the key is added to a new one.
+	 */
+	private void addToExpiryBucket(long key, long expireAt) {
+		long bucketTime = (expireAt / EXPIRY_RESOLUTION + 1) * EXPIRY_RESOLUTION;
+		Queue<Long> bucket;
+		do {
+			bucket = this.expiryBuckets.computeIfAbsent(bucketTime, (time) -> new ConcurrentLinkedQueue<>());
+			bucket.add(key);
+		}
+		while (this.expiryBuckets.get(bucketTime) != bucket);
+	}
+
+	private static String compactUuid() {
+		UUID uuid = UUID.randomUUID();
+		ByteBuffer bytes = ByteBuffer.allocate(16)
+				.putLong(uuid.getMostSignificantBits())
+				.putLong(uuid.getLeastSignificantBits());
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.array());
+	}
+
+	private record Registration(MessageChannel channel, long expireAt) {
+
+	}
+
+}
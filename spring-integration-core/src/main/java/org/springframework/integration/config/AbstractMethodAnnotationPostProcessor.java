@@ -698,6 +698,7 @@ public abstract class AbstractMethodAnnotationPostProcessor<T extends Annotation
 		pollingEndpoint.setMaxMessagesPerPoll(maxMessagesPerPoll);
 		pollingEndpoint.setErrorHandler(pollerMetadata.getErrorHandler());
 		if (pollingEndpoint instanceof PollingConsumer pollingConsumer) {
+			pollingConsumer.setBatchReceive(pollerMetadata.isBatchReceive());
 			pollingConsumer.setReceiveTimeout(pollerMetadata.getReceiveTimeout());
 		}
 		pollingEndpoint.setTransactionSynchronizationFactory(pollerMetadata.getTransactionSynchronizationFactory());
@@ -19,6 +19,7 @@ package org.springframework.integration.config;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -104,6 +105,10 @@ public class AggregatorFactoryBean extends AbstractSimpleMessageHandlerFactoryBe
 
 	private BiFunction<Message<?>, String, String> groupConditionSupplier;
 
+	private Executor releaseExecutor;
+
+	private Integer maxPendingReleases;
+
 	public void setProcessorBean(Object processorBean) {
 		this.processorBean = processorBean;
 	}
@@ -207,6 +212,26 @@ public class AggregatorFactoryBean extends AbstractSimpleMessageHandlerFactoryBe
 		this.discardIndividuallyOnExpiry = discardIndividuallyOnExpiry;
 	}
 
+	/**
+	 * Set an {@link Executor} to process released groups asynchronously.
+	 * @param releaseExecutor the executor for released groups.
+	 * @since 6.5
+	 * @see AggregatingMessageHandler#setReleaseExecutor(Executor)
+	 */
+	public void setReleaseExecutor(Executor releaseExecutor) {
+		this.releaseExecutor = releaseExecutor;
+	}
+
+	/**
+	 * Set the maximum number of groups released on the {@code releaseExecutor} and not processed yet.
+	 * @param maxPendingReleases the maximum number of pending releases.
+	 * @since 6.5
+	 * @see AggregatingMessageHandler#setMaxPendingReleases(int)
+	 */
+	public void setMaxPendingReleases(Integer maxPendingReleases) {
+		this.maxPendingReleases = maxPendingReleases;
+	}
+
 	@Override
 	protected AggregatingMessageHandler createHandler() {
 		MessageGroupProcessor outputProcessor;
@@ -255,7 +280,9 @@ public class AggregatorFactoryBean extends AbstractSimpleMessageHandlerFactoryBe
 						(duration) -> aggregator.setExpireDuration(Duration.ofMillis(duration)))
 				.acceptIfNotNull(this.groupConditionSupplier, aggregator::setGroupConditionSupplier)
 				.acceptIfNotNull(this.expireTimeout, aggregator::setExpireTimeout)
-				.acceptIfNotNull(this.discardIndividuallyOnExpiry, aggregator::setDiscardIndividuallyOnExpiry);
+				.acceptIfNotNull(this.discardIndividuallyOnExpiry, aggregator::setDiscardIndividuallyOnExpiry)
+				.acceptIfNotNull(this.releaseExecutor, aggregator::setReleaseExecutor)
+				.acceptIfNotNull(this.maxPendingReleases, aggregator::setMaxPendingReleases);
 
 		return aggregator;
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2024 the original author or authors.
+ * Copyright 2014-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,6 +38,7 @@ import org.springframework.util.StringUtils;
  *   <li> {@code spring.integration.channels.error.requireSubscribers=true}
  *   <li> {@code spring.integration.channels.error.ignoreFailures=true}
  *   <li> {@code spring.integration.endpoints.defaultTimeout=30000}
+ *   <li> {@code spring.integration.virtualThreads.enabled=false}
  * </ul>
  *
  * @author Artem Bilan
@@ -117,6 +118,17 @@ public final class IntegrationProperties {
 	 */
 	public static final String ENDPOINTS_DEFAULT_TIMEOUT = INTEGRATION_PROPERTIES_PREFIX + "endpoints.defaultTimeout";
 
+	/**
+	 * Specifies whether framework components should use virtual threads for their default executors:
+	 * {@link org.springframework.integration.channel.PartitionedChannel} partitions,
+	 * {@link org.springframework.integration.endpoint.AbstractPollingEndpoint} polling tasks,
+	 * {@link org.springframework.integration.gateway.GatewayProxyFactoryBean} async gateway methods
+	 * and TCP connection factories.
+	 * Requires Java 21 or later.
+	 * @since 6.5
+	 */
+	public static final String VIRTUAL_THREADS_ENABLED = INTEGRATION_PROPERTIES_PREFIX + "virtualThreads.enabled";
+
 	private static final Properties DEFAULTS;
 
 	private boolean channelsAutoCreate = true;
@@ -139,6 +151,8 @@ public final class IntegrationProperties {
 
 	private long endpointsDefaultTimeout = IntegrationContextUtils.DEFAULT_TIMEOUT;
 
+	private boolean virtualThreadsEnabled;
+
 	private volatile Properties properties;
 
 	static {
@@ -317,6 +331,25 @@ public final class IntegrationProperties {
 		this.endpointsDefaultTimeout = endpointsDefaultTimeout;
 	}
 
+	/**
+	 * Configure a value for {@link #VIRTUAL_THREADS_ENABLED} option.
+	 * @param virtualThreadsEnabled the value for {@link #VIRTUAL_THREADS_ENABLED} option.
+	 * @since 6.5
+	 */
+	public void setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+		this.virtualThreadsEnabled = virtualThreadsEnabled;
+		this.properties = null;
+	}
+
+	/**
+	 * Return the value of {@link #VIRTUAL_THREADS_ENABLED} option.
+	 * @return the value of {@link #VIRTUAL_THREADS_ENABLED} option.
+	 * @since 6.5
+	 */
+	public boolean isVirtualThreadsEnabled() {
+		return this.virtualThreadsEnabled;
+	}
+
 	/**
 	 * Represent the current instance as a {@link Properties}.
 	 * @return the {@link Properties} representation.
@@ -337,6 +370,7 @@ public final class IntegrationProperties {
 			props.setProperty(ENDPOINTS_NO_AUTO_STARTUP,
 					StringUtils.arrayToCommaDelimitedString(this.noAutoStartupEndpoints));
 			props.setProperty(ENDPOINTS_DEFAULT_TIMEOUT, "" + this.endpointsDefaultTimeout);
+			props.setProperty(VIRTUAL_THREADS_ENABLED, "" + this.virtualThreadsEnabled);
 
 			this.properties = props;
 		}
@@ -375,7 +409,9 @@ public final class IntegrationProperties {
 						(value) -> integrationProperties.setNoAutoStartupEndpoints(
 								StringUtils.commaDelimitedListToStringArray(value)))
 				.acceptIfHasText(properties.getProperty(ENDPOINTS_DEFAULT_TIMEOUT),
-						(value) -> integrationProperties.setEndpointsDefaultTimeout(Long.parseLong(value)));
+						(value) -> integrationProperties.setEndpointsDefaultTimeout(Long.parseLong(value)))
+				.acceptIfHasText(properties.getProperty(VIRTUAL_THREADS_ENABLED),
+						(value) -> integrationProperties.setVirtualThreadsEnabled(Boolean.parseBoolean(value)));
 		return integrationProperties;
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 the original author or authors.
+ * Copyright 2023-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,11 +20,20 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
@@ -49,6 +58,12 @@ import org.springframework.util.ErrorHandler;
  * The number of partitions should be a reasonable value for the application environment
  * since every partition is based on a dedicated thread for message processing.
  * <p>
+ * Alternatively, when {@link #setWorkStealingThreads(int)} is configured, the partitions are virtual:
+ * they are not pinned to dedicated threads, but scheduled on a shared work-stealing {@link ForkJoinPool}.
+ * Only one thread at a time handles messages for a partition, so the per-key ordering is preserved,
+ * but an idle worker can pick up any pending partition. In this mode the number of partitions
+ * should be much higher than the number of threads, so a hot key stalls only its own (small) partition.
+ * <p>
  * The rest of the logic is similar to {@link UnicastingDispatcher} behavior.
  *
  * @author Artem Bilan
@@ -58,8 +73,15 @@ import org.springframework.util.ErrorHandler;
  */
 public class PartitionedDispatcher extends AbstractDispatcher {
 
+	/**
+	 * The maximum number of messages handled for a virtual partition before yielding the worker thread.
+	 */
+	private static final int MAX_MESSAGES_PER_PARTITION_RUN = 64;
+
 	private final Map<Integer, UnicastingDispatcher> partitions = new HashMap<>();
 
+	private final Map<Integer, PartitionQueueSize> partitionQueueSizes = new ConcurrentHashMap<>();
+
 	private final List<ExecutorService> executors = new ArrayList<>();
 
 	private final int partitionCount;
@@ -77,6 +99,11 @@ public class PartitionedDispatcher extends AbstractDispatcher {
 
 	private MessageHandlingTaskDecorator messageHandlingTaskDecorator = task -> task;
 
+	private int workStealingThreads;
+
+	@Nullable
+	private ForkJoinPool workStealingPool;
+
 	private final Lock lock = new ReentrantLock();
 
 	/**
@@ -103,6 +130,41 @@ public class PartitionedDispatcher extends AbstractDispatcher {
 		this.threadFactory = threadFactory;
 	}
 
+	/**
+	 * Switch this dispatcher to virtual partitions scheduled on a shared work-stealing pool
+	 * with the provided number of threads instead of a dedicated thread per partition.
+	 * The per-partition message ordering is preserved.
+	 * The thread names are based on the {@link CustomizableThreadFactory#getThreadNamePrefix()}
+	 * if the {@link #setThreadFactory(ThreadFactory)} is a {@link CustomizableThreadFactory}.
+	 * @param workStealingThreads the number of threads for the work-stealing pool.
+	 * @since 6.5
+	 */
+	public void setWorkStealingThreads(int workStealingThreads) {
+		Assert.isTrue(workStealingThreads > 0, "'workStealingThreads' must be greater than 0");
+		this.workStealingThreads = workStealingThreads;
+	}
+
+	/**
+	 * Return the number of partitions in this dispatcher.
+	 * @return the number of partitions.
+	 * @since 6.5
+	 */
+	public int getPartitionCount() {
+		return this.partitionCount;
+	}
+
+	/**
+	 * Return the number of messages waiting in the queue of the provided partition.
+	 * Returns {@code 0} if partitions are not populated yet.
+	 * @param partition the partition index.
+	 * @return the partition queue depth.
+	 * @since 6.5
+	 */
+	public int getPartitionQueueSize(int partition) {
+		PartitionQueueSize queueSize = this.partitionQueueSizes.get(partition);
+		return queueSize != null ? queueSize.size() : 0;
+	}
+
 	/**
 	 * Specify whether partition dispatchers should have failover enabled.
 	 * By default, it will. Set this value to 'false' to disable it.
@@ -160,6 +222,8 @@ public class PartitionedDispatcher extends AbstractDispatcher {
 		this.executors.forEach(ExecutorService::shutdown);
 		this.executors.clear();
 		this.partitions.clear();
+		this.partitionQueueSizes.clear();
+		this.workStealingPool = null;
 	}
 
 	@Override
@@ -175,9 +239,13 @@ public class PartitionedDispatcher extends AbstractDispatcher {
 			this.lock.lock();
 			try {
 				if (this.partitions.isEmpty()) {
+					if (this.workStealingThreads > 0) {
+						this.workStealingPool = newWorkStealingPool();
+						this.executors.add(this.workStealingPool);
+					}
 					Map<Integer, UnicastingDispatcher> partitionsToUse = new HashMap<>();
 					for (int i = 0; i < this.partitionCount; i++) {
-						partitionsToUse.put(i, newPartition());
+						partitionsToUse.put(i, newPartition(i));
 					}
 					this.partitions.putAll(partitionsToUse);
 				}
@@ -188,9 +256,37 @@ public class PartitionedDispatcher extends AbstractDispatcher {
 		}
 	}
 
-	private UnicastingDispatcher newPartition() {
-		ExecutorService executor = Executors.newSingleThreadExecutor(this.threadFactory);
-		this.executors.add(executor);
+	private ForkJoinPool newWorkStealingPool() {
+		String threadNamePrefix =
+				this.threadFactory instanceof CustomizableThreadFactory customizableThreadFactory
+						? customizableThreadFactory.getThreadNamePrefix()
+						: null;
+		return new ForkJoinPool(this.workStealingThreads,
+				(pool) -> {
+					ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+					if (threadNamePrefix != null) {
+						worker.setName(threadNamePrefix + (worker.getPoolIndex() + 1));
+					}
+					return worker;
+				},
+				null, true);
+	}
+
+	private UnicastingDispatcher newPartition(int partition) {
+		Executor executor;
+		if (this.workStealingPool != null) {
+			VirtualPartitionExecutor virtualPartitionExecutor = new VirtualPartitionExecutor(this.workStealingPool);
+			this.partitionQueueSizes.put(partition, virtualPartitionExecutor::getQueueSize);
+			executor = virtualPartitionExecutor;
+		}
+		else {
+			ThreadPoolExecutor threadPoolExecutor =
+					new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+							this.threadFactory);
+			this.executors.add(threadPoolExecutor);
+			this.partitionQueueSizes.put(partition, () -> threadPoolExecutor.getQueue().size());
+			executor = threadPoolExecutor;
+		}
 		DelegateDispatcher delegateDispatcher =
 				new DelegateDispatcher(new ErrorHandlingTaskExecutor(executor, this.errorHandler));
 		delegateDispatcher.setFailoverStrategy(this.failoverStrategy);
@@ -217,4 +313,75 @@ public class PartitionedDispatcher extends AbstractDispatcher {
 
 	}
 
+	@FunctionalInterface
+	private interface PartitionQueueSize {
+
+		int size();
+
+	}
+
+	/**
+	 * A serial {@link Executor} for a virtual partition: tasks are queued and drained
+	 * by at most one worker of the shared work-stealing pool at a time.
+	 * After {@link #MAX_MESSAGES_PER_PARTITION_RUN} tasks, the worker re-schedules the partition
+	 * and moves on, so other partitions are not starved by a hot one.
+	 */
+	private static final class VirtualPartitionExecutor implements Executor {
+
+		private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger queueSize = new AtomicInteger();
+
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+
+		private final Executor workers;
+
+		VirtualPartitionExecutor(Executor workers) {
+			this.workers = workers;
+		}
+
+		@Override
+		public void execute(Runnable task) {
+			this.tasks.add(task);
+			this.queueSize.incrementAndGet();
+			schedule();
+		}
+
+		int getQueueSize() {
+			return this.queueSize.get();
+		}
+
+		private void schedule() {
+			if (this.scheduled.compareAndSet(false, true)) {
+				try {
+					this.workers.execute(this::drain);
+				}
+				catch (RuntimeException ex) {
+					this.scheduled.set(false);
+					throw ex;
+				}
+			}
+		}
+
+		private void drain() {
+			try {
+				for (int i = 0; i < MAX_MESSAGES_PER_PARTITION_RUN; i++) {
+					Runnable task = this.tasks.poll();
+					if (task == null) {
+						break;
+					}
+					this.queueSize.decrementAndGet();
+					task.run();
+				}
+			}
+			finally {
+				this.scheduled.set(false);
+				if (!this.tasks.isEmpty()) {
+					schedule();
+				}
+			}
+		}
+
+	}
+
 }
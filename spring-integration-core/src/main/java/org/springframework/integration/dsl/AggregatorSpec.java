@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2024 the original author or authors.
+ * Copyright 2016-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.springframework.integration.dsl;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import org.springframework.integration.aggregator.AbstractAggregatingMessageGroupProcessor;
@@ -108,6 +109,30 @@ public class AggregatorSpec extends CorrelationHandlerSpec<AggregatorSpec, Aggre
 		return _this();
 	}
 
+	/**
+	 * Set an {@link Executor} to process released groups asynchronously.
+	 * @param releaseExecutor the executor for released groups.
+	 * @return the aggregator spec.
+	 * @since 6.5
+	 * @see AggregatingMessageHandler#setReleaseExecutor(Executor)
+	 */
+	public AggregatorSpec releaseExecutor(Executor releaseExecutor) {
+		this.handler.setReleaseExecutor(releaseExecutor);
+		return _this();
+	}
+
+	/**
+	 * Set the maximum number of groups released on the {@code releaseExecutor} and not processed yet.
+	 * @param maxPendingReleases the maximum number of pending releases.
+	 * @return the aggregator spec.
+	 * @since 6.5
+	 * @see AggregatingMessageHandler#setMaxPendingReleases(int)
+	 */
+	public AggregatorSpec maxPendingReleases(int maxPendingReleases) {
+		this.handler.setMaxPendingReleases(maxPendingReleases);
+		return _this();
+	}
+
 	/**
 	 * Configure a {@link Function} to merge and compute headers for reply
 	 * based on the completed {@link MessageGroup}.
@@ -73,6 +73,27 @@ public final class Channels {
 		return MessageChannels.queue(id, messageGroupStore, groupId);
 	}
 
+	/**
+	 * Create a {@link RingBufferQueueChannelSpec}.
+	 * @param capacity the capacity of the ring buffer (rounded up to the next power of two).
+	 * @return the {@link RingBufferQueueChannelSpec}.
+	 * @since 6.5
+	 */
+	public RingBufferQueueChannelSpec ringBufferQueue(int capacity) {
+		return MessageChannels.ringBufferQueue(capacity);
+	}
+
+	/**
+	 * Create a {@link RingBufferQueueChannelSpec}.
+	 * @param id the bean name for the channel.
+	 * @param capacity the capacity of the ring buffer (rounded up to the next power of two).
+	 * @return the {@link RingBufferQueueChannelSpec}.
+	 * @since 6.5
+	 */
+	public RingBufferQueueChannelSpec ringBufferQueue(String id, int capacity) {
+		return MessageChannels.ringBufferQueue(id, capacity);
+	}
+
 	public PriorityChannelSpec priority() {
 		return MessageChannels.priority();
 	}
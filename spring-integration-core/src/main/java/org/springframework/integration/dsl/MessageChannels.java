@@ -73,6 +73,27 @@ public final class MessageChannels {
 		return queue(messageGroupStore, groupId).id(id);
 	}
 
+	/**
+	 * Create a {@link RingBufferQueueChannelSpec}.
+	 * @param capacity the capacity of the ring buffer (rounded up to the next power of two).
+	 * @return the {@link RingBufferQueueChannelSpec}.
+	 * @since 6.5
+	 */
+	public static RingBufferQueueChannelSpec ringBufferQueue(int capacity) {
+		return new RingBufferQueueChannelSpec(capacity);
+	}
+
+	/**
+	 * Create a {@link RingBufferQueueChannelSpec}.
+	 * @param id the bean name for the channel.
+	 * @param capacity the capacity of the ring buffer (rounded up to the next power of two).
+	 * @return the {@link RingBufferQueueChannelSpec}.
+	 * @since 6.5
+	 */
+	public static RingBufferQueueChannelSpec ringBufferQueue(String id, int capacity) {
+		return ringBufferQueue(capacity).id(id);
+	}
+
 	public static ExecutorChannelSpec executor(Executor executor) {
 		return new ExecutorChannelSpec(executor);
 	}
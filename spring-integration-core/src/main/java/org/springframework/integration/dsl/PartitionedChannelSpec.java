@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 the original author or authors.
+ * Copyright 2023-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -40,6 +40,9 @@ public class PartitionedChannelSpec extends LoadBalancingChannelSpec<Partitioned
 	@Nullable
 	private ThreadFactory threadFactory;
 
+	@Nullable
+	private Integer workStealingThreads;
+
 	protected PartitionedChannelSpec(int partitionCount) {
 		this.partitionCount = partitionCount;
 	}
@@ -54,6 +57,18 @@ public class PartitionedChannelSpec extends LoadBalancingChannelSpec<Partitioned
 		return this;
 	}
 
+	/**
+	 * Schedule virtual partitions on a shared work-stealing pool with the provided number of threads.
+	 * @param workStealingThreads the number of threads for the work-stealing pool.
+	 * @return the spec.
+	 * @since 6.5
+	 * @see PartitionedChannel#setWorkStealingThreads(int)
+	 */
+	public PartitionedChannelSpec workStealingThreads(int workStealingThreads) {
+		this.workStealingThreads = workStealingThreads;
+		return this;
+	}
+
 	@Override
 	protected PartitionedChannel doGet() {
 		if (this.partitionKeyFunction != null) {
@@ -72,6 +87,9 @@ public class PartitionedChannelSpec extends LoadBalancingChannelSpec<Partitioned
 		if (this.threadFactory != null) {
 			this.channel.setThreadFactory(this.threadFactory);
 		}
+		if (this.workStealingThreads != null) {
+			this.channel.setWorkStealingThreads(this.workStealingThreads);
+		}
 		return super.doGet();
 	}
 
@@ -119,6 +119,18 @@ public final class PollerSpec extends IntegrationComponentSpec<PollerSpec, Polle
 		return this;
 	}
 
+	/**
+	 * Receive up to {@code maxMessagesPerPoll} messages in a single drain operation per poll.
+	 * @param batchReceive true to receive messages in batches.
+	 * @return the spec.
+	 * @since 6.5
+	 * @see PollerMetadata#setBatchReceive(boolean)
+	 */
+	public PollerSpec batchReceive(boolean batchReceive) {
+		this.target.setBatchReceive(batchReceive);
+		return this;
+	}
+
 	/**
 	 * Specify a timeout in milliseconds to wait for a message in the
 	 * {@link org.springframework.messaging.MessageChannel}.
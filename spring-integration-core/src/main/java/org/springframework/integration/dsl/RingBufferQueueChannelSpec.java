@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.dsl;
+
+import org.springframework.integration.channel.RingBufferQueueChannel;
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link MessageChannelSpec} implementation for the {@link RingBufferQueueChannel}.
+ *
+ * @since 6.5
+ */
+public class RingBufferQueueChannelSpec extends MessageChannelSpec<RingBufferQueueChannelSpec, RingBufferQueueChannel> {
+
+	private final int capacity;
+
+	@Nullable
+	private RingBufferQueueChannel.WaitStrategy waitStrategy;
+
+	protected RingBufferQueueChannelSpec(int capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Set a {@link RingBufferQueueChannel.WaitStrategy} for threads waiting on a full or empty buffer.
+	 * @param waitStrategy the {@link RingBufferQueueChannel.WaitStrategy} to use.
+	 * @return the spec.
+	 */
+	public RingBufferQueueChannelSpec waitStrategy(RingBufferQueueChannel.WaitStrategy waitStrategy) {
+		this.waitStrategy = waitStrategy;
+		return this;
+	}
+
+	@Override
+	protected RingBufferQueueChannel doGet() {
+		this.channel = new RingBufferQueueChannel(this.capacity);
+		if (this.waitStrategy != null) {
+			this.channel.setWaitStrategy(this.waitStrategy);
+		}
+		return super.doGet();
+	}
+
+}
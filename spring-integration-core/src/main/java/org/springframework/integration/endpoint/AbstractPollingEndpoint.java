@@ -19,11 +19,13 @@ package org.springframework.integration.endpoint;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -41,6 +43,7 @@ import org.springframework.aop.support.NameMatchMethodPointcutAdvisor;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.beans.factory.BeanInitializationException;
 import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.integration.aop.ReceiveMessageAdvice;
 import org.springframework.integration.channel.ChannelUtils;
 import org.springframework.integration.channel.MessagePublishingErrorHandler;
@@ -95,10 +98,16 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 
 	private final Lock initializationMonitor = new ReentrantLock();
 
+	private final AtomicBoolean virtualThreadPollInProgress = new AtomicBoolean();
+
 	private Executor taskExecutor = new SyncTaskExecutor();
 
 	private boolean syncExecutor = true;
 
+	private boolean taskExecutorExplicitlySet;
+
+	private boolean virtualThreadPolling;
+
 	private ClassLoader beanClassLoader = ClassUtils.getDefaultClassLoader();
 
 	private Trigger trigger = new PeriodicTrigger(Duration.ofMillis(DEFAULT_POLLING_PERIOD));
@@ -113,6 +122,8 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 
 	private volatile long maxMessagesPerPoll = -1;
 
+	private boolean batchReceive;
+
 	private volatile Callable<Message<?>> pollingTask;
 
 	private volatile Flux<Message<?>> pollingFlux;
@@ -128,6 +139,7 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 	}
 
 	public void setTaskExecutor(Executor taskExecutor) {
+		this.taskExecutorExplicitlySet = taskExecutor != null;
 		this.taskExecutor = (taskExecutor != null ? taskExecutor : new SyncTaskExecutor());
 		this.syncExecutor = this.taskExecutor instanceof SyncTaskExecutor
 				|| (this.taskExecutor instanceof ErrorHandlingTaskExecutor
@@ -167,6 +179,27 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 		return this.maxMessagesPerPoll;
 	}
 
+	/**
+	 * Set to {@code true} to receive up to {@code maxMessagesPerPoll} messages in a single
+	 * {@link #receiveMessages(int)} operation per polling cycle instead of a {@link #receiveMessage()} per message.
+	 * The received messages are handled one by one within the same polling task,
+	 * so the advice chain (e.g. a transaction) and the task executor hand-off are applied per batch.
+	 * Outside a transaction, a failure for one message is reported to the error handler
+	 * and the rest of the batch is still handled; within a transaction the exception is re-thrown
+	 * and the whole batch is rolled back.
+	 * An unbounded {@code maxMessagesPerPoll} means receive all the messages currently available.
+	 * Not supported for a reactive polling endpoint.
+	 * @param batchReceive true to receive messages in batches.
+	 * @since 6.5
+	 */
+	public void setBatchReceive(boolean batchReceive) {
+		this.batchReceive = batchReceive;
+	}
+
+	public boolean isBatchReceive() {
+		return this.batchReceive;
+	}
+
 	public void setErrorHandler(ErrorHandler errorHandler) {
 		this.errorHandler = errorHandler;
 	}
@@ -273,6 +306,16 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 				return;
 			}
 			Assert.notNull(this.trigger, "Trigger is required");
+			Assert.state(!(this.batchReceive && isReactive()), "The 'batchReceive' is not supported in reactive mode");
+			if (!this.taskExecutorExplicitlySet && !isReactive()
+					&& getIntegrationProperties().isVirtualThreadsEnabled()) {
+
+				String componentName = getComponentName();
+				this.taskExecutor =
+						new VirtualThreadTaskExecutor((componentName != null ? componentName : "poller") + "-");
+				this.syncExecutor = false;
+				this.virtualThreadPolling = true;
+			}
 			if (this.taskExecutor != null && !(this.taskExecutor instanceof ErrorHandlingTaskExecutor)) {
 				if (this.errorHandler == null) {
 					this.errorHandler = ChannelUtils.getErrorHandler(getBeanFactory());
@@ -346,20 +389,52 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 	}
 
 	private Runnable createPoller() {
-		return () ->
-				this.taskExecutor.execute(() -> {
-					int count = 0;
-					while (this.initialized && (this.maxMessagesPerPoll <= 0 || count < this.maxMessagesPerPoll)) {
-						if (this.maxMessagesPerPoll == 0) {
-							logger.info("Polling disabled while 'maxMessagesPerPoll == 0'");
-							break;
-						}
-						if (pollForMessage() == null) {
-							break;
-						}
-						count++;
+		Runnable pollingCycle = () -> {
+			if (this.batchReceive) {
+				if (this.maxMessagesPerPoll == 0) {
+					logger.info("Polling disabled while 'maxMessagesPerPoll == 0'");
+				}
+				else {
+					pollForMessage();
+				}
+				return;
+			}
+			int count = 0;
+			while (this.initialized && (this.maxMessagesPerPoll <= 0 || count < this.maxMessagesPerPoll)) {
+				if (this.maxMessagesPerPoll == 0) {
+					logger.info("Polling disabled while 'maxMessagesPerPoll == 0'");
+					break;
+				}
+				if (pollForMessage() == null) {
+					break;
+				}
+				count++;
+			}
+		};
+
+		if (this.virtualThreadPolling) {
+			// Keep the sequential polling semantics of the scheduler thread:
+			// skip the trigger if the previous poll is still in progress on its virtual thread.
+			return () -> {
+				if (this.virtualThreadPollInProgress.compareAndSet(false, true)) {
+					try {
+						this.taskExecutor.execute(() -> {
+							try {
+								pollingCycle.run();
+							}
+							finally {
+								this.virtualThreadPollInProgress.set(false);
+							}
+						});
 					}
-				});
+					catch (RuntimeException ex) {
+						this.virtualThreadPollInProgress.set(false);
+						throw ex;
+					}
+				}
+			};
+		}
+		return () -> this.taskExecutor.execute(pollingCycle);
 	}
 
 	private Flux<Message<?>> createFluxGenerator() {
@@ -450,6 +525,9 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 
 	private Message<?> doPoll() {
 		IntegrationResourceHolder holder = bindResourceHolderIfNecessary(getResourceKey(), getResourceToBind());
+		if (this.batchReceive) {
+			return doPollBatch(holder);
+		}
 		Message<?> message = null;
 		try {
 			message = receiveMessage();
@@ -475,6 +553,49 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 		return message;
 	}
 
+	@Nullable
+	private Message<?> doPollBatch(@Nullable IntegrationResourceHolder holder) {
+		int maxMessages =
+				this.maxMessagesPerPoll < 0 || this.maxMessagesPerPoll > Integer.MAX_VALUE
+						? Integer.MAX_VALUE
+						: (int) this.maxMessagesPerPoll;
+		List<Message<?>> messages = null;
+		try {
+			messages = receiveMessages(maxMessages);
+		}
+		catch (Exception ex) {
+			if (Thread.interrupted()) {
+				logger.debug(() -> "Poll interrupted - during stop()? : " + ex.getMessage());
+				return null;
+			}
+			else {
+				ReflectionUtils.rethrowRuntimeException(ex);
+			}
+		}
+
+		if (CollectionUtils.isEmpty(messages)) {
+			this.logger.debug("Received no Messages during the poll, returning 'false'");
+			return null;
+		}
+
+		Message<?> lastMessage = null;
+		for (Message<?> message : messages) {
+			try {
+				messageReceived(holder, message);
+			}
+			catch (RuntimeException ex) {
+				// Within a transaction the whole batch is rolled back,
+				// otherwise the rest of already received messages must not be lost
+				if (this.errorHandler == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+					throw ex;
+				}
+				this.errorHandler.handleError(ex);
+			}
+			lastMessage = message;
+		}
+		return lastMessage;
+	}
+
 	protected void messageReceived(@Nullable IntegrationResourceHolder holder, Message<?> message) {
 		this.logger.debug(() -> "Poll resulted in Message: " + message);
 		if (holder != null) {
@@ -517,6 +638,20 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 	 */
 	protected abstract Message<?> receiveMessage();
 
+	/**
+	 * Obtain up to {@code maxMessages} available messages in a single operation
+	 * when {@link #setBatchReceive(boolean) batchReceive} is enabled.
+	 * The default implementation delegates to the {@link #receiveMessage()}
+	 * and returns a single message batch.
+	 * @param maxMessages the maximum number of messages to return.
+	 * @return the received messages; may be empty.
+	 * @since 6.5
+	 */
+	protected List<Message<?>> receiveMessages(int maxMessages) {
+		Message<?> message = receiveMessage();
+		return message != null ? Collections.singletonList(message) : Collections.emptyList();
+	}
+
 	/**
 	 * Handle a message.
 	 * @param message The message.
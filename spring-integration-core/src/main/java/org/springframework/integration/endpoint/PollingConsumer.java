@@ -24,6 +24,7 @@ import java.util.List;
 import org.reactivestreams.Subscriber;
 
 import org.springframework.context.Lifecycle;
+import org.springframework.integration.channel.AbstractPollableChannel;
 import org.springframework.integration.channel.ExecutorChannelInterceptorAware;
 import org.springframework.integration.channel.NullChannel;
 import org.springframework.integration.channel.ReactiveStreamsSubscribableChannel;
@@ -217,6 +218,14 @@ public class PollingConsumer extends AbstractPollingEndpoint implements Integrat
 				: this.inputChannel.receive();
 	}
 
+	@Override
+	protected List<Message<?>> receiveMessages(int maxMessages) {
+		if (this.inputChannel instanceof AbstractPollableChannel pollableChannel) {
+			return pollableChannel.receiveBatch(maxMessages, this.receiveTimeout);
+		}
+		return super.receiveMessages(maxMessages);
+	}
+
 	@Override
 	protected Object getResourceToBind() {
 		return this.inputChannel;
@@ -56,6 +56,7 @@ import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
@@ -480,6 +481,12 @@ public class GatewayProxyFactoryBean<T> extends AbstractEndpoint
 				this.channelResolver = ChannelResolverUtils.getChannelResolver(beanFactory);
 			}
 
+			if (!this.asyncExecutorExplicitlySet && getIntegrationProperties().isVirtualThreadsEnabled()) {
+				String componentName = getComponentName();
+				this.asyncExecutor =
+						new VirtualThreadTaskExecutor((componentName != null ? componentName : "gateway") + "-");
+			}
+
 			populateMethodInvocationGateways();
 
 			ProxyFactory gatewayProxyFactory = new ProxyFactory(this.serviceInterface, this);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2024 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -94,6 +94,10 @@ import org.springframework.util.ObjectUtils;
  * After application restart the bean may get a different generated name and its delayed
  * messages might be lost from reschedule since its group is not managed
  * by the application anymore.
+ * <p>
+ * For a high number of concurrently delayed messages, consider to supply a
+ * {@link org.springframework.integration.scheduling.TimingWheelTaskScheduler}
+ * via {@link #setTaskScheduler(TaskScheduler)}.
  *
  * @author Mark Fisher
  * @author Artem Bilan
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.handler.support;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.KotlinDetector;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.integration.util.MessagingAnnotationUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Headers;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * An invoker for a handler method with arguments which can be taken from the message as is:
+ * the message itself, its payload, its headers or individual headers.
+ * The method is called via a {@link MethodHandle} bound to the target object and
+ * the argument extractors are determined once, when the invoker is created.
+ * <p>
+ * An invocation returns {@link #UNRESOLVED} when an argument cannot be taken as is
+ * (e.g. the payload requires a conversion or a header is missing), so the caller
+ * can fall back to the
+ * {@link org.springframework.messaging.handler.invocation.InvocableHandlerMethod}.
+ *
+ * @since 6.5
+ */
+final class DirectHandlerMethodInvoker {
+
+	/**
+	 * The marker for an invocation which arguments cannot be resolved directly.
+	 */
+	static final Object UNRESOLVED = new Object();
+
+	private static final LogAccessor LOGGER = new LogAccessor(LogFactory.getLog(DirectHandlerMethodInvoker.class));
+
+	private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+	private final MethodHandle methodHandle;
+
+	private final ArgumentExtractor[] argumentExtractors;
+
+	private DirectHandlerMethodInvoker(MethodHandle methodHandle, ArgumentExtractor[] argumentExtractors) {
+		this.methodHandle = methodHandle;
+		this.argumentExtractors = argumentExtractors;
+	}
+
+	@Nullable
+	Object invoke(Message<?> message) throws Exception {
+		Object[] args = new Object[this.argumentExtractors.length];
+		for (int i = 0; i < args.length; i++) {
+			Object arg = this.argumentExtractors[i].extract(message);
+			if (arg == UNRESOLVED) {
+				return UNRESOLVED;
+			}
+			args[i] = arg;
+		}
+		try {
+			return (Object) this.methodHandle.invokeExact(args);
+		}
+		catch (Exception | Error ex) {
+			throw ex;
+		}
+		catch (Throwable ex) {
+			throw new IllegalStateException("Invocation failure", ex);
+		}
+	}
+
+	/**
+	 * Create an invoker for the method if all its parameters can be resolved directly
+	 * from the message.
+	 * @param target the target object.
+	 * @param method the method.
+	 * @return the invoker or null if the method is not eligible for the direct invocation.
+	 */
+	@Nullable
+	static DirectHandlerMethodInvoker forMethod(Object target, Method method) {
+		Method bridgedMethod = BridgeMethodResolver.findBridgedMethod(method);
+		if (Modifier.isStatic(bridgedMethod.getModifiers())
+				|| !bridgedMethod.getDeclaringClass().isInstance(target)
+				|| KotlinDetector.isSuspendingFunction(bridgedMethod)) {
+
+			return null;
+		}
+		int parameterCount = bridgedMethod.getParameterCount();
+		ArgumentExtractor[] argumentExtractors = new ArgumentExtractor[parameterCount];
+		for (int i = 0; i < parameterCount; i++) {
+			MethodParameter methodParameter = new MethodParameter(bridgedMethod, i);
+			methodParameter.initParameterNameDiscovery(PARAMETER_NAME_DISCOVERER);
+			ArgumentExtractor argumentExtractor = argumentExtractor(methodParameter);
+			if (argumentExtractor == null) {
+				return null;
+			}
+			argumentExtractors[i] = argumentExtractor;
+		}
+		try {
+			ReflectionUtils.makeAccessible(bridgedMethod);
+			MethodHandle methodHandle =
+					MethodHandles.lookup()
+							.unreflect(bridgedMethod)
+							.bindTo(target)
+							.asSpreader(Object[].class, parameterCount)
+							.asType(INVOKER_TYPE);
+			return new DirectHandlerMethodInvoker(methodHandle, argumentExtractors);
+		}
+		catch (IllegalAccessException | RuntimeException ex) {
+			LOGGER.debug(ex, () -> "Cannot create a MethodHandle for " + bridgedMethod);
+			return null;
+		}
+	}
+
+	@Nullable
+	private static ArgumentExtractor argumentExtractor(MethodParameter methodParameter) {
+		Annotation[] annotations = methodParameter.getParameterAnnotations();
+		for (Annotation annotation : annotations) {
+			// Other annotations may be for validation or for custom argument resolvers
+			if (!isMessagePartOrNullabilityAnnotation(annotation)) {
+				return null;
+			}
+		}
+		Class<?> parameterType = ClassUtils.resolvePrimitiveIfNecessary(methodParameter.getParameterType());
+		Annotation mappingAnnotation = MessagingAnnotationUtils.findMessagePartAnnotation(annotations, true);
+		if (mappingAnnotation instanceof Payload payload) {
+			if (StringUtils.hasText(payload.value()) || StringUtils.hasText(payload.expression())
+					|| !payload.required()) {
+
+				return null;
+			}
+			return payloadExtractor(parameterType);
+		}
+		else if (mappingAnnotation instanceof Header header) {
+			return headerExtractor(methodParameter, header, parameterType);
+		}
+		else if (mappingAnnotation instanceof Headers) {
+			return parameterType.isAssignableFrom(MessageHeaders.class)
+					? Message::getHeaders
+					: null;
+		}
+		else if (mappingAnnotation != null) {
+			return null;
+		}
+		else if (Message.class.isAssignableFrom(parameterType)) {
+			return messageExtractor(methodParameter, parameterType);
+		}
+		else if (MessageHeaders.class.equals(parameterType)) {
+			return Message::getHeaders;
+		}
+		else if (Map.class.equals(parameterType)) {
+			return (message) -> message.getPayload() instanceof Map ? message.getPayload() : message.getHeaders();
+		}
+		else if (Map.class.isAssignableFrom(parameterType)
+				|| Iterable.class.isAssignableFrom(parameterType)
+				|| Iterator.class.isAssignableFrom(parameterType)
+				|| parameterType.isArray()
+				|| Optional.class.equals(parameterType)
+				|| parameterType.getName().startsWith("org.springframework.messaging.")
+				|| parameterType.getName().startsWith("kotlin.coroutines.")) {
+
+			return null;
+		}
+		else {
+			return payloadExtractor(parameterType);
+		}
+	}
+
+	private static boolean isMessagePartOrNullabilityAnnotation(Annotation annotation) {
+		Class<? extends Annotation> annotationType = annotation.annotationType();
+		return annotationType.equals(Payload.class)
+				|| annotationType.equals(Header.class)
+				|| annotationType.equals(Headers.class)
+				|| annotationType.getName().startsWith("org.springframework.lang.");
+	}
+
+	private static ArgumentExtractor payloadExtractor(Class<?> parameterType) {
+		return (message) -> {
+			Object payload = message.getPayload();
+			return parameterType.isInstance(payload) ? payload : UNRESOLVED;
+		};
+	}
+
+	@Nullable
+	private static ArgumentExtractor headerExtractor(MethodParameter methodParameter, Header header,
+			Class<?> parameterType) {
+
+		String headerName = StringUtils.hasText(header.value()) ? header.value() : header.name();
+		if (!StringUtils.hasText(headerName)) {
+			headerName = methodParameter.getParameterName();
+		}
+		if (headerName == null
+				|| Optional.class.equals(parameterType)
+				|| headerName.indexOf('.') >= 0
+				|| headerName.indexOf('\'') >= 0
+				|| headerName.contains("${")
+				|| headerName.contains("#{")) {
+
+			return null;
+		}
+		String name = headerName;
+		return (message) -> {
+			Object value = message.getHeaders().get(name);
+			// A missing header is resolved (or rejected) by the regular argument resolution
+			return parameterType.isInstance(value) ? value : UNRESOLVED;
+		};
+	}
+
+	private static ArgumentExtractor messageExtractor(MethodParameter methodParameter, Class<?> parameterType) {
+		Class<?> payloadType =
+				ResolvableType.forMethodParameter(methodParameter)
+						.as(Message.class)
+						.getGeneric()
+						.toClass();
+		if (Object.class.equals(payloadType)) {
+			return (message) -> parameterType.isInstance(message) ? message : UNRESOLVED;
+		}
+		Class<?> expectedPayloadType = ClassUtils.resolvePrimitiveIfNecessary(payloadType);
+		return (message) ->
+				parameterType.isInstance(message) && expectedPayloadType.isInstance(message.getPayload())
+						? message
+						: UNRESOLVED;
+	}
+
+	@FunctionalInterface
+	private interface ArgumentExtractor {
+
+		Object extract(Message<?> message);
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2024 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -113,6 +113,11 @@ import org.springframework.util.StringUtils;
  * the method-selection will be dynamic, based on the underlying SpEL method resolution.
  * Alternatively, an annotation type may be provided so that the candidates for SpEL's
  * method resolution are determined by the presence of that annotation rather than the method name.
+ * <p>
+ * Unless the SpEL invoker is requested, a candidate method with arguments which can be taken from
+ * the message as is (the message, its payload, its headers or individual headers) is called
+ * via a {@link java.lang.invoke.MethodHandle}; the {@link InvocableHandlerMethod} is used
+ * when an argument requires a conversion or any other resolution.
  *
  * @author Mark Fisher
  * @author Oleg Zhurakousky
@@ -563,10 +568,21 @@ public class MessagingMethodInvokerHelper extends AbstractExpressionEvaluator im
 		candidate.expression = parser.parseExpression(candidate.expressionString);
 		if (!this.useSpelInvoker && !candidate.spelOnly) {
 			candidate.setInvocableHandlerMethod(createInvocableHandlerMethod(candidate.method));
+			if (!this.canProcessMessageList && isDirectInvocationSupported()) {
+				candidate.directInvoker = DirectHandlerMethodInvoker.forMethod(this.targetObject, candidate.method);
+			}
 		}
 		candidate.initialized = true;
 	}
 
+	/*
+	 * The direct invocation bypasses the argument resolvers,
+	 * so it is not used with a custom MessageHandlerMethodFactory.
+	 */
+	private boolean isDirectInvocationSupported() {
+		return this.messageHandlerMethodFactory.getClass() == IntegrationMessageHandlerMethodFactory.class;
+	}
+
 	@Nullable
 	private Object invokeHandlerMethod(HandlerMethod handlerMethod, ParametersWrapper parameters) {
 		try {
@@ -1048,6 +1064,9 @@ public class MessagingMethodInvokerHelper extends AbstractExpressionEvaluator im
 
 		private InvocableHandlerMethod invocableHandlerMethod;
 
+		@Nullable
+		private DirectHandlerMethodInvoker directInvoker;
+
 		private Expression expression;
 
 		private TypeDescriptor targetParameterTypeDescriptor;
@@ -1086,7 +1105,13 @@ public class MessagingMethodInvokerHelper extends AbstractExpressionEvaluator im
 				message = new MutableMessage<>(parameters.getMessages(), parameters.getHeaders());
 			}
 			try {
-				Object result = this.invocableHandlerMethod.invoke(message);
+				Object result = DirectHandlerMethodInvoker.UNRESOLVED;
+				if (this.directInvoker != null) {
+					result = this.directInvoker.invoke(message);
+				}
+				if (result == DirectHandlerMethodInvoker.UNRESOLVED) {
+					result = this.invocableHandlerMethod.invoke(message);
+				}
 				if (result != null
 						&& org.springframework.integration.util.ClassUtils.isKotlinUnit(result.getClass())) {
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2024 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,15 @@
 
 package org.springframework.integration.history;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -26,7 +32,8 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
 import java.util.Properties;
-import java.util.stream.Collectors;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import org.apache.commons.logging.Log;
@@ -46,6 +53,13 @@ import org.springframework.messaging.support.GenericMessage;
 import org.springframework.util.Assert;
 
 /**
+ * The list of components a message has passed through, stored in the {@link #HEADER_NAME} header.
+ * <p>
+ * The history is an append-only linked list of small immutable nodes, newest first.
+ * Tracking a component links a new node to the current one without copying the previous entries,
+ * and a {@link #clone()} (e.g. for each branch of a fan-out) shares all the existing nodes.
+ * The {@link Properties} entries and the indexed {@link List} view are materialized lazily, on read.
+ *
  * @author Mark Fisher
  * @author Artem Bilan
  * @author Gary Russell
@@ -58,6 +72,14 @@ public final class MessageHistory implements List<Properties>, Serializable, Clo
 	@Serial
 	private static final long serialVersionUID = -2340400235574314134L;
 
+	/*
+	 * Keep the serialized form of the previous versions: a list of Properties.
+	 */
+	@Serial
+	private static final ObjectStreamField[] serialPersistentFields = {
+			new ObjectStreamField("components", List.class)
+	};
+
 	private static final Log LOGGER = LogFactory.getLog(MessageHistory.class);
 
 	private static final UnsupportedOperationException UNSUPPORTED_OPERATION_EXCEPTION_IMMUTABLE =
@@ -73,8 +95,13 @@ public final class MessageHistory implements List<Properties>, Serializable, Clo
 
 	private static final MessageBuilderFactory MESSAGE_BUILDER_FACTORY = new DefaultMessageBuilderFactory();
 
-	@SuppressWarnings("serial")
-	private final List<Properties> components;
+	private static final AtomicReferenceFieldUpdater<MessageHistory, Node> HEAD_UPDATER =
+			AtomicReferenceFieldUpdater.newUpdater(MessageHistory.class, Node.class, "head");
+
+	private transient volatile Node head;
+
+	@Nullable
+	private transient volatile Snapshot snapshot;
 
 	@Nullable
 	public static MessageHistory read(@Nullable Message<?> message) {
@@ -94,16 +121,16 @@ public final class MessageHistory implements List<Properties>, Serializable, Clo
 		Message<T> message = messageArg;
 		Assert.notNull(message, "Message must not be null");
 		Assert.notNull(component, "Component must not be null");
-		Properties metadata = extractMetadata(component);
-		if (!metadata.isEmpty()) {
+		String name = component.getComponentName();
+		if (name != null && !name.startsWith("org.springframework.integration")) {
+			String type = component.getComponentType();
+			long timestamp = System.currentTimeMillis();
 			MessageHistory messageHistory = message.getHeaders().get(HEADER_NAME, MessageHistory.class);
 			if (messageHistory != null) {
-				messageHistory.components.add(metadata);
+				messageHistory.append(name, type, timestamp);
 			}
 			else {
-				List<Properties> components = new ArrayList<>();
-				components.add(metadata);
-				messageHistory = new MessageHistory(components);
+				messageHistory = new MessageHistory(new Node(null, name, type, timestamp));
 
 				if (message instanceof MutableMessage) {
 					message.getHeaders().put(HEADER_NAME, messageHistory);
@@ -150,77 +177,109 @@ public final class MessageHistory implements List<Properties>, Serializable, Clo
 	@JsonCreator
 	private MessageHistory(List<Properties> components) {
 		Assert.notEmpty(components, "component list must not be empty");
-		this.components = components;
+		this.head = link(components);
+	}
+
+	private MessageHistory(Node head) {
+		this.head = head;
+	}
+
+	private void append(String name, @Nullable String type, long timestamp) {
+		Node current;
+		Node next;
+		do {
+			current = this.head;
+			next = new Node(current, name, type, timestamp);
+		}
+		while (!HEAD_UPDATER.compareAndSet(this, current, next));
+	}
+
+	/**
+	 * Return the indexed view of the history, oldest entry first;
+	 * rebuilt only if components have been appended since the previous call.
+	 */
+	private List<Properties> components() {
+		Node current = this.head;
+		Snapshot components = this.snapshot;
+		if (components == null || components.head != current) {
+			Properties[] entries = new Properties[current.size];
+			for (Node node = current; node != null; node = node.previous) {
+				entries[node.size - 1] = node.toProperties();
+			}
+			components = new Snapshot(current, Collections.unmodifiableList(Arrays.asList(entries)));
+			this.snapshot = components;
+		}
+		return components.entries;
 	}
 
 	@Override
 	public int size() {
-		return this.components.size();
+		return this.head.size;
 	}
 
 	@Override
 	public boolean isEmpty() {
-		return this.components.isEmpty();
+		return false;
 	}
 
 	@Override
 	public boolean contains(Object o) {
-		return this.components.contains(o);
+		return components().contains(o);
 	}
 
 	@Override
 	public boolean containsAll(Collection<?> c) {
-		return this.components.containsAll(c);
+		return components().containsAll(c);
 	}
 
 	@Override
 	public Properties get(int index) {
-		return this.components.get(index);
+		return components().get(index);
 	}
 
 	@Override
 	public Iterator<Properties> iterator() {
-		return Collections.unmodifiableList(this.components).iterator();
+		return components().iterator();
 	}
 
 	@Override
 	public ListIterator<Properties> listIterator() {
-		return Collections.unmodifiableList(this.components).listIterator();
+		return components().listIterator();
 	}
 
 	@Override
 	public ListIterator<Properties> listIterator(int index) {
-		return Collections.unmodifiableList(this.components).listIterator(index);
+		return components().listIterator(index);
 	}
 
 	@Override
 	public List<Properties> subList(int fromIndex, int toIndex) {
-		return Collections.unmodifiableList(this.components).subList(fromIndex, toIndex);
+		return components().subList(fromIndex, toIndex);
 	}
 
 	@Override
 	public Object[] toArray() {
-		return this.components.toArray();
+		return components().toArray();
 	}
 
 	@Override
 	public <T> T[] toArray(T[] a) {
-		return this.components.toArray(a);
+		return components().toArray(a);
 	}
 
 	@Override
 	public int indexOf(Object o) {
-		return this.components.indexOf(o);
+		return components().indexOf(o);
 	}
 
 	@Override
 	public int lastIndexOf(Object o) {
-		return this.components.lastIndexOf(o);
+		return components().lastIndexOf(o);
 	}
 
 	@Override
 	public Object clone() {
-		return new MessageHistory(new ArrayList<>(this.components));
+		return new MessageHistory(this.head);
 	}
 
 	@Override
@@ -231,20 +290,43 @@ public final class MessageHistory implements List<Properties>, Serializable, Clo
 		if (!(o instanceof MessageHistory that)) {
 			return false;
 		}
-		return this.components.equals(that.components);
+		return this.head == that.head || components().equals(that.components());
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.components);
+		return Objects.hash(components());
 	}
 
 	@Override
 	public String toString() {
-		return this.components
-				.stream()
-				.map((props) -> props.getProperty(NAME_PROPERTY))
-				.collect(Collectors.joining(","));
+		String[] names = new String[this.head.size];
+		for (Node node = this.head; node != null; node = node.previous) {
+			names[node.size - 1] = node.name;
+		}
+		StringJoiner joiner = new StringJoiner(",");
+		for (String name : names) {
+			joiner.add(name);
+		}
+		return joiner.toString();
+	}
+
+	@Serial
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		ObjectOutputStream.PutField fields = out.putFields();
+		fields.put("components", new ArrayList<>(components()));
+		out.writeFields();
+	}
+
+	@Serial
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		ObjectInputStream.GetField fields = in.readFields();
+		List<Properties> components = (List<Properties>) fields.get("components", null);
+		if (components == null || components.isEmpty()) {
+			throw new InvalidObjectException("component list must not be empty");
+		}
+		this.head = link(components);
 	}
 
 
@@ -302,20 +384,12 @@ public final class MessageHistory implements List<Properties>, Serializable, Clo
 		throw UNSUPPORTED_OPERATION_EXCEPTION_IMMUTABLE;
 	}
 
-	private static Properties extractMetadata(NamedComponent component) {
-		Entry entry = new Entry();
-		String name = component.getComponentName();
-		String type = component.getComponentType();
-		if (name != null && !name.startsWith("org.springframework.integration")) {
-			entry.setName(name);
-			if (type != null) {
-				entry.setType(type);
-			}
-		}
-		if (!entry.isEmpty()) {
-			entry.setTimestamp(Long.toString(System.currentTimeMillis()));
+	private static Node link(List<Properties> components) {
+		Node node = null;
+		for (Properties properties : components) {
+			node = new Node(node, properties);
 		}
-		return entry;
+		return node;
 	}
 
 	/**
@@ -352,4 +426,63 @@ public final class MessageHistory implements List<Properties>, Serializable, Clo
 
 	}
 
+	/**
+	 * An immutable history node: the component data and the link to the previous node.
+	 */
+	private static final class Node {
+
+		@Nullable
+		private final Node previous;
+
+		private final int size;
+
+		@Nullable
+		private final String name;
+
+		@Nullable
+		private final String type;
+
+		private final long timestamp;
+
+		@Nullable
+		private volatile Properties properties;
+
+		Node(@Nullable Node previous, String name, @Nullable String type, long timestamp) {
+			this.previous = previous;
+			this.size = previous != null ? previous.size + 1 : 1;
+			this.name = name;
+			this.type = type;
+			this.timestamp = timestamp;
+		}
+
+		Node(@Nullable Node previous, Properties properties) {
+			this.previous = previous;
+			this.size = previous != null ? previous.size + 1 : 1;
+			this.name = properties.getProperty(NAME_PROPERTY);
+			this.type = properties.getProperty(TYPE_PROPERTY);
+			this.timestamp = 0;
+			this.properties = properties;
+		}
+
+		Properties toProperties() {
+			Properties entry = this.properties;
+			if (entry == null) {
+				Entry newEntry = new Entry();
+				newEntry.setName(this.name);
+				if (this.type != null) {
+					newEntry.setType(this.type);
+				}
+				newEntry.setTimestamp(Long.toString(this.timestamp));
+				entry = newEntry;
+				this.properties = entry;
+			}
+			return entry;
+		}
+
+	}
+
+	private record Snapshot(Node head, List<Properties> entries) {
+
+	}
+
 }
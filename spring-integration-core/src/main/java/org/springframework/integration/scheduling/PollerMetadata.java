@@ -62,6 +62,8 @@ public class PollerMetadata {
 
 	private long receiveTimeout = DEFAULT_RECEIVE_TIMEOUT;
 
+	private boolean batchReceive;
+
 	private ErrorHandler errorHandler;
 
 	private List<Advice> adviceChain;
@@ -114,6 +116,22 @@ public class PollerMetadata {
 		return this.maxMessagesPerPoll;
 	}
 
+	/**
+	 * Set to {@code true} to receive up to {@link #setMaxMessagesPerPoll(long) maxMessagesPerPoll}
+	 * messages in a single drain operation per poll, if supported by the polling endpoint.
+	 * For example, a {@code PollingConsumer} for a {@code QueueChannel}.
+	 * @param batchReceive true to receive messages in batches.
+	 * @since 6.5
+	 * @see org.springframework.integration.endpoint.AbstractPollingEndpoint#setBatchReceive(boolean)
+	 */
+	public void setBatchReceive(boolean batchReceive) {
+		this.batchReceive = batchReceive;
+	}
+
+	public boolean isBatchReceive() {
+		return this.batchReceive;
+	}
+
 	public void setReceiveTimeout(long receiveTimeout) {
 		this.receiveTimeout = receiveTimeout;
 	}
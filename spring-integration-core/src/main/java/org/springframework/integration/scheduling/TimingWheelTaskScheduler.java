@@ -0,0 +1,469 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.scheduling;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link TaskScheduler} decorator which manages one-time tasks ({@link #schedule(Runnable, Instant)})
+ * in a hashed timing wheel instead of the heap-based queue of the delegate scheduler.
+ * <p>
+ * Scheduling and cancelling a task is {@code O(1)}: the task is enqueued into a lock-free queue
+ * and placed into its wheel bucket on the next tick; cancelled tasks are unlinked from their bucket.
+ * On every tick, all the expired tasks of the current bucket are released in bulk to the task executor.
+ * This makes the scheduler suitable for a very high number of pending one-time tasks,
+ * e.g. the {@link org.springframework.integration.handler.DelayHandler} releases or
+ * group timeouts in the {@link org.springframework.integration.aggregator.AbstractCorrelatingMessageHandler}.
+ * <p>
+ * The ticks are driven by a fixed rate task on the delegate {@link TaskScheduler},
+ * which is started on the first one-time task scheduling.
+ * The precision of one-time tasks is the tick duration: a task is never released before its time,
+ * but it may be released up to one tick later.
+ * <p>
+ * The expired tasks are executed on the provided {@link #setTaskExecutor(Executor)},
+ * or on the delegate scheduler if it is an {@link Executor}, or on the tick thread otherwise.
+ * Periodic and trigger-based tasks are scheduled directly on the delegate.
+ *
+ * @since 6.5
+ */
+public class TimingWheelTaskScheduler implements TaskScheduler, DisposableBean {
+
+	/**
+	 * The default tick duration - 10 milliseconds.
+	 */
+	public static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(10);
+
+	/**
+	 * The default number of buckets in the wheel.
+	 */
+	public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+	private static final LogAccessor LOGGER = new LogAccessor(TimingWheelTaskScheduler.class);
+
+	private static final long MAX_DELAY_NANOS = Long.MAX_VALUE / 4;
+
+	private final Lock lifecycleLock = new ReentrantLock();
+
+	private final Queue<WheelTimeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+
+	private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger pendingTaskCount = new AtomicInteger();
+
+	private final TaskScheduler delegate;
+
+	private final Duration tickDuration;
+
+	private final long tickNanos;
+
+	private final Bucket[] wheel;
+
+	private final int mask;
+
+	private Executor taskExecutor;
+
+	private long startTime;
+
+	private long currentTick;
+
+	@Nullable
+	private volatile ScheduledFuture<?> tickFuture;
+
+	private volatile boolean destroyed;
+
+	/**
+	 * Create an instance based on the provided {@link TaskScheduler}
+	 * with the {@link #DEFAULT_TICK_DURATION} and {@link #DEFAULT_TICKS_PER_WHEEL}.
+	 * @param delegate the {@link TaskScheduler} for ticks and periodic tasks.
+	 */
+	public TimingWheelTaskScheduler(TaskScheduler delegate) {
+		this(delegate, DEFAULT_TICK_DURATION, DEFAULT_TICKS_PER_WHEEL);
+	}
+
+	/**
+	 * Create an instance based on the provided {@link TaskScheduler}, tick duration and wheel size.
+	 * The wheel size is rounded up to the next power of two.
+	 * @param delegate the {@link TaskScheduler} for ticks and periodic tasks.
+	 * @param tickDuration the duration of the tick; the precision of one-time tasks.
+	 * @param ticksPerWheel the number of buckets in the wheel.
+	 */
+	public TimingWheelTaskScheduler(TaskScheduler delegate, Duration tickDuration, int ticksPerWheel) {
+		Assert.notNull(delegate, "'delegate' must not be null");
+		Assert.notNull(tickDuration, "'tickDuration' must not be null");
+		Assert.isTrue(tickDuration.toMillis() > 0, "'tickDuration' must be at least 1 millisecond");
+		Assert.isTrue(ticksPerWheel > 0 && ticksPerWheel <= (1 << 30), "'ticksPerWheel' must be in (0, 2^30]");
+		this.delegate = delegate;
+		this.tickDuration = tickDuration;
+		this.tickNanos = tickDuration.toNanos();
+		int wheelSize = ticksPerWheel == 1 ? 1 : Integer.highestOneBit(ticksPerWheel - 1) << 1;
+		this.wheel = new Bucket[wheelSize];
+		for (int i = 0; i < wheelSize; i++) {
+			this.wheel[i] = new Bucket();
+		}
+		this.mask = wheelSize - 1;
+		this.taskExecutor = delegate instanceof Executor executor ? executor : Runnable::run;
+	}
+
+	/**
+	 * Set an {@link Executor} to run the expired one-time tasks.
+	 * Defaults to the delegate scheduler if it is an {@link Executor}, or to the tick thread otherwise.
+	 * @param taskExecutor the {@link Executor} to use.
+	 */
+	public void setTaskExecutor(Executor taskExecutor) {
+		Assert.notNull(taskExecutor, "'taskExecutor' must not be null");
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Return the number of one-time tasks which are neither started nor cancelled yet.
+	 * @return the number of pending tasks.
+	 */
+	public int getPendingTaskCount() {
+		return this.pendingTaskCount.get();
+	}
+
+	@Override
+	public Clock getClock() {
+		return this.delegate.getClock();
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+		Assert.notNull(task, "'task' must not be null");
+		Assert.notNull(startTime, "'startTime' must not be null");
+		Assert.state(!this.destroyed, "The scheduler has been destroyed");
+		start();
+		long delayMillis = Math.max(0, Duration.between(getClock().instant(), startTime).toMillis());
+		long delayNanos = Math.min(TimeUnit.MILLISECONDS.toNanos(delayMillis), MAX_DELAY_NANOS);
+		WheelTimeout timeout = new WheelTimeout(task, System.nanoTime() + delayNanos);
+		this.pendingTaskCount.incrementAndGet();
+		if (delayNanos == 0) {
+			expire(timeout);
+		}
+		else {
+			this.pendingTimeouts.add(timeout);
+			if (this.destroyed) {
+				// Raced with destroy() which may have missed this timeout
+				timeout.cancel(false);
+			}
+		}
+		return timeout;
+	}
+
+	@Override
+	@Nullable
+	public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+		return this.delegate.schedule(task, trigger);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+		return this.delegate.scheduleAtFixedRate(task, startTime, period);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+		return this.delegate.scheduleAtFixedRate(task, period);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+		return this.delegate.scheduleWithFixedDelay(task, startTime, delay);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+		return this.delegate.scheduleWithFixedDelay(task, delay);
+	}
+
+	/**
+	 * Stop the ticks; the pending one-time tasks are cancelled.
+	 */
+	@Override
+	public void destroy() {
+		this.lifecycleLock.lock();
+		try {
+			this.destroyed = true;
+			ScheduledFuture<?> tickFutureToCancel = this.tickFuture;
+			if (tickFutureToCancel != null) {
+				tickFutureToCancel.cancel(false);
+				this.tickFuture = null;
+			}
+			WheelTimeout timeout;
+			while ((timeout = this.pendingTimeouts.poll()) != null) {
+				timeout.cancel(false);
+			}
+			for (Bucket bucket : this.wheel) {
+				while ((timeout = bucket.head) != null) {
+					bucket.remove(timeout);
+					timeout.cancel(false);
+				}
+			}
+			this.cancelledTimeouts.clear();
+		}
+		finally {
+			this.lifecycleLock.unlock();
+		}
+	}
+
+	private void start() {
+		if (this.tickFuture == null) {
+			this.lifecycleLock.lock();
+			try {
+				if (this.tickFuture == null && !this.destroyed) {
+					this.startTime = System.nanoTime();
+					this.tickFuture = this.delegate.scheduleAtFixedRate(this::tick, this.tickDuration);
+				}
+			}
+			finally {
+				this.lifecycleLock.unlock();
+			}
+		}
+	}
+
+	private void tick() {
+		// Guards the wheel against a concurrent destroy(); contended only at that moment
+		this.lifecycleLock.lock();
+		try {
+			if (this.destroyed) {
+				return;
+			}
+			long targetTick = (System.nanoTime() - this.startTime) / this.tickNanos;
+			removeCancelledTimeouts();
+			transferPendingTimeouts();
+			while (this.currentTick <= targetTick) {
+				expireTimeouts(this.wheel[(int) (this.currentTick & this.mask)], this.currentTick);
+				this.currentTick++;
+			}
+		}
+		catch (Exception ex) {
+			LOGGER.error(ex, "Failed to process a timing wheel tick");
+		}
+		finally {
+			this.lifecycleLock.unlock();
+		}
+	}
+
+	private void removeCancelledTimeouts() {
+		WheelTimeout timeout;
+		while ((timeout = this.cancelledTimeouts.poll()) != null) {
+			if (timeout.bucket != null) {
+				timeout.bucket.remove(timeout);
+			}
+		}
+	}
+
+	private void transferPendingTimeouts() {
+		WheelTimeout timeout;
+		while ((timeout = this.pendingTimeouts.poll()) != null) {
+			if (timeout.state.get() == WheelTimeout.PENDING) {
+				long elapsedNanos = timeout.deadline - this.startTime;
+				long deadlineTick = Math.max((elapsedNanos + this.tickNanos - 1) / this.tickNanos, this.currentTick);
+				timeout.deadlineTick = deadlineTick;
+				this.wheel[(int) (deadlineTick & this.mask)].add(timeout);
+			}
+		}
+	}
+
+	private void expireTimeouts(Bucket bucket, long tick) {
+		WheelTimeout timeout = bucket.head;
+		while (timeout != null) {
+			WheelTimeout next = timeout.next;
+			if (timeout.deadlineTick <= tick) {
+				bucket.remove(timeout);
+				expire(timeout);
+			}
+			timeout = next;
+		}
+	}
+
+	private void expire(WheelTimeout timeout) {
+		try {
+			this.taskExecutor.execute(timeout);
+		}
+		catch (RejectedExecutionException ex) {
+			LOGGER.error(ex, () -> "Failed to execute an expired task: " + timeout.task);
+			if (timeout.changeState(WheelTimeout.EXPIRED)) {
+				timeout.completion.completeExceptionally(ex);
+			}
+		}
+	}
+
+	/**
+	 * A doubly-linked list of timeouts; accessed only under the lifecycle lock by ticks and {@code destroy()}.
+	 */
+	private static final class Bucket {
+
+		@Nullable
+		private WheelTimeout head;
+
+		@Nullable
+		private WheelTimeout tail;
+
+		void add(WheelTimeout timeout) {
+			timeout.bucket = this;
+			if (this.head == null) {
+				this.head = timeout;
+			}
+			else {
+				this.tail.next = timeout;
+				timeout.prev = this.tail;
+			}
+			this.tail = timeout;
+		}
+
+		void remove(WheelTimeout timeout) {
+			if (timeout.prev != null) {
+				timeout.prev.next = timeout.next;
+			}
+			else {
+				this.head = timeout.next;
+			}
+			if (timeout.next != null) {
+				timeout.next.prev = timeout.prev;
+			}
+			else {
+				this.tail = timeout.prev;
+			}
+			timeout.prev = null;
+			timeout.next = null;
+			timeout.bucket = null;
+		}
+
+	}
+
+	private final class WheelTimeout implements ScheduledFuture<Object>, Runnable {
+
+		private static final int PENDING = 0;
+
+		private static final int CANCELLED = 1;
+
+		private static final int EXPIRED = 2;
+
+		private final AtomicInteger state = new AtomicInteger(PENDING);
+
+		private final CompletableFuture<Object> completion = new CompletableFuture<>();
+
+		private final Runnable task;
+
+		private final long deadline;
+
+		private long deadlineTick;
+
+		@Nullable
+		private Bucket bucket;
+
+		@Nullable
+		private WheelTimeout prev;
+
+		@Nullable
+		private WheelTimeout next;
+
+		WheelTimeout(Runnable task, long deadline) {
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		boolean changeState(int newState) {
+			if (this.state.compareAndSet(PENDING, newState)) {
+				TimingWheelTaskScheduler.this.pendingTaskCount.decrementAndGet();
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void run() {
+			if (changeState(EXPIRED)) {
+				try {
+					this.task.run();
+					this.completion.complete(null);
+				}
+				catch (RuntimeException | Error ex) {
+					this.completion.completeExceptionally(ex);
+					throw ex;
+				}
+			}
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			if (changeState(CANCELLED)) {
+				TimingWheelTaskScheduler.this.cancelledTimeouts.add(this);
+				this.completion.cancel(false);
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return this.state.get() == CANCELLED;
+		}
+
+		@Override
+		public boolean isDone() {
+			return this.completion.isDone();
+		}
+
+		@Override
+		public Object get() throws InterruptedException, ExecutionException {
+			return this.completion.get();
+		}
+
+		@Override
+		public Object get(long timeout, TimeUnit unit)
+				throws InterruptedException, ExecutionException, TimeoutException {
+
+			return this.completion.get(timeout, unit);
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(this.deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+		}
+
+	}
+
+}
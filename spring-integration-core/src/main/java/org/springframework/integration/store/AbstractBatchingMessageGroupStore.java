@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2024 the original author or authors.
+ * Copyright 2015-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,36 @@
 
 package org.springframework.integration.store;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.messaging.Message;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 /**
+ * The base class for message group stores which can perform some operations in batches.
+ * <p>
+ * Removals of messages from groups are split into batches of {@link #setRemoveBatchSize(int) removeBatchSize}.
+ * When the {@link #setAddBatchSize(int) addBatchSize} is greater than 1, additions of messages to groups
+ * from concurrent callers are coalesced into a single {@link #doAddMessagesToGroups(List)} write:
+ * the caller which finds no write in progress writes all the pending additions (including its own),
+ * while the others wait for their additions to be written.
+ * Additions performed within an active transaction are never coalesced.
+ *
  * @author Gary Russell
  * @author Artem Bilan
  * @since 4.2
@@ -28,8 +55,22 @@ public abstract class AbstractBatchingMessageGroupStore implements BasicMessageG
 
 	private static final int DEFAULT_REMOVE_BATCH_SIZE = 100;
 
+	private static final long LINGER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+	private static final long WRITE_AWAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private final Queue<PendingAddition> pendingAdditions = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger pendingAdditionsCount = new AtomicInteger();
+
+	private final Lock additionsWriteLock = new ReentrantLock();
+
 	private volatile int removeBatchSize = DEFAULT_REMOVE_BATCH_SIZE;
 
+	private volatile int addBatchSize = 1;
+
+	private volatile long addBatchLingerNanos;
+
 	private volatile MessageGroupFactory messageGroupFactory = new SimpleMessageGroupFactory();
 
 	/**
@@ -47,6 +88,38 @@ public abstract class AbstractBatchingMessageGroupStore implements BasicMessageG
 		return this.removeBatchSize;
 	}
 
+	/**
+	 * Set the maximum number of additions of messages to groups from concurrent callers
+	 * to coalesce into a single write for message stores that support batch additions.
+	 * Default 1 - no coalescing.
+	 * @param addBatchSize the batch size.
+	 * @since 6.5
+	 * @see #setAddBatchLinger(Duration)
+	 */
+	public void setAddBatchSize(int addBatchSize) {
+		Assert.isTrue(addBatchSize > 0, "'addBatchSize' must be greater than 0");
+		this.addBatchSize = addBatchSize;
+	}
+
+	public int getAddBatchSize() {
+		return this.addBatchSize;
+	}
+
+	/**
+	 * Set how long the writing caller waits for more concurrent additions before writing
+	 * a batch which is not full yet.
+	 * Default {@link Duration#ZERO} - only additions which have arrived while the previous
+	 * batch was written are coalesced, so no latency is added for a single caller.
+	 * @param addBatchLinger the time to wait for a batch to fill up.
+	 * @since 6.5
+	 * @see #setAddBatchSize(int)
+	 */
+	public void setAddBatchLinger(Duration addBatchLinger) {
+		Assert.notNull(addBatchLinger, "'addBatchLinger' must not be null");
+		Assert.isTrue(!addBatchLinger.isNegative(), "'addBatchLinger' must not be negative");
+		this.addBatchLingerNanos = addBatchLinger.toNanos();
+	}
+
 	/**
 	 * Specify the {@link MessageGroupFactory} to create {@link MessageGroup} object where
 	 * it is necessary.
@@ -63,4 +136,129 @@ public abstract class AbstractBatchingMessageGroupStore implements BasicMessageG
 		return this.messageGroupFactory;
 	}
 
+	/**
+	 * Return true if additions to groups have to go through the
+	 * {@link #addMessagesToGroupInBatch(Object, Message[])}: the {@link #setAddBatchSize(int) addBatchSize}
+	 * is greater than 1 and there is no active transaction on the current thread.
+	 * @return true if additions are coalesced.
+	 * @since 6.5
+	 */
+	protected boolean isAddBatchingActive() {
+		return this.addBatchSize > 1 && !TransactionSynchronizationManager.isActualTransactionActive();
+	}
+
+	/**
+	 * Add messages to the group as a part of a {@link #doAddMessagesToGroups(List)} batch
+	 * coalesced with additions from concurrent callers.
+	 * The method returns when the addition has been written, by this or another thread.
+	 * If the batch write fails, the exception is rethrown to all the callers in that batch.
+	 * @param groupId the group id.
+	 * @param messages the messages to add.
+	 * @since 6.5
+	 */
+	protected void addMessagesToGroupInBatch(Object groupId, Message<?>... messages) {
+		PendingAddition pending = new PendingAddition(new GroupAddition(groupId, Arrays.asList(messages)));
+		this.pendingAdditions.add(pending);
+		this.pendingAdditionsCount.incrementAndGet();
+		boolean interrupted = false;
+		while (!pending.result.isDone()) {
+			if (this.additionsWriteLock.tryLock()) {
+				try {
+					if (!pending.result.isDone()) {
+						writePendingAdditions();
+					}
+				}
+				finally {
+					this.additionsWriteLock.unlock();
+				}
+			}
+			else {
+				try {
+					pending.result.get(WRITE_AWAIT_NANOS, TimeUnit.NANOSECONDS);
+				}
+				catch (@SuppressWarnings("unused") TimeoutException | ExecutionException ex) {
+					// Check again: the failure is rethrown below
+				}
+				catch (@SuppressWarnings("unused") InterruptedException ex) {
+					// The addition is already queued, so wait for it anyway
+					interrupted = true;
+				}
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		try {
+			pending.result.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (ex.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw ex;
+		}
+	}
+
+	/**
+	 * Write additions of messages to groups in a single batch.
+	 * Invoked by the {@link #addMessagesToGroupInBatch(Object, Message[])};
+	 * the additions are in the order of their calls, the same group may be present more than once.
+	 * Not supported by default.
+	 * @param additions the additions to write.
+	 * @since 6.5
+	 */
+	protected void doAddMessagesToGroups(List<GroupAddition> additions) {
+		throw new UnsupportedOperationException("Batch additions are not supported by this store");
+	}
+
+	private void writePendingAdditions() {
+		int batchSize = this.addBatchSize;
+		if (this.addBatchLingerNanos > 0) {
+			long deadline = System.nanoTime() + this.addBatchLingerNanos;
+			while (this.pendingAdditionsCount.get() < batchSize && deadline - System.nanoTime() > 0) {
+				LockSupport.parkNanos(LINGER_PARK_NANOS);
+			}
+		}
+		List<PendingAddition> batch = new ArrayList<>(Math.min(batchSize, this.pendingAdditionsCount.get()));
+		List<GroupAddition> additions = new ArrayList<>(batch.size());
+		PendingAddition next;
+		while (batch.size() < batchSize && (next = this.pendingAdditions.poll()) != null) {
+			batch.add(next);
+			additions.add(next.addition);
+		}
+		this.pendingAdditionsCount.addAndGet(-batch.size());
+		try {
+			doAddMessagesToGroups(additions);
+			batch.forEach((addition) -> addition.result.complete(null));
+		}
+		catch (RuntimeException | Error ex) {
+			batch.forEach((addition) -> addition.result.completeExceptionally(ex));
+		}
+	}
+
+	/**
+	 * The messages to add to a group in the {@link #doAddMessagesToGroups(List)} batch.
+	 * @param groupId the group id.
+	 * @param messages the messages to add.
+	 * @since 6.5
+	 */
+	protected record GroupAddition(Object groupId, List<Message<?>> messages) {
+
+	}
+
+	private static final class PendingAddition {
+
+		private final GroupAddition addition;
+
+		private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+		PendingAddition(GroupAddition addition) {
+			this.addition = addition;
+		}
+
+	}
+
 }
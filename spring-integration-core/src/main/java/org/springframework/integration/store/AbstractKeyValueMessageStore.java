@@ -17,10 +17,13 @@
 package org.springframework.integration.store;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -145,11 +148,14 @@ public abstract class AbstractKeyValueMessageStore extends AbstractMessageGroupS
 	}
 
 	protected void doAddMessage(Message<?> message, @Nullable Object groupId) {
+		doStoreIfAbsent(messageKey(message, groupId), new MessageHolder(message));
+	}
+
+	private String messageKey(Message<?> message, @Nullable Object groupId) {
 		Assert.notNull(message, "'message' must not be null");
 		UUID messageId = message.getHeaders().getId();
 		Assert.notNull(messageId, "Cannot store messages without an ID header");
-		String messageKey = this.messagePrefix + (groupId != null ? groupId.toString() + '_' : "") + messageId;
-		doStoreIfAbsent(messageKey, new MessageHolder(message));
+		return this.messagePrefix + (groupId != null ? groupId.toString() + '_' : "") + messageId;
 	}
 
 	@Override
@@ -210,32 +216,71 @@ public abstract class AbstractKeyValueMessageStore extends AbstractMessageGroupS
 		Assert.notNull(messages, "'messages' must not be null");
 
 		MessageGroupMetadata metadata = getGroupMetadata(groupId);
-		SimpleMessageGroup group = null;
-		if (metadata == null) {
-			group = new SimpleMessageGroup(groupId);
-		}
-
 		for (Message<?> message : messages) {
 			doAddMessage(message, groupId);
-			if (metadata != null) {
-				metadata.add(message.getHeaders().getId());
+		}
+
+		// store MessageGroupMetadata built from enriched MG
+		doStore(this.groupPrefix + groupId, addToGroupMetadata(groupId, metadata, Arrays.asList(messages)));
+	}
+
+	/**
+	 * Retrieve the metadata of all the groups with one {@link #doRetrieveAll(List)},
+	 * then store all the messages with one {@link #doStoreAllIfAbsent(Map)}
+	 * and all the updated metadata with one {@link #doStoreAll(Map)}.
+	 * @param additions the additions to write.
+	 * @since 6.5
+	 */
+	@Override
+	protected void doAddMessagesToGroups(List<GroupAddition> additions) {
+		Map<Object, List<Message<?>>> messagesByGroup = new LinkedHashMap<>();
+		Map<Object, Object> messagesToStore = new LinkedHashMap<>();
+		for (GroupAddition addition : additions) {
+			Object groupId = addition.groupId();
+			messagesByGroup.computeIfAbsent(groupId, (key) -> new ArrayList<>()).addAll(addition.messages());
+			for (Message<?> message : addition.messages()) {
+				messagesToStore.putIfAbsent(messageKey(message, groupId), new MessageHolder(message));
 			}
-			else {
-				group.add(message);
+		}
+
+		List<Object> groupKeys = new ArrayList<>(messagesByGroup.size());
+		for (Object groupId : messagesByGroup.keySet()) {
+			groupKeys.add(this.groupPrefix + groupId);
+		}
+		List<?> groupsMetadata = doRetrieveAll(groupKeys);
+
+		Map<Object, Object> groupsMetadataToStore = new LinkedHashMap<>();
+		int index = 0;
+		for (Map.Entry<Object, List<Message<?>>> entry : messagesByGroup.entrySet()) {
+			Object metadata = groupsMetadata.get(index);
+			if (metadata != null) {
+				Assert.isInstanceOf(MessageGroupMetadata.class, metadata);
 			}
+			groupsMetadataToStore.put(groupKeys.get(index++),
+					addToGroupMetadata(entry.getKey(), (MessageGroupMetadata) metadata, entry.getValue()));
 		}
 
-		if (group != null) {
-			metadata = new MessageGroupMetadata(group);
+		doStoreAllIfAbsent(messagesToStore);
+		doStoreAll(groupsMetadataToStore);
+	}
+
+	private static MessageGroupMetadata addToGroupMetadata(Object groupId, @Nullable MessageGroupMetadata metadata,
+			Collection<Message<?>> messages) {
+
+		if (metadata == null) {
+			SimpleMessageGroup group = new SimpleMessageGroup(messages, groupId);
+			MessageGroupMetadata newMetadata = new MessageGroupMetadata(group);
 			// When the group is new reuse "create time" as a "last modified"
-			metadata.setLastModified(group.getTimestamp());
+			newMetadata.setLastModified(group.getTimestamp());
+			return newMetadata;
 		}
 		else {
+			for (Message<?> message : messages) {
+				metadata.add(message.getHeaders().getId());
+			}
 			metadata.setLastModified(System.currentTimeMillis());
+			return metadata;
 		}
-
-		// store MessageGroupMetadata built from enriched MG
-		doStore(this.groupPrefix + groupId, metadata);
 	}
 
 	@Override
@@ -469,6 +514,41 @@ public abstract class AbstractKeyValueMessageStore extends AbstractMessageGroupS
 
 	protected abstract void doStoreIfAbsent(Object id, Object objectToStore);
 
+	/**
+	 * Retrieve several objects.
+	 * By default, they are retrieved one by one with the {@link #doRetrieve(Object)}.
+	 * @param ids the ids of the objects.
+	 * @return the objects in the order of the ids, with {@code null} for the missing ones.
+	 * @since 6.5
+	 */
+	protected List<?> doRetrieveAll(List<Object> ids) {
+		List<Object> objects = new ArrayList<>(ids.size());
+		for (Object id : ids) {
+			objects.add(doRetrieve(id));
+		}
+		return objects;
+	}
+
+	/**
+	 * Store several objects.
+	 * By default, they are stored one by one with the {@link #doStore(Object, Object)}.
+	 * @param objectsToStore the objects to store by their ids.
+	 * @since 6.5
+	 */
+	protected void doStoreAll(Map<Object, Object> objectsToStore) {
+		objectsToStore.forEach(this::doStore);
+	}
+
+	/**
+	 * Store several objects unless they are already present.
+	 * By default, they are stored one by one with the {@link #doStoreIfAbsent(Object, Object)}.
+	 * @param objectsToStore the objects to store by their ids.
+	 * @since 6.5
+	 */
+	protected void doStoreAllIfAbsent(Map<Object, Object> objectsToStore) {
+		objectsToStore.forEach(this::doStoreIfAbsent);
+	}
+
 	protected abstract Object doRemove(Object id);
 
 	protected abstract void doRemoveAll(Collection<Object> ids);
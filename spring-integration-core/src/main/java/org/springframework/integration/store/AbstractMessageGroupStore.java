@@ -19,6 +19,7 @@ package org.springframework.integration.store;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -233,11 +234,31 @@ public abstract class AbstractMessageGroupStore extends AbstractBatchingMessageG
 	@Override
 	public void addMessagesToGroup(Object groupId, Message<?>... messages) {
 		Assert.notNull(groupId, GROUP_ID_MUST_NOT_BE_NULL);
-		executeLocked(groupId, () -> doAddMessagesToGroup(groupId, messages));
+		executeLocked(groupId, () -> {
+			if (isAddBatchingActive()) {
+				addMessagesToGroupInBatch(groupId, messages);
+			}
+			else {
+				doAddMessagesToGroup(groupId, messages);
+			}
+		});
 	}
 
 	protected abstract void doAddMessagesToGroup(Object groupId, Message<?>... messages);
 
+	/**
+	 * Add messages to the groups one addition at a time.
+	 * Stores which are able to write several additions in one round trip should override this method.
+	 * @param additions the additions to write.
+	 * @since 6.5
+	 */
+	@Override
+	protected void doAddMessagesToGroups(List<GroupAddition> additions) {
+		for (GroupAddition addition : additions) {
+			doAddMessagesToGroup(addition.groupId(), addition.messages().toArray(new Message<?>[0]));
+		}
+	}
+
 	@Override
 	public MessageGroup addMessageToGroup(Object groupId, Message<?> message) {
 		addMessagesToGroup(groupId, message);
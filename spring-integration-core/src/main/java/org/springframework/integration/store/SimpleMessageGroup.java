@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,10 +18,8 @@ package org.springframework.integration.store;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -34,6 +32,9 @@ import org.springframework.util.Assert;
  * Represents a mutable group of correlated messages that is bound to a certain {@link MessageStore} and group id.
  * The group will grow during its lifetime, when messages are {@link #add}ed to it.
  * This MessageGroup is thread safe.
+ * <p>
+ * The sequence numbers of the messages in the group are tracked in a compact primitive {@code int} set,
+ * so no boxed {@link Integer} is retained per message.
  *
  * @author Iwein Fuld
  * @author Oleg Zhurakousky
@@ -52,7 +53,7 @@ public class SimpleMessageGroup implements MessageGroup {
 
 	private final Collection<Message<?>> messages;
 
-	private final Set<Integer> sequences = new HashSet<>();
+	private final SequenceSet sequences = new SequenceSet();
 
 	private final long timestamp;
 
@@ -128,7 +129,10 @@ public class SimpleMessageGroup implements MessageGroup {
 
 	@Override
 	public boolean remove(Message<?> message) {
-		this.sequences.remove(message.getHeaders().get(IntegrationMessageHeaderAccessor.SEQUENCE_NUMBER));
+		Integer sequence = message.getHeaders().get(IntegrationMessageHeaderAccessor.SEQUENCE_NUMBER, Integer.class);
+		if (sequence != null) {
+			this.sequences.remove(sequence);
+		}
 		return this.messages.remove(message);
 	}
 
@@ -218,7 +222,7 @@ public class SimpleMessageGroup implements MessageGroup {
 	 * @since 4.3.7
 	 */
 	public boolean containsSequence(Integer sequence) {
-		return this.sequences.contains(sequence);
+		return sequence != null && this.sequences.contains(sequence);
 	}
 
 	@Override
@@ -231,4 +235,119 @@ public class SimpleMessageGroup implements MessageGroup {
 				'}';
 	}
 
+	/**
+	 * A minimal open-addressing (linear probing) set of primitive {@code int} values.
+	 * The {@code 0} marks an empty slot in the table, so the {@code 0} value is tracked by a separate flag.
+	 * Not thread-safe: guarded by the same contract as the messages collection of the group.
+	 */
+	private static final class SequenceSet {
+
+		private static final int INITIAL_CAPACITY = 8;
+
+		private int[] table;
+
+		private int size;
+
+		private boolean containsZero;
+
+		boolean add(int value) {
+			if (value == 0) {
+				boolean added = !this.containsZero;
+				this.containsZero = true;
+				return added;
+			}
+			if (this.table == null) {
+				this.table = new int[INITIAL_CAPACITY];
+			}
+			int mask = this.table.length - 1;
+			int index = mix(value) & mask;
+			while (this.table[index] != 0) {
+				if (this.table[index] == value) {
+					return false;
+				}
+				index = (index + 1) & mask;
+			}
+			this.table[index] = value;
+			if (++this.size > (this.table.length >> 1)) {
+				resize(this.table.length << 1);
+			}
+			return true;
+		}
+
+		boolean contains(int value) {
+			if (value == 0) {
+				return this.containsZero;
+			}
+			return indexOf(value) >= 0;
+		}
+
+		boolean remove(int value) {
+			if (value == 0) {
+				boolean removed = this.containsZero;
+				this.containsZero = false;
+				return removed;
+			}
+			int index = indexOf(value);
+			if (index < 0) {
+				return false;
+			}
+			int mask = this.table.length - 1;
+			int hole = index;
+			int next = (index + 1) & mask;
+			while (this.table[next] != 0) {
+				int ideal = mix(this.table[next]) & mask;
+				if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+					this.table[hole] = this.table[next];
+					hole = next;
+				}
+				next = (next + 1) & mask;
+			}
+			this.table[hole] = 0;
+			this.size--;
+			return true;
+		}
+
+		void clear() {
+			this.table = null;
+			this.size = 0;
+			this.containsZero = false;
+		}
+
+		private int indexOf(int value) {
+			if (this.table == null) {
+				return -1;
+			}
+			int mask = this.table.length - 1;
+			int index = mix(value) & mask;
+			while (this.table[index] != 0) {
+				if (this.table[index] == value) {
+					return index;
+				}
+				index = (index + 1) & mask;
+			}
+			return -1;
+		}
+
+		private void resize(int newCapacity) {
+			int[] oldTable = this.table;
+			this.table = new int[newCapacity];
+			int mask = newCapacity - 1;
+			for (int value : oldTable) {
+				if (value != 0) {
+					int index = mix(value) & mask;
+					while (this.table[index] != 0) {
+						index = (index + 1) & mask;
+					}
+					this.table[index] = value;
+				}
+			}
+		}
+
+		private static int mix(int value) {
+			int hash = value * 0x9E3779B9;
+			return hash ^ (hash >>> 16);
+		}
+
+	}
+
 }
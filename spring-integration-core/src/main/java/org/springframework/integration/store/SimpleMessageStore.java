@@ -37,6 +37,10 @@ import org.springframework.util.CollectionUtils;
 /**
  * Map-based in-memory implementation of {@link MessageStore} and {@link MessageGroupStore}.
  * Enforces a maximum capacity for the store.
+ * <p>
+ * When the group capacity is not limited, no per-group {@link UpperBound} is allocated
+ * and messages are added to existing groups without releasing and re-acquiring the group lock
+ * for every message.
  *
  * @author Iwein Fuld
  * @author Mark Fisher
@@ -56,6 +60,8 @@ public class SimpleMessageStore extends AbstractMessageGroupStore
 
 	private static final String UPPER_BOUND_MUST_NOT_BE_NULL = "'upperBound' must not be null.";
 
+	private static final UpperBound UNBOUNDED = new UpperBound(0);
+
 	private final ConcurrentMap<UUID, Message<?>> idToMessage = new ConcurrentHashMap<>();
 
 	private final ConcurrentMap<Object, MessageGroup> groupIdToMessageGroup = new ConcurrentHashMap<>();
@@ -265,7 +271,6 @@ public class SimpleMessageStore extends AbstractMessageGroupStore
 			lock.lockInterruptibly();
 			boolean unlocked = false;
 			try {
-				UpperBound upperBound;
 				MessageGroup group = this.groupIdToMessageGroup.get(groupId);
 				if (group == null) {
 					if (this.groupCapacity > 0 && messages.length > this.groupCapacity) {
@@ -273,16 +278,18 @@ public class SimpleMessageStore extends AbstractMessageGroupStore
 					}
 					group = getMessageGroupFactory().create(groupId);
 					this.groupIdToMessageGroup.put(groupId, group);
-					upperBound = new UpperBound(this.groupCapacity);
+					UpperBound upperBound = UNBOUNDED;
+					if (this.groupCapacity > 0) {
+						upperBound = new UpperBound(this.groupCapacity);
+						this.groupToUpperBound.put(groupId, upperBound);
+					}
 					for (Message<?> message : messages) {
 						upperBound.tryAcquire(-1);
 						group.add(message);
 					}
-					this.groupToUpperBound.put(groupId, upperBound);
 				}
-				else {
-					upperBound = this.groupToUpperBound.get(groupId);
-					Assert.state(upperBound != null, UPPER_BOUND_MUST_NOT_BE_NULL);
+				else if (this.groupCapacity > 0) {
+					UpperBound upperBound = getUpperBound(groupId);
 					for (Message<?> message : messages) {
 						lock.unlock();
 						if (!upperBound.tryAcquire(this.upperBoundTimeout)) {
@@ -293,6 +300,11 @@ public class SimpleMessageStore extends AbstractMessageGroupStore
 						group.add(message);
 					}
 				}
+				else {
+					for (Message<?> message : messages) {
+						group.add(message);
+					}
+				}
 
 				group.setLastModified(System.currentTimeMillis());
 			}
@@ -313,6 +325,15 @@ public class SimpleMessageStore extends AbstractMessageGroupStore
 		// No implementation: the addMessagesToGroup() fully uses locking algorithm.
 	}
 
+	private UpperBound getUpperBound(Object groupId) {
+		if (this.groupCapacity > 0) {
+			UpperBound upperBound = this.groupToUpperBound.get(groupId);
+			Assert.state(upperBound != null, UPPER_BOUND_MUST_NOT_BE_NULL);
+			return upperBound;
+		}
+		return UNBOUNDED;
+	}
+
 	private IllegalStateException outOfCapacityException(Object groupId) {
 		return new IllegalStateException(getClass().getSimpleName() +
 				" was out of capacity (" + this.groupCapacity + ") for group '" + groupId +
@@ -323,9 +344,11 @@ public class SimpleMessageStore extends AbstractMessageGroupStore
 	protected void doRemoveMessageGroup(Object groupId) {
 		MessageGroup messageGroup = this.groupIdToMessageGroup.remove(groupId);
 		if (messageGroup != null) {
-			UpperBound upperBound = this.groupToUpperBound.remove(groupId);
-			Assert.state(upperBound != null, UPPER_BOUND_MUST_NOT_BE_NULL);
-			upperBound.release(this.groupCapacity);
+			if (this.groupCapacity > 0) {
+				UpperBound upperBound = this.groupToUpperBound.remove(groupId);
+				Assert.state(upperBound != null, UPPER_BOUND_MUST_NOT_BE_NULL);
+				upperBound.release(this.groupCapacity);
+			}
 		}
 	}
 
@@ -335,8 +358,7 @@ public class SimpleMessageStore extends AbstractMessageGroupStore
 		Assert.notNull(group,
 				() -> MESSAGE_GROUP_FOR_GROUP_ID + groupId + "' " +
 						"can not be located while attempting to remove Message(s) from the MessageGroup");
-		UpperBound upperBound = this.groupToUpperBound.get(groupId);
-		Assert.state(upperBound != null, UPPER_BOUND_MUST_NOT_BE_NULL);
+		UpperBound upperBound = getUpperBound(groupId);
 		boolean modified = false;
 		for (Message<?> messageToRemove : messages) {
 			if (group.remove(messageToRemove)) {
@@ -369,8 +391,7 @@ public class SimpleMessageStore extends AbstractMessageGroupStore
 		Assert.notNull(group,
 				() -> MESSAGE_GROUP_FOR_GROUP_ID + groupId + "' " +
 						"can not be located while attempting to remove Message from the MessageGroup");
-		UpperBound upperBound = this.groupToUpperBound.get(groupId);
-		Assert.state(upperBound != null, UPPER_BOUND_MUST_NOT_BE_NULL);
+		UpperBound upperBound = getUpperBound(groupId);
 		for (Message<?> message : group.getMessages()) {
 			if (messageId.equals(message.getHeaders().getId())) {
 				group.remove(message);
@@ -459,9 +480,7 @@ public class SimpleMessageStore extends AbstractMessageGroupStore
 								"can not be located while attempting to complete the MessageGroup");
 				group.clear();
 				group.setLastModified(System.currentTimeMillis());
-				UpperBound upperBound = this.groupToUpperBound.get(groupId);
-				Assert.state(upperBound != null, UPPER_BOUND_MUST_NOT_BE_NULL);
-				upperBound.release(this.groupCapacity);
+				getUpperBound(groupId).release(this.groupCapacity);
 			}
 			finally {
 				lock.unlock();
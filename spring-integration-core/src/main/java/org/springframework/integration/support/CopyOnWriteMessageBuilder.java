@@ -0,0 +1,358 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.PatternMatchUtils;
+
+/**
+ * The {@link AbstractIntegrationMessageBuilder} which does not copy the headers of the original message
+ * into a mutable accessor.
+ * Only the headers set or removed via this builder are recorded, and the built message gets
+ * {@link MessageHeaders} with these changes on top of the original (immutable) headers.
+ * The {@link MessageHeaders} provided to the {@link #copyHeaders(Map)} or {@link #copyHeadersIfAbsent(Map)}
+ * of a builder {@link #withPayload(Object) for a new message} are used the same way,
+ * as long as there is nothing yet in the builder to be overridden by them.
+ * When the chain of such messages becomes longer than the {@link #maxDepth(int)}
+ * (or the original headers are not a plain {@link MessageHeaders}), the headers are flattened
+ * into their own map right away, as the {@link MessageBuilder} does for every message.
+ * <p>
+ * The lookup of a header goes through the chain, while the first operation on the whole headers map
+ * (iteration, {@code size()}, {@code equals()}, serialization etc.) flattens it (with a single copy).
+ * This makes a step, which changes a few headers of a message with many of them and routes it
+ * by a few header values, independent of the total number of headers.
+ * Note that the built message retains the headers (but not the payload) of the original message
+ * until its headers are flattened.
+ * The built message headers are serialized as an instance of the
+ * {@code org.springframework.integration.support.CopyOnWriteMessageHeaders}, so this package
+ * has to be allowed for the deserialization, same as for the {@link MutableMessageHeaders}.
+ * <p>
+ * The {@link MessageHeaders#ID}, {@link MessageHeaders#TIMESTAMP} and {@link #readOnlyHeaders(String...)}
+ * are read-only for this builder: they cannot be set, they are not copied, and the read-only headers
+ * of the original message are removed from the built message.
+ *
+ * @param <T> the payload type.
+ *
+ * @since 6.5
+ *
+ * @see CopyOnWriteMessageBuilderFactory
+ */
+public final class CopyOnWriteMessageBuilder<T> extends AbstractIntegrationMessageBuilder<T> {
+
+	/**
+	 * The default maximum number of the copy-on-write headers in a chain before they are flattened.
+	 */
+	public static final int DEFAULT_MAX_DEPTH = 8;
+
+	private static final Object REMOVED = CopyOnWriteMessageHeaders.REMOVED;
+
+	private final T payload;
+
+	@Nullable
+	private final Message<T> originalMessage;
+
+	@Nullable
+	private MessageHeaders originalHeaders;
+
+	private final Map<String, Object> changes = new HashMap<>();
+
+	private int maxDepth = DEFAULT_MAX_DEPTH;
+
+	@Nullable
+	private String[] readOnlyHeaders;
+
+	private CopyOnWriteMessageBuilder(T payload, @Nullable Message<T> originalMessage) {
+		Assert.notNull(payload, "payload must not be null");
+		this.payload = payload;
+		this.originalMessage = originalMessage;
+		this.originalHeaders = originalMessage != null ? originalMessage.getHeaders() : null;
+	}
+
+	/**
+	 * Create a builder for a new {@link Message} instance with the headers of the provided message
+	 * and the provided payload.
+	 * @param message the message to build from.
+	 * @param <T> The type of the payload.
+	 * @return the builder.
+	 */
+	public static <T> CopyOnWriteMessageBuilder<T> fromMessage(Message<T> message) {
+		Assert.notNull(message, "message must not be null");
+		return new CopyOnWriteMessageBuilder<>(message.getPayload(), message);
+	}
+
+	/**
+	 * Create a builder for a new {@link Message} instance with the provided payload.
+	 * @param payload the payload for the new message.
+	 * @param <T> The type of the payload.
+	 * @return the builder.
+	 */
+	public static <T> CopyOnWriteMessageBuilder<T> withPayload(T payload) {
+		return new CopyOnWriteMessageBuilder<>(payload, null);
+	}
+
+	/**
+	 * Set the maximum number of messages in a chain which share headers before
+	 * the headers are flattened.
+	 * Defaults to {@link #DEFAULT_MAX_DEPTH}.
+	 * @param maxDepth the maximum depth; {@code 0} to always flatten.
+	 * @return the builder.
+	 */
+	public CopyOnWriteMessageBuilder<T> maxDepth(int maxDepth) {
+		Assert.isTrue(maxDepth >= 0, "'maxDepth' must not be negative");
+		this.maxDepth = maxDepth;
+		return this;
+	}
+
+	/**
+	 * Specify a list of headers which should be considered as read only
+	 * and prohibited from being populated in the message.
+	 * @param readOnlyHeaders the list of headers for {@code readOnly} mode.
+	 * Defaults to {@link MessageHeaders#ID} and {@link MessageHeaders#TIMESTAMP}.
+	 * @return the builder.
+	 */
+	public CopyOnWriteMessageBuilder<T> readOnlyHeaders(@Nullable String... readOnlyHeaders) {
+		this.readOnlyHeaders = readOnlyHeaders != null ? Arrays.copyOf(readOnlyHeaders, readOnlyHeaders.length) : null;
+		return this;
+	}
+
+	@Override
+	public T getPayload() {
+		return this.payload;
+	}
+
+	@Override
+	public Map<String, Object> getHeaders() {
+		return merge(this.originalHeaders, this.changes);
+	}
+
+	@Nullable
+	@Override
+	@SuppressWarnings("unchecked")
+	public <V> V getHeader(String key, Class<V> type) {
+		Object value = doGetHeader(key);
+		if (value == null) {
+			return null;
+		}
+		if (!type.isAssignableFrom(value.getClass())) {
+			throw new IllegalArgumentException("Incorrect type specified for header '" + key + "'. Expected [" + type
+					+ "] but actual type is [" + value.getClass() + "]");
+		}
+		return (V) value;
+	}
+
+	@Override
+	public CopyOnWriteMessageBuilder<T> setHeader(String headerName, @Nullable Object headerValue) {
+		Assert.notNull(headerName, "'headerName' must not be null");
+		if (isReadOnly(headerName)) {
+			throw new IllegalArgumentException("'" + headerName + "' header is read-only");
+		}
+		if (headerValue == null) {
+			doRemoveHeader(headerName);
+		}
+		else {
+			this.changes.put(headerName, headerValue);
+		}
+		return this;
+	}
+
+	@Override
+	public CopyOnWriteMessageBuilder<T> setHeaderIfAbsent(String headerName, Object headerValue) {
+		if (doGetHeader(headerName) == null) {
+			setHeader(headerName, headerValue);
+		}
+		return this;
+	}
+
+	@Override
+	public CopyOnWriteMessageBuilder<T> removeHeaders(String... headerPatterns) {
+		Set<String> headerNames = new LinkedHashSet<>(this.changes.keySet());
+		if (this.originalHeaders != null) {
+			headerNames.addAll(this.originalHeaders.keySet());
+		}
+		List<String> headersToRemove = new ArrayList<>();
+		for (String headerName : headerNames) {
+			if (!isReadOnly(headerName) && PatternMatchUtils.simpleMatch(headerPatterns, headerName)) {
+				headersToRemove.add(headerName);
+			}
+		}
+		for (String headerName : headersToRemove) {
+			doRemoveHeader(headerName);
+		}
+		return this;
+	}
+
+	@Override
+	public CopyOnWriteMessageBuilder<T> removeHeader(String headerName) {
+		if (!isReadOnly(headerName)) {
+			doRemoveHeader(headerName);
+		}
+		return this;
+	}
+
+	@Override
+	public CopyOnWriteMessageBuilder<T> copyHeaders(@Nullable Map<String, ?> headersToCopy) {
+		if (this.changes.isEmpty() && adoptHeaders(headersToCopy)) {
+			return this;
+		}
+		if (headersToCopy != null) {
+			for (Map.Entry<String, ?> entry : headersToCopy.entrySet()) {
+				if (!isReadOnly(entry.getKey())) {
+					setHeader(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+		return this;
+	}
+
+	@Override
+	public CopyOnWriteMessageBuilder<T> copyHeadersIfAbsent(@Nullable Map<String, ?> headersToCopy) {
+		if (adoptHeaders(headersToCopy)) {
+			return this;
+		}
+		if (headersToCopy != null) {
+			for (Map.Entry<String, ?> entry : headersToCopy.entrySet()) {
+				String headerName = entry.getKey();
+				if (!isReadOnly(headerName) && entry.getValue() != null && doGetHeader(headerName) == null) {
+					this.changes.put(headerName, entry.getValue());
+				}
+			}
+		}
+		return this;
+	}
+
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	protected List<List<Object>> getSequenceDetails() {
+		return (List<List<Object>>) doGetHeader(IntegrationMessageHeaderAccessor.SEQUENCE_DETAILS);
+	}
+
+	@Override
+	@Nullable
+	protected Object getCorrelationId() {
+		return doGetHeader(IntegrationMessageHeaderAccessor.CORRELATION_ID);
+	}
+
+	@Override
+	protected Object getSequenceNumber() {
+		Number sequenceNumber = (Number) doGetHeader(IntegrationMessageHeaderAccessor.SEQUENCE_NUMBER);
+		return sequenceNumber != null ? sequenceNumber.intValue() : 0;
+	}
+
+	@Override
+	protected Object getSequenceSize() {
+		Number sequenceSize = (Number) doGetHeader(IntegrationMessageHeaderAccessor.SEQUENCE_SIZE);
+		return sequenceSize != null ? sequenceSize.intValue() : 0;
+	}
+
+	/**
+	 * Return the original message instance if neither its payload nor headers are modified
+	 * and there are no read-only headers in it.
+	 * If payload is an instance of {@link Throwable}, then an {@link ErrorMessage} is built.
+	 * Otherwise, a new instance of {@link GenericMessage} is produced.
+	 * @return the message instance.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Message<T> build() {
+		removeReadOnlyHeaders();
+		if (this.originalMessage != null && this.changes.isEmpty()
+				&& this.payload.equals(this.originalMessage.getPayload())) {
+
+			return this.originalMessage;
+		}
+		MessageHeaders headers = CopyOnWriteMessageHeaders.create(this.originalHeaders, this.changes, this.maxDepth);
+		if (this.payload instanceof Throwable throwable) {
+			return (Message<T>) new ErrorMessage(throwable, headers);
+		}
+		return new GenericMessage<>(this.payload, headers);
+	}
+
+	/**
+	 * Use the provided {@link MessageHeaders} as the original headers for a builder of a new message.
+	 * The headers already set in the builder take precedence over them.
+	 */
+	private boolean adoptHeaders(@Nullable Map<String, ?> headersToCopy) {
+		if (this.originalHeaders == null && headersToCopy instanceof MessageHeaders messageHeaders) {
+			this.originalHeaders = messageHeaders;
+			return true;
+		}
+		return false;
+	}
+
+	private void removeReadOnlyHeaders() {
+		if (this.originalHeaders != null && !ObjectUtils.isEmpty(this.readOnlyHeaders)) {
+			for (String readOnly : this.readOnlyHeaders) {
+				if (this.originalHeaders.containsKey(readOnly)) {
+					this.changes.put(readOnly, REMOVED);
+				}
+			}
+		}
+	}
+
+	@Nullable
+	private Object doGetHeader(String headerName) {
+		Object value = this.changes.get(headerName);
+		if (value == null) {
+			return this.originalHeaders != null ? this.originalHeaders.get(headerName) : null;
+		}
+		return value != REMOVED ? value : null;
+	}
+
+	private void doRemoveHeader(String headerName) {
+		if (this.originalHeaders != null && this.originalHeaders.containsKey(headerName)) {
+			this.changes.put(headerName, REMOVED);
+		}
+		else {
+			this.changes.remove(headerName);
+		}
+	}
+
+	private static Map<String, Object> merge(@Nullable Map<String, Object> original, Map<String, Object> changes) {
+		Map<String, Object> merged = original != null ? new HashMap<>(original) : new HashMap<>();
+		for (Map.Entry<String, Object> entry : changes.entrySet()) {
+			if (entry.getValue() == REMOVED) {
+				merged.remove(entry.getKey());
+			}
+			else {
+				merged.put(entry.getKey(), entry.getValue());
+			}
+		}
+		return merged;
+	}
+
+	private boolean isReadOnly(String headerName) {
+		return MessageHeaders.ID.equals(headerName) || MessageHeaders.TIMESTAMP.equals(headerName)
+				|| ObjectUtils.containsElement(this.readOnlyHeaders, headerName);
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support;
+
+import java.util.Arrays;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.integration.context.IntegrationContextUtils;
+import org.springframework.integration.context.IntegrationProperties;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link MessageBuilderFactory} for the {@link CopyOnWriteMessageBuilder}:
+ * the framework components build messages with only changed headers
+ * on top of the headers of the original message instead of copying all of them.
+ * <p>
+ * Unless {@link #setReadOnlyHeaders(String...)} is called, the
+ * {@link IntegrationProperties#READ_ONLY_HEADERS} global property is applied
+ * when this factory is declared as a bean.
+ *
+ * @since 6.5
+ */
+public class CopyOnWriteMessageBuilderFactory implements MessageBuilderFactory, BeanFactoryAware {
+
+	private int maxDepth = CopyOnWriteMessageBuilder.DEFAULT_MAX_DEPTH;
+
+	@Nullable
+	private String[] readOnlyHeaders;
+
+	private boolean readOnlyHeadersSet;
+
+	/**
+	 * Set the maximum number of messages in a chain which share headers before
+	 * the headers are flattened.
+	 * Defaults to {@link CopyOnWriteMessageBuilder#DEFAULT_MAX_DEPTH}.
+	 * @param maxDepth the maximum depth; {@code 0} to always flatten.
+	 */
+	public void setMaxDepth(int maxDepth) {
+		Assert.isTrue(maxDepth >= 0, "'maxDepth' must not be negative");
+		this.maxDepth = maxDepth;
+	}
+
+	/**
+	 * Specify a list of headers which should be considered as a read only
+	 * and prohibited from the population to the message.
+	 * Overrides the {@link IntegrationProperties#READ_ONLY_HEADERS} global property.
+	 * @param readOnlyHeaders the list of headers for {@code readOnly} mode.
+	 * Defaults to {@link org.springframework.messaging.MessageHeaders#ID}
+	 * and {@link org.springframework.messaging.MessageHeaders#TIMESTAMP}.
+	 */
+	public void setReadOnlyHeaders(@Nullable String... readOnlyHeaders) {
+		this.readOnlyHeaders = readOnlyHeaders != null ? Arrays.copyOf(readOnlyHeaders, readOnlyHeaders.length) : null;
+		this.readOnlyHeadersSet = true;
+	}
+
+	/**
+	 * Add headers to the configured list of read only headers.
+	 * @param readOnlyHeaders the additional headers.
+	 */
+	public void addReadOnlyHeaders(String... readOnlyHeaders) {
+		String[] headers = this.readOnlyHeaders;
+		if (headers == null || headers.length == 0) {
+			headers = Arrays.copyOf(readOnlyHeaders, readOnlyHeaders.length);
+		}
+		else {
+			headers = Arrays.copyOf(headers, headers.length + readOnlyHeaders.length);
+			System.arraycopy(readOnlyHeaders, 0, headers, headers.length - readOnlyHeaders.length,
+					readOnlyHeaders.length);
+		}
+		this.readOnlyHeaders = headers;
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		if (!this.readOnlyHeadersSet) {
+			String[] globalReadOnlyHeaders =
+					IntegrationContextUtils.getIntegrationProperties(beanFactory).getReadOnlyHeaders();
+			if (globalReadOnlyHeaders.length > 0) {
+				String[] addedReadOnlyHeaders = this.readOnlyHeaders;
+				this.readOnlyHeaders = globalReadOnlyHeaders;
+				if (addedReadOnlyHeaders != null) {
+					addReadOnlyHeaders(addedReadOnlyHeaders);
+				}
+			}
+		}
+	}
+
+	@Override
+	public <T> CopyOnWriteMessageBuilder<T> fromMessage(Message<T> message) {
+		return CopyOnWriteMessageBuilder.fromMessage(message)
+				.maxDepth(this.maxDepth)
+				.readOnlyHeaders(this.readOnlyHeaders);
+	}
+
+	@Override
+	public <T> CopyOnWriteMessageBuilder<T> withPayload(T payload) {
+		return CopyOnWriteMessageBuilder.withPayload(payload)
+				.maxDepth(this.maxDepth)
+				.readOnlyHeaders(this.readOnlyHeaders);
+	}
+
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support;
+
+import java.io.Serial;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.MessageHeaders;
+
+/**
+ * The {@link MessageHeaders} which keep only the headers changed in the
+ * {@link CopyOnWriteMessageBuilder} on top of the immutable headers of the parent message,
+ * instead of a full copy of them.
+ * The key lookups ({@link #get(Object)}, {@link #containsKey(Object)} etc.) check the changes first
+ * and then the parent headers.
+ * <p>
+ * The first operation on the whole map ({@link #entrySet()}, {@link #size()}, {@link #equals(Object)},
+ * serialization etc.) flattens the chain into the internal map of these {@link MessageHeaders}
+ * (a single copy; the parents are not flattened) and releases the parent headers.
+ * From there on, this instance behaves as a plain {@link MessageHeaders}.
+ * Since any copy of these headers is made by such an operation, a copy and this instance
+ * are equal from both sides.
+ *
+ * @since 6.5
+ */
+final class CopyOnWriteMessageHeaders extends MessageHeaders {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The marker for the headers removed from the parent.
+	 */
+	static final Object REMOVED = new Object();
+
+	private final transient Lock lock = new ReentrantLock();
+
+	private final transient int depth;
+
+	@Nullable
+	private transient volatile Overlay overlay;
+
+	private CopyOnWriteMessageHeaders(@Nullable MessageHeaders parent, Map<String, Object> changes, int depth) {
+		super(null, null, null);
+		Map<String, Object> overlayChanges = new HashMap<>(changes);
+		overlayChanges.putAll(super.getRawHeaders());
+		this.overlay = new Overlay(parent, overlayChanges);
+		this.depth = depth;
+	}
+
+	/**
+	 * Create the {@link MessageHeaders} for the parent headers and changes.
+	 * The overlay is kept only if the parent is immutable (a plain {@link MessageHeaders}
+	 * or an instance of this class) and the chain of overlays is not longer than the {@code maxDepth}.
+	 * Otherwise, the headers are flattened right away.
+	 * @param parent the headers of the original message, if any.
+	 * @param changes the changed headers; {@link #REMOVED} for the headers removed from the parent.
+	 * @param maxDepth the maximum number of overlays in the chain.
+	 * @return the message headers.
+	 */
+	static MessageHeaders create(@Nullable MessageHeaders parent, Map<String, Object> changes, int maxDepth) {
+		int depth = 0;
+		if (parent instanceof CopyOnWriteMessageHeaders cow) {
+			depth = cow.overlay != null ? cow.depth + 1 : 1;
+		}
+		else if (parent != null && MessageHeaders.class.equals(parent.getClass())) {
+			depth = 1;
+		}
+		CopyOnWriteMessageHeaders headers = new CopyOnWriteMessageHeaders(parent, changes, depth);
+		if (depth == 0 || depth > maxDepth) {
+			headers.flatten();
+		}
+		return headers;
+	}
+
+	/**
+	 * Copy the headers of the whole chain into the internal map, if not done yet.
+	 * The chain is walked from this instance to the first flat headers:
+	 * the first occurrence of a key (or its removal) wins.
+	 */
+	private void flatten() {
+		if (this.overlay != null) {
+			this.lock.lock();
+			try {
+				Overlay current = this.overlay;
+				if (current == null) {
+					return;
+				}
+				Map<String, Object> headers = super.getRawHeaders();
+				Set<String> seen = new HashSet<>(headers.keySet());
+				while (current != null) {
+					copyAbsent(current.changes, headers, seen);
+					MessageHeaders parent = current.parent;
+					current = parent instanceof CopyOnWriteMessageHeaders cow ? cow.overlay : null;
+					if (current == null && parent != null) {
+						copyAbsent(parent, headers, seen);
+					}
+				}
+				this.overlay = null;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+	private static void copyAbsent(Map<String, Object> source, Map<String, Object> target, Set<String> seen) {
+		for (Map.Entry<String, Object> entry : source.entrySet()) {
+			if (seen.add(entry.getKey()) && entry.getValue() != REMOVED) {
+				target.put(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	@Override
+	@Nullable
+	public Object get(Object key) {
+		Overlay current = this.overlay;
+		return current != null ? current.get(key) : super.get(key);
+	}
+
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		Object value = get(key);
+		if (value == null) {
+			return null;
+		}
+		if (!type.isAssignableFrom(value.getClass())) {
+			throw new IllegalArgumentException("Incorrect type specified for header '" + key + "'. Expected [" + type
+					+ "] but actual type is [" + value.getClass() + "]");
+		}
+		return (T) value;
+	}
+
+	@Override
+	@Nullable
+	public UUID getId() {
+		return get(ID, UUID.class);
+	}
+
+	@Override
+	@Nullable
+	public Long getTimestamp() {
+		return get(TIMESTAMP, Long.class);
+	}
+
+	@Override
+	@Nullable
+	public Object getReplyChannel() {
+		return get(REPLY_CHANNEL);
+	}
+
+	@Override
+	@Nullable
+	public Object getErrorChannel() {
+		return get(ERROR_CHANNEL);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		Overlay current = this.overlay;
+		return current != null ? current.containsKey(key) : super.containsKey(key);
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		flatten();
+		return super.containsValue(value);
+	}
+
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet() {
+		flatten();
+		return super.entrySet();
+	}
+
+	@Override
+	public Set<String> keySet() {
+		flatten();
+		return super.keySet();
+	}
+
+	@Override
+	public Collection<Object> values() {
+		flatten();
+		return super.values();
+	}
+
+	@Override
+	public int size() {
+		flatten();
+		return super.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return false;
+	}
+
+	@Override
+	protected Map<String, Object> getRawHeaders() {
+		flatten();
+		return super.getRawHeaders();
+	}
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		flatten();
+		if (other instanceof CopyOnWriteMessageHeaders that) {
+			that.flatten();
+		}
+		return super.equals(other);
+	}
+
+	@Override
+	public int hashCode() {
+		flatten();
+		return super.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		flatten();
+		return super.toString();
+	}
+
+	@Serial
+	private Object writeReplace() {
+		flatten();
+		return this;
+	}
+
+	/**
+	 * The changes (including the new {@link #ID} and {@link #TIMESTAMP}) on top of the parent headers.
+	 */
+	private record Overlay(@Nullable MessageHeaders parent, Map<String, Object> changes) {
+
+		@Nullable
+		Object get(Object key) {
+			Object value = this.changes.get(key);
+			if (value == null) {
+				return this.parent != null ? this.parent.get(key) : null;
+			}
+			return value != REMOVED ? value : null;
+		}
+
+		boolean containsKey(Object key) {
+			Object value = this.changes.get(key);
+			if (value == null) {
+				return this.parent != null && this.parent.containsKey(key);
+			}
+			return value != REMOVED;
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2024 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,8 @@
 package org.springframework.integration.util;
 
 import java.beans.PropertyEditor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.SimpleTypeConverter;
@@ -42,6 +44,8 @@ import org.springframework.util.ClassUtils;
  */
 public class BeanFactoryTypeConverter implements TypeConverter, BeanFactoryAware {
 
+	private final Lock delegateLock = new ReentrantLock();
+
 	private SimpleTypeConverter delegate = new SimpleTypeConverter();
 
 	private ConversionService conversionService;
@@ -122,9 +126,13 @@ public class BeanFactoryTypeConverter implements TypeConverter, BeanFactoryAware
 		Object editorResult = valueFromEditorIfAny(value, sourceType.getType(), targetType);
 
 		if (editorResult == null) {
-			synchronized (this.delegate) {
+			this.delegateLock.lock();
+			try {
 				return this.delegate.convertIfNecessary(value, targetType.getType());
 			}
+			finally {
+				this.delegateLock.unlock();
+			}
 		}
 		else {
 			return editorResult;
@@ -137,10 +145,14 @@ public class BeanFactoryTypeConverter implements TypeConverter, BeanFactoryAware
 			defaultEditor = this.delegate.getDefaultEditor(sourceType);
 		}
 		else {
-			synchronized (this) {
+			this.delegateLock.lock();
+			try {
 				// not thread-safe - it builds the defaultEditors field in-place (SPR-10191)
 				defaultEditor = this.delegate.getDefaultEditor(sourceType);
 			}
+			finally {
+				this.delegateLock.unlock();
+			}
 			this.haveCalledDelegateGetDefaultEditor = true;
 		}
 		return defaultEditor;
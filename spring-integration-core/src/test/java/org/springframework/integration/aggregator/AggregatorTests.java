@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2024 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,10 +19,17 @@ package org.springframework.integration.aggregator;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.logging.Log;
@@ -51,6 +58,7 @@ import org.springframework.util.StopWatch;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -528,6 +536,155 @@ public class AggregatorTests {
 		assertThat((reply.getPayload())).isEqualTo(105);
 	}
 
+	@Test
+	public void testAsyncRelease() {
+		ExecutorService releaseExecutor = Executors.newSingleThreadExecutor();
+		AggregatingMessageHandler handler = new AggregatingMessageHandler(new MultiplyingProcessor(), this.store);
+		handler.setBeanFactory(mock(BeanFactory.class));
+		handler.setReleaseExecutor(releaseExecutor);
+		handler.setMaxPendingReleases(1);
+		QueueChannel discardChannel = new QueueChannel();
+		handler.setDiscardChannel(discardChannel);
+		handler.afterPropertiesSet();
+
+		QueueChannel replyChannel = new QueueChannel();
+		MessageChannel lockCheckingChannel = (m, to) -> {
+			checkLock(handler, "ABC", false);
+			replyChannel.send(m);
+			return true;
+		};
+		handler.handleMessage(createMessage(3, "ABC", 3, 1, lockCheckingChannel, null));
+		handler.handleMessage(createMessage(5, "ABC", 3, 2, lockCheckingChannel, null));
+		handler.handleMessage(createMessage(7, "ABC", 3, 3, lockCheckingChannel, null));
+
+		Message<?> reply = replyChannel.receive(10000);
+		assertThat(reply).isNotNull();
+		assertThat(reply.getPayload()).isEqualTo(105);
+
+		handler.handleMessage(createMessage(11, "ABC", 3, 3, lockCheckingChannel, null));
+		assertThat(discardChannel.receive(10000)).isNotNull();
+		assertThat(this.store.getMessageGroup("ABC").isComplete()).isTrue();
+		await().untilAsserted(() -> assertThat(this.store.getMessageGroup("ABC").size()).isEqualTo(0));
+
+		releaseExecutor.shutdownNow();
+	}
+
+	@Test
+	public void testAsyncReleaseCleanUpAfterOutputAndNotOnStop() {
+		List<Runnable> releaseTasks = new ArrayList<>();
+		AtomicBoolean failCleanUp = new AtomicBoolean(true);
+		AggregatingMessageHandler handler =
+				new AggregatingMessageHandler(new MultiplyingProcessor(), this.store) {
+
+					@Override
+					protected void afterRelease(MessageGroup messageGroup, Collection<Message<?>> completedMessages) {
+						if ("A".equals(messageGroup.getGroupId()) && failCleanUp.getAndSet(false)) {
+							throw new IllegalStateException("test");
+						}
+						super.afterRelease(messageGroup, completedMessages);
+					}
+
+				};
+		handler.setBeanFactory(mock(BeanFactory.class));
+		handler.setReleaseExecutor(releaseTasks::add);
+		QueueChannel discardChannel = new QueueChannel();
+		handler.setDiscardChannel(discardChannel);
+		handler.afterPropertiesSet();
+		handler.start();
+
+		QueueChannel replyChannel = new QueueChannel();
+		handler.handleMessage(createMessage(3, "A", 1, 1, replyChannel, null));
+		handler.handleMessage(createMessage(5, "B", 1, 1, replyChannel, null));
+		assertThat(releaseTasks).hasSize(2);
+		assertThat(this.store.getMessageGroup("B").isComplete()).isTrue();
+
+		handler.handleMessage(createMessage(7, "B", 1, 1, replyChannel, null));
+		assertThat(discardChannel.receive(0).getPayload()).isEqualTo(7);
+
+		handler.stop();
+
+		assertThat(this.store.getMessageGroup("A").size()).isEqualTo(1);
+		assertThat(this.store.getMessageGroup("B").size()).isEqualTo(1);
+		assertThat(TestUtils.getPropertyValue(handler, "releasedGroups", Map.class)).hasSize(2);
+
+		releaseTasks.forEach(Runnable::run);
+		assertThat(replyChannel.receive(10000).getPayload()).isEqualTo(3);
+		assertThat(replyChannel.receive(10000).getPayload()).isEqualTo(5);
+		assertThat(this.store.getMessageGroup("A").size()).isEqualTo(1);
+		assertThat(this.store.getMessageGroup("B").size()).isEqualTo(0);
+		assertThat(TestUtils.getPropertyValue(handler, "releasedGroups", Map.class)).containsOnlyKeys("A");
+
+		handler.start();
+		handler.stop();
+
+		assertThat(this.store.getMessageGroup("A").size()).isEqualTo(0);
+		assertThat(TestUtils.getPropertyValue(handler, "releasedGroups", Map.class)).isEmpty();
+	}
+
+	@Test
+	public void testAsyncReleaseDoesNotRemoveGroupBeforeItsOutput() throws InterruptedException {
+		Queue<String> events = new ConcurrentLinkedQueue<>();
+		SimpleMessageStore messageStore =
+				new SimpleMessageStore() {
+
+					@Override
+					public void removeMessageGroup(Object groupId) {
+						events.add("removed " + groupId);
+						super.removeMessageGroup(groupId);
+					}
+
+				};
+		ExecutorService releaseExecutor = Executors.newFixedThreadPool(4);
+		AggregatingMessageHandler handler = new AggregatingMessageHandler(new MultiplyingProcessor(), messageStore);
+		handler.setBeanFactory(mock(BeanFactory.class));
+		handler.setReleaseExecutor(releaseExecutor);
+		handler.setExpireGroupsUponCompletion(true);
+		QueueChannel discardChannel = new QueueChannel();
+		handler.setDiscardChannel(discardChannel);
+		handler.afterPropertiesSet();
+
+		CountDownLatch slowOutputLatch = new CountDownLatch(1);
+		MessageChannel outputChannel = (message, timeout) -> {
+			if (message.getPayload().equals(6)) {
+				try {
+					slowOutputLatch.await(10, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			events.add("output " + message.getPayload());
+			return true;
+		};
+
+		handler.handleMessage(createMessage(2, "slow", 2, 1, outputChannel, null));
+		handler.handleMessage(createMessage(3, "slow", 2, 2, outputChannel, null));
+		for (int i = 0; i < 20; i++) {
+			handler.handleMessage(createMessage(100 + i, "fast" + i, 1, 1, outputChannel, null));
+		}
+
+		await().untilAsserted(() -> assertThat(events).filteredOn(event -> event.startsWith("removed")).hasSize(20));
+		assertThat(events).doesNotContain("removed slow", "output 6");
+		assertThat(messageStore.getMessageGroup("slow").size()).isEqualTo(2);
+
+		handler.handleMessage(createMessage(5, "slow", 2, 1, outputChannel, null));
+		assertThat(discardChannel.receive(0).getPayload()).isEqualTo(5);
+		assertThat(messageStore.getMessageGroup("slow").size()).isEqualTo(2);
+
+		slowOutputLatch.countDown();
+		await().untilAsserted(() -> assertThat(events).contains("removed slow"));
+
+		List<String> orderedEvents = new ArrayList<>(events);
+		assertThat(orderedEvents.indexOf("output 6")).isGreaterThanOrEqualTo(0)
+				.isLessThan(orderedEvents.indexOf("removed slow"));
+		for (int i = 0; i < 20; i++) {
+			assertThat(orderedEvents.indexOf("output " + (100 + i))).isGreaterThanOrEqualTo(0)
+					.isLessThan(orderedEvents.indexOf("removed fast" + i));
+		}
+
+		releaseExecutor.shutdownNow();
+	}
+
 	@Test
 	public void shouldRejectDuplicatedSequenceNumbers() {
 		QueueChannel replyChannel = new QueueChannel();
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aggregator;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.store.SimpleMessageStore;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class IncrementalReleaseStrategyTests {
+
+	@Test
+	public void testCount() {
+		CountIncrementalReleaseStrategy releaseStrategy = new CountIncrementalReleaseStrategy(2);
+		assertThat(releaseStrategy.canRelease((String) null)).isFalse();
+		String state = releaseStrategy.accumulate(new GenericMessage<>("foo"), null);
+		assertThat(releaseStrategy.canRelease(state)).isFalse();
+		state = releaseStrategy.accumulate(new GenericMessage<>("bar"), state);
+		assertThat(releaseStrategy.canRelease(state)).isTrue();
+	}
+
+	@Test
+	public void testSequenceSize() {
+		SequenceSizeIncrementalReleaseStrategy releaseStrategy = new SequenceSizeIncrementalReleaseStrategy();
+		String state = null;
+		for (int i = 1; i <= 12; i++) {
+			assertThat(releaseStrategy.canRelease(state)).isFalse();
+			Message<Integer> message =
+					MessageBuilder.withPayload(i)
+							.setSequenceNumber(i)
+							.setSequenceSize(12)
+							.build();
+			state = releaseStrategy.accumulate(message, state);
+		}
+		assertThat(state).isEqualTo("12/12");
+		assertThat(releaseStrategy.canRelease(state)).isTrue();
+
+		state = releaseStrategy.accumulate(new GenericMessage<>("no sequence"), null);
+		assertThat(releaseStrategy.canRelease(state)).isFalse();
+	}
+
+	@Test
+	public void testWeight() {
+		WeightIncrementalReleaseStrategy releaseStrategy = new WeightIncrementalReleaseStrategy(10);
+		String state = releaseStrategy.accumulate(new GenericMessage<>(new byte[4]), null);
+		state = releaseStrategy.accumulate(new GenericMessage<>("12345"), state);
+		assertThat(releaseStrategy.canRelease(state)).isFalse();
+		state = releaseStrategy.accumulate(new GenericMessage<>(new byte[1]), state);
+		assertThat(releaseStrategy.canRelease(state)).isTrue();
+
+		releaseStrategy.setWeigher((message) -> 5);
+		state = releaseStrategy.accumulate(new GenericMessage<>(new Object()), null);
+		assertThat(releaseStrategy.canRelease(state)).isFalse();
+		state = releaseStrategy.accumulate(new GenericMessage<>(new Object()), state);
+		assertThat(releaseStrategy.canRelease(state)).isTrue();
+	}
+
+	@Test
+	public void testDeadline() {
+		DeadlineIncrementalReleaseStrategy releaseStrategy = new DeadlineIncrementalReleaseStrategy(Duration.ZERO);
+		assertThat(releaseStrategy.canRelease((String) null)).isFalse();
+		assertThat(releaseStrategy.canRelease(releaseStrategy.accumulate(new GenericMessage<>("foo"), null)))
+				.isTrue();
+
+		releaseStrategy = new DeadlineIncrementalReleaseStrategy(Duration.ofMinutes(1));
+		String state = releaseStrategy.accumulate(new GenericMessage<>("foo"), null);
+		assertThat(releaseStrategy.accumulate(new GenericMessage<>("bar"), state)).isSameAs(state);
+		assertThat(releaseStrategy.canRelease(state)).isFalse();
+	}
+
+	@Test
+	public void testAggregatorWithIncrementalReleaseStrategy() {
+		SimpleMessageStore messageStore = new SimpleMessageStore();
+		AggregatingMessageHandler aggregator =
+				new AggregatingMessageHandler(new DefaultAggregatingMessageGroupProcessor(), messageStore);
+		aggregator.setReleaseStrategy(new WeightIncrementalReleaseStrategy(6));
+		aggregator.setCorrelationStrategy((message) -> "group");
+		aggregator.setExpireGroupsUponCompletion(true);
+		QueueChannel outputChannel = new QueueChannel();
+		aggregator.setOutputChannel(outputChannel);
+		aggregator.setBeanFactory(mock(BeanFactory.class));
+		aggregator.afterPropertiesSet();
+
+		aggregator.handleMessage(new GenericMessage<>("foo"));
+		assertThat(messageStore.getMessageGroup("group").getCondition()).isEqualTo("3");
+		assertThat(outputChannel.receive(0)).isNull();
+		aggregator.handleMessage(new GenericMessage<>("bar"));
+
+		Message<?> release = outputChannel.receive(0);
+		assertThat(release).isNotNull();
+		assertThat(release.getPayload()).isEqualTo(List.of("foo", "bar"));
+		assertThat(messageStore.getMessageGroupCount()).isEqualTo(0);
+
+		aggregator.handleMessage(new GenericMessage<>("baz"));
+		assertThat(messageStore.getMessageGroup("group").getCondition()).isEqualTo("3");
+	}
+
+}
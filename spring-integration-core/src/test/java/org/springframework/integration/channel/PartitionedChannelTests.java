@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 the original author or authors.
+ * Copyright 2023-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.integration.channel;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -131,6 +132,65 @@ public class PartitionedChannelTests {
 		partitionedChannel.destroy();
 	}
 
+	@Test
+	void workStealingPartitionsPreserveOrderPerKey() throws InterruptedException {
+		PartitionedChannel partitionedChannel =
+				new PartitionedChannel(64, (message) -> message.getHeaders().get("partitionKey"));
+		partitionedChannel.setWorkStealingThreads(2);
+		partitionedChannel.setBeanFactory(mock(BeanFactory.class));
+		partitionedChannel.setBeanName("workStealingChannel");
+		partitionedChannel.afterPropertiesSet();
+
+		CountDownLatch blockingLatch = new CountDownLatch(1);
+		CountDownLatch handleLatch = new CountDownLatch(400);
+		MultiValueMap<Object, Integer> payloadsPerKey = new LinkedMultiValueMap<>();
+		Set<String> threadNames = new HashSet<>();
+		Lock partitionsLock = new ReentrantLock();
+		partitionedChannel.subscribe((message) -> {
+			if ("blocked".equals(message.getPayload())) {
+				try {
+					blockingLatch.await(10, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				return;
+			}
+			partitionsLock.lock();
+			try {
+				payloadsPerKey.add(message.getHeaders().get("partitionKey"), (Integer) message.getPayload());
+				threadNames.add(Thread.currentThread().getName());
+			}
+			finally {
+				partitionsLock.unlock();
+			}
+			handleLatch.countDown();
+		});
+
+		partitionedChannel.send(MessageBuilder.withPayload("blocked").setHeader("partitionKey", "hot").build());
+		partitionedChannel.send(MessageBuilder.withPayload("blocked").setHeader("partitionKey", "hot").build());
+
+		for (int i = 0; i < 100; i++) {
+			for (int key = 0; key < 4; key++) {
+				partitionedChannel.send(MessageBuilder.withPayload(i).setHeader("partitionKey", key).build());
+			}
+		}
+
+		assertThat(handleLatch.await(10, TimeUnit.SECONDS)).isTrue();
+
+		int hotPartition = Math.abs("hot".hashCode()) % 64;
+		assertThat(partitionedChannel.getDispatcher().getPartitionQueueSize(hotPartition)).isEqualTo(1);
+
+		blockingLatch.countDown();
+
+		List<Integer> expectedOrder = IntStream.range(0, 100).boxed().toList();
+		assertThat(payloadsPerKey).hasSize(4);
+		payloadsPerKey.values().forEach(payloads -> assertThat(payloads).isEqualTo(expectedOrder));
+		assertThat(threadNames).allMatch(name -> name.startsWith("workStealingChannel-partition-thread-"));
+
+		partitionedChannel.destroy();
+	}
+
 	@Autowired
 	@Qualifier("someFlow.input")
 	MessageChannel inputChannel;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,12 +24,15 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import org.springframework.integration.selector.UnexpiredMessageSelector;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.GenericMessage;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -284,4 +287,56 @@ public class QueueChannelTests {
 		assertThat(channel.send(new GenericMessage<>("roomAvailable"), 0)).isTrue();
 	}
 
+	@Test
+	public void testReceiveBatch() {
+		QueueChannel channel = new QueueChannel();
+		assertThat(channel.receiveBatch(10, 0)).isEmpty();
+		for (int i = 0; i < 5; i++) {
+			channel.send(new GenericMessage<>(i));
+		}
+		assertThat(channel.receiveBatch(3, 0)).extracting(Message::getPayload).containsExactly(0, 1, 2);
+		assertThat(channel.receiveBatch(10, 10)).extracting(Message::getPayload).containsExactly(3, 4);
+		assertThat(channel.getQueueSize()).isEqualTo(0);
+	}
+
+	@Test
+	public void testReceiveBatchNonBlockingQueue() {
+		QueueChannel channel = new QueueChannel(new ArrayDeque<>());
+		for (int i = 0; i < 5; i++) {
+			channel.send(new GenericMessage<>(i));
+		}
+		assertThat(channel.receiveBatch(4, 0)).hasSize(4);
+		assertThat(channel.receiveBatch(4, 0)).hasSize(1);
+		assertThat(channel.receiveBatch(4, 10)).isEmpty();
+	}
+
+	@Test
+	public void testReceiveBatchInterceptorFailureKeepsRemainingMessages() {
+		QueueChannel channel = new QueueChannel();
+		AtomicInteger completions = new AtomicInteger();
+		channel.addInterceptor(new ChannelInterceptor() {
+
+			@Override
+			public Message<?> postReceive(Message<?> message, MessageChannel channel) {
+				if (Integer.valueOf(1).equals(message.getPayload())) {
+					throw new IllegalStateException("intentional");
+				}
+				return message;
+			}
+
+			@Override
+			public void afterReceiveCompletion(Message<?> message, MessageChannel channel, Exception ex) {
+				completions.incrementAndGet();
+			}
+
+		});
+		for (int i = 0; i < 4; i++) {
+			channel.send(new GenericMessage<>(i));
+		}
+		assertThat(channel.receiveBatch(10, 0)).extracting(Message::getPayload).containsExactly(0);
+		assertThat(completions.get()).isEqualTo(2);
+		assertThat(channel.receiveBatch(10, 0)).extracting(Message::getPayload).containsExactly(2, 3);
+		assertThat(completions.get()).isEqualTo(4);
+	}
+
 }
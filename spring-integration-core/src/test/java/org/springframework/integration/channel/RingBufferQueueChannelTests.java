@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.channel;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @since 6.5
+ */
+public class RingBufferQueueChannelTests {
+
+	@Test
+	public void testCapacityRoundedToPowerOfTwo() {
+		assertThat(new RingBufferQueueChannel(1).getCapacity()).isEqualTo(2);
+		assertThat(new RingBufferQueueChannel(100).getCapacity()).isEqualTo(128);
+		assertThat(new RingBufferQueueChannel(128).getCapacity()).isEqualTo(128);
+	}
+
+	@Test
+	public void testImmediateSendAndReceive() {
+		RingBufferQueueChannel channel = new RingBufferQueueChannel(2);
+		assertThat(channel.receive(0)).isNull();
+		assertThat(channel.send(new GenericMessage<>("test1"), 0)).isTrue();
+		assertThat(channel.send(new GenericMessage<>("test2"), 0)).isTrue();
+		assertThat(channel.send(new GenericMessage<>("test3"), 0)).isFalse();
+		assertThat(channel.getQueueSize()).isEqualTo(2);
+		assertThat(channel.getRemainingCapacity()).isEqualTo(0);
+		assertThat(channel.receive(0).getPayload()).isEqualTo("test1");
+		assertThat(channel.receive(0).getPayload()).isEqualTo("test2");
+		assertThat(channel.receive(0)).isNull();
+		assertThat(channel.getRemainingCapacity()).isEqualTo(2);
+	}
+
+	@ParameterizedTest
+	@EnumSource(RingBufferQueueChannel.WaitStrategy.class)
+	public void testBlockingSendAndReceiveWithTimeout(RingBufferQueueChannel.WaitStrategy waitStrategy) {
+		RingBufferQueueChannel channel = new RingBufferQueueChannel(2, waitStrategy);
+		assertThat(channel.receive(10)).isNull();
+		channel.send(new GenericMessage<>("test1"));
+		channel.send(new GenericMessage<>("test2"));
+		assertThat(channel.send(new GenericMessage<>("test3"), 10)).isFalse();
+	}
+
+	@ParameterizedTest
+	@EnumSource(RingBufferQueueChannel.WaitStrategy.class)
+	public void testConcurrentProducersAndConsumers(RingBufferQueueChannel.WaitStrategy waitStrategy)
+			throws InterruptedException {
+
+		RingBufferQueueChannel channel = new RingBufferQueueChannel(16, waitStrategy);
+		int producers = 3;
+		int messagesPerProducer = 1000;
+		Set<String> received = ConcurrentHashMap.newKeySet();
+		CountDownLatch latch = new CountDownLatch(producers * messagesPerProducer);
+		ExecutorService exec = Executors.newCachedThreadPool();
+		for (int i = 0; i < producers; i++) {
+			int producer = i;
+			exec.execute(() -> {
+				for (int j = 0; j < messagesPerProducer; j++) {
+					channel.send(new GenericMessage<>(producer + "-" + j));
+				}
+			});
+			exec.execute(() -> {
+				while (!Thread.currentThread().isInterrupted()) {
+					Message<?> message = channel.receive(100);
+					if (message != null) {
+						received.add((String) message.getPayload());
+						latch.countDown();
+					}
+				}
+			});
+		}
+		assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+		assertThat(received).hasSize(producers * messagesPerProducer);
+		assertThat(channel.getQueueSize()).isEqualTo(0);
+		exec.shutdownNow();
+	}
+
+	@Test
+	public void testPurge() {
+		RingBufferQueueChannel channel = new RingBufferQueueChannel(8);
+		for (int i = 0; i < 5; i++) {
+			channel.send(new GenericMessage<>(i));
+		}
+		List<Message<?>> purged = channel.purge((message) -> (Integer) message.getPayload() % 2 == 0);
+		assertThat(purged).extracting(Message::getPayload).containsExactly(1, 3);
+		assertThat(channel.getQueueSize()).isEqualTo(3);
+		assertThat(channel.clear()).extracting(Message::getPayload).containsExactly(0, 2, 4);
+		assertThat(channel.getQueueSize()).isEqualTo(0);
+	}
+
+	@Test
+	public void testPurgeWithConcurrentSends() throws Exception {
+		RingBufferQueueChannel channel = new RingBufferQueueChannel(4);
+		int producers = 2;
+		int messagesPerProducer = 2000;
+		int total = producers * messagesPerProducer;
+		Set<Integer> received = ConcurrentHashMap.newKeySet();
+		Set<Integer> purged = ConcurrentHashMap.newKeySet();
+		AtomicInteger duplicates = new AtomicInteger();
+		CountDownLatch producersDone = new CountDownLatch(producers);
+		ExecutorService exec = Executors.newCachedThreadPool();
+		for (int i = 0; i < producers; i++) {
+			int producer = i;
+			exec.execute(() -> {
+				for (int j = 0; j < messagesPerProducer; j++) {
+					channel.send(new GenericMessage<>(producer * messagesPerProducer + j));
+				}
+				producersDone.countDown();
+			});
+		}
+		exec.execute(() -> {
+			while (!Thread.currentThread().isInterrupted()) {
+				Message<?> message = channel.receive(100);
+				if (message != null && !received.add((Integer) message.getPayload())) {
+					duplicates.incrementAndGet();
+				}
+			}
+		});
+		Future<?> purger = exec.submit(() -> {
+			while (producersDone.getCount() > 0) {
+				for (Message<?> message : channel.purge((candidate) -> (Integer) candidate.getPayload() % 7 != 0)) {
+					if (!purged.add((Integer) message.getPayload())) {
+						duplicates.incrementAndGet();
+					}
+				}
+			}
+		});
+		purger.get(30, TimeUnit.SECONDS);
+		assertThat(producersDone.await(30, TimeUnit.SECONDS)).isTrue();
+		// No message accepted by the selector is lost when producers take the freed slots
+		await().until(() -> received.size() + purged.size() == total);
+		exec.shutdownNow();
+		assertThat(duplicates.get()).isEqualTo(0);
+		assertThat(purged).allMatch((payload) -> payload % 7 == 0);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2024 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -176,6 +176,48 @@ public class ChannelInterceptorTests {
 		assertThat(interceptor2.wasAfterCompletionInvoked()).isFalse();
 	}
 
+	@Test
+	public void interceptorCallbacksInvokedInOrderWhenPartiallyOverridden() {
+		List<String> calls = new ArrayList<>();
+		this.channel.addInterceptor(new ChannelInterceptor() {
+
+			@Override
+			public Message<?> preSend(Message<?> message, MessageChannel channel) {
+				calls.add("first.preSend");
+				return message;
+			}
+
+			@Override
+			public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent,
+					Exception ex) {
+
+				calls.add("first.afterSendCompletion");
+			}
+
+		});
+		this.channel.addInterceptor(new ChannelInterceptor() {
+
+			@Override
+			public void postSend(Message<?> message, MessageChannel channel, boolean sent) {
+				calls.add("second.postSend");
+			}
+
+		});
+		this.channel.addInterceptor(0, new ChannelInterceptor() {
+
+			@Override
+			public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent,
+					Exception ex) {
+
+				calls.add("zero.afterSendCompletion");
+			}
+
+		});
+		this.channel.send(new GenericMessage<>("test"));
+		assertThat(calls).containsExactly("first.preSend", "second.postSend",
+				"first.afterSendCompletion", "zero.afterSendCompletion");
+	}
+
 	@Test
 	public void testPreReceiveInterceptorReturnsTrue() {
 		PreReceiveReturnsTrueInterceptor interceptor = new PreReceiveReturnsTrueInterceptor();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2013-2024 the original author or authors.
+ * Copyright 2013-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import org.springframework.integration.channel.DefaultHeaderChannelRegistry;
 import org.springframework.integration.channel.DirectChannel;
 import org.springframework.integration.channel.MessagePublishingErrorHandler;
 import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.channel.ShardedHeaderChannelRegistry;
 import org.springframework.integration.context.IntegrationContextUtils;
 import org.springframework.integration.core.MessagingTemplate;
 import org.springframework.integration.handler.AbstractReplyProducingMessageHandler;
@@ -249,6 +250,48 @@ public class HeaderChannelRegistryTests {
 		assertThat(map.size()).isEqualTo(0);
 	}
 
+	@Test
+	public void testShardedExpireOnlyDue() throws Exception {
+		ShardedHeaderChannelRegistry registry = new ShardedHeaderChannelRegistry(60000, 4);
+		registry.setTaskScheduler(this.taskScheduler);
+		MessageChannel channel = new DirectChannel();
+		String shortLived = (String) registry.channelToChannelName(channel, 0);
+		String longLived = (String) registry.channelToChannelName(channel);
+		assertThat(registry.size()).isEqualTo(2);
+		assertThat(registry.channelNameToChannel(shortLived)).isSameAs(channel);
+		int n = 0;
+		while (n++ < 100 && registry.getExpiredCount() == 0) {
+			registry.runReaper();
+			if (registry.getExpiredCount() == 0) {
+				Thread.sleep(100);
+			}
+		}
+		assertThat(registry.getExpiredCount()).isEqualTo(1);
+		assertThat(registry.size()).isEqualTo(1);
+		assertThat(registry.channelNameToChannel(shortLived)).isNull();
+		assertThat(registry.channelNameToChannel(longLived)).isSameAs(channel);
+		registry.stop();
+	}
+
+	@Test
+	public void testShardedNames() {
+		ShardedHeaderChannelRegistry registry = new ShardedHeaderChannelRegistry();
+		registry.setTaskScheduler(this.taskScheduler);
+		MessageChannel channel = new DirectChannel();
+		String name = (String) registry.channelToChannelName(channel);
+		assertThat(name).hasSizeLessThan(30);
+		assertThat(registry.channelToChannelName("notAChannel")).isEqualTo("notAChannel");
+		assertThat(registry.channelNameToChannel(name + "x")).isNull();
+		assertThat(registry.channelNameToChannel(name + "!")).isNull();
+		assertThat(registry.channelNameToChannel("foo")).isNull();
+		assertThat(new ShardedHeaderChannelRegistry().channelNameToChannel(name)).isNull();
+		registry.setRemoveOnGet(true);
+		assertThat(registry.channelNameToChannel(name)).isSameAs(channel);
+		assertThat(registry.channelNameToChannel(name)).isNull();
+		assertThat(registry.size()).isEqualTo(0);
+		registry.stop();
+	}
+
 	public static class Foo extends AbstractReplyProducingMessageHandler {
 
 		@Override
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,7 @@ import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.integration.support.IdGenerators.JdkIdGenerator;
 import org.springframework.integration.support.IdGenerators.SimpleIncrementingIdGenerator;
+import org.springframework.integration.support.IdGenerators.TimeOrderedIdGenerator;
 import org.springframework.integration.test.util.TestUtils;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.util.IdGenerator;
@@ -212,6 +213,25 @@ public class IdGeneratorConfigurerTests {
 		}
 	}
 
+	@Test
+	public void testTimeOrdered() {
+		try (GenericApplicationContext context = new GenericApplicationContext()) {
+			context.registerBeanDefinition("bfpp",
+					new RootBeanDefinition(DefaultConfiguringBeanFactoryPostProcessor.class));
+			context.registerBeanDefinition("foo", new RootBeanDefinition(TimeOrderedIdGenerator.class));
+			context.refresh();
+			long before = System.currentTimeMillis();
+			UUID id1 = new MessageHeaders(null).getId();
+			UUID id2 = new MessageHeaders(null).getId();
+			long after = System.currentTimeMillis();
+			assertThat(id1).isNotEqualTo(id2);
+			assertThat(id1.version()).isEqualTo(7);
+			assertThat(id1.variant()).isEqualTo(2);
+			assertThat(id1.getMostSignificantBits() >>> 16).isBetween(before, after);
+			assertThat(id2.getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(id1.getMostSignificantBits() >>> 16);
+		}
+	}
+
 	public static class MyIdGenerator implements IdGenerator {
 
 		@Override
@@ -1,5 +1,5 @@
 /*
- * Copyright 2013-2024 the original author or authors.
+ * Copyright 2013-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.integration.context;
 
+import java.util.Properties;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -64,4 +66,17 @@ public class IntegrationContextTests {
 		assertThat(this.serviceActivatorExplicit.isRunning()).isTrue();
 	}
 
+	@Test
+	void virtualThreadsEnabledPropertyIsParsed() {
+		assertThat(this.integrationProperties.isVirtualThreadsEnabled()).isFalse();
+		assertThat(IntegrationProperties.defaults())
+				.containsEntry(IntegrationProperties.VIRTUAL_THREADS_ENABLED, "false");
+
+		Properties properties = new Properties();
+		properties.setProperty(IntegrationProperties.VIRTUAL_THREADS_ENABLED, "true");
+		IntegrationProperties parsed = IntegrationProperties.parse(properties);
+		assertThat(parsed.isVirtualThreadsEnabled()).isTrue();
+		assertThat(parsed.toProperties()).containsEntry(IntegrationProperties.VIRTUAL_THREADS_ENABLED, "true");
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2024 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,10 @@
 
 package org.springframework.integration.core;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Properties;
 
 import org.junit.jupiter.api.Test;
@@ -128,6 +132,43 @@ public class MessageHistoryTests {
 		assertThat(history2.toString()).isEqualTo("testComponent-1,testComponent-2");
 	}
 
+	@Test
+	public void clonedHistoryDivergesFromSharedPrefix() throws Exception {
+		Message<String> message = MessageHistory.write(new MutableMessage<>("foo"), new TestComponent(1));
+		MessageHistory history = MessageHistory.read(message);
+		assertThat(history).isNotNull();
+		Properties first = history.get(0);
+
+		Message<String> branch1 =
+				MessageHistory.write(MessageBuilder.fromMessage(message).cloneMessageHistoryIfAny().build(),
+						new TestComponent(2));
+		Message<String> branch2 =
+				MessageHistory.write(MessageBuilder.fromMessage(message).cloneMessageHistoryIfAny().build(),
+						new TestComponent(3));
+
+		MessageHistory history1 = MessageHistory.read(branch1);
+		MessageHistory history2 = MessageHistory.read(branch2);
+		assertThat(history1.toString()).isEqualTo("testComponent-1,testComponent-2");
+		assertThat(history2.toString()).isEqualTo("testComponent-1,testComponent-3");
+		assertThat(history.toString()).isEqualTo("testComponent-1");
+		assertThat(history1.get(0)).isSameAs(first);
+		assertThat(history2.get(0)).isSameAs(first);
+		assertThat(history1.get(1))
+				.containsEntry(MessageHistory.NAME_PROPERTY, "testComponent-2")
+				.containsEntry(MessageHistory.TYPE_PROPERTY, "type-2")
+				.containsKey(MessageHistory.TIMESTAMP_PROPERTY);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(history1);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			MessageHistory deserialized = (MessageHistory) in.readObject();
+			assertThat(deserialized).isEqualTo(history1);
+			assertThat(deserialized.toString()).isEqualTo("testComponent-1,testComponent-2");
+		}
+	}
+
 	private record TestComponent(int id) implements NamedComponent {
 
 		@Override
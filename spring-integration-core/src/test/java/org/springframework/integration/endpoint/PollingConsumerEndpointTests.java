@@ -25,6 +25,7 @@ import org.mockito.Mockito;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.integration.MessageRejectedException;
+import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.support.MessagingExceptionWrapper;
 import org.springframework.integration.test.util.OnlyOnceTrigger;
 import org.springframework.messaging.Message;
@@ -167,6 +168,29 @@ public class PollingConsumerEndpointTests {
 		assertThat(this.consumer.counter.get()).isEqualTo(1);
 	}
 
+	@Test
+	public void batchReceiveDrainsUpToMaxMessagesPerPoll() {
+		QueueChannel queueChannel = new QueueChannel();
+		for (int i = 0; i < 10; i++) {
+			queueChannel.send(i == 3 ? this.badMessage : this.message);
+		}
+		PollingConsumer batchEndpoint = new PollingConsumer(queueChannel, this.consumer);
+		batchEndpoint.setErrorHandler(this.errorHandler);
+		batchEndpoint.setTaskScheduler(this.taskScheduler);
+		batchEndpoint.setTrigger(this.trigger);
+		batchEndpoint.setBeanFactory(mock(BeanFactory.class));
+		batchEndpoint.setReceiveTimeout(0);
+		batchEndpoint.setMaxMessagesPerPoll(6);
+		batchEndpoint.setBatchReceive(true);
+		batchEndpoint.afterPropertiesSet();
+		batchEndpoint.start();
+		this.trigger.await();
+		batchEndpoint.stop();
+		assertThat(this.consumer.counter.get()).isEqualTo(6);
+		assertThat(queueChannel.getQueueSize()).isEqualTo(4);
+		assertThat(this.errorHandler.lastError).isInstanceOf(MessagingExceptionWrapper.class);
+	}
+
 	private static class TestConsumer implements MessageHandler {
 
 		private volatile AtomicInteger counter = new AtomicInteger();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2024 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,20 +20,26 @@ import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 import org.mockito.Mockito;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.context.Lifecycle;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.integration.channel.NullChannel;
 import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.config.SourcePollingChannelAdapterFactoryBean;
 import org.springframework.integration.config.TestErrorHandler;
+import org.springframework.integration.context.IntegrationContextUtils;
+import org.springframework.integration.context.IntegrationProperties;
 import org.springframework.integration.core.MessageSource;
 import org.springframework.integration.scheduling.PollerMetadata;
 import org.springframework.integration.util.TestDefaultAnnotationConfiguration;
@@ -136,6 +142,38 @@ public class PollingLifecycleTests {
 		Mockito.verify(source, times(1)).receive();
 	}
 
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	public void pollerWithoutExecutorUsesVirtualThreadsWhenEnabled() throws InterruptedException {
+		IntegrationProperties integrationProperties = new IntegrationProperties();
+		integrationProperties.setVirtualThreadsEnabled(true);
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton(IntegrationContextUtils.INTEGRATION_GLOBAL_PROPERTIES_BEAN_NAME,
+				integrationProperties);
+
+		SourcePollingChannelAdapterFactoryBean adapterFactory = new SourcePollingChannelAdapterFactoryBean();
+		PollerMetadata pollerMetadata = new PollerMetadata();
+		pollerMetadata.setTrigger(new PeriodicTrigger(Duration.ofSeconds(10)));
+		adapterFactory.setPollerMetadata(pollerMetadata);
+		AtomicReference<Thread> pollingThread = new AtomicReference<>();
+		CountDownLatch pollLatch = new CountDownLatch(1);
+		adapterFactory.setSource(() -> {
+			pollingThread.set(Thread.currentThread());
+			pollLatch.countDown();
+			return null;
+		});
+		adapterFactory.setOutputChannel(new NullChannel());
+		adapterFactory.setBeanFactory(beanFactory);
+		SourcePollingChannelAdapter adapter = adapterFactory.getObject();
+		adapter.setTaskScheduler(this.taskScheduler);
+		adapter.afterPropertiesSet();
+		adapter.start();
+		assertThat(pollLatch.await(10, TimeUnit.SECONDS)).isTrue();
+		adapter.stop();
+		assertThat(pollingThread.get().getClass().getName()).isEqualTo("java.lang.VirtualThread");
+		assertThat(pollingThread.get().getName()).startsWith("poller-");
+	}
+
 	@Test
 	public void ensurePollerTaskStopsForAdapterWithInterruptible() throws Exception {
 		final CountDownLatch latch = new CountDownLatch(2);
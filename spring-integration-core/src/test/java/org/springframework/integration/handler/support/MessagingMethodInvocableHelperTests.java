@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2022 the original author or authors.
+ * Copyright 2019-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -28,8 +29,11 @@ import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.config.EnableIntegration;
 import org.springframework.integration.core.GenericHandler;
 import org.springframework.integration.dsl.IntegrationFlow;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.test.util.TestUtils;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.support.GenericMessage;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
@@ -48,6 +52,9 @@ public class MessagingMethodInvocableHelperTests {
 	@Autowired
 	private Config config;
 
+	@Autowired
+	private BeanFactory beanFactory;
+
 	@Test
 	void cachedHandler() {
 		this.config.sampleFlow().getInputChannel().send(new GenericMessage<>(Collections.singletonMap("key", "value")));
@@ -56,6 +63,28 @@ public class MessagingMethodInvocableHelperTests {
 		assertThat(received.getPayload()).isEqualTo("Hello value World!");
 	}
 
+	@Test
+	void directInvocationFallsBackToArgumentResolution() {
+		MessagingMethodInvokerHelper helper = new MessagingMethodInvokerHelper(new DirectService(), "handle", false);
+		helper.setBeanFactory(this.beanFactory);
+
+		Object result = helper.process(MessageBuilder.withPayload("foo").setHeader("number", 3).build());
+		assertThat(result).isEqualTo("foo3");
+		assertThat(TestUtils.getPropertyValue(helper, "handlerMethod.directInvoker")).isNotNull();
+
+		result = helper.process(MessageBuilder.withPayload("bar".getBytes()).setHeader("number", 4).build());
+		assertThat(result).isEqualTo("bar4");
+		assertThat(TestUtils.getPropertyValue(helper, "handlerMethod.failedAttempts")).isEqualTo(0);
+	}
+
+	public static class DirectService {
+
+		public String handle(String payload, @Header("number") int number) {
+			return payload + number;
+		}
+
+	}
+
 	@Configuration
 	@EnableIntegration
 	public static class Config {
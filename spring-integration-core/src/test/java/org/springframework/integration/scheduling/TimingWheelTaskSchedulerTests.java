@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.scheduling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @since 6.5
+ */
+public class TimingWheelTaskSchedulerTests {
+
+	private ThreadPoolTaskScheduler delegate;
+
+	private TimingWheelTaskScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		this.delegate = new ThreadPoolTaskScheduler();
+		this.delegate.setPoolSize(2);
+		this.delegate.initialize();
+		this.scheduler = new TimingWheelTaskScheduler(this.delegate, Duration.ofMillis(5), 16);
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.scheduler.destroy();
+		this.delegate.destroy();
+	}
+
+	@Test
+	void oneTimeTasksAreReleasedNotBeforeTheirTime() throws InterruptedException {
+		int count = 100;
+		CountDownLatch latch = new CountDownLatch(count);
+		List<Long> earlyReleases = new CopyOnWriteArrayList<>();
+		Instant now = Instant.now();
+		for (int i = 0; i < count; i++) {
+			// Beyond the wheel rotation (16 * 5ms) for some of them
+			Instant startTime = now.plusMillis(i * 3L);
+			this.scheduler.schedule(() -> {
+				long early = Duration.between(Instant.now(), startTime).toMillis();
+				if (early > 0) {
+					earlyReleases.add(early);
+				}
+				latch.countDown();
+			}, startTime);
+		}
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(earlyReleases).isEmpty();
+		assertThat(this.scheduler.getPendingTaskCount()).isEqualTo(0);
+	}
+
+	@Test
+	void cancelledTaskIsNotReleased() throws Exception {
+		AtomicBoolean cancelledTaskRun = new AtomicBoolean();
+		ScheduledFuture<?> cancelled =
+				this.scheduler.schedule(() -> cancelledTaskRun.set(true), Instant.now().plusMillis(50));
+		CountDownLatch latch = new CountDownLatch(1);
+		ScheduledFuture<?> released = this.scheduler.schedule(latch::countDown, Instant.now().plusMillis(100));
+
+		assertThat(cancelled.cancel(false)).isTrue();
+		assertThat(cancelled.isCancelled()).isTrue();
+		assertThat(cancelled.cancel(false)).isFalse();
+
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		released.get(10, TimeUnit.SECONDS);
+		assertThat(released.isDone()).isTrue();
+		assertThat(cancelledTaskRun.get()).isFalse();
+		assertThat(this.scheduler.getPendingTaskCount()).isEqualTo(0);
+	}
+
+	@Test
+	void cancelledTaskIsNotCountedAsPending() {
+		ScheduledFuture<?> cancelled = this.scheduler.schedule(() -> { }, Instant.now().plusSeconds(60));
+		this.scheduler.schedule(() -> { }, Instant.now().plusSeconds(60));
+		assertThat(this.scheduler.getPendingTaskCount()).isEqualTo(2);
+		cancelled.cancel(false);
+		assertThat(this.scheduler.getPendingTaskCount()).isEqualTo(1);
+	}
+
+	@Test
+	void destroyCancelsPendingTasks() throws InterruptedException {
+		ScheduledFuture<?> inWheel = this.scheduler.schedule(() -> { }, Instant.now().plusSeconds(60));
+		// Let ticks move the first task into the wheel
+		Thread.sleep(50);
+		ScheduledFuture<?> notYetInWheel = this.scheduler.schedule(() -> { }, Instant.now().plusSeconds(60));
+		this.scheduler.destroy();
+		assertThat(inWheel.isCancelled()).isTrue();
+		assertThat(inWheel.isDone()).isTrue();
+		assertThat(notYetInWheel.isCancelled()).isTrue();
+		assertThat(this.scheduler.getPendingTaskCount()).isEqualTo(0);
+	}
+
+	@Test
+	void taskInThePastIsReleasedImmediately() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		this.scheduler.schedule(latch::countDown, Instant.now().minusSeconds(1)).get(10, TimeUnit.SECONDS);
+		assertThat(latch.getCount()).isEqualTo(0);
+	}
+
+}
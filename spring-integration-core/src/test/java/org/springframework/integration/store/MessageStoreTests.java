@@ -21,6 +21,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -73,6 +81,93 @@ public class MessageStoreTests {
 		assertThat(store.getMessageCountForAllMessageGroups()).isEqualTo(1);
 	}
 
+	@Test
+	public void concurrentAdditionsAreCoalesced() throws InterruptedException {
+		MapKeyValueMessageStore store = new MapKeyValueMessageStore();
+		store.setAddBatchSize(16);
+		int groups = 8;
+		int messagesPerGroup = 20;
+		ExecutorService executor = Executors.newFixedThreadPool(groups);
+		CountDownLatch start = new CountDownLatch(1);
+		for (int i = 0; i < groups; i++) {
+			String groupId = "group" + i;
+			executor.execute(() -> {
+				try {
+					start.await();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				for (int j = 0; j < messagesPerGroup; j++) {
+					store.addMessagesToGroup(groupId, new GenericMessage<>(j));
+				}
+			});
+		}
+		start.countDown();
+		executor.shutdown();
+		assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+		for (int i = 0; i < groups; i++) {
+			assertThat(store.messageGroupSize("group" + i)).isEqualTo(messagesPerGroup);
+		}
+		assertThat(store.getMessageCount()).isEqualTo(groups * messagesPerGroup);
+		assertThat(store.batchWrites.get()).isLessThan(groups * messagesPerGroup);
+	}
+
+	private static class MapKeyValueMessageStore extends AbstractKeyValueMessageStore {
+
+		private final Map<Object, Object> map = new ConcurrentHashMap<>();
+
+		private final AtomicInteger batchWrites = new AtomicInteger();
+
+		@Override
+		protected Object doRetrieve(Object id) {
+			return this.map.get(id);
+		}
+
+		@Override
+		protected void doStore(Object id, Object objectToStore) {
+			this.map.put(id, objectToStore);
+		}
+
+		@Override
+		protected void doStoreIfAbsent(Object id, Object objectToStore) {
+			this.map.putIfAbsent(id, objectToStore);
+		}
+
+		@Override
+		protected void doStoreAllIfAbsent(Map<Object, Object> objectsToStore) {
+			this.batchWrites.incrementAndGet();
+			try {
+				Thread.sleep(5);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			super.doStoreAllIfAbsent(objectsToStore);
+		}
+
+		@Override
+		protected Object doRemove(Object id) {
+			return this.map.remove(id);
+		}
+
+		@Override
+		protected void doRemoveAll(Collection<Object> ids) {
+			ids.forEach(this.map::remove);
+		}
+
+		@Override
+		protected Collection<?> doListKeys(String keyPattern) {
+			String prefix = keyPattern.replace("*", "");
+			return this.map.keySet()
+					.stream()
+					.filter((key) -> key.toString().startsWith(prefix))
+					.collect(Collectors.toList());
+		}
+
+	}
+
 	private static class TestMessageStore extends SimpleMessageStore {
 
 		MessageGroup testMessages =
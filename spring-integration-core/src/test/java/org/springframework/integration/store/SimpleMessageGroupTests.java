@@ -1,5 +1,5 @@
 /*
- * Copyright 2009-2024 the original author or authors.
+ * Copyright 2009-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
@@ -96,6 +97,34 @@ public class SimpleMessageGroupTests {
 		assertThat(grp.getMessages().size()).isEqualTo(2);
 	}
 
+	@Test
+	public void sequencesAreTrackedOnAddAndRemove() {
+		List<Message<?>> messages = new ArrayList<>();
+		for (int i = -50; i <= 1000; i++) {
+			Message<?> message = MessageBuilder.withPayload(i).setSequenceNumber(i).build();
+			messages.add(message);
+			this.group.add(message);
+		}
+		assertThat(this.group.containsSequence(0)).isTrue();
+		assertThat(this.group.containsSequence(-50)).isTrue();
+		assertThat(this.group.containsSequence(1000)).isTrue();
+		assertThat(this.group.containsSequence(1001)).isFalse();
+		assertThat(this.group.containsSequence(null)).isFalse();
+
+		for (int i = 0; i < messages.size(); i += 2) {
+			this.group.remove(messages.get(i));
+		}
+		for (int i = 0; i < messages.size(); i++) {
+			Integer sequence =
+					messages.get(i).getHeaders().get(IntegrationMessageHeaderAccessor.SEQUENCE_NUMBER, Integer.class);
+			assertThat(this.group.containsSequence(sequence)).isEqualTo(i % 2 != 0);
+		}
+
+		this.group.clear();
+		assertThat(this.group.containsSequence(1)).isFalse();
+		assertThat(this.group.size()).isZero();
+	}
+
 	@Test
 	// This test used to take 2 min and half to run; now ~200 milliseconds.
 	public void testPerformance() {
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.context.IntegrationContextUtils;
+import org.springframework.integration.context.IntegrationProperties;
+import org.springframework.integration.support.converter.AllowListDeserializingConverter;
+import org.springframework.integration.test.util.TestUtils;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * @since 6.5
+ */
+public class CopyOnWriteMessageBuilderTests {
+
+	@Test
+	public void headersAreSharedAndOverridden() {
+		CopyOnWriteMessageBuilderFactory factory = new CopyOnWriteMessageBuilderFactory();
+		Message<String> original =
+				factory.withPayload("foo")
+						.setHeader("a", 1)
+						.setHeader("b", 2)
+						.setHeader("c", 3)
+						.build();
+
+		Message<String> changed =
+				factory.fromMessage(original)
+						.setHeader("a", 10)
+						.removeHeader("b")
+						.setHeader("d", 4)
+						.setCorrelationId("corr")
+						.build();
+
+		MessageHeaders headers = changed.getHeaders();
+		assertThat(headers).isInstanceOf(CopyOnWriteMessageHeaders.class);
+		assertThat(headers.getId()).isNotNull().isNotEqualTo(original.getHeaders().getId());
+		assertThat(headers.getTimestamp()).isNotNull();
+		assertThat(headers.get("a")).isEqualTo(10);
+		assertThat(headers.containsKey("b")).isFalse();
+		assertThat(headers.get("b")).isNull();
+		assertThat(headers.get("c", Integer.class)).isEqualTo(3);
+		assertThat(headers.get("d")).isEqualTo(4);
+		assertThat(new IntegrationMessageHeaderAccessor(changed).getCorrelationId()).isEqualTo("corr");
+		assertThat(TestUtils.getPropertyValue(headers, "overlay")).isNotNull();
+		assertThat(headers).containsOnlyKeys(MessageHeaders.ID, MessageHeaders.TIMESTAMP, "a", "c", "d",
+				IntegrationMessageHeaderAccessor.CORRELATION_ID);
+		assertThat(TestUtils.getPropertyValue(headers, "overlay")).isNull();
+		assertThat(headers.get("a")).isEqualTo(10);
+		assertThat(headers.containsKey("b")).isFalse();
+
+		assertThat(original.getHeaders())
+				.containsEntry("a", 1)
+				.containsEntry("b", 2)
+				.doesNotContainKey("d");
+
+		assertThat(factory.fromMessage(changed).build()).isSameAs(changed);
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> factory.fromMessage(changed).setHeader(MessageHeaders.ID, "test"));
+	}
+
+	@Test
+	public void copiedHeadersAreShared() {
+		Message<String> request = MessageBuilder.withPayload("foo").setHeader("a", 1).setHeader("b", 2).build();
+
+		Message<String> reply =
+				CopyOnWriteMessageBuilder.withPayload("bar")
+						.setHeader("a", 10)
+						.copyHeadersIfAbsent(request.getHeaders())
+						.build();
+
+		assertThat(reply.getHeaders().getId()).isNotEqualTo(request.getHeaders().getId());
+		assertThat(reply.getHeaders())
+				.containsEntry("a", 10)
+				.containsEntry("b", 2);
+	}
+
+	@Test
+	public void sequenceDetailsArePushedAndPopped() {
+		Message<String> message =
+				CopyOnWriteMessageBuilder.withPayload("foo")
+						.setCorrelationId("outer")
+						.setSequenceNumber(2)
+						.setSequenceSize(3)
+						.build();
+
+		Message<String> inner =
+				CopyOnWriteMessageBuilder.fromMessage(message)
+						.pushSequenceDetails("inner", 1, 5)
+						.build();
+		IntegrationMessageHeaderAccessor accessor = new IntegrationMessageHeaderAccessor(inner);
+		assertThat(accessor.getCorrelationId()).isEqualTo("inner");
+		assertThat(accessor.getSequenceSize()).isEqualTo(5);
+
+		Message<String> outer =
+				CopyOnWriteMessageBuilder.fromMessage(inner)
+						.popSequenceDetails()
+						.build();
+		accessor = new IntegrationMessageHeaderAccessor(outer);
+		assertThat(accessor.getCorrelationId()).isEqualTo("outer");
+		assertThat(accessor.getSequenceNumber()).isEqualTo(2);
+		assertThat(accessor.getSequenceSize()).isEqualTo(3);
+		assertThat(outer.getHeaders()).doesNotContainKey(IntegrationMessageHeaderAccessor.SEQUENCE_DETAILS);
+	}
+
+	@Test
+	public void copyOnWriteMessageSerializationRoundTrip() {
+		Message<String> original = MessageBuilder.withPayload("foo").setHeader("a", "b").build();
+		Message<String> message = CopyOnWriteMessageBuilder.fromMessage(original).setHeader("c", "d").build();
+
+		byte[] bytes = new SerializingConverter().convert(message);
+		AllowListDeserializingConverter deserializer = new AllowListDeserializingConverter();
+		deserializer.addAllowedPatterns("org.springframework.messaging.*", "org.springframework.integration.support.*",
+				"java.util.*");
+		Message<?> deserialized = (Message<?>) deserializer.convert(bytes);
+
+		assertThat(deserialized.getHeaders()).isInstanceOf(CopyOnWriteMessageHeaders.class);
+		assertThat(deserialized.getHeaders().getId()).isEqualTo(message.getHeaders().getId());
+		assertThat(deserialized.getHeaders().getTimestamp()).isEqualTo(message.getHeaders().getTimestamp());
+		assertThat(deserialized.getHeaders()).containsEntry("a", "b").containsEntry("c", "d");
+		assertThat(deserialized).isEqualTo(message);
+		assertThat(message).isEqualTo(deserialized);
+	}
+
+	@Test
+	public void copyOnWriteMessageEqualsPlainMessage() {
+		Message<String> original = MessageBuilder.withPayload("foo").setHeader("a", "b").build();
+		Message<String> message = CopyOnWriteMessageBuilder.fromMessage(original).setHeader("c", "d").build();
+		Message<String> plain = new GenericMessage<>("foo", message.getHeaders());
+		Message<String> rebuilt = new GenericMessage<>("foo", new MutableMessageHeaders(message.getHeaders()));
+
+		assertThat(message).isEqualTo(plain);
+		assertThat(plain).isEqualTo(message);
+		assertThat(message).isEqualTo(rebuilt);
+		assertThat(rebuilt).isEqualTo(message);
+		assertThat(message.hashCode()).isEqualTo(rebuilt.hashCode());
+	}
+
+	@Test
+	public void headersAreFlattenedAfterMaxDepth() {
+		CopyOnWriteMessageBuilderFactory factory = new CopyOnWriteMessageBuilderFactory();
+		factory.setMaxDepth(2);
+		Message<Integer> message = MessageBuilder.withPayload(0).setHeader("h0", 0).build();
+		for (int i = 1; i <= 2; i++) {
+			message = factory.fromMessage(message).setHeader("h" + i, i).build();
+			assertThat(TestUtils.getPropertyValue(message, "headers.overlay")).isNotNull();
+		}
+		Message<Integer> parent = message;
+		message = factory.fromMessage(message).removeHeader("h1").setHeader("h3", 3).build();
+
+		assertThat(TestUtils.getPropertyValue(message, "headers.overlay")).isNull();
+		assertThat(TestUtils.getPropertyValue(parent, "headers.overlay")).isNotNull();
+		assertThat(message.getHeaders())
+				.containsOnlyKeys(MessageHeaders.ID, MessageHeaders.TIMESTAMP, "h0", "h2", "h3")
+				.containsEntry("h0", 0)
+				.containsEntry("h2", 2)
+				.containsEntry("h3", 3);
+
+		Message<Integer> next = factory.fromMessage(message).setHeader("h4", 4).build();
+		assertThat(TestUtils.getPropertyValue(next, "headers.overlay")).isNotNull();
+		assertThat(next.getHeaders().get("h3")).isEqualTo(3);
+
+		Message<Integer> fromMutable =
+				factory.fromMessage(MutableMessageBuilder.withPayload(0).setHeader("h0", 0).build())
+						.setHeader("h1", 1)
+						.build();
+		assertThat(TestUtils.getPropertyValue(fromMutable, "headers.overlay")).isNull();
+		assertThat(fromMutable.getHeaders()).containsEntry("h0", 0).containsEntry("h1", 1);
+	}
+
+	@Test
+	public void readOnlyHeadersAreNotPopulated() {
+		CopyOnWriteMessageBuilderFactory factory = new CopyOnWriteMessageBuilderFactory();
+		factory.setReadOnlyHeaders("foo");
+		factory.addReadOnlyHeaders("bar");
+		Message<String> original =
+				MessageBuilder.withPayload("test")
+						.setHeader("foo", 1)
+						.setHeader("baz", 2)
+						.build();
+
+		Message<String> message = factory.fromMessage(original).build();
+		assertThat(message).isNotSameAs(original);
+		assertThat(message.getHeaders())
+				.doesNotContainKey("foo")
+				.containsEntry("baz", 2);
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> factory.fromMessage(message).setHeader("bar", "test"));
+
+		Message<String> copied =
+				factory.withPayload("test")
+						.copyHeaders(Map.of("bar", 3, "qux", 4))
+						.build();
+		assertThat(copied.getHeaders())
+				.doesNotContainKey("bar")
+				.containsEntry("qux", 4);
+
+		assertThat(factory.fromMessage(message).removeHeaders("*").build().getHeaders())
+				.containsOnlyKeys(MessageHeaders.ID, MessageHeaders.TIMESTAMP);
+	}
+
+	@Test
+	public void readOnlyHeadersFromIntegrationProperties() {
+		IntegrationProperties integrationProperties = new IntegrationProperties();
+		integrationProperties.setReadOnlyHeaders("foo");
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton(IntegrationContextUtils.INTEGRATION_GLOBAL_PROPERTIES_BEAN_NAME,
+				integrationProperties);
+		CopyOnWriteMessageBuilderFactory factory = new CopyOnWriteMessageBuilderFactory();
+		factory.addReadOnlyHeaders("bar");
+		factory.setBeanFactory(beanFactory);
+
+		Message<String> message =
+				factory.fromMessage(MessageBuilder.withPayload("test").setHeader("foo", 1).setHeader("bar", 2).build())
+						.build();
+
+		assertThat(message.getHeaders()).doesNotContainKeys("foo", "bar");
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> factory.withPayload("test").setHeader("foo", 3));
+	}
+
+}
@@ -0,0 +1,585 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.file.store;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.integration.codec.Codec;
+import org.springframework.integration.store.ChannelMessageStore;
+import org.springframework.integration.store.MessageGroup;
+import org.springframework.integration.store.MessageGroupFactory;
+import org.springframework.integration.store.SimpleMessageGroupFactory;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ChannelMessageStore} which keeps messages in append-only memory-mapped segment files
+ * on the local file system, giving a {@link org.springframework.integration.channel.QueueChannel}
+ * durability without an external service.
+ * <p>
+ * Every message group (usually, a channel) gets its own sub-directory of the provided directory
+ * (named after a hash of the group id) with a sequence of segment files of {@link #setSegmentSize(int) segmentSize}
+ * and a read cursor checkpoint file.
+ * Messages are serialized with the provided {@link Codec} and appended to the last segment;
+ * a new segment is started when the record does not fit into the current one.
+ * A poll reads the record at the read cursor and moves the checkpoint forward.
+ * <p>
+ * A segment the read cursor has moved past is kept mapped as a spare and reused for the next new segment,
+ * so a consumer which keeps up with the producer works with a fixed set of two segment files.
+ * When a backlog has grown to more segments, the extra consumed segments are deleted.
+ * The JDK provides no way to unmap a file explicitly, so the disk space of a deleted segment is reclaimed
+ * only when its mapping is garbage collected; on Windows, a mapped file cannot be deleted at all,
+ * so such a segment file stays until it is cleaned up by the recovery after a restart.
+ * On start, the messages after the checkpoint are recovered; records are verified by their checksum,
+ * so a record partially written during a crash is ignored.
+ * <p>
+ * The data written to the mapped files survives a crash of the process, but may be lost on an
+ * operating system crash or a power loss unless {@link #setForceOnWrite(boolean) forceOnWrite} is set.
+ * A message polled right before a crash may be delivered again after a restart.
+ * <p>
+ * The store must not be shared between processes; the configuration options must be set
+ * before the store is used.
+ *
+ * @since 6.5
+ */
+public class MappedFileChannelMessageStore implements ChannelMessageStore, DisposableBean {
+
+	/**
+	 * The default size of segment files - 64 MB.
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+	private static final Log LOGGER = LogFactory.getLog(MappedFileChannelMessageStore.class);
+
+	private static final String SEGMENT_SUFFIX = ".segment";
+
+	private static final String CHECKPOINT_FILE_NAME = "checkpoint";
+
+	private static final int CHECKPOINT_SIZE = Long.BYTES + Integer.BYTES;
+
+	/**
+	 * A segment starts with its sequence number in the group, or {@link #FREE_SEGMENT} for a spare segment.
+	 */
+	private static final int SEGMENT_HEADER_SIZE = Long.BYTES;
+
+	private static final long FREE_SEGMENT = -1L;
+
+	/**
+	 * The number of consumed segments kept for reuse per group.
+	 */
+	private static final int MAX_FREE_SEGMENTS = 1;
+
+	/**
+	 * A record is the payload length, the payload checksum and the payload.
+	 */
+	private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+
+	/**
+	 * Every record is followed by at least this space for the next length or the end of segment marker.
+	 */
+	private static final int RECORD_TRAILER_SIZE = Integer.BYTES;
+
+	private static final int END_OF_SEGMENT = -1;
+
+	private final Path directory;
+
+	private final Codec codec;
+
+	private final Map<Object, GroupLog> groupLogs = new ConcurrentHashMap<>();
+
+	private int segmentSize = DEFAULT_SEGMENT_SIZE;
+
+	private boolean forceOnWrite;
+
+	private MessageGroupFactory messageGroupFactory = new SimpleMessageGroupFactory();
+
+	/**
+	 * Construct an instance based on the directory for segment files and the {@link Codec}
+	 * to serialize messages.
+	 * @param directory the directory for segment files; created if it does not exist.
+	 * @param codec the {@link Codec} to serialize messages.
+	 */
+	public MappedFileChannelMessageStore(File directory, Codec codec) {
+		Assert.notNull(directory, "'directory' must not be null");
+		Assert.notNull(codec, "'codec' must not be null");
+		this.directory = directory.toPath();
+		this.codec = codec;
+	}
+
+	/**
+	 * Set the size of new segment files.
+	 * A message which does not fit into this size is written into a segment of its own size.
+	 * Defaults to {@link #DEFAULT_SEGMENT_SIZE}.
+	 * @param segmentSize the size of segment files in bytes.
+	 */
+	public void setSegmentSize(int segmentSize) {
+		Assert.isTrue(segmentSize > RECORD_HEADER_SIZE + RECORD_TRAILER_SIZE,
+				() -> "'segmentSize' must be greater than " + (RECORD_HEADER_SIZE + RECORD_TRAILER_SIZE));
+		this.segmentSize = segmentSize;
+	}
+
+	/**
+	 * Set to true to force every written record and checkpoint to the storage device.
+	 * Makes the store durable against operating system crashes and power losses at the cost
+	 * of a synchronous disk write per operation.
+	 * Defaults to false.
+	 * @param forceOnWrite true to force writes to the storage device.
+	 */
+	public void setForceOnWrite(boolean forceOnWrite) {
+		this.forceOnWrite = forceOnWrite;
+	}
+
+	/**
+	 * Specify the {@link MessageGroupFactory} to create {@link MessageGroup} object where
+	 * it is necessary.
+	 * Defaults to {@link SimpleMessageGroupFactory}.
+	 * @param messageGroupFactory the {@link MessageGroupFactory} to use.
+	 */
+	public void setMessageGroupFactory(MessageGroupFactory messageGroupFactory) {
+		Assert.notNull(messageGroupFactory, "'messageGroupFactory' must not be null");
+		this.messageGroupFactory = messageGroupFactory;
+	}
+
+	@Override
+	@ManagedAttribute
+	public int messageGroupSize(Object groupId) {
+		return groupLog(groupId).size;
+	}
+
+	@Override
+	public MessageGroup getMessageGroup(Object groupId) {
+		List<byte[]> records = groupLog(groupId).records();
+		List<Message<?>> messages = new ArrayList<>(records.size());
+		for (byte[] record : records) {
+			messages.add(decode(record));
+		}
+		return this.messageGroupFactory.create(messages, groupId);
+	}
+
+	@Override
+	public MessageGroup addMessageToGroup(Object groupId, Message<?> message) {
+		byte[] record;
+		try {
+			record = this.codec.encode(message);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to encode message: " + message, ex);
+		}
+		groupLog(groupId).append(record);
+		return null;
+	}
+
+	@Override
+	@Nullable
+	public Message<?> pollMessageFromGroup(Object groupId) {
+		byte[] record = groupLog(groupId).poll();
+		return record != null ? decode(record) : null;
+	}
+
+	@Override
+	public void removeMessageGroup(Object groupId) {
+		groupLog(groupId).clear();
+	}
+
+	@Override
+	public void destroy() {
+		this.groupLogs.values().forEach(GroupLog::close);
+		this.groupLogs.clear();
+	}
+
+	private GroupLog groupLog(Object groupId) {
+		return this.groupLogs.computeIfAbsent(groupId, (id) -> {
+			try {
+				return new GroupLog(this.directory.resolve(directoryName(id)));
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Failed to open the message group [" + id + "] in " + this.directory, ex);
+			}
+		});
+	}
+
+	/**
+	 * The SHA-256 of the group id: a fixed length file name for any group id.
+	 */
+	private static String directoryName(Object groupId) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(groupId.toString().getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 is not supported", ex);
+		}
+	}
+
+	private Message<?> decode(byte[] record) {
+		try {
+			return this.codec.decode(record, Message.class);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to decode message", ex);
+		}
+	}
+
+	private static MappedByteBuffer map(Path path, int size) throws IOException {
+		try (FileChannel channel = FileChannel.open(path,
+				StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+			long length = channel.size() > 0 ? channel.size() : size;
+			return channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+		}
+	}
+
+	/**
+	 * A segment file and its mapping.
+	 */
+	private record Segment(Path file, MappedByteBuffer buffer) {
+
+	}
+
+	/**
+	 * The segment files and the read cursor of a single message group.
+	 * The segment files are named after the slot numbers; the order of segments is defined
+	 * by the sequence numbers in their headers, so a consumed segment can be reused as a new one
+	 * without renaming its (mapped) file.
+	 */
+	private final class GroupLog {
+
+		private final Lock lock = new ReentrantLock();
+
+		private final Path directory;
+
+		private final NavigableMap<Long, Segment> segments = new TreeMap<>();
+
+		private final Deque<Segment> freeSegments = new ArrayDeque<>();
+
+		private final MappedByteBuffer checkpoint;
+
+		private long nextSlot;
+
+		private long readSegmentId;
+
+		private int readPosition;
+
+		private long writeSegmentId;
+
+		private int writePosition;
+
+		private volatile int size;
+
+		GroupLog(Path directory) throws IOException {
+			this.directory = directory;
+			Files.createDirectories(directory);
+			this.checkpoint = map(directory.resolve(CHECKPOINT_FILE_NAME), CHECKPOINT_SIZE);
+			recover();
+		}
+
+		private void recover() throws IOException {
+			int segmentSize = MappedFileChannelMessageStore.this.segmentSize;
+			try (DirectoryStream<Path> segmentFiles = Files.newDirectoryStream(this.directory, "*" + SEGMENT_SUFFIX)) {
+				for (Path segmentFile : segmentFiles) {
+					String fileName = segmentFile.getFileName().toString();
+					long slot = Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()));
+					this.nextSlot = Math.max(this.nextSlot, slot + 1);
+					Segment segment = new Segment(segmentFile, map(segmentFile, segmentSize));
+					long segmentId = segment.buffer().getLong(0);
+					if (segmentId < 0 || this.segments.putIfAbsent(segmentId, segment) != null) {
+						freeSegment(segment);
+					}
+				}
+			}
+			if (this.segments.isEmpty()) {
+				newSegment(0, segmentSize);
+			}
+			long segmentId = this.checkpoint.getLong(0);
+			int position = Math.max(this.checkpoint.getInt(Long.BYTES), SEGMENT_HEADER_SIZE);
+			if (!this.segments.containsKey(segmentId)) {
+				segmentId = this.segments.firstKey();
+				position = SEGMENT_HEADER_SIZE;
+			}
+			while (this.segments.firstKey() < segmentId) {
+				releaseSegment(this.segments.firstKey());
+			}
+			this.readSegmentId = segmentId;
+			this.readPosition = position;
+
+			int count = 0;
+			while (true) {
+				int length = verifiedRecordLength(this.segments.get(segmentId).buffer(), position);
+				Long nextSegmentId = this.segments.higherKey(segmentId);
+				if (length == END_OF_SEGMENT && nextSegmentId != null) {
+					segmentId = nextSegmentId;
+					position = SEGMENT_HEADER_SIZE;
+				}
+				else if (length > 0) {
+					count++;
+					position += RECORD_HEADER_SIZE + length;
+				}
+				else {
+					break;
+				}
+			}
+			// The segments after the last valid record are left from an interrupted roll
+			Long nextSegmentId;
+			while ((nextSegmentId = this.segments.higherKey(segmentId)) != null) {
+				releaseSegment(nextSegmentId);
+			}
+			this.writeSegmentId = segmentId;
+			this.writePosition = position;
+			this.size = count;
+		}
+
+		/**
+		 * Return the length of a valid record at the position, {@code END_OF_SEGMENT}
+		 * or 0 if there is no (completely written) record.
+		 */
+		private int verifiedRecordLength(MappedByteBuffer segment, int position) {
+			if (position < SEGMENT_HEADER_SIZE || position + RECORD_TRAILER_SIZE > segment.capacity()) {
+				return 0;
+			}
+			int length = segment.getInt(position);
+			if (length == END_OF_SEGMENT) {
+				return END_OF_SEGMENT;
+			}
+			if (length <= 0 || position + RECORD_HEADER_SIZE + length + RECORD_TRAILER_SIZE > segment.capacity()) {
+				return 0;
+			}
+			CRC32C checksum = new CRC32C();
+			checksum.update(segment.slice(position + RECORD_HEADER_SIZE, length));
+			return (int) checksum.getValue() == segment.getInt(position + Integer.BYTES) ? length : 0;
+		}
+
+		void append(byte[] record) {
+			CRC32C checksum = new CRC32C();
+			checksum.update(record);
+			int recordSize = RECORD_HEADER_SIZE + record.length;
+			this.lock.lock();
+			try {
+				MappedByteBuffer segment = this.segments.get(this.writeSegmentId).buffer();
+				if (this.writePosition + recordSize + RECORD_TRAILER_SIZE > segment.capacity()) {
+					MappedByteBuffer nextSegment =
+							newSegment(this.writeSegmentId + 1,
+									Math.max(MappedFileChannelMessageStore.this.segmentSize,
+											SEGMENT_HEADER_SIZE + recordSize + RECORD_TRAILER_SIZE));
+					segment.putInt(this.writePosition, END_OF_SEGMENT);
+					force(segment, this.writePosition, Integer.BYTES);
+					segment = nextSegment;
+					this.writeSegmentId++;
+					this.writePosition = SEGMENT_HEADER_SIZE;
+				}
+				int position = this.writePosition;
+				segment.putInt(position + Integer.BYTES, (int) checksum.getValue());
+				segment.put(position + RECORD_HEADER_SIZE, record);
+				segment.putInt(position + recordSize, 0);
+				// The length makes the record visible for recovery, so it is written last
+				segment.putInt(position, record.length);
+				force(segment, position, recordSize + RECORD_TRAILER_SIZE);
+				this.writePosition += recordSize;
+				this.size++;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		@Nullable
+		byte[] poll() {
+			this.lock.lock();
+			try {
+				if (this.size == 0) {
+					return null;
+				}
+				MappedByteBuffer segment = this.segments.get(this.readSegmentId).buffer();
+				int length = segment.getInt(this.readPosition);
+				while (length == END_OF_SEGMENT) {
+					long consumedSegmentId = this.readSegmentId;
+					this.readSegmentId = this.segments.higherKey(consumedSegmentId);
+					this.readPosition = SEGMENT_HEADER_SIZE;
+					checkpoint();
+					releaseSegment(consumedSegmentId);
+					segment = this.segments.get(this.readSegmentId).buffer();
+					length = segment.getInt(SEGMENT_HEADER_SIZE);
+				}
+				byte[] record = new byte[length];
+				segment.get(this.readPosition + RECORD_HEADER_SIZE, record);
+				this.readPosition += RECORD_HEADER_SIZE + length;
+				this.size--;
+				checkpoint();
+				return record;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		List<byte[]> records() {
+			this.lock.lock();
+			try {
+				List<byte[]> records = new ArrayList<>(this.size);
+				long segmentId = this.readSegmentId;
+				int position = this.readPosition;
+				while (records.size() < this.size) {
+					MappedByteBuffer segment = this.segments.get(segmentId).buffer();
+					int length = segment.getInt(position);
+					if (length == END_OF_SEGMENT) {
+						segmentId = this.segments.higherKey(segmentId);
+						position = SEGMENT_HEADER_SIZE;
+					}
+					else {
+						byte[] record = new byte[length];
+						segment.get(position + RECORD_HEADER_SIZE, record);
+						records.add(record);
+						position += RECORD_HEADER_SIZE + length;
+					}
+				}
+				return records;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		void clear() {
+			this.lock.lock();
+			try {
+				long nextSegmentId = this.writeSegmentId + 1;
+				newSegment(nextSegmentId, MappedFileChannelMessageStore.this.segmentSize);
+				this.readSegmentId = nextSegmentId;
+				this.readPosition = SEGMENT_HEADER_SIZE;
+				checkpoint();
+				while (this.segments.firstKey() < nextSegmentId) {
+					releaseSegment(this.segments.firstKey());
+				}
+				this.writeSegmentId = nextSegmentId;
+				this.writePosition = SEGMENT_HEADER_SIZE;
+				this.size = 0;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		void close() {
+			this.lock.lock();
+			try {
+				this.segments.values().forEach((segment) -> segment.buffer().force());
+				this.freeSegments.forEach((segment) -> segment.buffer().force());
+				this.checkpoint.force();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		private void checkpoint() {
+			// A torn checkpoint may only point to the start of the previous segment: at-least-once
+			this.checkpoint.putInt(Long.BYTES, this.readPosition);
+			this.checkpoint.putLong(0, this.readSegmentId);
+			force(this.checkpoint, 0, CHECKPOINT_SIZE);
+		}
+
+		private void force(MappedByteBuffer buffer, int index, int length) {
+			if (MappedFileChannelMessageStore.this.forceOnWrite) {
+				buffer.force(index, length);
+			}
+		}
+
+		/**
+		 * Start a new segment with the provided sequence number: reuse a spare segment of the standard size
+		 * if possible, otherwise create a new segment file.
+		 */
+		private MappedByteBuffer newSegment(long segmentId, int size) {
+			Segment segment = null;
+			if (size == MappedFileChannelMessageStore.this.segmentSize) {
+				segment = this.freeSegments.poll();
+			}
+			if (segment == null) {
+				Path segmentFile = this.directory.resolve(String.format("%020d", this.nextSlot++) + SEGMENT_SUFFIX);
+				try {
+					segment = new Segment(segmentFile, map(segmentFile, size));
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException("Failed to create a segment file in " + this.directory, ex);
+				}
+			}
+			MappedByteBuffer buffer = segment.buffer();
+			// Hide the records left from the previous use of the segment
+			buffer.putInt(SEGMENT_HEADER_SIZE, 0);
+			buffer.putLong(0, segmentId);
+			force(buffer, 0, SEGMENT_HEADER_SIZE + Integer.BYTES);
+			this.segments.put(segmentId, segment);
+			return buffer;
+		}
+
+		private void releaseSegment(long segmentId) {
+			freeSegment(this.segments.remove(segmentId));
+		}
+
+		/**
+		 * Keep the segment as a spare if it is of the standard size and there is a room for it,
+		 * otherwise delete its file.
+		 */
+		private void freeSegment(Segment segment) {
+			MappedByteBuffer buffer = segment.buffer();
+			if (buffer.capacity() == MappedFileChannelMessageStore.this.segmentSize
+					&& this.freeSegments.size() < MAX_FREE_SEGMENTS) {
+
+				buffer.putLong(0, FREE_SEGMENT);
+				force(buffer, 0, SEGMENT_HEADER_SIZE);
+				this.freeSegments.add(segment);
+			}
+			else {
+				try {
+					Files.deleteIfExists(segment.file());
+				}
+				catch (IOException ex) {
+					LOGGER.warn("Failed to delete the consumed segment file: " + segment.file(), ex);
+				}
+			}
+		}
+
+	}
+
+}
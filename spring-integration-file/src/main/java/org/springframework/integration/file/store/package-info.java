@@ -0,0 +1,4 @@
+/**
+ * Provides file system based message store implementations.
+ */
+package org.springframework.integration.file.store;
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.file.store;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.codec.Codec;
+import org.springframework.integration.store.MessageGroupQueue;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedFileChannelMessageStoreTests {
+
+	private static final Codec CODEC = new SerializationCodec();
+
+	@TempDir
+	File directory;
+
+	@Test
+	void messagesArePolledInOrderAcrossSegments() {
+		MappedFileChannelMessageStore store = new MappedFileChannelMessageStore(this.directory, CODEC);
+		store.setSegmentSize(1024);
+		for (int i = 0; i < 100; i++) {
+			store.addMessageToGroup("foo", new GenericMessage<>(i));
+		}
+		assertThat(store.messageGroupSize("foo")).isEqualTo(100);
+		assertThat(segmentFiles()).hasSizeGreaterThan(2);
+		assertThat(store.getMessageGroup("foo").getMessages())
+				.extracting(Message::getPayload)
+				.hasSize(100)
+				.startsWith(0, 1, 2);
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(store.pollMessageFromGroup("foo").getPayload()).isEqualTo(i);
+		}
+		assertThat(store.pollMessageFromGroup("foo")).isNull();
+		assertThat(store.messageGroupSize("foo")).isEqualTo(0);
+		assertThat(segmentFiles()).hasSizeLessThanOrEqualTo(2);
+
+		store.addMessageToGroup("foo", new GenericMessage<>(new byte[4096]));
+		assertThat(store.pollMessageFromGroup("foo").getPayload()).isInstanceOf(byte[].class);
+		store.destroy();
+	}
+
+	@Test
+	void consumedSegmentsAreReused() {
+		MappedFileChannelMessageStore store = new MappedFileChannelMessageStore(this.directory, CODEC);
+		store.setSegmentSize(1024);
+		for (int i = 0; i < 200; i++) {
+			store.addMessageToGroup("foo", new GenericMessage<>(i));
+			assertThat(store.pollMessageFromGroup("foo").getPayload()).isEqualTo(i);
+		}
+		store.addMessageToGroup("foo", new GenericMessage<>(200));
+		assertThat(segmentFiles())
+				.extracting(File::getName)
+				.containsExactly("00000000000000000000.segment", "00000000000000000001.segment");
+		store.destroy();
+
+		store = new MappedFileChannelMessageStore(this.directory, CODEC);
+		store.setSegmentSize(1024);
+		assertThat(store.messageGroupSize("foo")).isEqualTo(1);
+		for (int i = 201; i < 300; i++) {
+			store.addMessageToGroup("foo", new GenericMessage<>(i));
+		}
+		for (int i = 200; i < 300; i++) {
+			assertThat(store.pollMessageFromGroup("foo").getPayload()).isEqualTo(i);
+		}
+		assertThat(store.pollMessageFromGroup("foo")).isNull();
+		store.destroy();
+	}
+
+	@Test
+	void longGroupId() {
+		MappedFileChannelMessageStore store = new MappedFileChannelMessageStore(this.directory, CODEC);
+		String groupId = "foo".repeat(200);
+		store.addMessageToGroup(groupId, new GenericMessage<>("foo"));
+		assertThat(store.pollMessageFromGroup(groupId).getPayload()).isEqualTo("foo");
+		store.destroy();
+	}
+
+	@Test
+	void messagesAreRecoveredAfterRestart() {
+		MappedFileChannelMessageStore store = new MappedFileChannelMessageStore(this.directory, CODEC);
+		store.setSegmentSize(1024);
+		for (int i = 0; i < 50; i++) {
+			store.addMessageToGroup("foo", new GenericMessage<>(i));
+		}
+		for (int i = 0; i < 20; i++) {
+			store.pollMessageFromGroup("foo");
+		}
+		store.destroy();
+
+		store = new MappedFileChannelMessageStore(this.directory, CODEC);
+		store.setSegmentSize(1024);
+		assertThat(store.messageGroupSize("foo")).isEqualTo(30);
+		assertThat(store.pollMessageFromGroup("foo").getPayload()).isEqualTo(20);
+		store.addMessageToGroup("foo", new GenericMessage<>(50));
+		assertThat(store.getMessageGroup("foo").getMessages())
+				.extracting(Message::getPayload)
+				.hasSize(30)
+				.startsWith(21)
+				.endsWith(50);
+		store.destroy();
+	}
+
+	@Test
+	void partiallyWrittenRecordIsIgnoredOnRecovery() throws IOException {
+		MappedFileChannelMessageStore store = new MappedFileChannelMessageStore(this.directory, CODEC);
+		store.setSegmentSize(1024);
+		GenericMessage<String> first = new GenericMessage<>("first");
+		GenericMessage<String> second = new GenericMessage<>("second");
+		store.addMessageToGroup("foo", first);
+		store.addMessageToGroup("foo", second);
+		store.destroy();
+
+		int endOfSecond = 8 + 8 + CODEC.encode(first).length + 8 + CODEC.encode(second).length;
+		try (RandomAccessFile segment = new RandomAccessFile(segmentFiles()[0], "rw")) {
+			segment.seek(endOfSecond - 1);
+			segment.write(segment.read() ^ 0xFF);
+		}
+
+		store = new MappedFileChannelMessageStore(this.directory, CODEC);
+		store.setSegmentSize(1024);
+		assertThat(store.messageGroupSize("foo")).isEqualTo(1);
+		assertThat(store.pollMessageFromGroup("foo").getPayload()).isEqualTo("first");
+		store.addMessageToGroup("foo", new GenericMessage<>("third"));
+		store.destroy();
+
+		store = new MappedFileChannelMessageStore(this.directory, CODEC);
+		store.setSegmentSize(1024);
+		assertThat(store.pollMessageFromGroup("foo").getPayload()).isEqualTo("third");
+		assertThat(store.pollMessageFromGroup("foo")).isNull();
+		store.destroy();
+	}
+
+	@Test
+	void removeMessageGroup() {
+		MappedFileChannelMessageStore store = new MappedFileChannelMessageStore(this.directory, CODEC);
+		store.addMessageToGroup("foo", new GenericMessage<>("foo"));
+		store.addMessageToGroup("bar", new GenericMessage<>("bar"));
+		store.removeMessageGroup("foo");
+		assertThat(store.messageGroupSize("foo")).isEqualTo(0);
+		assertThat(store.pollMessageFromGroup("foo")).isNull();
+		assertThat(store.messageGroupSize("bar")).isEqualTo(1);
+		store.addMessageToGroup("foo", new GenericMessage<>("baz"));
+		assertThat(store.pollMessageFromGroup("foo").getPayload()).isEqualTo("baz");
+		store.destroy();
+	}
+
+	@Test
+	void queueChannelWithMappedFileStore() {
+		MappedFileChannelMessageStore store = new MappedFileChannelMessageStore(this.directory, CODEC);
+		QueueChannel channel = new QueueChannel(new MessageGroupQueue(store, "queue"));
+		channel.send(new GenericMessage<>("foo"));
+		channel.send(new GenericMessage<>("bar"));
+		assertThat(channel.getQueueSize()).isEqualTo(2);
+		assertThat(channel.receive(0).getPayload()).isEqualTo("foo");
+		assertThat(channel.receive(0).getPayload()).isEqualTo("bar");
+		assertThat(channel.receive(0)).isNull();
+		store.destroy();
+	}
+
+	private File[] segmentFiles() {
+		File[] groupDirectories = this.directory.listFiles(File::isDirectory);
+		return Stream.of(groupDirectories)
+				.flatMap((groupDirectory) -> Stream.of(groupDirectory.listFiles((dir, name) -> name.endsWith(".segment"))))
+				.sorted()
+				.toArray(File[]::new);
+	}
+
+	private static final class SerializationCodec implements Codec {
+
+		private final SerializingConverter serializer = new SerializingConverter();
+
+		private final DeserializingConverter deserializer = new DeserializingConverter();
+
+		@Override
+		public void encode(Object object, OutputStream outputStream) throws IOException {
+			outputStream.write(encode(object));
+		}
+
+		@Override
+		public byte[] encode(Object object) {
+			return this.serializer.convert(object);
+		}
+
+		@Override
+		public <T> T decode(InputStream inputStream, Class<T> type) throws IOException {
+			return decode(inputStream.readAllBytes(), type);
+		}
+
+		@Override
+		public <T> T decode(byte[] bytes, Class<T> type) {
+			return type.cast(this.deserializer.convert(bytes));
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2023 the original author or authors.
+ * Copyright 2016-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import org.springframework.core.serializer.Deserializer;
 import org.springframework.core.serializer.Serializer;
 import org.springframework.integration.dsl.IntegrationComponentSpec;
 import org.springframework.integration.ip.tcp.connection.AbstractConnectionFactory;
+import org.springframework.integration.ip.tcp.connection.ByteBufferPool;
 import org.springframework.integration.ip.tcp.connection.TcpConnectionInterceptorFactoryChain;
 import org.springframework.integration.ip.tcp.connection.TcpMessageMapper;
 import org.springframework.integration.ip.tcp.connection.TcpSocketSupport;
@@ -152,6 +153,17 @@ public abstract class AbstractConnectionFactorySpec
 		return _this();
 	}
 
+	/**
+	 * @param bufferPool the buffer pool.
+	 * @return the spec.
+	 * @since 6.5
+	 * @see AbstractConnectionFactory#setBufferPool(ByteBufferPool)
+	 */
+	public S bufferPool(ByteBufferPool bufferPool) {
+		this.target.setBufferPool(bufferPool);
+		return _this();
+	}
+
 	/**
 	 * @param mapper the message mapper.
 	 * @return the spec.
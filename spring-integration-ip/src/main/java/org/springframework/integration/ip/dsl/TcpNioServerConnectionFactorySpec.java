@@ -1,5 +1,5 @@
 /*
- * Copyright 2023 the original author or authors.
+ * Copyright 2023-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.integration.ip.dsl;
 
+import java.time.Duration;
+
 import org.springframework.integration.ip.tcp.connection.TcpNioConnectionSupport;
 import org.springframework.integration.ip.tcp.connection.TcpNioServerConnectionFactory;
 
@@ -43,6 +45,43 @@ public class TcpNioServerConnectionFactorySpec
 		return this;
 	}
 
+	/**
+	 * True to decode the frames in place from the socket read buffer when the deserializer
+	 * is a {@link org.springframework.integration.ip.tcp.serializer.ByteBufferDeserializer}.
+	 * @param inPlaceDeserialization true to decode frames in place.
+	 * @return the spec.
+	 * @since 6.5
+	 * @see TcpNioServerConnectionFactory#setInPlaceDeserialization(boolean)
+	 */
+	public TcpNioServerConnectionFactorySpec inPlaceDeserialization(boolean inPlaceDeserialization) {
+		this.target.setInPlaceDeserialization(inPlaceDeserialization);
+		return this;
+	}
+
+	/**
+	 * The maximum bytes per gathering write when coalescing the writes of concurrent sends.
+	 * @param maxWriteBatchBytes the maximum bytes per batch; 0 to disable the coalescing.
+	 * @return the spec.
+	 * @since 6.5
+	 * @see TcpNioServerConnectionFactory#setMaxWriteBatchBytes(int)
+	 */
+	public TcpNioServerConnectionFactorySpec maxWriteBatchBytes(int maxWriteBatchBytes) {
+		this.target.setMaxWriteBatchBytes(maxWriteBatchBytes);
+		return this;
+	}
+
+	/**
+	 * The maximum time to wait for more messages before writing a coalesced batch.
+	 * @param maxWriteLinger the maximum linger time.
+	 * @return the spec.
+	 * @since 6.5
+	 * @see TcpNioServerConnectionFactory#setMaxWriteLinger(Duration)
+	 */
+	public TcpNioServerConnectionFactorySpec maxWriteLinger(Duration maxWriteLinger) {
+		this.target.setMaxWriteLinger(maxWriteLinger);
+		return this;
+	}
+
 	/**
 	 * The {@link TcpNioConnectionSupport} to use.
 	 * @param tcpNioSupport the {@link TcpNioConnectionSupport}.
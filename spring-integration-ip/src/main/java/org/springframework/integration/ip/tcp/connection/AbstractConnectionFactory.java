@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2024 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -49,7 +49,9 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.core.serializer.Deserializer;
 import org.springframework.core.serializer.Serializer;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.integration.context.IntegrationObjectSupport;
+import org.springframework.integration.ip.tcp.serializer.AbstractPooledBufferByteArraySerializer;
 import org.springframework.integration.ip.tcp.serializer.ByteArrayCrLfSerializer;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.MessagingException;
@@ -139,6 +141,9 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 
 	private Integer sslHandshakeTimeout;
 
+	@Nullable
+	private ByteBufferPool bufferPool;
+
 	private volatile boolean active;
 
 	public AbstractConnectionFactory(int port) {
@@ -411,6 +416,7 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 	public void setDeserializer(Deserializer<?> deserializer) {
 		this.deserializer = deserializer;
 		this.deserializerSet = true;
+		applyBufferPoolToDeserializer();
 	}
 
 	/**
@@ -526,6 +532,42 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 		this.readDelay = readDelay;
 	}
 
+	/**
+	 * Set a {@link ByteBufferPool} to share the buffers between connections, instead of
+	 * allocating them per connection.
+	 * The NIO connections acquire their read and write buffers from the pool only
+	 * for the duration of an I/O operation (or while a partial message is pending).
+	 * The pool is also applied to an {@link AbstractPooledBufferByteArraySerializer}
+	 * deserializer which has no pool configured.
+	 * @param bufferPool the buffer pool.
+	 * @since 6.5
+	 * @see SizeClassedByteBufferPool
+	 */
+	public void setBufferPool(ByteBufferPool bufferPool) {
+		Assert.notNull(bufferPool, "'bufferPool' must not be null");
+		this.bufferPool = bufferPool;
+		applyBufferPoolToDeserializer();
+	}
+
+	/**
+	 * Return the {@link ByteBufferPool} if configured.
+	 * @return the buffer pool or null.
+	 * @since 6.5
+	 */
+	@Nullable
+	public ByteBufferPool getBufferPool() {
+		return this.bufferPool;
+	}
+
+	private void applyBufferPoolToDeserializer() {
+		if (this.bufferPool != null
+				&& this.deserializer instanceof AbstractPooledBufferByteArraySerializer pooledBufferDeserializer
+				&& !pooledBufferDeserializer.isPooled()) {
+
+			pooledBufferDeserializer.setBufferPool(this.bufferPool);
+		}
+	}
+
 	protected Object getLifecycleMonitor() {
 		return this.lifecycleMonitor;
 	}
@@ -545,6 +587,9 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 
 	/**
 	 * Creates a taskExecutor (if one was not provided).
+	 * The private executor is based on virtual threads if the
+	 * {@link org.springframework.integration.context.IntegrationProperties#VIRTUAL_THREADS_ENABLED}
+	 * global property is set.
 	 * @return The executor.
 	 */
 	protected Executor getTaskExecutor() {
@@ -555,7 +600,16 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 		try {
 			if (this.taskExecutor == null) {
 				this.privateExecutor = true;
-				this.taskExecutor = Executors.newCachedThreadPool();
+				if (getIntegrationProperties().isVirtualThreadsEnabled()) {
+					String componentName = getComponentName();
+					VirtualThreadTaskExecutor virtualThreadTaskExecutor =
+							new VirtualThreadTaskExecutor((componentName != null ? componentName : "tcp") + "-");
+					this.taskExecutor =
+							Executors.newCachedThreadPool(virtualThreadTaskExecutor.getVirtualThreadFactory());
+				}
+				else {
+					this.taskExecutor = Executors.newCachedThreadPool();
+				}
 			}
 			return this.taskExecutor;
 		}
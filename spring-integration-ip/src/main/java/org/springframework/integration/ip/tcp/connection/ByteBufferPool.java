@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.ip.tcp.connection;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A strategy for sharing {@link ByteBuffer}s between TCP connections and serializers,
+ * instead of allocating a new buffer per connection or per operation.
+ *
+ * @since 6.5
+ *
+ * @see SizeClassedByteBufferPool
+ * @see AbstractConnectionFactory#setBufferPool(ByteBufferPool)
+ */
+public interface ByteBufferPool {
+
+	/**
+	 * Obtain a cleared buffer with at least the requested capacity.
+	 * @param capacity the minimum capacity.
+	 * @param direct true for a direct buffer, false for a heap buffer.
+	 * @return the buffer.
+	 */
+	ByteBuffer acquire(int capacity, boolean direct);
+
+	/**
+	 * Return a buffer obtained from {@link #acquire(int, boolean)} to the pool.
+	 * The buffer must not be used by the caller after this call.
+	 * @param buffer the buffer.
+	 */
+	void release(ByteBuffer buffer);
+
+}
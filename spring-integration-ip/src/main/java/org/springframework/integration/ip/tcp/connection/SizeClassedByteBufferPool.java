@@ -0,0 +1,306 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.ip.tcp.connection;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import org.springframework.beans.factory.BeanNameAware;
+import org.springframework.integration.support.management.IntegrationManagement;
+import org.springframework.integration.support.management.metrics.GaugeFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ByteBufferPool} with power of two size classes.
+ * A request is served from the smallest size class which can fit it; heap and direct
+ * buffers are pooled separately.
+ * Each size class retains at most {@code maxPooledBuffers} released buffers; the buffers
+ * larger than the {@code maxBufferSize} are not pooled at all.
+ * <p>
+ * The pool is thread-safe and lock-free, so a single instance can be shared between
+ * all the connection factories of an application.
+ * When declared as a bean and metrics are enabled, the
+ * {@code spring.integration.ip.buffer.pool.hits}, {@code spring.integration.ip.buffer.pool.misses}
+ * and {@code spring.integration.ip.buffer.pool.outstanding.bytes} gauges are registered.
+ *
+ * @since 6.5
+ */
+public class SizeClassedByteBufferPool implements ByteBufferPool, IntegrationManagement, BeanNameAware {
+
+	/**
+	 * The default size of the smallest size class.
+	 */
+	public static final int DEFAULT_MIN_BUFFER_SIZE = 1024;
+
+	/**
+	 * The default size of the largest size class.
+	 */
+	public static final int DEFAULT_MAX_BUFFER_SIZE = 1024 * 1024;
+
+	/**
+	 * The default maximum number of buffers retained in a size class.
+	 */
+	public static final int DEFAULT_MAX_POOLED_BUFFERS = 128;
+
+	private static final String METER_PREFIX_BUFFER_POOL = METER_PREFIX + "ip.buffer.pool.";
+
+	private final int minBufferSize;
+
+	private final int maxBufferSize;
+
+	private final int minSizeShift;
+
+	private final SizeClass[] heapSizeClasses;
+
+	private final SizeClass[] directSizeClasses;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final AtomicLong outstandingBytes = new AtomicLong();
+
+	private final List<GaugeFacade> gauges = new ArrayList<>();
+
+	private String beanName = "byteBufferPool";
+
+	/**
+	 * Create a pool with the {@link #DEFAULT_MIN_BUFFER_SIZE}, {@link #DEFAULT_MAX_BUFFER_SIZE}
+	 * and {@link #DEFAULT_MAX_POOLED_BUFFERS}.
+	 */
+	public SizeClassedByteBufferPool() {
+		this(DEFAULT_MIN_BUFFER_SIZE, DEFAULT_MAX_BUFFER_SIZE, DEFAULT_MAX_POOLED_BUFFERS);
+	}
+
+	/**
+	 * Create a pool with the provided size classes bounds, rounded up to the next power of two,
+	 * and the maximum number of buffers retained per size class.
+	 * @param minBufferSize the size of the smallest size class.
+	 * @param maxBufferSize the size of the largest size class.
+	 * @param maxPooledBuffers the maximum number of buffers retained per size class.
+	 */
+	public SizeClassedByteBufferPool(int minBufferSize, int maxBufferSize, int maxPooledBuffers) {
+		Assert.isTrue(minBufferSize > 0, "'minBufferSize' must be positive");
+		Assert.isTrue(maxBufferSize >= minBufferSize, "'maxBufferSize' must not be less than 'minBufferSize'");
+		Assert.isTrue(maxBufferSize <= (1 << 30), "'maxBufferSize' must not exceed 2^30");
+		Assert.isTrue(maxPooledBuffers >= 0, "'maxPooledBuffers' must not be negative");
+		this.minBufferSize = roundToPowerOfTwo(minBufferSize);
+		this.maxBufferSize = roundToPowerOfTwo(maxBufferSize);
+		this.minSizeShift = Integer.numberOfTrailingZeros(this.minBufferSize);
+		int sizeClasses = Integer.numberOfTrailingZeros(this.maxBufferSize) - this.minSizeShift + 1;
+		this.heapSizeClasses = new SizeClass[sizeClasses];
+		this.directSizeClasses = new SizeClass[sizeClasses];
+		for (int i = 0; i < sizeClasses; i++) {
+			this.heapSizeClasses[i] = new SizeClass(this.minBufferSize << i, maxPooledBuffers);
+			this.directSizeClasses[i] = new SizeClass(this.minBufferSize << i, maxPooledBuffers);
+		}
+	}
+
+	@Override
+	public void setBeanName(String name) {
+		this.beanName = name;
+	}
+
+	@Override
+	public String getComponentName() {
+		return this.beanName;
+	}
+
+	@Override
+	public String getComponentType() {
+		return "buffer-pool";
+	}
+
+	@Override
+	public ByteBuffer acquire(int capacity, boolean direct) {
+		Assert.isTrue(capacity >= 0, "'capacity' must not be negative");
+		ByteBuffer buffer;
+		if (capacity > this.maxBufferSize) {
+			this.misses.increment();
+			buffer = allocate(capacity, direct);
+		}
+		else {
+			SizeClass sizeClass = sizeClass(capacity, direct);
+			buffer = sizeClass.poll();
+			if (buffer != null) {
+				this.hits.increment();
+			}
+			else {
+				this.misses.increment();
+				buffer = allocate(sizeClass.bufferSize, direct);
+			}
+		}
+		this.outstandingBytes.addAndGet(buffer.capacity());
+		return buffer;
+	}
+
+	@Override
+	public void release(ByteBuffer buffer) {
+		Assert.notNull(buffer, "'buffer' must not be null");
+		int capacity = buffer.capacity();
+		this.outstandingBytes.addAndGet(-capacity);
+		if (capacity >= this.minBufferSize && capacity <= this.maxBufferSize && Integer.bitCount(capacity) == 1) {
+			SizeClass sizeClass = sizeClass(capacity, buffer.isDirect());
+			if (!buffer.isReadOnly()) {
+				sizeClass.offer(buffer);
+			}
+		}
+	}
+
+	/**
+	 * Return the number of requests served by a pooled buffer.
+	 * @return the number of hits.
+	 */
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Return the number of requests which required a new buffer allocation.
+	 * @return the number of misses.
+	 */
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Return the total capacity of the buffers acquired and not released yet.
+	 * @return the outstanding bytes.
+	 */
+	public long getOutstandingBytes() {
+		return this.outstandingBytes.get();
+	}
+
+	/**
+	 * Return the total capacity of the buffers retained in the pool.
+	 * @return the pooled bytes.
+	 */
+	public long getPooledBytes() {
+		long pooledBytes = 0;
+		for (int i = 0; i < this.heapSizeClasses.length; i++) {
+			pooledBytes += this.heapSizeClasses[i].pooledBytes() + this.directSizeClasses[i].pooledBytes();
+		}
+		return pooledBytes;
+	}
+
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		this.gauges.add(buildGauge(metricsCaptor, "hits", SizeClassedByteBufferPool::getHitCount,
+				"The number of buffer requests served from the pool"));
+		this.gauges.add(buildGauge(metricsCaptor, "misses", SizeClassedByteBufferPool::getMissCount,
+				"The number of buffer requests which required an allocation"));
+		this.gauges.add(buildGauge(metricsCaptor, "outstanding.bytes", SizeClassedByteBufferPool::getOutstandingBytes,
+				"The total capacity of the buffers acquired from the pool and not released yet"));
+	}
+
+	private GaugeFacade buildGauge(MetricsCaptor metricsCaptor, String name,
+			ToLongFunction<SizeClassedByteBufferPool> value, String description) {
+
+		return metricsCaptor.gaugeBuilder(METER_PREFIX_BUFFER_POOL + name, this,
+						(pool) -> value.applyAsLong((SizeClassedByteBufferPool) pool))
+				.tag("name", this.beanName)
+				.tag("type", getComponentType())
+				.description(description)
+				.build();
+	}
+
+	@Override
+	public void destroy() {
+		this.gauges.forEach(GaugeFacade::remove);
+		this.gauges.clear();
+		for (int i = 0; i < this.heapSizeClasses.length; i++) {
+			this.heapSizeClasses[i].clear();
+			this.directSizeClasses[i].clear();
+		}
+	}
+
+	private SizeClass sizeClass(int capacity, boolean direct) {
+		int index =
+				capacity <= this.minBufferSize
+						? 0
+						: 32 - Integer.numberOfLeadingZeros(capacity - 1) - this.minSizeShift;
+		return direct ? this.directSizeClasses[index] : this.heapSizeClasses[index];
+	}
+
+	private static ByteBuffer allocate(int capacity, boolean direct) {
+		return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+	}
+
+	private static int roundToPowerOfTwo(int value) {
+		return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+	}
+
+	/**
+	 * A bounded lock-free queue of the released buffers of the same capacity.
+	 */
+	private static final class SizeClass {
+
+		private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger size = new AtomicInteger();
+
+		private final int bufferSize;
+
+		private final int maxPooledBuffers;
+
+		SizeClass(int bufferSize, int maxPooledBuffers) {
+			this.bufferSize = bufferSize;
+			this.maxPooledBuffers = maxPooledBuffers;
+		}
+
+		@Nullable
+		ByteBuffer poll() {
+			ByteBuffer buffer = this.buffers.poll();
+			if (buffer != null) {
+				this.size.decrementAndGet();
+			}
+			return buffer;
+		}
+
+		void offer(ByteBuffer buffer) {
+			if (this.size.incrementAndGet() <= this.maxPooledBuffers) {
+				buffer.clear().order(ByteOrder.BIG_ENDIAN);
+				this.buffers.offer(buffer);
+			}
+			else {
+				this.size.decrementAndGet();
+			}
+		}
+
+		long pooledBytes() {
+			return (long) this.size.get() * this.bufferSize;
+		}
+
+		void clear() {
+			while (poll() != null) {
+				// drain
+			}
+		}
+
+	}
+
+}
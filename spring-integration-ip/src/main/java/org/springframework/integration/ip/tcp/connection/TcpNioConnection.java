@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.springframework.integration.ip.tcp.connection;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -27,8 +28,13 @@ import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -38,12 +44,15 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 
 import javax.net.ssl.SSLSession;
 
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.serializer.Deserializer;
 import org.springframework.core.serializer.Serializer;
+import org.springframework.integration.ip.tcp.serializer.ByteBufferDeserializer;
 import org.springframework.integration.ip.tcp.serializer.SoftEndOfStreamException;
 import org.springframework.integration.util.CompositeExecutor;
 import org.springframework.lang.Nullable;
@@ -53,6 +62,15 @@ import org.springframework.util.Assert;
 
 /**
  * A TcpConnection that uses and underlying {@link SocketChannel}.
+ * <p>
+ * By default, the data read from the socket is copied to a pipe ({@link ChannelInputStream})
+ * and messages are assembled from that stream by the deserializer on a separate thread.
+ * When {@link #setInPlaceDeserialization(boolean) inPlaceDeserialization} is enabled and the
+ * deserializer is a {@link ByteBufferDeserializer}, the frames are decoded directly from the
+ * read buffer and the messages are emitted on the reading thread.
+ * <p>
+ * When {@link #setMaxWriteBatchBytes(int) maxWriteBatchBytes} is set, concurrent sends
+ * are coalesced and written to the socket with a single gathering write.
  *
  * @author Gary Russell
  * @author John Anderson
@@ -75,6 +93,10 @@ public class TcpNioConnection extends TcpConnectionSupport {
 
 	private static final byte[] EOF = new byte[0]; // EOF marker buffer
 
+	private static final int MIN_FRAME_BUFFER_SIZE = 8192;
+
+	private static final long LINGER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
 	private final Lock lock = new ReentrantLock();
 
 	private final SocketChannel socketChannel;
@@ -87,10 +109,38 @@ public class TcpNioConnection extends TcpConnectionSupport {
 
 	private final AtomicInteger executionControl = new AtomicInteger();
 
+	private final Queue<PendingWrite> pendingWrites = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger pendingWriteBytes = new AtomicInteger();
+
 	private final Lock executionControlMonitor = new ReentrantLock();
 
 	private boolean usingDirectBuffers;
 
+	private boolean inPlaceDeserialization;
+
+	@Nullable
+	private ByteBufferDeserializer<?> byteBufferDeserializer;
+
+	private boolean byteBufferDeserializerResolved;
+
+	private int scannedFrameBytes;
+
+	@Nullable
+	private ByteBufferPool bufferPool;
+
+	private int writeBufferSize;
+
+	private int maxWriteBatchBytes;
+
+	private long maxWriteLingerNanos;
+
+	@Nullable
+	private ByteBuffer frameBuffer;
+
+	@Nullable
+	private Object decodedPayload;
+
 	private long pipeTimeout = DEFAULT_PIPE_TIMEOUT;
 
 	private volatile OutputStream bufferedOutputStream;
@@ -163,19 +213,40 @@ public class TcpNioConnection extends TcpConnectionSupport {
 	@Override
 	@SuppressWarnings("unchecked")
 	public void send(Message<?> message) {
+		if (this.maxWriteBatchBytes > 0) {
+			sendCoalesced(message);
+			return;
+		}
 		this.socketChannelMonitor.lock();
 		try {
 			try {
-				if (this.bufferedOutputStream == null) {
-					int writeBufferSize = this.socketChannel.socket().getSendBufferSize();
-					this.bufferedOutputStream = new BufferedOutputStream(getChannelOutputStream(),
-							writeBufferSize > 0 ? writeBufferSize : 8192); // NOSONAR
+				if (this.writeBufferSize == 0) {
+					int sendBufferSize = this.socketChannel.socket().getSendBufferSize();
+					this.writeBufferSize = sendBufferSize > 0 ? sendBufferSize : 8192; // NOSONAR
 				}
 				Object object = getMapper().fromMessage(message);
 				Assert.state(object != null, "Mapper mapped the message to 'null'.");
 				this.lastSend = System.currentTimeMillis();
-				((Serializer<Object>) getSerializer()).serialize(object, this.bufferedOutputStream);
-				this.bufferedOutputStream.flush();
+				ByteBufferPool pool = this.bufferPool;
+				if (pool != null) {
+					ByteBuffer writeBuffer = pool.acquire(this.writeBufferSize, this.usingDirectBuffers);
+					try {
+						OutputStream outputStream = new PooledBufferOutputStream(writeBuffer);
+						((Serializer<Object>) getSerializer()).serialize(object, outputStream);
+						outputStream.flush();
+					}
+					finally {
+						pool.release(writeBuffer);
+					}
+				}
+				else {
+					if (this.bufferedOutputStream == null) {
+						this.bufferedOutputStream =
+								new BufferedOutputStream(getChannelOutputStream(), this.writeBufferSize);
+					}
+					((Serializer<Object>) getSerializer()).serialize(object, this.bufferedOutputStream);
+					this.bufferedOutputStream.flush();
+				}
 			}
 			catch (Exception e) {
 				MessagingException mex = new MessagingException(message, "Send Failed", e);
@@ -192,8 +263,99 @@ public class TcpNioConnection extends TcpConnectionSupport {
 		}
 	}
 
+	/**
+	 * Serialize the message outside the lock and queue it for writing.
+	 * The thread which obtains the lock writes the queued messages (its own and any
+	 * queued by other threads in the meantime) with gathering writes until its own
+	 * message has been written, so each send still completes (or fails) synchronously.
+	 */
+	@SuppressWarnings("unchecked")
+	private void sendCoalesced(Message<?> message) {
+		PendingWrite pendingWrite;
+		try {
+			Object object = getMapper().fromMessage(message);
+			Assert.state(object != null, "Mapper mapped the message to 'null'.");
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			((Serializer<Object>) getSerializer()).serialize(object, outputStream);
+			pendingWrite = new PendingWrite(ByteBuffer.wrap(outputStream.toByteArray()));
+			this.pendingWriteBytes.addAndGet(pendingWrite.buffer.remaining());
+			this.pendingWrites.offer(pendingWrite);
+			this.socketChannelMonitor.lock();
+			try {
+				while (!pendingWrite.done) {
+					writePending();
+				}
+			}
+			finally {
+				this.socketChannelMonitor.unlock();
+			}
+			if (pendingWrite.failure != null) {
+				throw pendingWrite.failure;
+			}
+			this.lastSend = System.currentTimeMillis();
+		}
+		catch (Exception e) {
+			MessagingException mex = new MessagingException(message, "Send Failed", e);
+			publishConnectionExceptionEvent(mex);
+			closeConnection(true);
+			throw mex;
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug(getConnectionId() + " Message sent " + message);
+		}
+	}
+
+	/**
+	 * Wait up to the linger time for more messages (unless a full batch is already queued),
+	 * then write a batch of the queued messages; must be called while holding the lock.
+	 */
+	private void writePending() {
+		if (this.maxWriteLingerNanos > 0 && this.pendingWriteBytes.get() < this.maxWriteBatchBytes) {
+			long deadline = System.nanoTime() + this.maxWriteLingerNanos;
+			long remaining = this.maxWriteLingerNanos;
+			while (remaining > 0 && this.pendingWriteBytes.get() < this.maxWriteBatchBytes) {
+				LockSupport.parkNanos(Math.min(remaining, LINGER_PARK_NANOS));
+				remaining = deadline - System.nanoTime();
+			}
+		}
+		List<PendingWrite> batch = new ArrayList<>();
+		int batchBytes = 0;
+		PendingWrite next;
+		while ((batch.isEmpty() || batchBytes < this.maxWriteBatchBytes)
+				&& (next = this.pendingWrites.poll()) != null) {
+
+			int length = next.buffer.remaining();
+			this.pendingWriteBytes.addAndGet(-length);
+			batchBytes += length;
+			batch.add(next);
+		}
+		ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+		for (int i = 0; i < buffers.length; i++) {
+			buffers[i] = batch.get(i).buffer;
+		}
+		Exception failure = null;
+		try {
+			getChannelOutputStream().doWrite(buffers);
+		}
+		catch (Exception ex) {
+			failure = ex;
+		}
+		for (PendingWrite pendingWrite : batch) {
+			pendingWrite.failure = failure;
+			pendingWrite.done = true;
+		}
+		if (logger.isTraceEnabled()) {
+			logger.trace(getConnectionId() + " Wrote a batch of " + buffers.length + " message(s), "
+					+ batchBytes + " bytes");
+		}
+	}
+
 	@Override
 	public Object getPayload() {
+		Object payload = this.decodedPayload;
+		if (payload != null) {
+			return payload;
+		}
 		try {
 			return getDeserializer()
 					.deserialize(inputStream());
@@ -437,8 +599,17 @@ public class TcpNioConnection extends TcpConnectionSupport {
 	}
 
 	private void doRead() throws IOException {
+		if (!this.byteBufferDeserializerResolved) {
+			this.byteBufferDeserializer = obtainByteBufferDeserializer();
+			this.byteBufferDeserializerResolved = true;
+		}
 		if (this.rawBuffer == null) {
-			this.rawBuffer = allocate(MAX_MESSAGE_SIZE);
+			this.rawBuffer = acquireBuffer(MAX_MESSAGE_SIZE);
+		}
+
+		if (this.byteBufferDeserializer != null) {
+			doReadInPlace();
+			return;
 		}
 
 		this.writingLatch = new CountDownLatch(1);
@@ -481,8 +652,51 @@ public class TcpNioConnection extends TcpConnectionSupport {
 		}
 	}
 
+	@Nullable
+	private ByteBufferDeserializer<?> obtainByteBufferDeserializer() {
+		if (this.inPlaceDeserialization) {
+			Deserializer<?> deserializer = getDeserializer();
+			if (deserializer instanceof ByteBufferDeserializer<?> bufferDeserializer) {
+				return bufferDeserializer;
+			}
+			if (logger.isWarnEnabled()) {
+				logger.warn(getConnectionId() + " The deserializer " + deserializer
+						+ " is not a ByteBufferDeserializer; falling back to the stream-based deserialization");
+			}
+		}
+		return null;
+	}
+
+	private void doReadInPlace() throws IOException {
+		try {
+			int len = this.socketChannel.read(this.rawBuffer);
+			if (logger.isTraceEnabled()) {
+				logger.trace("After read: " + this.rawBuffer.position() + '/' + this.rawBuffer.limit());
+			}
+			this.rawBuffer.flip();
+			sendToPipe(this.rawBuffer);
+			if (len < 0) {
+				if (this.frameBuffer != null && this.frameBuffer.position() > 0) {
+					wrapUp(new IOException("Socket closed during message assembly"));
+				}
+				else {
+					closeConnection(true);
+				}
+			}
+		}
+		catch (IOException e) {
+			publishConnectionExceptionEvent(e);
+			throw e;
+		}
+	}
+
 	protected void sendToPipe(ByteBuffer rawBufferToSend) throws IOException {
 		Assert.notNull(rawBufferToSend, "rawBuffer cannot be null");
+		if (this.byteBufferDeserializer != null) {
+			decodeInPlace(rawBufferToSend);
+			rawBufferToSend.clear();
+			return;
+		}
 		if (logger.isTraceEnabled()) {
 			logger.trace(getConnectionId() + " Sending " + rawBufferToSend.limit() + " to pipe");
 		}
@@ -490,6 +704,112 @@ public class TcpNioConnection extends TcpConnectionSupport {
 		rawBufferToSend.clear();
 	}
 
+	/**
+	 * Decode and emit all the complete frames from the buffer.
+	 * The frames are decoded from the provided buffer directly; only the trailing
+	 * partial frame (if any) is copied to the frame buffer, to which the next read is appended.
+	 */
+	private void decodeInPlace(ByteBuffer buffer) {
+		ByteBuffer source = buffer;
+		ByteBuffer pending = this.frameBuffer;
+		if (pending != null && pending.position() > 0) {
+			pending = ensureFrameBufferCapacity(buffer.remaining());
+			pending.put(buffer);
+			pending.flip();
+			source = pending;
+		}
+		try {
+			while (source.hasRemaining()) {
+				Object payload = this.byteBufferDeserializer.deserialize(source, this.scannedFrameBytes);
+				if (payload == null) {
+					this.scannedFrameBytes = source.remaining();
+					break;
+				}
+				this.scannedFrameBytes = 0;
+				Message<?> message = toMessage(payload);
+				if (message != null) {
+					sendToChannel(message);
+				}
+			}
+		}
+		catch (Exception ex) {
+			if (this.frameBuffer != null) {
+				this.frameBuffer.clear();
+			}
+			this.scannedFrameBytes = 0;
+			wrapUp(ex);
+			return;
+		}
+		if (source == buffer) {
+			if (source.hasRemaining()) {
+				ensureFrameBufferCapacity(source.remaining()).put(source);
+			}
+		}
+		else {
+			source.compact();
+		}
+	}
+
+	@Nullable
+	private Message<?> toMessage(Object payload) {
+		this.decodedPayload = payload;
+		try {
+			return getMapper().toMessage(this);
+		}
+		finally {
+			this.decodedPayload = null;
+		}
+	}
+
+	private ByteBuffer ensureFrameBufferCapacity(int length) {
+		ByteBuffer buffer = this.frameBuffer;
+		if (buffer == null) {
+			buffer = acquireBuffer(Math.max(length, MIN_FRAME_BUFFER_SIZE));
+			this.frameBuffer = buffer;
+		}
+		else if (buffer.remaining() < length) {
+			ByteBuffer newBuffer = acquireBuffer(Math.max(buffer.capacity() * 2, buffer.position() + length));
+			buffer.flip();
+			newBuffer.put(buffer);
+			releaseBuffer(buffer);
+			this.frameBuffer = newBuffer;
+			buffer = newBuffer;
+		}
+		return buffer;
+	}
+
+	private ByteBuffer acquireBuffer(int length) {
+		ByteBufferPool pool = this.bufferPool;
+		return pool != null ? pool.acquire(length, this.usingDirectBuffers) : allocate(length);
+	}
+
+	private void releaseBuffer(ByteBuffer buffer) {
+		ByteBufferPool pool = this.bufferPool;
+		if (pool != null) {
+			pool.release(buffer);
+		}
+	}
+
+	/**
+	 * Return the read buffers to the pool, if any, when they don't hold pending data
+	 * (or the connection is closed), so idle connections don't retain them.
+	 */
+	private void releaseReadBuffers() {
+		if (this.bufferPool != null) {
+			boolean closed = !isOpen();
+			ByteBuffer buffer = this.rawBuffer;
+			if (buffer != null && (closed || buffer.position() == 0)) {
+				this.rawBuffer = null;
+				releaseBuffer(buffer);
+			}
+			buffer = this.frameBuffer;
+			if (buffer != null && (closed || buffer.position() == 0)) {
+				this.frameBuffer = null;
+				releaseBuffer(buffer);
+			}
+		}
+	}
+
 	private void checkForAssembler() {
 		this.executionControlMonitor.lock();
 		try {
@@ -538,6 +858,9 @@ public class TcpNioConnection extends TcpConnectionSupport {
 			logger.error("Exception on Read " + getConnectionId() + " " + e.getMessage(), e);
 			closeConnection(true);
 		}
+		finally {
+			releaseReadBuffers();
+		}
 	}
 
 	/**
@@ -573,6 +896,63 @@ public class TcpNioConnection extends TcpConnectionSupport {
 		return this.usingDirectBuffers;
 	}
 
+	/**
+	 * If true, and the deserializer is a {@link ByteBufferDeserializer}, decode the frames
+	 * directly from the socket read buffer, without the intermediate pipe and assembler thread.
+	 * Messages are emitted on the thread reading from the socket, so the next read
+	 * from this connection is not performed until the listener has processed the
+	 * messages decoded from the current one.
+	 * Otherwise, the stream-based deserialization is used.
+	 * @param inPlaceDeserialization true to decode frames in place.
+	 * @since 6.5
+	 */
+	public void setInPlaceDeserialization(boolean inPlaceDeserialization) {
+		this.inPlaceDeserialization = inPlaceDeserialization;
+	}
+
+	/**
+	 * Set a {@link ByteBufferPool} to acquire the read and write buffers from.
+	 * The buffers are held only for the duration of an I/O operation,
+	 * or while a partial message is pending.
+	 * @param bufferPool the buffer pool.
+	 * @since 6.5
+	 */
+	public void setBufferPool(ByteBufferPool bufferPool) {
+		Assert.notNull(bufferPool, "'bufferPool' must not be null");
+		this.bufferPool = bufferPool;
+	}
+
+	/**
+	 * Set the maximum number of bytes to write in a single gathering write when
+	 * coalescing the writes of concurrent sends; {@code 0} (default) disables the coalescing.
+	 * When set, each message is serialized to its own buffer outside the send lock and
+	 * queued; the sending thread which obtains the lock writes the queued messages
+	 * with a single {@link SocketChannel#write(ByteBuffer[])} (per batch).
+	 * Each send still returns only after its message has been written.
+	 * @param maxWriteBatchBytes the maximum bytes per batch.
+	 * @since 6.5
+	 * @see #setMaxWriteLinger(Duration)
+	 */
+	public void setMaxWriteBatchBytes(int maxWriteBatchBytes) {
+		Assert.isTrue(maxWriteBatchBytes >= 0, "'maxWriteBatchBytes' must not be negative");
+		this.maxWriteBatchBytes = maxWriteBatchBytes;
+	}
+
+	/**
+	 * Set the maximum time the writing thread waits for more messages to be queued
+	 * before writing a batch which is smaller than the
+	 * {@link #setMaxWriteBatchBytes(int) maxWriteBatchBytes}; {@link Duration#ZERO} by default,
+	 * meaning only the messages queued while the previous batch was being written are coalesced.
+	 * A linger increases the batching (and throughput) at the expense of the latency of each send.
+	 * @param maxWriteLinger the maximum linger time.
+	 * @since 6.5
+	 */
+	public void setMaxWriteLinger(Duration maxWriteLinger) {
+		Assert.isTrue(maxWriteLinger != null && !maxWriteLinger.isNegative(),
+				"'maxWriteLinger' must not be null or negative");
+		this.maxWriteLingerNanos = maxWriteLinger.toNanos();
+	}
+
 	protected ChannelOutputStream getChannelOutputStream() {
 		return this.channelOutputStream;
 	}
@@ -693,6 +1073,50 @@ public class TcpNioConnection extends TcpConnectionSupport {
 			}
 		}
 
+		/**
+		 * Write the buffers with gathering writes.
+		 * @param buffers the buffers.
+		 * @throws IOException an IO exception.
+		 * @since 6.5
+		 */
+		protected void doWrite(ByteBuffer[] buffers) throws IOException {
+			this.innerLock.lock();
+			try {
+				long remaining = 0;
+				for (ByteBuffer buffer : buffers) {
+					remaining += buffer.remaining();
+				}
+				if (logger.isDebugEnabled()) {
+					logger.debug(getConnectionId() + " writing " + remaining + " from " + buffers.length
+							+ " buffer(s)");
+				}
+				remaining -= TcpNioConnection.this.socketChannel.write(buffers);
+				if (remaining == 0) {
+					return;
+				}
+				if (this.selector == null) {
+					this.selector = Selector.open();
+					this.soTimeout = TcpNioConnection.this.socketChannel.socket().getSoTimeout();
+				}
+				TcpNioConnection.this.socketChannel.register(this.selector, SelectionKey.OP_WRITE);
+				int offset = 0;
+				while (remaining > 0) {
+					int selectionCount = this.selector.select(this.soTimeout);
+					if (selectionCount == 0) {
+						throw new SocketTimeoutException("Timeout on write");
+					}
+					this.selector.selectedKeys().clear();
+					while (!buffers[offset].hasRemaining()) {
+						offset++;
+					}
+					remaining -= TcpNioConnection.this.socketChannel.write(buffers, offset, buffers.length - offset);
+				}
+			}
+			finally {
+				this.innerLock.unlock();
+			}
+		}
+
 	}
 
 	/**
@@ -842,4 +1266,71 @@ public class TcpNioConnection extends TcpConnectionSupport {
 
 	}
 
+	/**
+	 * A buffered OutputStream over the {@link #getChannelOutputStream()}
+	 * with a buffer acquired from the {@link ByteBufferPool} for a single send.
+	 */
+	private final class PooledBufferOutputStream extends OutputStream {
+
+		private final ByteBuffer buffer;
+
+		PooledBufferOutputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if (!this.buffer.hasRemaining()) {
+				flushBuffer();
+			}
+			this.buffer.put((byte) b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (len >= this.buffer.capacity()) {
+				flushBuffer();
+				getChannelOutputStream().write(b, off, len);
+				return;
+			}
+			if (len > this.buffer.remaining()) {
+				flushBuffer();
+			}
+			this.buffer.put(b, off, len);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			flushBuffer();
+		}
+
+		private void flushBuffer() throws IOException {
+			if (this.buffer.position() > 0) {
+				this.buffer.flip();
+				getChannelOutputStream().doWrite(this.buffer);
+				this.buffer.clear();
+			}
+		}
+
+	}
+
+	/**
+	 * A serialized message queued for a coalesced write;
+	 * the state is guarded by the send lock.
+	 */
+	private static final class PendingWrite {
+
+		private final ByteBuffer buffer;
+
+		private boolean done;
+
+		@Nullable
+		private Exception failure;
+
+		PendingWrite(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+	}
+
 }
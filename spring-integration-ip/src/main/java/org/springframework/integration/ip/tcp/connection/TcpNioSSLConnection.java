@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -371,6 +371,23 @@ public class TcpNioSSLConnection extends TcpNioConnection {
 			}
 		}
 
+		/**
+		 * Encrypt and write the buffers one by one; the SSL engine wraps a single
+		 * plain text buffer at a time.
+		 */
+		@Override
+		protected void doWrite(ByteBuffer[] plainTexts) throws IOException {
+			this.lock.lock();
+			try {
+				for (ByteBuffer plainText : plainTexts) {
+					doWrite(plainText);
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
 		/**
 		 * Handle SSL handshaking; when network data is needed from the peer, suspends
 		 * until that data is received.
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2024 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,7 @@ import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -56,6 +57,12 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 
 	private boolean usingDirectBuffers;
 
+	private boolean inPlaceDeserialization;
+
+	private int maxWriteBatchBytes;
+
+	private Duration maxWriteLinger = Duration.ZERO;
+
 	private volatile ServerSocketChannel serverChannel;
 
 	private volatile Selector selector;
@@ -276,6 +283,13 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 			TcpNioConnection connection = this.tcpNioConnectionSupport.createNewConnection(socketChannel, true,
 					isLookupHost(), getApplicationEventPublisher(), getComponentName());
 			connection.setUsingDirectBuffers(this.usingDirectBuffers);
+			connection.setInPlaceDeserialization(this.inPlaceDeserialization);
+			connection.setMaxWriteBatchBytes(this.maxWriteBatchBytes);
+			connection.setMaxWriteLinger(this.maxWriteLinger);
+			ByteBufferPool bufferPool = getBufferPool();
+			if (bufferPool != null) {
+				connection.setBufferPool(bufferPool);
+			}
 			TcpConnectionSupport wrappedConnection = wrapConnection(connection);
 			if (!wrappedConnection.equals(connection)) {
 				connection.setSenders(getSenders());
@@ -323,6 +337,44 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 		this.usingDirectBuffers = usingDirectBuffers;
 	}
 
+	/**
+	 * Set to true to decode the frames in place from the socket read buffer
+	 * when the deserializer is a
+	 * {@link org.springframework.integration.ip.tcp.serializer.ByteBufferDeserializer}.
+	 * @param inPlaceDeserialization true to decode frames in place.
+	 * @since 6.5
+	 * @see TcpNioConnection#setInPlaceDeserialization(boolean)
+	 */
+	public void setInPlaceDeserialization(boolean inPlaceDeserialization) {
+		this.inPlaceDeserialization = inPlaceDeserialization;
+	}
+
+	/**
+	 * Set the maximum number of bytes to write in a single gathering write when coalescing
+	 * the writes of concurrent sends to the same connection;
+	 * {@code 0} (default) disables the coalescing.
+	 * @param maxWriteBatchBytes the maximum bytes per batch.
+	 * @since 6.5
+	 * @see TcpNioConnection#setMaxWriteBatchBytes(int)
+	 */
+	public void setMaxWriteBatchBytes(int maxWriteBatchBytes) {
+		Assert.isTrue(maxWriteBatchBytes >= 0, "'maxWriteBatchBytes' must not be negative");
+		this.maxWriteBatchBytes = maxWriteBatchBytes;
+	}
+
+	/**
+	 * Set the maximum time to wait for more messages before writing a coalesced batch
+	 * smaller than the {@link #setMaxWriteBatchBytes(int) maxWriteBatchBytes}.
+	 * @param maxWriteLinger the maximum linger time; {@link Duration#ZERO} by default.
+	 * @since 6.5
+	 * @see TcpNioConnection#setMaxWriteLinger(Duration)
+	 */
+	public void setMaxWriteLinger(Duration maxWriteLinger) {
+		Assert.isTrue(maxWriteLinger != null && !maxWriteLinger.isNegative(),
+				"'maxWriteLinger' must not be null or negative");
+		this.maxWriteLinger = maxWriteLinger;
+	}
+
 	/**
 	 * Set the {@link TcpNioConnectionSupport} to use.
 	 * @param tcpNioSupport the {@link TcpNioConnectionSupport}.
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2024 the original author or authors.
+ * Copyright 2016-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,14 +18,17 @@ package org.springframework.integration.ip.tcp.serializer;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
+import org.springframework.integration.ip.tcp.connection.ByteBufferPool;
 import org.springframework.integration.util.SimplePool;
 import org.springframework.integration.util.SimplePool.PoolItemCallback;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
  * Base class for deserializers that cannot determine the buffer size needed.
- * Optionally pools buffers.
+ * Optionally pools buffers, either in its own pool or in a shared {@link ByteBufferPool}.
  *
  * @author Gary Russell
  * @author Ngoc Nhan
@@ -38,6 +41,9 @@ public abstract class AbstractPooledBufferByteArraySerializer extends AbstractBy
 
 	private long poolWaitTimeout = Long.MAX_VALUE;
 
+	@Nullable
+	private ByteBufferPool bufferPool;
+
 	/**
 	 * Set the pool size for deserialization buffers.
 	 * @param size the size, -1 for unlimited.
@@ -45,6 +51,7 @@ public abstract class AbstractPooledBufferByteArraySerializer extends AbstractBy
 	 */
 	public void setPoolSize(int size) {
 		Assert.isNull(this.pool, "Cannot change pool size once set");
+		Assert.isNull(this.bufferPool, "Cannot set a pool size when a buffer pool is provided");
 		this.pool = new SimplePool<>(size, new PoolItemCallback<>() {
 
 			@Override
@@ -76,8 +83,40 @@ public abstract class AbstractPooledBufferByteArraySerializer extends AbstractBy
 		}
 	}
 
+	/**
+	 * Set a shared {@link ByteBufferPool} to obtain the (heap) deserialization buffers from.
+	 * Mutually exclusive with {@link #setPoolSize(int)}.
+	 * @param bufferPool the buffer pool.
+	 * @since 6.5
+	 */
+	public void setBufferPool(ByteBufferPool bufferPool) {
+		Assert.notNull(bufferPool, "'bufferPool' must not be null");
+		Assert.isNull(this.pool, "Cannot set a buffer pool when a pool size is provided");
+		this.bufferPool = bufferPool;
+	}
+
+	/**
+	 * Return true if the deserialization buffers are pooled, either via
+	 * {@link #setPoolSize(int)} or {@link #setBufferPool(ByteBufferPool)}.
+	 * @return true if pooled.
+	 * @since 6.5
+	 */
+	public boolean isPooled() {
+		return this.pool != null || this.bufferPool != null;
+	}
+
 	@Override
 	public final byte[] deserialize(InputStream inputStream) throws IOException {
+		ByteBufferPool sharedPool = this.bufferPool;
+		if (sharedPool != null) {
+			ByteBuffer buffer = sharedPool.acquire(getMaxMessageSize(), false);
+			try {
+				return doDeserialize(inputStream, buffer.array());
+			}
+			finally {
+				sharedPool.release(buffer);
+			}
+		}
 		byte[] buffer = this.pool == null ? new byte[getMaxMessageSize()] : this.pool.getItem();
 		try {
 			return doDeserialize(inputStream, buffer);
@@ -91,7 +130,7 @@ public abstract class AbstractPooledBufferByteArraySerializer extends AbstractBy
 
 	/**
 	 * @param inputStream the input stream.
-	 * @param buffer the raw working buffer (maxMessageSize).
+	 * @param buffer the raw working buffer (at least maxMessageSize).
 	 * @return the decoded bytes.
 	 * @throws IOException an io exception.
 	 * @since 4.3
@@ -101,13 +140,15 @@ public abstract class AbstractPooledBufferByteArraySerializer extends AbstractBy
 	/**
 	 * Copy size bytes to a new buffer exactly size bytes long. If a pool is not
 	 * in use and the array is already the correct length, it is simply returned.
+	 * The working buffer may be longer than the max message size when a
+	 * {@link ByteBufferPool} is used.
 	 * @param buffer The buffer containing the data.
 	 * @param size The number of bytes to copy.
 	 * @return The new buffer, or the buffer parameter if it is
 	 * already the correct size and there is no pool.
 	 */
 	protected byte[] copyToSizedArray(byte[] buffer, int size) {
-		if (size == buffer.length && this.pool == null) {
+		if (size == buffer.length && !isPooled()) {
 			return buffer;
 		}
 		byte[] assembledData = new byte[size];
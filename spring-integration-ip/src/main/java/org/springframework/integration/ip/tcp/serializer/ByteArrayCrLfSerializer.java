@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,18 +19,25 @@ package org.springframework.integration.ip.tcp.serializer;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.springframework.lang.Nullable;
 
 /**
  * Reads data in an InputStream to a byte[]; data must be terminated by \r\n
  * (not included in resulting byte[]).
  * Writes a byte[] to an OutputStream and adds \r\n.
+ * <p>
+ * Since version 6.5, this class is also a {@link ByteBufferDeserializer},
+ * so the frames can be decoded in place from the NIO read buffer.
  *
  * @author Gary Russell
  * @author Artem Bilan
  *
  * @since 2.0
  */
-public class ByteArrayCrLfSerializer extends AbstractPooledBufferByteArraySerializer {
+public class ByteArrayCrLfSerializer extends AbstractPooledBufferByteArraySerializer
+		implements ByteBufferDeserializer<byte[]> {
 
 	/**
 	 * A single reusable instance.
@@ -82,6 +89,56 @@ public class ByteArrayCrLfSerializer extends AbstractPooledBufferByteArraySerial
 		}
 	}
 
+	/**
+	 * Scan the buffer for CRLF (\r\n) and return the data before it, if found.
+	 * The position is left unchanged if the terminator is not in the buffer yet.
+	 * Throws an IOException if the CRLF is not found before the max message length.
+	 * @param buffer the buffer.
+	 * @return the data, or {@code null} if the frame is not complete.
+	 * @throws IOException Any IOException.
+	 * @since 6.5
+	 */
+	@Override
+	@Nullable
+	public byte[] deserialize(ByteBuffer buffer) throws IOException {
+		return deserialize(buffer, 0);
+	}
+
+	/**
+	 * Scan the buffer for CRLF (\r\n) like {@link #deserialize(ByteBuffer)},
+	 * starting after the bytes examined by the previous call for this frame.
+	 * @param buffer the buffer.
+	 * @param scanned the number of bytes from the position examined by the previous call.
+	 * @return the data, or {@code null} if the frame is not complete.
+	 * @throws IOException Any IOException.
+	 * @since 6.5
+	 */
+	@Override
+	@Nullable
+	public byte[] deserialize(ByteBuffer buffer, int scanned) throws IOException {
+		int start = buffer.position();
+		int limit = buffer.limit();
+		int maxMessageSize = getMaxMessageSize();
+		int scanLimit = Math.min(limit, start + maxMessageSize);
+		// Pair the first new byte with the last examined one: a CRLF may be split between reads
+		for (int i = start + Math.max(scanned, 1); i < scanLimit; i++) {
+			if (buffer.get(i) == '\n' && buffer.get(i - 1) == '\r') {
+				byte[] data = new byte[i - 1 - start];
+				buffer.get(start, data);
+				buffer.position(i + 1);
+				return data;
+			}
+		}
+		if (limit - start < maxMessageSize) {
+			return null;
+		}
+		IOException ex = new IOException("CRLF not found before max message length: " + maxMessageSize);
+		byte[] data = new byte[maxMessageSize];
+		buffer.get(start, data);
+		publishEvent(ex, data, maxMessageSize);
+		throw ex;
+	}
+
 	/**
 	 * Writes the byte[] to the stream and appends \r\n.
 	 */
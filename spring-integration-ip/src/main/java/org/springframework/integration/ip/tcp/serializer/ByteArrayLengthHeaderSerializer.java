@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2024 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -35,15 +36,19 @@ import org.springframework.util.Assert;
  * negative values will be rejected.
  * Other options are an unsigned byte, and unsigned short.
  * <p>
- * For other header formats, override {@link #readHeader(InputStream)} and
- * {@link #writeHeader(OutputStream, int)}.
+ * For other header formats, override {@link #readHeader(InputStream)},
+ * {@link #readHeader(ByteBuffer)} and {@link #writeHeader(OutputStream, int)}.
+ * <p>
+ * Since version 6.5, this class is also a {@link ByteBufferDeserializer},
+ * so the frames can be decoded in place from the NIO read buffer.
  *
  * @author Gary Russell
  * @author Artem Bilan
  *
  * @since 2.0
  */
-public class ByteArrayLengthHeaderSerializer extends AbstractByteArraySerializer {
+public class ByteArrayLengthHeaderSerializer extends AbstractByteArraySerializer
+		implements ByteBufferDeserializer<byte[]> {
 
 	/**
 	 * Default length-header field, allows for data up to 2**31-1 bytes.
@@ -155,6 +160,50 @@ public class ByteArrayLengthHeaderSerializer extends AbstractByteArraySerializer
 		}
 	}
 
+	/**
+	 * Decode the next length-prefixed frame from the buffer if it is fully available.
+	 * The position is left unchanged if the header or the data is not complete yet.
+	 * Throws an IOException if the length field exceeds the maxMessageSize.
+	 * @param buffer the buffer.
+	 * @return the data, or {@code null} if the frame is not complete.
+	 * @throws IOException Any IOException.
+	 * @since 6.5
+	 */
+	@Override
+	@Nullable
+	public byte[] deserialize(ByteBuffer buffer) throws IOException {
+		if (buffer.remaining() < this.headerSize) {
+			return null;
+		}
+		int messageLength;
+		try {
+			messageLength = readHeader(buffer) - this.headerAdjust;
+			int maxMessageSize = getMaxMessageSize();
+			if (messageLength < 0) {
+				throw new IOException("Message length " + messageLength + " is negative");
+			}
+			if (messageLength > maxMessageSize) {
+				throw new IOException("Message length " + messageLength +
+						" exceeds max message length: " + maxMessageSize);
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			byte[] lengthPart = new byte[this.headerSize];
+			buffer.get(buffer.position(), lengthPart);
+			publishEvent(ex, lengthPart, -1);
+			throw ex;
+		}
+		int dataPosition = buffer.position() + this.headerSize;
+		if (buffer.limit() - dataPosition < messageLength) {
+			return null;
+		}
+		this.logger.debug(() -> "Message length is " + messageLength);
+		byte[] messagePart = new byte[messageLength];
+		buffer.get(dataPosition, messagePart);
+		buffer.position(dataPosition + messageLength);
+		return messagePart;
+	}
+
 	/**
 	 * Write the byte[] to the output stream, preceded by a 4 byte
 	 * length in network byte order (big endian).
@@ -269,4 +318,31 @@ public class ByteArrayLengthHeaderSerializer extends AbstractByteArraySerializer
 		}
 	}
 
+	/**
+	 * Read the header at the buffer's current position, without changing the position,
+	 * and return the length of the data part.
+	 * The buffer is guaranteed to have at least the header size bytes remaining.
+	 * @param buffer the buffer.
+	 * @return The length of the data part.
+	 * @throws IOException Any IOException.
+	 * @since 6.5
+	 */
+	protected int readHeader(ByteBuffer buffer) throws IOException {
+		int position = buffer.position();
+		switch (this.headerSize) {
+			case HEADER_SIZE_INT:
+				int messageLength = buffer.getInt(position);
+				if (messageLength < 0) {
+					throw new IllegalArgumentException("Length header: " + messageLength + " is negative");
+				}
+				return messageLength;
+			case HEADER_SIZE_UNSIGNED_BYTE:
+				return buffer.get(position) & MAX_UNSIGNED_BYTE;
+			case HEADER_SIZE_UNSIGNED_SHORT:
+				return buffer.getShort(position) & MAX_UNSIGNED_SHORT;
+			default:
+				throw new IllegalArgumentException("Bad header size: " + this.headerSize);
+		}
+	}
+
 }
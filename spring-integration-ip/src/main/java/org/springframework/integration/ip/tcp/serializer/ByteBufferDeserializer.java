@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.ip.tcp.serializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A strategy to decode frames directly from a {@link ByteBuffer} filled by a
+ * {@link java.nio.channels.SocketChannel} read, without an intermediate
+ * {@link java.io.InputStream}.
+ * The frame boundaries are detected in place, so the only copy is into the
+ * resulting object.
+ * <p>
+ * Used by the {@link org.springframework.integration.ip.tcp.connection.TcpNioConnection}
+ * when its {@code inPlaceDeserialization} is enabled.
+ * An implementation must be stateless (or thread-safe) since the same instance
+ * is used concurrently for all the connections of a connection factory.
+ *
+ * @param <T> the type of the decoded object.
+ *
+ * @since 6.5
+ */
+@FunctionalInterface
+public interface ByteBufferDeserializer<T> {
+
+	/**
+	 * Decode the next frame from the buffer content between its position and limit.
+	 * If a complete frame is available, the buffer position must be advanced past
+	 * the frame (including its framing bytes). If the buffer does not contain a
+	 * complete frame, {@code null} must be returned and the position must not be changed;
+	 * this method is called again when more data has been appended to the buffer.
+	 * @param buffer the buffer to decode from.
+	 * @return the decoded object, or {@code null} if more data is needed.
+	 * @throws IOException if the data cannot be decoded, e.g. the frame
+	 * exceeds the maximum message size.
+	 */
+	@Nullable
+	T deserialize(ByteBuffer buffer) throws IOException;
+
+	/**
+	 * Decode the next frame like {@link #deserialize(ByteBuffer)}, when the previous call
+	 * for the same (incomplete) frame returned {@code null} after examining the provided number
+	 * of bytes from the position. An implementation looking for a delimiter can resume the scan
+	 * there instead of scanning the whole frame again on every read.
+	 * The caller keeps this state, so the implementation can still be shared between connections.
+	 * @param buffer the buffer to decode from.
+	 * @param scanned the number of bytes from the position examined by the previous call.
+	 * @return the decoded object, or {@code null} if more data is needed.
+	 * @throws IOException if the data cannot be decoded, e.g. the frame
+	 * exceeds the maximum message size.
+	 */
+	@Nullable
+	default T deserialize(ByteBuffer buffer, int scanned) throws IOException {
+		return deserialize(buffer);
+	}
+
+}
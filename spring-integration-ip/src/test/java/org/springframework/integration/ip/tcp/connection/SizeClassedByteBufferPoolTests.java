@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.ip.tcp.connection;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @since 6.5
+ */
+public class SizeClassedByteBufferPoolTests {
+
+	@Test
+	void buffersAreReusedPerSizeClass() {
+		SizeClassedByteBufferPool pool = new SizeClassedByteBufferPool(1024, 8192, 2);
+		ByteBuffer buffer = pool.acquire(1500, false);
+		assertThat(buffer.capacity()).isEqualTo(2048);
+		assertThat(buffer.isDirect()).isFalse();
+		assertThat(pool.getMissCount()).isEqualTo(1);
+		assertThat(pool.getOutstandingBytes()).isEqualTo(2048);
+
+		buffer.put((byte) 1);
+		pool.release(buffer);
+		assertThat(pool.getOutstandingBytes()).isEqualTo(0);
+		assertThat(pool.getPooledBytes()).isEqualTo(2048);
+
+		ByteBuffer reused = pool.acquire(2000, false);
+		assertThat(reused).isSameAs(buffer);
+		assertThat(reused.position()).isEqualTo(0);
+		assertThat(reused.limit()).isEqualTo(2048);
+		assertThat(pool.getHitCount()).isEqualTo(1);
+
+		ByteBuffer direct = pool.acquire(2000, true);
+		assertThat(direct).isNotSameAs(buffer);
+		assertThat(direct.isDirect()).isTrue();
+		assertThat(pool.getMissCount()).isEqualTo(2);
+
+		assertThat(pool.acquire(10, false).capacity()).isEqualTo(1024);
+	}
+
+	@Test
+	void poolIsBounded() {
+		SizeClassedByteBufferPool pool = new SizeClassedByteBufferPool(1024, 8192, 2);
+		ByteBuffer buffer1 = pool.acquire(1024, false);
+		ByteBuffer buffer2 = pool.acquire(1024, false);
+		ByteBuffer buffer3 = pool.acquire(1024, false);
+		pool.release(buffer1);
+		pool.release(buffer2);
+		pool.release(buffer3);
+		assertThat(pool.getPooledBytes()).isEqualTo(2048);
+
+		ByteBuffer large = pool.acquire(10_000, false);
+		assertThat(large.capacity()).isEqualTo(10_000);
+		pool.release(large);
+		assertThat(pool.getPooledBytes()).isEqualTo(2048);
+		assertThat(pool.getOutstandingBytes()).isEqualTo(0);
+
+		pool.destroy();
+		assertThat(pool.getPooledBytes()).isEqualTo(0);
+	}
+
+}
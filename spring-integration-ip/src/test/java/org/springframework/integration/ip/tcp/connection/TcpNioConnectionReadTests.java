@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2024 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -61,8 +61,16 @@ public class TcpNioConnectionReadTests {
 	private AbstractServerConnectionFactory getConnectionFactory(
 			AbstractByteArraySerializer serializer, TcpListener listener, TcpSender sender) {
 
+		return getConnectionFactory(serializer, listener, sender, false);
+	}
+
+	private AbstractServerConnectionFactory getConnectionFactory(
+			AbstractByteArraySerializer serializer, TcpListener listener, TcpSender sender,
+			boolean inPlaceDeserialization) {
+
 		TcpNioServerConnectionFactory scf = new TcpNioServerConnectionFactory(0);
 		scf.setUsingDirectBuffers(true);
+		scf.setInPlaceDeserialization(inPlaceDeserialization);
 		scf.setApplicationEventPublisher(e -> {
 		});
 		scf.setSerializer(serializer);
@@ -133,6 +141,31 @@ public class TcpNioConnectionReadTests {
 		done.countDown();
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testFragmentedInPlace() throws Exception {
+		ByteArrayLengthHeaderSerializer serializer = new ByteArrayLengthHeaderSerializer();
+		final List<Message<?>> responses = new ArrayList<>();
+		final Semaphore semaphore = new Semaphore(0);
+		AbstractServerConnectionFactory scf = getConnectionFactory(serializer, message -> {
+			responses.add(message);
+			semaphore.release();
+			return false;
+		}, null, true);
+
+		int howMany = 2;
+		scf.setBacklog(howMany + 5);
+		// Fire up the sender.
+		CountDownLatch done = SocketTestUtils.testSendFragmented(scf.getPort(), howMany, false);
+		assertThat(semaphore.tryAcquire(howMany, 20000, TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(responses.size()).as("Expected").isEqualTo(howMany);
+		for (int i = 0; i < howMany; i++) {
+			assertThat(new String(((Message<byte[]>) responses.get(i)).getPayload())).as("Data").isEqualTo("xx");
+		}
+		scf.stop();
+		done.countDown();
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void testReadStxEtx() throws Exception {
@@ -187,6 +220,72 @@ public class TcpNioConnectionReadTests {
 		done.countDown();
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testReadCrLfInPlace() throws Exception {
+		ByteArrayCrLfSerializer serializer = new ByteArrayCrLfSerializer();
+		final List<Message<?>> responses = new ArrayList<>();
+		final Semaphore semaphore = new Semaphore(0);
+		AbstractServerConnectionFactory scf = getConnectionFactory(serializer, message -> {
+			responses.add(message);
+			semaphore.release();
+			return false;
+		}, null, true);
+
+		// Fire up the sender.
+
+		CountDownLatch done = SocketTestUtils.testSendCrLf(scf.getPort(), latch);
+		latch.countDown();
+		assertThat(semaphore.tryAcquire(2, 10000, TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(responses.size()).as("Did not receive data").isEqualTo(2);
+		assertThat(new String(((Message<byte[]>) responses.get(0)).getPayload())).as("Data")
+				.isEqualTo(SocketTestUtils.TEST_STRING + SocketTestUtils.TEST_STRING);
+		assertThat(new String(((Message<byte[]>) responses.get(1)).getPayload())).as("Data")
+				.isEqualTo(SocketTestUtils.TEST_STRING + SocketTestUtils.TEST_STRING);
+		scf.stop();
+		done.countDown();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testReadCrLfWithBufferPool() throws Exception {
+		SizeClassedByteBufferPool bufferPool = new SizeClassedByteBufferPool();
+		ByteArrayCrLfSerializer serializer = new ByteArrayCrLfSerializer();
+		final List<Message<?>> responses = new ArrayList<>();
+		final Semaphore semaphore = new Semaphore(0);
+		TcpNioServerConnectionFactory scf = new TcpNioServerConnectionFactory(0);
+		scf.setApplicationEventPublisher(e -> {
+		});
+		scf.setSerializer(serializer);
+		scf.setDeserializer(serializer);
+		scf.setBufferPool(bufferPool);
+		scf.registerListener(message -> {
+			responses.add(message);
+			semaphore.release();
+			return false;
+		});
+		scf.start();
+		TestingUtilities.waitListening(scf, null);
+		assertThat(serializer.isPooled()).isTrue();
+
+		// Fire up the sender.
+
+		CountDownLatch done = SocketTestUtils.testSendCrLf(scf.getPort(), latch);
+		latch.countDown();
+		assertThat(semaphore.tryAcquire(2, 10000, TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(responses.size()).as("Did not receive data").isEqualTo(2);
+		assertThat(new String(((Message<byte[]>) responses.get(0)).getPayload())).as("Data")
+				.isEqualTo(SocketTestUtils.TEST_STRING + SocketTestUtils.TEST_STRING);
+		assertThat(new String(((Message<byte[]>) responses.get(1)).getPayload())).as("Data")
+				.isEqualTo(SocketTestUtils.TEST_STRING + SocketTestUtils.TEST_STRING);
+		assertThat(bufferPool.getHitCount() + bufferPool.getMissCount()).isGreaterThan(0);
+		scf.stop();
+		done.countDown();
+		with().pollInterval(Duration.ofMillis(50)).await("Buffers not released")
+				.atMost(Duration.ofSeconds(20))
+				.until(() -> bufferPool.getOutstandingBytes() == 0);
+	}
+
 	@Test
 	public void testReadLengthOverflow() throws Exception {
 		ByteArrayLengthHeaderSerializer serializer = new ByteArrayLengthHeaderSerializer();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2024 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,11 @@
 
 package org.springframework.integration.ip.tcp.connection;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
 import java.lang.reflect.Method;
 import java.net.ConnectException;
@@ -38,6 +40,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -845,6 +848,50 @@ public class TcpNioConnectionTests {
 		}
 	}
 
+	@Test
+	public void testCoalescedWritesFromConcurrentSends() throws Exception {
+		int threads = 4;
+		int messagesPerThread = 250;
+		try (ServerSocket serverSocket = ServerSocketFactory.getDefault().createServerSocket(0)) {
+			TcpNioClientConnectionFactory factory =
+					new TcpNioClientConnectionFactory("localhost", serverSocket.getLocalPort());
+			factory.setApplicationEventPublisher(nullPublisher);
+			factory.setMaxWriteBatchBytes(1024);
+			factory.setMaxWriteLinger(Duration.ofMillis(1));
+			factory.start();
+			TcpConnectionSupport connection = factory.getConnection();
+			Socket socket = serverSocket.accept();
+			ExecutorService exec = Executors.newFixedThreadPool(threads);
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				int thread = i;
+				futures.add(exec.submit(() -> {
+					for (int j = 0; j < messagesPerThread; j++) {
+						connection.send(MessageBuilder.withPayload("foo-" + thread + "-" + j).build());
+					}
+				}));
+			}
+			Set<String> expected = new HashSet<>();
+			for (int i = 0; i < threads; i++) {
+				for (int j = 0; j < messagesPerThread; j++) {
+					expected.add("foo-" + i + "-" + j);
+				}
+			}
+			Set<String> received = new HashSet<>();
+			BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+			while (received.size() < expected.size()) {
+				received.add(reader.readLine());
+			}
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+			assertThat(received).isEqualTo(expected);
+			socket.close();
+			exec.shutdownNow();
+			factory.stop();
+		}
+	}
+
 	private void readFully(InputStream is, byte[] buff) throws IOException {
 		for (int i = 0; i < buff.length; i++) {
 			buff[i] = (byte) is.read();
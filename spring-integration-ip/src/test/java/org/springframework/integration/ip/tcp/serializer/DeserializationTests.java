@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2024 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -276,6 +276,47 @@ public class DeserializationTests {
 		assertThat(event.getOffset()).isEqualTo(2);
 	}
 
+	@Test
+	public void byteBufferDeserializersDecodeInPlace() throws IOException {
+		ByteArrayLengthHeaderSerializer lengthHeader = new ByteArrayLengthHeaderSerializer();
+		ByteBuffer buffer = ByteBuffer.allocate(64);
+		buffer.putInt(3).put("foo".getBytes()).putInt(3).put("ba".getBytes()).flip();
+		assertThat(lengthHeader.deserialize(buffer)).isEqualTo("foo".getBytes());
+		assertThat(buffer.position()).isEqualTo(7);
+		assertThat(lengthHeader.deserialize(buffer)).isNull();
+		assertThat(buffer.position()).isEqualTo(7);
+		buffer.compact().put("r".getBytes()).flip();
+		assertThat(lengthHeader.deserialize(buffer)).isEqualTo("bar".getBytes());
+		assertThat(buffer.hasRemaining()).isFalse();
+
+		ByteArrayCrLfSerializer crLf = new ByteArrayCrLfSerializer();
+		buffer.clear().put("foo\r\nbar\r".getBytes()).flip();
+		assertThat(crLf.deserialize(buffer)).isEqualTo("foo".getBytes());
+		assertThat(crLf.deserialize(buffer)).isNull();
+		assertThat(buffer.position()).isEqualTo(5);
+		buffer.compact().put("\n".getBytes()).flip();
+		assertThat(crLf.deserialize(buffer, 4)).isEqualTo("bar".getBytes());
+		assertThat(buffer.hasRemaining()).isFalse();
+		buffer.clear().put("b\r\naz\r\n".getBytes()).flip();
+		// The bytes already scanned are not examined again
+		assertThat(crLf.deserialize(buffer, 4)).isEqualTo("b\r\naz".getBytes());
+
+		AtomicReference<TcpDeserializationExceptionEvent> event = new AtomicReference<>();
+		crLf.setApplicationEventPublisher(anEvent -> event.set((TcpDeserializationExceptionEvent) anEvent));
+		crLf.setMaxMessageSize(5);
+		ByteBuffer overflow = ByteBuffer.wrap("foobar".getBytes());
+		assertThatIOException()
+				.isThrownBy(() -> crLf.deserialize(overflow))
+				.withMessageContaining("CRLF not found before max message length: 5");
+		assertThat(event.get()).isNotNull();
+
+		lengthHeader.setMaxMessageSize(5);
+		ByteBuffer tooLong = ByteBuffer.allocate(4).putInt(6).flip();
+		assertThatIOException()
+				.isThrownBy(() -> lengthHeader.deserialize(tooLong))
+				.withMessageContaining("Message length 6 exceeds max message length: 5");
+	}
+
 	private TcpDeserializationExceptionEvent doDeserialize(AbstractByteArraySerializer deser, String expectedMessage) {
 		return doDeserialize(deser, expectedMessage, "foobar".getBytes(), 5);
 	}
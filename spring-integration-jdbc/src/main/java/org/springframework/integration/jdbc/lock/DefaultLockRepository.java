@@ -16,12 +16,19 @@
 
 package org.springframework.integration.jdbc.lock;
 
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 import javax.sql.DataSource;
 
@@ -440,6 +447,56 @@ public class DefaultLockRepository
 		return Boolean.TRUE.equals(result);
 	}
 
+	/**
+	 * Renew the provided locks with a single JDBC batch in one transaction.
+	 * @param locks the locks to renew.
+	 * @return the locks which have been renewed.
+	 * @since 6.5
+	 */
+	@Override
+	public Set<String> renew(Collection<String> locks) {
+		Timestamp now = epochMillis();
+		return batchUpdate(this.renewQuery, locks, lock -> new Object[] { now, this.region, lock, this.id });
+	}
+
+	/**
+	 * Delete the provided locks with a single JDBC batch in one transaction.
+	 * @param locks the locks to remove.
+	 * @return the locks which have been deleted.
+	 * @since 6.5
+	 */
+	@Override
+	public Set<String> delete(Collection<String> locks) {
+		return batchUpdate(this.deleteQuery, locks, lock -> new Object[] { this.region, lock, this.id });
+	}
+
+	/**
+	 * Execute the query for all the locks in a single JDBC batch.
+	 * Some drivers (e.g. Oracle) report {@link Statement#SUCCESS_NO_INFO} instead of update counts
+	 * for a batch; such a statement is treated as successful.
+	 */
+	private Set<String> batchUpdate(String query, Collection<String> locks, Function<String, Object[]> argsFunction) {
+		if (locks.isEmpty()) {
+			return new HashSet<>();
+		}
+		List<String> keys = new ArrayList<>(locks);
+		List<Object[]> batchArgs = new ArrayList<>(keys.size());
+		for (String key : keys) {
+			batchArgs.add(argsFunction.apply(key));
+		}
+		int[] updated = this.defaultTransactionTemplate.execute(
+				transactionStatus -> this.template.batchUpdate(query, batchArgs));
+		Set<String> result = new HashSet<>();
+		if (updated != null) {
+			for (int i = 0; i < updated.length; i++) {
+				if (updated[i] > 0 || updated[i] == Statement.SUCCESS_NO_INFO) {
+					result.add(keys.get(i));
+				}
+			}
+		}
+		return result;
+	}
+
 	private Timestamp ttlEpochMillis() {
 		return Timestamp.valueOf(currentTime().minus(this.ttl));
 	}
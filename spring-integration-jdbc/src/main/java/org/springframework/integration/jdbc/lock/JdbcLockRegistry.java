@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2024 the original author or authors.
+ * Copyright 2016-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,21 +17,33 @@
 package org.springframework.integration.jdbc.lock;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.ConcurrentModificationException;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.log.LogAccessor;
 import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.TransientDataAccessException;
 import org.springframework.integration.support.locks.ExpirableLockRegistry;
 import org.springframework.integration.support.locks.RenewableLockRegistry;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.integration.support.management.metrics.TimerFacade;
 import org.springframework.integration.util.UUIDConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.transaction.TransactionSystemException;
 import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.util.Assert;
@@ -43,6 +55,14 @@ import org.springframework.util.Assert;
  * {@link org.springframework.integration.support.locks.DefaultLockRegistry}, but the
  * locks taken will be global, as long as the underlying database supports the
  * "serializable" isolation level in its transactions.
+ * <p>
+ * Re-entrant acquisitions of a lock already held by the current thread
+ * don't interact with the database.
+ * When a {@link #setRenewalTaskScheduler(TaskScheduler)} is provided, the registry works
+ * in a lease mode: the database records for all the locks held by this registry are renewed
+ * in a single batch by one scheduled task, and a record can be retained after unlocking
+ * (see {@link #setLeaseRetention(Duration)}), so the next acquisition of the same lock
+ * in this process is served from the local lease without a database round trip.
  *
  * @author Dave Syer
  * @author Artem Bilan
@@ -61,12 +81,20 @@ import org.springframework.util.Assert;
  *
  * @since 4.3
  */
-public class JdbcLockRegistry implements ExpirableLockRegistry, RenewableLockRegistry {
+public class JdbcLockRegistry implements ExpirableLockRegistry, RenewableLockRegistry, DisposableBean {
+
+	private static final LogAccessor LOGGER = new LogAccessor(JdbcLockRegistry.class);
 
 	private static final int DEFAULT_IDLE = 100;
 
 	private static final int DEFAULT_CAPACITY = 100_000;
 
+	/**
+	 * The default interval for the lease renewal task.
+	 * @since 6.5
+	 */
+	public static final Duration DEFAULT_RENEWAL_INTERVAL = Duration.ofSeconds(3);
+
 	private final Lock lock = new ReentrantLock();
 
 	private final Map<String, JdbcLock> locks =
@@ -79,12 +107,27 @@ public class JdbcLockRegistry implements ExpirableLockRegistry, RenewableLockReg
 
 			};
 
+	private final Map<String, JdbcLock> leases = new ConcurrentHashMap<>();
+
 	private final LockRepository client;
 
 	private Duration idleBetweenTries = Duration.ofMillis(DEFAULT_IDLE);
 
 	private int cacheCapacity = DEFAULT_CAPACITY;
 
+	@Nullable
+	private TaskScheduler renewalTaskScheduler;
+
+	private Duration renewalInterval = DEFAULT_RENEWAL_INTERVAL;
+
+	private Duration leaseRetention = Duration.ZERO;
+
+	@Nullable
+	private AcquisitionTimers acquisitionTimers;
+
+	@Nullable
+	private volatile ScheduledFuture<?> renewalFuture;
+
 	/**
 	 * Construct an instance based on the provided {@link LockRepository}.
 	 * @param client the {@link LockRepository} to rely on.
@@ -113,13 +156,79 @@ public class JdbcLockRegistry implements ExpirableLockRegistry, RenewableLockReg
 		this.cacheCapacity = cacheCapacity;
 	}
 
+	/**
+	 * Set a {@link TaskScheduler} to switch this registry to the lease mode.
+	 * A single task, scheduled with the {@link #setRenewalInterval(Duration)} fixed delay,
+	 * renews the database records for all the locks held (or retained) by this registry
+	 * in one batch and releases the retained ones which are idle for longer than the
+	 * {@link #setLeaseRetention(Duration)}.
+	 * @param renewalTaskScheduler the {@link TaskScheduler} for the lease renewal task.
+	 * @since 6.5
+	 */
+	@Override
+	public void setRenewalTaskScheduler(TaskScheduler renewalTaskScheduler) {
+		Assert.notNull(renewalTaskScheduler, "'renewalTaskScheduler' must not be null");
+		this.renewalTaskScheduler = renewalTaskScheduler;
+	}
+
+	/**
+	 * Set the interval for the lease renewal task.
+	 * Must be less than a third of the time to live of the {@link LockRepository} records.
+	 * A local lease is trusted for two intervals since its last successful renewal;
+	 * otherwise the lock is acquired via the database again.
+	 * Defaults to {@link #DEFAULT_RENEWAL_INTERVAL}.
+	 * Only applies in the lease mode.
+	 * @param renewalInterval the interval for the lease renewal task.
+	 * @since 6.5
+	 * @see #setRenewalTaskScheduler(TaskScheduler)
+	 */
+	public void setRenewalInterval(Duration renewalInterval) {
+		Assert.isTrue(renewalInterval != null && !renewalInterval.isNegative() && !renewalInterval.isZero(),
+				"'renewalInterval' must be positive");
+		this.renewalInterval = renewalInterval;
+	}
+
+	/**
+	 * Set how long to keep the database record of a lock after its last local unlock.
+	 * While the lease is retained, the lock can be acquired again in this process
+	 * without a database round trip, but other processes cannot acquire it.
+	 * Defaults to {@link Duration#ZERO} - the record is deleted on unlock.
+	 * Only applies in the lease mode.
+	 * @param leaseRetention the duration to retain an idle lease.
+	 * @since 6.5
+	 * @see #setRenewalTaskScheduler(TaskScheduler)
+	 */
+	public void setLeaseRetention(Duration leaseRetention) {
+		Assert.isTrue(leaseRetention != null && !leaseRetention.isNegative(),
+				"'leaseRetention' must not be null or negative");
+		this.leaseRetention = leaseRetention;
+	}
+
+	/**
+	 * Set a {@link MetricsCaptor} to record the lock acquisition latency.
+	 * The {@code spring.integration.lock.acquisition} timers are tagged with the {@code result}
+	 * ({@code acquired} or {@code failed}) and the {@code source} ({@code local}
+	 * for re-entrant and lease acquisitions, or {@code database}).
+	 * Percentile histograms can be enabled for these timers via the metrics registry
+	 * configuration, e.g. a Micrometer {@code MeterFilter}.
+	 * @param metricsCaptor the {@link MetricsCaptor} to use.
+	 * @since 6.5
+	 */
+	public void setMetricsCaptor(MetricsCaptor metricsCaptor) {
+		Assert.notNull(metricsCaptor, "'metricsCaptor' must not be null");
+		this.acquisitionTimers = new AcquisitionTimers(metricsCaptor);
+	}
+
 	@Override
 	public Lock obtain(Object lockKey) {
 		Assert.isInstanceOf(String.class, lockKey);
 		String path = pathFor((String) lockKey);
 		this.lock.lock();
 		try {
-			return this.locks.computeIfAbsent(path, key -> new JdbcLock(this.client, this.idleBetweenTries, key));
+			return this.locks.computeIfAbsent(path, key -> {
+				JdbcLock leased = this.leases.get(key);
+				return leased != null ? leased : new JdbcLock(this.client, this.idleBetweenTries, key);
+			});
 		}
 		finally {
 			this.lock.unlock();
@@ -167,7 +276,95 @@ public class JdbcLockRegistry implements ExpirableLockRegistry, RenewableLockReg
 		}
 	}
 
-	private static final class JdbcLock implements Lock {
+	@Override
+	public void destroy() {
+		ScheduledFuture<?> future = this.renewalFuture;
+		if (future != null) {
+			future.cancel(true);
+			this.renewalFuture = null;
+		}
+		releaseIdleLeases(0);
+	}
+
+	private void leaseAcquired(JdbcLock jdbcLock) {
+		this.leases.put(jdbcLock.path, jdbcLock);
+		if (this.renewalFuture == null) {
+			this.lock.lock();
+			try {
+				if (this.renewalFuture == null && this.renewalTaskScheduler != null) {
+					this.renewalFuture =
+							this.renewalTaskScheduler.scheduleWithFixedDelay(this::renewLeases, this.renewalInterval);
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+	private void renewLeases() {
+		try {
+			releaseIdleLeases(this.leaseRetention.toMillis());
+			long now = System.currentTimeMillis();
+			Map<JdbcLock, Long> toRenew = new LinkedHashMap<>();
+			for (JdbcLock jdbcLock : this.leases.values()) {
+				long renewedAt = jdbcLock.leaseRenewedAt.get();
+				if (renewedAt > 0) {
+					toRenew.put(jdbcLock, renewedAt);
+				}
+			}
+			if (toRenew.isEmpty()) {
+				return;
+			}
+			Set<String> renewed = this.client.renew(toRenew.keySet().stream().map(JdbcLock::getPath).toList());
+			toRenew.forEach((jdbcLock, renewedAt) -> {
+				if (renewed.contains(jdbcLock.path)) {
+					// A concurrent acquisition or release wins over the result of this batch
+					jdbcLock.leaseRenewedAt.compareAndSet(renewedAt, now);
+				}
+				else if (jdbcLock.leaseRenewedAt.compareAndSet(renewedAt, 0)) {
+					this.leases.remove(jdbcLock.path, jdbcLock);
+				}
+			});
+		}
+		catch (Exception ex) {
+			LOGGER.warn(ex, "Failed to renew the leases; will retry on the next run");
+		}
+	}
+
+	private void releaseIdleLeases(long idleFor) {
+		long now = System.currentTimeMillis();
+		List<JdbcLock> toRelease = new ArrayList<>();
+		for (JdbcLock jdbcLock : this.leases.values()) {
+			if (now - jdbcLock.getLastUsed() >= idleFor && !jdbcLock.delegate.isHeldByCurrentThread()
+					&& jdbcLock.delegate.tryLock()) {
+
+				toRelease.add(jdbcLock);
+			}
+		}
+		if (toRelease.isEmpty()) {
+			return;
+		}
+		try {
+			for (JdbcLock jdbcLock : toRelease) {
+				jdbcLock.leaseRenewedAt.set(0);
+				this.leases.remove(jdbcLock.path, jdbcLock);
+			}
+			this.client.delete(toRelease.stream().map(JdbcLock::getPath).toList());
+		}
+		finally {
+			toRelease.forEach(jdbcLock -> jdbcLock.delegate.unlock());
+		}
+	}
+
+	private void recordAcquisition(long start, boolean acquired, boolean database) {
+		AcquisitionTimers timers = this.acquisitionTimers;
+		if (timers != null) {
+			timers.record(System.nanoTime() - start, acquired, database);
+		}
+	}
+
+	private final class JdbcLock implements Lock {
 
 		private final LockRepository mutex;
 
@@ -175,6 +372,12 @@ public class JdbcLockRegistry implements ExpirableLockRegistry, RenewableLockReg
 
 		private final String path;
 
+		/**
+		 * The time of the last successful database acquisition or renewal in the lease mode;
+		 * {@code 0} if there is no lease.
+		 */
+		private final AtomicLong leaseRenewedAt = new AtomicLong();
+
 		private volatile long lastUsed = System.currentTimeMillis();
 
 		private final ReentrantLock delegate = new ReentrantLock();
@@ -189,9 +392,18 @@ public class JdbcLockRegistry implements ExpirableLockRegistry, RenewableLockReg
 			return this.lastUsed;
 		}
 
+		public String getPath() {
+			return this.path;
+		}
+
 		@Override
 		public void lock() {
+			long start = System.nanoTime();
 			this.delegate.lock();
+			if (acquireLocally()) {
+				recordAcquisition(start, true, false);
+				return;
+			}
 			while (true) {
 				try {
 					while (!doLock()) {
@@ -211,9 +423,11 @@ public class JdbcLockRegistry implements ExpirableLockRegistry, RenewableLockReg
 				}
 				catch (Exception e) {
 					this.delegate.unlock();
+					recordAcquisition(start, false, true);
 					rethrowAsLockException(e);
 				}
 			}
+			recordAcquisition(start, true, true);
 		}
 
 		private void rethrowAsLockException(Exception e) {
@@ -222,7 +436,12 @@ public class JdbcLockRegistry implements ExpirableLockRegistry, RenewableLockReg
 
 		@Override
 		public void lockInterruptibly() throws InterruptedException {
+			long start = System.nanoTime();
 			this.delegate.lockInterruptibly();
+			if (acquireLocally()) {
+				recordAcquisition(start, true, false);
+				return;
+			}
 			while (true) {
 				try {
 					while (!doLock()) {
@@ -238,14 +457,17 @@ public class JdbcLockRegistry implements ExpirableLockRegistry, RenewableLockReg
 				}
 				catch (InterruptedException ie) {
 					this.delegate.unlock();
+					recordAcquisition(start, false, true);
 					Thread.currentThread().interrupt();
 					throw ie;
 				}
 				catch (Exception e) {
 					this.delegate.unlock();
+					recordAcquisition(start, false, true);
 					rethrowAsLockException(e);
 				}
 			}
+			recordAcquisition(start, true, true);
 		}
 
 		@Override
@@ -261,10 +483,16 @@ public class JdbcLockRegistry implements ExpirableLockRegistry, RenewableLockReg
 
 		@Override
 		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			long start = System.nanoTime();
 			long now = System.currentTimeMillis();
 			if (!this.delegate.tryLock(time, unit)) {
+				recordAcquisition(start, false, false);
 				return false;
 			}
+			if (acquireLocally()) {
+				recordAcquisition(start, true, false);
+				return true;
+			}
 			long expire = now + TimeUnit.MILLISECONDS.convert(time, unit);
 			boolean acquired;
 			while (true) {
@@ -275,6 +503,7 @@ public class JdbcLockRegistry implements ExpirableLockRegistry, RenewableLockReg
 					if (!acquired) {
 						this.delegate.unlock();
 					}
+					recordAcquisition(start, acquired, true);
 					return acquired;
 				}
 				catch (TransientDataAccessException | TransactionTimedOutException | TransactionSystemException e) {
@@ -282,15 +511,38 @@ public class JdbcLockRegistry implements ExpirableLockRegistry, RenewableLockReg
 				}
 				catch (Exception e) {
 					this.delegate.unlock();
+					recordAcquisition(start, false, true);
 					rethrowAsLockException(e);
 				}
 			}
 		}
 
+		/**
+		 * Check whether the just locked delegate can be considered as acquired without the database:
+		 * either it is a re-entrant acquisition, or this process still has a valid lease for the lock.
+		 */
+		private boolean acquireLocally() {
+			if (this.delegate.getHoldCount() > 1 || isLeaseValid()) {
+				this.lastUsed = System.currentTimeMillis();
+				return true;
+			}
+			return false;
+		}
+
+		private boolean isLeaseValid() {
+			long renewedAt = this.leaseRenewedAt.get();
+			return renewedAt > 0
+					&& System.currentTimeMillis() - renewedAt < JdbcLockRegistry.this.renewalInterval.toMillis() * 2;
+		}
+
 		private boolean doLock() {
 			boolean acquired = this.mutex.acquire(this.path);
 			if (acquired) {
 				this.lastUsed = System.currentTimeMillis();
+				if (JdbcLockRegistry.this.renewalTaskScheduler != null) {
+					this.leaseRenewedAt.set(this.lastUsed);
+					leaseAcquired(this);
+				}
 			}
 			return acquired;
 		}
@@ -304,6 +556,13 @@ public class JdbcLockRegistry implements ExpirableLockRegistry, RenewableLockReg
 				this.delegate.unlock();
 				return;
 			}
+			if (!JdbcLockRegistry.this.leaseRetention.isZero() && isLeaseValid()) {
+				this.lastUsed = System.currentTimeMillis();
+				this.delegate.unlock();
+				return;
+			}
+			this.leaseRenewedAt.set(0);
+			JdbcLockRegistry.this.leases.remove(this.path, this);
 			try {
 				while (true) {
 					try {
@@ -363,4 +622,44 @@ public class JdbcLockRegistry implements ExpirableLockRegistry, RenewableLockReg
 
 	}
 
+	private static final class AcquisitionTimers {
+
+		private static final String TIMER_NAME = "spring.integration.lock.acquisition";
+
+		private final TimerFacade acquiredLocally;
+
+		private final TimerFacade acquiredInDatabase;
+
+		private final TimerFacade failedLocally;
+
+		private final TimerFacade failedInDatabase;
+
+		AcquisitionTimers(MetricsCaptor metricsCaptor) {
+			this.acquiredLocally = buildTimer(metricsCaptor, "acquired", "local");
+			this.acquiredInDatabase = buildTimer(metricsCaptor, "acquired", "database");
+			this.failedLocally = buildTimer(metricsCaptor, "failed", "local");
+			this.failedInDatabase = buildTimer(metricsCaptor, "failed", "database");
+		}
+
+		void record(long nanos, boolean acquired, boolean database) {
+			TimerFacade timer;
+			if (acquired) {
+				timer = database ? this.acquiredInDatabase : this.acquiredLocally;
+			}
+			else {
+				timer = database ? this.failedInDatabase : this.failedLocally;
+			}
+			timer.record(nanos, TimeUnit.NANOSECONDS);
+		}
+
+		private static TimerFacade buildTimer(MetricsCaptor metricsCaptor, String result, String source) {
+			return metricsCaptor.timerBuilder(TIMER_NAME)
+					.tag("result", result)
+					.tag("source", source)
+					.description("Lock acquisition latency")
+					.build();
+		}
+
+	}
+
 }
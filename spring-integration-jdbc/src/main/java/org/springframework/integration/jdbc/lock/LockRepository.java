@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2024 the original author or authors.
+ * Copyright 2016-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,9 @@
 package org.springframework.integration.jdbc.lock;
 
 import java.io.Closeable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Encapsulation of the SQL shunting that is needed for locks. A {@link JdbcLockRegistry}
@@ -65,6 +68,42 @@ public interface LockRepository extends Closeable {
 	 */
 	boolean renew(String lock);
 
+	/**
+	 * Renew the leases for several locks at once.
+	 * The default implementation calls {@link #renew(String)} for each lock;
+	 * implementations are encouraged to perform the renewal in a single batch.
+	 * @param locks the locks to renew.
+	 * @return the locks which have been renewed.
+	 * @since 6.5
+	 */
+	default Set<String> renew(Collection<String> locks) {
+		Set<String> renewed = new HashSet<>();
+		for (String lock : locks) {
+			if (renew(lock)) {
+				renewed.add(lock);
+			}
+		}
+		return renewed;
+	}
+
+	/**
+	 * Remove several locks from this repository at once.
+	 * The default implementation calls {@link #delete(String)} for each lock;
+	 * implementations are encouraged to perform the removal in a single batch.
+	 * @param locks the locks to remove.
+	 * @return the locks which have been deleted.
+	 * @since 6.5
+	 */
+	default Set<String> delete(Collection<String> locks) {
+		Set<String> deleted = new HashSet<>();
+		for (String lock : locks) {
+			if (delete(lock)) {
+				deleted.add(lock);
+			}
+		}
+		return deleted;
+	}
+
 	@Override
 	void close();
 
@@ -17,20 +17,25 @@
 package org.springframework.integration.jdbc.store;
 
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
 
 import javax.sql.DataSource;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.SmartLifecycle;
 import org.springframework.core.log.LogAccessor;
@@ -51,10 +56,15 @@ import org.springframework.integration.util.UUIDConverter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.jmx.export.annotation.ManagedAttribute;
 import org.springframework.jmx.export.annotation.ManagedMetric;
 import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -78,6 +88,9 @@ import org.springframework.util.StringUtils;
  * on {@link #start()} to check if required table is present in DB.
  * The application context will fail to start if the table is not present.
  * This check can be disabled via {@link #setCheckDatabaseOnStart(boolean)}.
+ * <p>
+ * With a {@link #setClaimBatchSize(int) claimBatchSize} greater than 1, several messages
+ * are claimed from the database in a single poll and kept in a local prefetch buffer.
  *
  * @author Gunnar Hillert
  * @author Artem Bilan
@@ -90,7 +103,8 @@ import org.springframework.util.StringUtils;
  * @since 2.2
  */
 @ManagedResource
-public class JdbcChannelMessageStore implements PriorityCapableChannelMessageStore, InitializingBean, SmartLifecycle {
+public class JdbcChannelMessageStore
+		implements PriorityCapableChannelMessageStore, InitializingBean, SmartLifecycle, DisposableBean {
 
 	private static final LogAccessor LOGGER = new LogAccessor(JdbcChannelMessageStore.class);
 
@@ -115,6 +129,8 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 		POLL_WITH_EXCLUSIONS,
 		PRIORITY,
 		PRIORITY_WITH_EXCLUSIONS,
+		CLAIM,
+		PRIORITY_CLAIM,
 		DELETE_MESSAGE
 	}
 
@@ -130,6 +146,8 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 
 	private final AtomicBoolean started = new AtomicBoolean();
 
+	private final Map<String, PrefetchBuffer> prefetchBuffers = new ConcurrentHashMap<>();
+
 	private ChannelMessageStoreQueryProvider channelMessageStoreQueryProvider;
 
 	private String region = DEFAULT_REGION;
@@ -154,6 +172,17 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 
 	private boolean checkDatabaseOnStart = true;
 
+	private int claimBatchSize = 1;
+
+	@Nullable
+	private PlatformTransactionManager transactionManager;
+
+	@Nullable
+	private NamedParameterJdbcTemplate claimJdbcTemplate;
+
+	@Nullable
+	private TransactionTemplate claimTransactionTemplate;
+
 	/**
 	 * Convenient constructor for configuration use.
 	 */
@@ -357,6 +386,45 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 		return this.priorityEnabled;
 	}
 
+	/**
+	 * Set the maximum number of messages to claim from the database in a single poll.
+	 * When greater than 1 and the {@link ChannelMessageStoreQueryProvider} provides
+	 * {@link ChannelMessageStoreQueryProvider#getClaimFromGroupQuery() claim queries},
+	 * the oldest messages are selected with {@code FOR UPDATE SKIP LOCKED} and deleted in a single
+	 * local transaction; they are then returned from a local prefetch buffer by subsequent
+	 * {@link #pollMessageFromGroup(Object)} calls.
+	 * This way concurrent consumers (including other application instances) claim distinct
+	 * sets of messages instead of contending for the same oldest row.
+	 * <p>
+	 * The claimed messages are removed from the database before they are processed,
+	 * so the messages in the prefetch buffer are lost if the application crashes;
+	 * the buffer is returned to the database on {@link #destroy()}.
+	 * If a transaction is active on the polling thread, the prefetch buffer is bypassed
+	 * and a single message is polled in that transaction as usual, so its removal is
+	 * committed or rolled back together with the transaction.
+	 * Cannot be used together with the {@link #setUsingIdCache(boolean) id cache}.
+	 * Defaults to 1 - no claiming and prefetching.
+	 * @param claimBatchSize the maximum number of messages to claim in a single poll.
+	 * @since 6.5
+	 * @see #setTransactionManager(PlatformTransactionManager)
+	 */
+	public void setClaimBatchSize(int claimBatchSize) {
+		Assert.isTrue(claimBatchSize > 0, "'claimBatchSize' must be greater than 0");
+		this.claimBatchSize = claimBatchSize;
+	}
+
+	/**
+	 * Set a {@link PlatformTransactionManager} for the transaction around a multi-message claim.
+	 * Defaults to a {@link DataSourceTransactionManager} for the {@link DataSource} of this store.
+	 * @param transactionManager the {@link PlatformTransactionManager} to use.
+	 * @since 6.5
+	 * @see #setClaimBatchSize(int)
+	 */
+	public void setTransactionManager(PlatformTransactionManager transactionManager) {
+		Assert.notNull(transactionManager, "'transactionManager' must not be null");
+		this.transactionManager = transactionManager;
+	}
+
 	/**
 	 * Specify the {@link MessageGroupFactory} to create {@link MessageGroup} object where
 	 * it is necessary.
@@ -407,6 +475,40 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 			this.preparedStatementSetter = new ChannelMessageStorePreparedStatementSetter(this.serializer);
 		}
 		this.jdbcTemplate.afterPropertiesSet();
+
+		if (this.claimBatchSize > 1) {
+			initializeClaiming();
+		}
+	}
+
+	private void initializeClaiming() {
+		Assert.state(!this.usingIdCache, "The 'claimBatchSize' cannot be used together with the 'usingIdCache'");
+		String claimQuery =
+				this.priorityEnabled
+						? this.channelMessageStoreQueryProvider.getPriorityClaimFromGroupQuery()
+						: this.channelMessageStoreQueryProvider.getClaimFromGroupQuery();
+		if (claimQuery == null) {
+			LOGGER.warn(() -> "The " + this.channelMessageStoreQueryProvider + " does not support claiming "
+					+ "multiple messages; the 'claimBatchSize' is ignored.");
+			return;
+		}
+		DataSource dataSource = this.jdbcTemplate.getDataSource();
+		Assert.state(dataSource != null, "The 'jdbcTemplate' must be configured with a 'DataSource'");
+		JdbcTemplate claimTemplate = new JdbcTemplate(dataSource);
+		claimTemplate.setExceptionTranslator(this.jdbcTemplate.getExceptionTranslator());
+		claimTemplate.setFetchSize(this.jdbcTemplate.getFetchSize());
+		claimTemplate.setQueryTimeout(this.jdbcTemplate.getQueryTimeout());
+		claimTemplate.setIgnoreWarnings(this.jdbcTemplate.isIgnoreWarnings());
+		claimTemplate.setSkipResultsProcessing(this.jdbcTemplate.isSkipResultsProcessing());
+		claimTemplate.setSkipUndeclaredResults(this.jdbcTemplate.isSkipUndeclaredResults());
+		claimTemplate.setResultsMapCaseInsensitive(this.jdbcTemplate.isResultsMapCaseInsensitive());
+		// The configured template may be limited to a single row; the claim query is limited by 'max_rows'
+		claimTemplate.setMaxRows(this.claimBatchSize);
+		this.claimJdbcTemplate = new NamedParameterJdbcTemplate(claimTemplate);
+		if (this.transactionManager == null) {
+			this.transactionManager = new DataSourceTransactionManager(dataSource);
+		}
+		this.claimTransactionTemplate = new TransactionTemplate(this.transactionManager);
 	}
 
 	/**
@@ -444,6 +546,24 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 		return this.started.get();
 	}
 
+	/**
+	 * Return the messages left in the prefetch buffers (if any) back to the database.
+	 * They are stored as new messages, so they are polled after the messages which are
+	 * in the database already.
+	 * @since 6.5
+	 * @see #setClaimBatchSize(int)
+	 */
+	@Override
+	public void destroy() {
+		this.prefetchBuffers.forEach((groupIdKey, prefetchBuffer) -> {
+			Message<?> message;
+			while ((message = prefetchBuffer.messages.poll()) != null) {
+				addMessageToGroup(prefetchBuffer.groupId, message);
+			}
+		});
+		this.prefetchBuffers.clear();
+	}
+
 	/**
 	 * Store a message in the database. The groupId identifies the channel for which
 	 * the message is to be stored.
@@ -519,7 +639,9 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 	@ManagedAttribute
 	public int messageGroupSize(Object groupId) {
 		final String key = getKey(groupId);
-		return this.jdbcTemplate.queryForObject(// NOSONAR query never returns null
+		PrefetchBuffer prefetchBuffer = this.prefetchBuffers.get(key);
+		int prefetched = prefetchBuffer != null ? prefetchBuffer.messages.size() : 0;
+		return prefetched + this.jdbcTemplate.queryForObject(// NOSONAR query never returns null
 				getQuery(Query.GROUP_SIZE,
 						() -> this.channelMessageStoreQueryProvider.getCountAllMessagesInGroupQuery()),
 				Integer.class, key, this.region);
@@ -527,6 +649,10 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 
 	@Override
 	public void removeMessageGroup(Object groupId) {
+		PrefetchBuffer prefetchBuffer = this.prefetchBuffers.remove(getKey(groupId));
+		if (prefetchBuffer != null) {
+			prefetchBuffer.messages.clear();
+		}
 		this.jdbcTemplate.update(
 				getQuery(Query.DELETE_GROUP,
 						() -> this.channelMessageStoreQueryProvider.getDeleteMessageGroupQuery()),
@@ -540,6 +666,9 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 	@Override
 	public Message<?> pollMessageFromGroup(Object groupId) {
 		String key = getKey(groupId);
+		if (this.claimJdbcTemplate != null && !TransactionSynchronizationManager.isActualTransactionActive()) {
+			return pollPrefetchedMessage(groupId, key);
+		}
 		Message<?> polledMessage = doPollForMessage(key);
 		if (polledMessage != null && !isSingleStatementForPoll() && !doRemoveMessageFromGroup(groupId, polledMessage)) {
 			return null;
@@ -551,6 +680,86 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 		return this.channelMessageStoreQueryProvider.isSingleStatementForPoll();
 	}
 
+	/**
+	 * Return a message from the prefetch buffer of the group.
+	 * When the buffer is empty, claim the next batch of messages into the buffer first.
+	 * The claiming is serialized per group, so the buffer is always refilled in the database order.
+	 */
+	@Nullable
+	private Message<?> pollPrefetchedMessage(Object groupId, String groupIdKey) {
+		PrefetchBuffer prefetchBuffer =
+				this.prefetchBuffers.computeIfAbsent(groupIdKey, (key) -> new PrefetchBuffer(groupId));
+		Message<?> message = prefetchBuffer.messages.poll();
+		if (message != null) {
+			return message;
+		}
+		prefetchBuffer.claimLock.lock();
+		try {
+			message = prefetchBuffer.messages.poll();
+			if (message == null) {
+				List<Message<?>> claimedMessages = claimMessages(groupIdKey);
+				if (!claimedMessages.isEmpty()) {
+					message = claimedMessages.get(0);
+					prefetchBuffer.messages.addAll(claimedMessages.subList(1, claimedMessages.size()));
+				}
+			}
+			return message;
+		}
+		finally {
+			prefetchBuffer.claimLock.unlock();
+		}
+	}
+
+	private List<Message<?>> claimMessages(String groupIdKey) {
+		MapSqlParameterSource parameters =
+				new MapSqlParameterSource()
+						.addValue("region", this.region)
+						.addValue("group_key", groupIdKey)
+						.addValue("max_rows", this.claimBatchSize);
+		String query;
+		if (this.priorityEnabled) {
+			query = getQuery(Query.PRIORITY_CLAIM,
+					() -> this.channelMessageStoreQueryProvider.getPriorityClaimFromGroupQuery());
+		}
+		else {
+			query = getQuery(Query.CLAIM, () -> this.channelMessageStoreQueryProvider.getClaimFromGroupQuery());
+		}
+		List<Message<?>> claimedMessages =
+				this.claimTransactionTemplate.execute((status) -> {
+					List<Message<?>> messages = this.claimJdbcTemplate.query(query, parameters, this.messageRowMapper);
+					if (messages.isEmpty() || isSingleStatementForPoll()) {
+						return messages;
+					}
+					return deleteClaimedMessages(groupIdKey, messages);
+				});
+		LOGGER.debug(() -> "Claimed " + (claimedMessages != null ? claimedMessages.size() : 0)
+				+ " messages from group '" + groupIdKey + "'.");
+		return claimedMessages != null ? claimedMessages : List.of();
+	}
+
+	private List<Message<?>> deleteClaimedMessages(String groupIdKey, List<Message<?>> messages) {
+		List<Object[]> arguments = new ArrayList<>(messages.size());
+		for (Message<?> message : messages) {
+			arguments.add(new Object[] {getKey(message.getHeaders().getId()), groupIdKey, this.region});
+		}
+		int[] updated = this.jdbcTemplate.batchUpdate(
+				getQuery(Query.DELETE_MESSAGE, () -> this.channelMessageStoreQueryProvider.getDeleteMessageQuery()),
+				arguments,
+				new int[] {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR});
+
+		List<Message<?>> deletedMessages = new ArrayList<>(messages.size());
+		for (int i = 0; i < messages.size(); i++) {
+			Message<?> message = messages.get(i);
+			if (updated[i] != 0) {
+				deletedMessages.add(message);
+			}
+			else {
+				LOGGER.warn(() -> "Message with id '" + message.getHeaders().getId() + "' was not deleted.");
+			}
+		}
+		return deletedMessages;
+	}
+
 	/**
 	 * This method executes a call to the DB to get the oldest Message in the
 	 * MessageGroup which in the context of the {@link JdbcChannelMessageStore}
@@ -668,4 +877,18 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 		return this.idCache.size();
 	}
 
+	private static final class PrefetchBuffer {
+
+		private final Object groupId;
+
+		private final Queue<Message<?>> messages = new ConcurrentLinkedQueue<>();
+
+		private final Lock claimLock = new ReentrantLock();
+
+		PrefetchBuffer(Object groupId) {
+			this.groupId = groupId;
+		}
+
+	}
+
 }
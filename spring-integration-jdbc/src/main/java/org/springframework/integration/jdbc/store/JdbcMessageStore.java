@@ -17,11 +17,15 @@
 package org.springframework.integration.jdbc.store;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -502,6 +506,108 @@ public class JdbcMessageStore extends AbstractMessageGroupStore
 		}
 	}
 
+	/**
+	 * Insert the messages of all the additions with one JDBC batch, and their links to groups
+	 * with another; the groups are then created or updated one by one.
+	 * The same message added several times in the batch is inserted once.
+	 * If some message or link already exists, the rows are inserted one by one ignoring existing ones.
+	 * @param additions the additions to write.
+	 * @since 6.5
+	 */
+	@Override
+	protected void doAddMessagesToGroups(List<GroupAddition> additions) {
+		Map<UUID, Message<?>> messages = new LinkedHashMap<>();
+		Set<List<String>> groupToMessages = new LinkedHashSet<>();
+		for (GroupAddition addition : additions) {
+			String groupKey = getKey(addition.groupId());
+			for (Message<?> message : addition.messages()) {
+				UUID id = message.getHeaders().getId();
+				Assert.notNull(id, "Cannot store messages without an ID header");
+				messages.putIfAbsent(id, message);
+				groupToMessages.add(List.of(groupKey, getKey(id)));
+			}
+		}
+
+		Map<String, MessageGroupMetadata> groupsMetadata = new LinkedHashMap<>();
+		for (List<String> groupToMessage : groupToMessages) {
+			String groupKey = groupToMessage.get(0);
+			if (!groupsMetadata.containsKey(groupKey)) {
+				groupsMetadata.put(groupKey, getGroupMetadata(groupKey));
+			}
+		}
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+
+		addMessages(new ArrayList<>(messages.values()), now);
+		addGroupToMessages(groupToMessages);
+
+		groupsMetadata.forEach((groupKey, groupMetadata) -> {
+			if (groupMetadata == null) {
+				try {
+					doCreateMessageGroup(groupKey, now);
+				}
+				catch (DataIntegrityViolationException ex) {
+					logger.warn("Lost race to create group; attempting update instead", ex);
+					updateMessageGroup(groupKey);
+				}
+			}
+			else {
+				updateMessageGroup(groupKey);
+			}
+		});
+	}
+
+	private void addGroupToMessages(Collection<List<String>> groupToMessages) {
+		String query = getQuery(Query.CREATE_GROUP_TO_MESSAGE);
+		try {
+			this.jdbcTemplate.batchUpdate(query,
+					groupToMessages,
+					100, // NOSONAR magic number
+					(ps, groupToMessage) -> {
+						ps.setString(1, groupToMessage.get(0)); // NOSONAR - magic number
+						ps.setString(2, groupToMessage.get(1)); // NOSONAR - magic number
+						ps.setString(3, JdbcMessageStore.this.region); // NOSONAR - magic number
+					});
+		}
+		catch (DataIntegrityViolationException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Some of the messages are already in their groups; inserting them one by one", ex);
+			}
+			for (List<String> groupToMessage : groupToMessages) {
+				try {
+					this.jdbcTemplate.update(query, groupToMessage.get(0), groupToMessage.get(1), this.region);
+				}
+				catch (DataIntegrityViolationException duplicate) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("The message [" + groupToMessage.get(1) + "] is already in the group ["
+								+ groupToMessage.get(0) + "]");
+					}
+				}
+			}
+		}
+	}
+
+	private void addMessages(List<Message<?>> messages, Timestamp createdDate) {
+		try {
+			this.jdbcTemplate.batchUpdate(getQuery(Query.CREATE_MESSAGE),
+					messages,
+					100, // NOSONAR magic number
+					(ps, message) -> {
+						ps.setString(1, getKey(message.getHeaders().getId())); // NOSONAR - magic number
+						ps.setString(2, JdbcMessageStore.this.region); // NOSONAR - magic number
+						ps.setTimestamp(3, createdDate); // NOSONAR - magic number
+						ps.setBytes(4, JdbcMessageStore.this.serializer.convert(message)); // NOSONAR - magic number
+					});
+		}
+		catch (DataIntegrityViolationException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Some of the messages already exist; inserting them one by one", ex);
+			}
+			for (Message<?> message : messages) {
+				addMessage(message);
+			}
+		}
+	}
+
 	@Override
 	@ManagedAttribute
 	public int getMessageGroupCount() {
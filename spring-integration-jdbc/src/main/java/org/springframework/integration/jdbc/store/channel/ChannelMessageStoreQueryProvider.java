@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.integration.jdbc.store.channel;
 
+import org.springframework.lang.Nullable;
+
 /**
  * Common interface used in order to configure the
  * {@link org.springframework.integration.jdbc.store.JdbcChannelMessageStore} to provide
@@ -126,6 +128,32 @@ public interface ChannelMessageStoreQueryProvider {
 	 */
 	String getPriorityPollFromGroupQuery();
 
+	/**
+	 * Get the query used to claim up to {@code :max_rows} oldest messages for a channel,
+	 * skipping the rows locked by other transactions.
+	 * If {@link #isSingleStatementForPoll()} is false, the claimed messages are deleted
+	 * with the {@link #getDeleteMessageQuery()} in the same transaction.
+	 * @return query string or null if claiming multiple messages is not supported.
+	 * @since 6.5
+	 * @see org.springframework.integration.jdbc.store.JdbcChannelMessageStore#setClaimBatchSize(int)
+	 */
+	@Nullable
+	default String getClaimFromGroupQuery() {
+		return null;
+	}
+
+	/**
+	 * Get the query used to claim up to {@code :max_rows} oldest messages by priority for a channel,
+	 * skipping the rows locked by other transactions.
+	 * @return query string or null if claiming multiple messages is not supported.
+	 * @since 6.5
+	 * @see #getClaimFromGroupQuery()
+	 */
+	@Nullable
+	default String getPriorityClaimFromGroupQuery() {
+		return null;
+	}
+
 	/**
 	 * Indicate if the queries for polling are using a single statement (e.g. DELETE ... RETURNING) to
 	 * retrieve and delete the message from the channel store.
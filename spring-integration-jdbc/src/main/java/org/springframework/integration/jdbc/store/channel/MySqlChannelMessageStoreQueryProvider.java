@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -54,4 +54,17 @@ public class MySqlChannelMessageStoreQueryProvider implements ChannelMessageStor
 				"LIMIT 1 FOR UPDATE SKIP LOCKED";
 	}
 
+	@Override
+	public String getClaimFromGroupQuery() {
+		return SELECT_COMMON +
+				"order by CREATED_DATE, MESSAGE_SEQUENCE LIMIT :max_rows FOR UPDATE SKIP LOCKED";
+	}
+
+	@Override
+	public String getPriorityClaimFromGroupQuery() {
+		return SELECT_COMMON +
+				"order by MESSAGE_PRIORITY DESC, CREATED_DATE, MESSAGE_SEQUENCE " +
+				"LIMIT :max_rows FOR UPDATE SKIP LOCKED";
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -76,4 +76,19 @@ public class OracleChannelMessageStoreQueryProvider implements ChannelMessageSto
 				""";
 	}
 
+	/**
+	 * Oracle does not support a row limiting clause together with {@code FOR UPDATE},
+	 * therefore the number of claimed rows is limited by the {@code maxRows} of the statement:
+	 * with {@code SKIP LOCKED}, the rows are locked when they are fetched.
+	 */
+	@Override
+	public String getClaimFromGroupQuery() {
+		return getPollFromGroupQuery();
+	}
+
+	@Override
+	public String getPriorityClaimFromGroupQuery() {
+		return getPriorityPollFromGroupQuery();
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -88,6 +88,44 @@ public class PostgresChannelMessageStoreQueryProvider implements ChannelMessageS
 				""";
 	}
 
+	@Override
+	public String getClaimFromGroupQuery() {
+		return """
+				with CLAIMED as (
+					delete
+					from %PREFIX%CHANNEL_MESSAGE
+					where CTID in (select CTID
+									from %PREFIX%CHANNEL_MESSAGE
+									where %PREFIX%CHANNEL_MESSAGE.GROUP_KEY = :group_key
+									and %PREFIX%CHANNEL_MESSAGE.REGION = :region
+								order by CREATED_DATE, MESSAGE_SEQUENCE
+								limit :max_rows for update skip locked)
+					returning MESSAGE_ID, MESSAGE_BYTES, CREATED_DATE, MESSAGE_SEQUENCE)
+				select MESSAGE_ID, MESSAGE_BYTES
+				from CLAIMED
+				order by CREATED_DATE, MESSAGE_SEQUENCE;
+				""";
+	}
+
+	@Override
+	public String getPriorityClaimFromGroupQuery() {
+		return """
+				with CLAIMED as (
+					delete
+					from %PREFIX%CHANNEL_MESSAGE
+					where CTID in (select CTID
+									from %PREFIX%CHANNEL_MESSAGE
+									where %PREFIX%CHANNEL_MESSAGE.GROUP_KEY = :group_key
+									and %PREFIX%CHANNEL_MESSAGE.REGION = :region
+								order by MESSAGE_PRIORITY DESC NULLS LAST, CREATED_DATE, MESSAGE_SEQUENCE
+								limit :max_rows for update skip locked)
+					returning MESSAGE_ID, MESSAGE_BYTES, MESSAGE_PRIORITY, CREATED_DATE, MESSAGE_SEQUENCE)
+				select MESSAGE_ID, MESSAGE_BYTES
+				from CLAIMED
+				order by MESSAGE_PRIORITY DESC NULLS LAST, CREATED_DATE, MESSAGE_SEQUENCE;
+				""";
+	}
+
 	@Override
 	public boolean isSingleStatementForPoll() {
 		return true;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021-2022 the original author or authors.
+ * Copyright 2021-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,19 +17,30 @@
 package org.springframework.integration.jdbc.lock;
 
 import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.beans.DirectFieldAccessor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -89,4 +100,18 @@ public class DefaultLockRepositoryTests {
 		assertThat(this.client.isAcquired("foo")).isFalse();
 	}
 
+	@Test
+	public void testBatchSuccessNoInfoIsTreatedAsSuccess() {
+		DefaultLockRepository repository = new DefaultLockRepository(mock(DataSource.class));
+		repository.setTransactionManager(mock(PlatformTransactionManager.class));
+		repository.afterPropertiesSet();
+		repository.afterSingletonsInstantiated();
+		JdbcTemplate template = mock(JdbcTemplate.class);
+		given(template.batchUpdate(anyString(), anyList()))
+				.willReturn(new int[] {Statement.SUCCESS_NO_INFO, 0, 1, Statement.EXECUTE_FAILED});
+		new DirectFieldAccessor(repository).setPropertyValue("template", template);
+
+		assertThat(repository.renew(List.of("foo", "bar", "baz", "qux"))).containsExactlyInAnyOrder("foo", "baz");
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2024 the original author or authors.
+ * Copyright 2016-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,12 @@
 
 package org.springframework.integration.jdbc.lock;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.ConcurrentModificationException;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -26,6 +29,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 
 import javax.sql.DataSource;
@@ -41,12 +45,14 @@ import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.integration.test.util.TestUtils;
 import org.springframework.integration.util.UUIDConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
 
 /**
  * @author Dave Syer
@@ -553,6 +559,90 @@ class JdbcLockRegistryTests {
 				.isThrownBy(lock::unlock);
 	}
 
+	@Test
+	void leasesAreRetainedAndRenewedInBatches() throws Exception {
+		AtomicInteger acquisitions = new AtomicInteger();
+		AtomicInteger batchRenewals = new AtomicInteger();
+		LockRepository countingClient = new LockRepository() {
+
+			@Override
+			public boolean isAcquired(String lock) {
+				return JdbcLockRegistryTests.this.client.isAcquired(lock);
+			}
+
+			@Override
+			public boolean delete(String lock) {
+				return JdbcLockRegistryTests.this.client.delete(lock);
+			}
+
+			@Override
+			public Set<String> delete(Collection<String> locks) {
+				return JdbcLockRegistryTests.this.client.delete(locks);
+			}
+
+			@Override
+			public void deleteExpired() {
+				JdbcLockRegistryTests.this.client.deleteExpired();
+			}
+
+			@Override
+			public boolean acquire(String lock) {
+				acquisitions.incrementAndGet();
+				return JdbcLockRegistryTests.this.client.acquire(lock);
+			}
+
+			@Override
+			public boolean renew(String lock) {
+				return JdbcLockRegistryTests.this.client.renew(lock);
+			}
+
+			@Override
+			public Set<String> renew(Collection<String> locks) {
+				batchRenewals.incrementAndGet();
+				return JdbcLockRegistryTests.this.client.renew(locks);
+			}
+
+			@Override
+			public void close() {
+				JdbcLockRegistryTests.this.client.close();
+			}
+
+		};
+
+		ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+		taskScheduler.initialize();
+		JdbcLockRegistry leaseRegistry = new JdbcLockRegistry(countingClient);
+		leaseRegistry.setRenewalTaskScheduler(taskScheduler);
+		leaseRegistry.setRenewalInterval(Duration.ofMillis(500));
+		leaseRegistry.setLeaseRetention(Duration.ofSeconds(10));
+		try {
+			Lock foo = leaseRegistry.obtain("foo");
+			Lock bar = leaseRegistry.obtain("bar");
+			foo.lock();
+			foo.lock();
+			foo.unlock();
+			foo.unlock();
+			bar.lock();
+			bar.unlock();
+			assertThat(acquisitions.get()).isEqualTo(2);
+			assertThat(this.client.isAcquired(toUUID("foo"))).isTrue();
+			assertThat(this.client.isAcquired(toUUID("bar"))).isTrue();
+
+			await().until(() -> batchRenewals.get() >= 2);
+
+			assertThat(foo.tryLock()).isTrue();
+			foo.unlock();
+			assertThat(acquisitions.get()).isEqualTo(2);
+		}
+		finally {
+			leaseRegistry.destroy();
+			taskScheduler.destroy();
+		}
+
+		assertThat(this.client.isAcquired(toUUID("foo"))).isFalse();
+		assertThat(this.client.isAcquired(toUUID("bar"))).isFalse();
+	}
+
 	@SuppressWarnings("unchecked")
 	private static Map<String, Lock> getRegistryLocks(JdbcLockRegistry registry) {
 		return TestUtils.getPropertyValue(registry, "locks", Map.class);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2024 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -128,6 +129,42 @@ public class JdbcMessageStoreTests {
 		assertThat(fooChannelHistory.get("type")).isEqualTo("channel");
 	}
 
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void testBatchedAdditionsWithDuplicates() throws Exception {
+		String groupA = UUID.randomUUID().toString();
+		String groupB = UUID.randomUUID().toString();
+		Message<String> existing = MessageBuilder.withPayload("existing").build();
+		messageStore.addMessagesToGroup(groupA, existing);
+
+		messageStore.setAddBatchSize(4);
+		messageStore.setAddBatchLinger(Duration.ofSeconds(10));
+		Message<String> shared = MessageBuilder.withPayload("shared").build();
+		Message<String> other = MessageBuilder.withPayload("other").build();
+		try {
+			CompletableFuture.allOf(
+							CompletableFuture.runAsync(() -> messageStore.addMessagesToGroup(groupA, shared, shared)),
+							CompletableFuture.runAsync(() -> messageStore.addMessagesToGroup(groupB, shared)),
+							CompletableFuture.runAsync(() -> messageStore.addMessagesToGroup(groupA, existing)),
+							CompletableFuture.runAsync(() -> messageStore.addMessagesToGroup(groupB, other)))
+					.get(30, TimeUnit.SECONDS);
+
+			assertThat(messageStore.messageGroupSize(groupA)).isEqualTo(2);
+			assertThat(messageStore.messageGroupSize(groupB)).isEqualTo(2);
+			assertThat(messageStore.getMessageGroup(groupA).getMessages())
+					.extracting(Message::getPayload)
+					.containsExactlyInAnyOrder("existing", "shared");
+			assertThat(messageStore.getMessageGroup(groupB).getMessages())
+					.extracting(Message::getPayload)
+					.containsExactlyInAnyOrder("shared", "other");
+			assertThat(messageStore.getMessage(shared.getHeaders().getId())).isNotNull();
+		}
+		finally {
+			messageStore.removeMessageGroup(groupA);
+			messageStore.removeMessageGroup(groupB);
+		}
+	}
+
 	@Test
 	public void testSize() {
 		Message<String> message = MessageBuilder.withPayload("foo").build();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2024 the original author or authors.
+ * Copyright 2002-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,6 +29,7 @@ import org.springframework.core.serializer.support.SerializingConverter;
 import org.springframework.integration.jdbc.store.JdbcChannelMessageStore;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -128,6 +129,64 @@ public abstract class AbstractJdbcChannelMessageStoreTests {
 		assertThat(messageFromDb.getHeaders().getId()).isEqualTo(message.getHeaders().getId());
 	}
 
+	@Test
+	public void testClaimBatch() {
+		JdbcChannelMessageStore claimingMessageStore = new JdbcChannelMessageStore(this.dataSource);
+		claimingMessageStore.setRegion(REGION);
+		claimingMessageStore.setChannelMessageStoreQueryProvider(this.queryProvider);
+		claimingMessageStore.setTransactionManager(this.transactionManager);
+		claimingMessageStore.setClaimBatchSize(5);
+		claimingMessageStore.afterPropertiesSet();
+
+		for (int i = 0; i < 12; i++) {
+			claimingMessageStore.addMessageToGroup(TEST_MESSAGE_GROUP, new GenericMessage<>(i));
+		}
+
+		assertThat(claimingMessageStore.pollMessageFromGroup(TEST_MESSAGE_GROUP).getPayload()).isEqualTo(0);
+		assertThat(claimingMessageStore.messageGroupSize(TEST_MESSAGE_GROUP)).isEqualTo(11);
+		for (int i = 1; i < 12; i++) {
+			assertThat(claimingMessageStore.pollMessageFromGroup(TEST_MESSAGE_GROUP).getPayload()).isEqualTo(i);
+		}
+		assertThat(claimingMessageStore.pollMessageFromGroup(TEST_MESSAGE_GROUP)).isNull();
+
+		claimingMessageStore.addMessageToGroup(TEST_MESSAGE_GROUP, new GenericMessage<>("foo"));
+		claimingMessageStore.addMessageToGroup(TEST_MESSAGE_GROUP, new GenericMessage<>("bar"));
+		assertThat(claimingMessageStore.pollMessageFromGroup(TEST_MESSAGE_GROUP).getPayload()).isEqualTo("foo");
+		claimingMessageStore.destroy();
+		assertThat(this.messageStore.messageGroupSize(TEST_MESSAGE_GROUP)).isEqualTo(1);
+		assertThat(this.messageStore.pollMessageFromGroup(TEST_MESSAGE_GROUP).getPayload()).isEqualTo("bar");
+	}
+
+	@Test
+	public void testClaimBatchBypassedInTransaction() {
+		JdbcChannelMessageStore claimingMessageStore = new JdbcChannelMessageStore(this.dataSource);
+		claimingMessageStore.setRegion(REGION);
+		claimingMessageStore.setChannelMessageStoreQueryProvider(this.queryProvider);
+		claimingMessageStore.setTransactionManager(this.transactionManager);
+		claimingMessageStore.setClaimBatchSize(5);
+		claimingMessageStore.afterPropertiesSet();
+
+		for (int i = 0; i < 3; i++) {
+			claimingMessageStore.addMessageToGroup(TEST_MESSAGE_GROUP, new GenericMessage<>(i));
+		}
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(this.transactionManager);
+		Object payload =
+				transactionTemplate.execute((status) -> {
+					Message<?> message = claimingMessageStore.pollMessageFromGroup(TEST_MESSAGE_GROUP);
+					status.setRollbackOnly();
+					return message.getPayload();
+				});
+		assertThat(payload).isEqualTo(0);
+		assertThat(claimingMessageStore.messageGroupSize(TEST_MESSAGE_GROUP)).isEqualTo(3);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(claimingMessageStore.pollMessageFromGroup(TEST_MESSAGE_GROUP).getPayload()).isEqualTo(i);
+		}
+		assertThat(claimingMessageStore.messageGroupSize(TEST_MESSAGE_GROUP)).isEqualTo(0);
+		assertThat(claimingMessageStore.pollMessageFromGroup(TEST_MESSAGE_GROUP)).isNull();
+	}
+
 	private ChannelMessageStorePreparedStatementSetter getMessageGroupPreparedStatementSetter() {
 		return new ChannelMessageStorePreparedStatementSetter() {
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2023 the original author or authors.
+ * Copyright 2018-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import org.springframework.integration.kafka.inbound.KafkaMessageSource;
 import org.springframework.integration.kafka.inbound.KafkaMessageSource.KafkaAckCallbackFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.listener.ConsumerProperties;
+import org.springframework.kafka.support.converter.BatchMessageConverter;
 import org.springframework.kafka.support.converter.RecordMessageConverter;
 
 /**
@@ -78,6 +79,30 @@ public class KafkaInboundChannelAdapterSpec<K, V>
 		return this;
 	}
 
+	/**
+	 * Set to true to emit all the records from a poll as a single {@code Message<List<?>>}.
+	 * @param batchMode true to enable the batch mode.
+	 * @return the spec.
+	 * @since 6.5
+	 * @see KafkaMessageSource#setBatchMode(boolean)
+	 */
+	public KafkaInboundChannelAdapterSpec<K, V> batchMode(boolean batchMode) {
+		this.target.setBatchMode(batchMode);
+		return this;
+	}
+
+	/**
+	 * Set the batch message converter to replace the default.
+	 * {@link org.springframework.kafka.support.converter.BatchMessagingMessageConverter}.
+	 * @param batchMessageConverter the converter.
+	 * @return the spec.
+	 * @since 6.5
+	 */
+	public KafkaInboundChannelAdapterSpec<K, V> batchMessageConverter(BatchMessageConverter batchMessageConverter) {
+		this.target.setBatchMessageConverter(batchMessageConverter);
+		return this;
+	}
+
 	/**
 	 * Set the payload type.
 	 * Only applies if a type-aware message converter is provided.
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2023 the original author or authors.
+ * Copyright 2016-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.integration.kafka.dsl;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -300,6 +301,44 @@ public class KafkaProducerMessageHandlerSpec<K, V, S extends KafkaProducerMessag
 		return _this();
 	}
 
+	/**
+	 * Set the maximum number of sends which may be outstanding at any time.
+	 * Only supported in the async channel adapter mode.
+	 * @param maxInFlight the maximum number of outstanding sends.
+	 * @return the spec.
+	 * @since 6.5
+	 * @see KafkaProducerMessageHandler#setMaxInFlight(int)
+	 */
+	public S maxInFlight(int maxInFlight) {
+		this.target.setMaxInFlight(maxInFlight);
+		return _this();
+	}
+
+	/**
+	 * Set the number of successful send results to emit to the send success channel
+	 * as a single message. Only supported in the async channel adapter mode.
+	 * @param successBatchSize the batch size.
+	 * @return the spec.
+	 * @since 6.5
+	 * @see KafkaProducerMessageHandler#setSuccessBatchSize(int)
+	 */
+	public S successBatchSize(int successBatchSize) {
+		this.target.setSuccessBatchSize(successBatchSize);
+		return _this();
+	}
+
+	/**
+	 * Flush the producer at most this time after a send.
+	 * @param flushLinger the linger duration.
+	 * @return the spec.
+	 * @since 6.5
+	 * @see KafkaProducerMessageHandler#setFlushLinger(Duration)
+	 */
+	public S flushLinger(Duration flushLinger) {
+		this.target.setFlushLinger(flushLinger);
+		return _this();
+	}
+
 	/**
 	 * Specify a header mapper to map spring messaging headers to Kafka headers.
 	 * @param mapper the mapper.
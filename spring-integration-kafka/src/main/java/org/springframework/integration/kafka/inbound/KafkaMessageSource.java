@@ -17,12 +17,16 @@
 package org.springframework.integration.kafka.inbound;
 
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -70,6 +74,8 @@ import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.kafka.support.KafkaUtils;
 import org.springframework.kafka.support.LogIfLevelEnabled;
 import org.springframework.kafka.support.TopicPartitionOffset;
+import org.springframework.kafka.support.converter.BatchMessageConverter;
+import org.springframework.kafka.support.converter.BatchMessagingMessageConverter;
 import org.springframework.kafka.support.converter.KafkaMessageHeaders;
 import org.springframework.kafka.support.converter.MessagingMessageConverter;
 import org.springframework.kafka.support.converter.RecordMessageConverter;
@@ -95,6 +101,10 @@ import org.springframework.util.StringUtils;
  * allows you to pause and resume the {@link Consumer}. While the consumer is
  * paused, you must continue to call {@link #receive()} within
  * {@code max.poll.interval.ms}, to prevent a rebalance.
+ * <p>
+ * Starting with version 6.5, a {@link #setBatchMode(boolean) batch mode} is supported:
+ * all the records from a poll are emitted as a single {@code Message<List<?>>}
+ * with one acknowledgment callback for the whole batch.
  *
  * @param <K> the key type.
  * @param <V> the value type.
@@ -132,6 +142,10 @@ public class KafkaMessageSource<K, V> extends AbstractMessageSource<Object>
 
 	private final Map<TopicPartition, Set<KafkaAckInfo<K, V>>> inflightRecords = new ConcurrentHashMap<>();
 
+	private final Map<TopicPartition, Deque<KafkaBatchAckCallback>> inflightBatches = new HashMap<>();
+
+	private final Set<RecordPosition> skippedRecords = ConcurrentHashMap.newKeySet();
+
 	private final AtomicInteger remainingCount = new AtomicInteger();
 
 	private final ConsumerProperties consumerProperties;
@@ -154,6 +168,10 @@ public class KafkaMessageSource<K, V> extends AbstractMessageSource<Object>
 
 	private RecordMessageConverter messageConverter = new MessagingMessageConverter();
 
+	private BatchMessageConverter batchMessageConverter = new BatchMessagingMessageConverter();
+
+	private boolean batchMode;
+
 	private Class<?> payloadType;
 
 	private boolean rawMessageHeader;
@@ -261,10 +279,16 @@ public class KafkaMessageSource<K, V> extends AbstractMessageSource<Object>
 		messagingMessageConverter.setGenerateMessageId(true);
 		messagingMessageConverter.setGenerateTimestamp(true);
 
+		BatchMessagingMessageConverter batchMessagingMessageConverter =
+				(BatchMessagingMessageConverter) this.batchMessageConverter;
+		batchMessagingMessageConverter.setGenerateMessageId(true);
+		batchMessagingMessageConverter.setGenerateTimestamp(true);
+
 		if (JacksonPresent.isJackson2Present()) {
 			DefaultKafkaHeaderMapper headerMapper = new DefaultKafkaHeaderMapper();
 			headerMapper.addTrustedPackages(JacksonJsonUtils.DEFAULT_TRUSTED_PACKAGES.toArray(new String[0]));
 			messagingMessageConverter.setHeaderMapper(headerMapper);
+			batchMessagingMessageConverter.setHeaderMapper(headerMapper);
 		}
 	}
 
@@ -296,6 +320,15 @@ public class KafkaMessageSource<K, V> extends AbstractMessageSource<Object>
 				this.consumerProperties.isCheckDeserExWhenValueNull() ||
 						ErrorHandlingUtils.checkDeserializer(this.consumerFactory, kafkaConsumerProperties, true,
 								this.classLoader);
+
+		if (this.batchMode) {
+			Object maxPoll = this.consumerFactory.getConfigurationProperties()
+					.get(ConsumerConfig.MAX_POLL_RECORDS_CONFIG);
+			if (maxPoll != null && !maxPollGtrOne(maxPoll)) {
+				this.logger.warn(() -> "The batch mode is enabled, but '" + ConsumerConfig.MAX_POLL_RECORDS_CONFIG
+						+ "' is 1; consider to set 'allowMultiFetch' to true");
+			}
+		}
 	}
 
 	/**
@@ -332,6 +365,45 @@ public class KafkaMessageSource<K, V> extends AbstractMessageSource<Object>
 		this.messageConverter = messageConverter;
 	}
 
+	/**
+	 * Set to true to emit all the records from a poll as a single {@code Message<List<?>>}.
+	 * The headers of the message contain lists of the per-record values (keys, partitions, offsets etc.),
+	 * according to the {@link #setBatchMessageConverter(BatchMessageConverter)}.
+	 * The acknowledgment callback of the message commits the highest offset of the batch per partition
+	 * on {@code ACCEPT} and {@code REJECT}, or seeks to the lowest offset of the batch per partition
+	 * on {@code REQUEUE}.
+	 * When batches are acknowledged out of the order they have been received, the commit
+	 * is deferred per partition until all the earlier batches for that partition are acknowledged.
+	 * A requeued batch causes the later in-flight batches for its partitions to be re-fetched,
+	 * so their offsets are not committed.
+	 * When a record in the batch fails deserialization, the batch is not emitted:
+	 * the {@code DeserializationException} is thrown from the {@link #receive()}, the failed records
+	 * are skipped and the rest of the records are re-fetched for the next batch.
+	 * Requires the {@code allowMultiFetch} constructor argument to be true,
+	 * otherwise each batch contains only one record.
+	 * @param batchMode true to enable the batch mode.
+	 * @since 6.5
+	 */
+	public void setBatchMode(boolean batchMode) {
+		this.batchMode = batchMode;
+	}
+
+	protected boolean isBatchMode() {
+		return this.batchMode;
+	}
+
+	/**
+	 * Set the batch message converter to replace the default
+	 * {@link BatchMessagingMessageConverter}.
+	 * Only applies in the {@link #setBatchMode(boolean) batch mode}.
+	 * @param batchMessageConverter the converter.
+	 * @since 6.5
+	 */
+	public void setBatchMessageConverter(BatchMessageConverter batchMessageConverter) {
+		Assert.notNull(batchMessageConverter, "'batchMessageConverter' must not be null");
+		this.batchMessageConverter = batchMessageConverter;
+	}
+
 	protected Class<?> getPayloadType() {
 		return this.payloadType;
 	}
@@ -477,6 +549,11 @@ public class KafkaMessageSource<K, V> extends AbstractMessageSource<Object>
 			this.receiveLock.unlock();
 		}
 
+		if (this.batchMode) {
+			ConsumerRecords<K, V> records = pollRecords();
+			return records != null ? recordsToMessage(records) : null;
+		}
+
 		ConsumerRecord<K, V> record = pollRecord();
 
 		return record != null ? recordToMessage(record) : null;
@@ -563,34 +640,43 @@ public class KafkaMessageSource<K, V> extends AbstractMessageSource<Object>
 			return nextRecord();
 		}
 		else {
-			this.consumerLock.lock();
+			ConsumerRecords<K, V> records = pollRecords();
+			if (records == null) {
+				return null;
+			}
+			this.remainingCount.set(records.count());
+			this.recordsIterator = records.iterator();
+			return nextRecord();
+		}
+	}
+
+	@Nullable
+	private ConsumerRecords<K, V> pollRecords() {
+		this.consumerLock.lock();
+		try {
 			try {
-				try {
-					ConsumerRecords<K, V> records = this.consumer
-							.poll(this.assignedPartitions.isEmpty() ? this.assignTimeout : this.pollTimeout);
-					this.logger.debug(() -> records == null
-							? "Received null"
-							: "Received " + records.count() + " records");
-					if (records == null || records.count() == 0) {
-						return null;
-					}
-					this.remainingCount.set(records.count());
-					this.recordsIterator = records.iterator();
-					return nextRecord();
-				}
-				catch (WakeupException ex) {
-					this.logger.debug("Woken");
-					if (this.newAssignment) {
-						this.newAssignment = false;
-						return pollRecord();
-					}
+				ConsumerRecords<K, V> records = this.consumer
+						.poll(this.assignedPartitions.isEmpty() ? this.assignTimeout : this.pollTimeout);
+				this.logger.debug(() -> records == null
+						? "Received null"
+						: "Received " + records.count() + " records");
+				if (records == null || records.count() == 0) {
 					return null;
 				}
+				return records;
 			}
-			finally {
-				this.consumerLock.unlock();
+			catch (WakeupException ex) {
+				this.logger.debug("Woken");
+				if (this.newAssignment) {
+					this.newAssignment = false;
+					return pollRecords();
+				}
+				return null;
 			}
 		}
+		finally {
+			this.consumerLock.unlock();
+		}
 	}
 
 	private ConsumerRecord<K, V> nextRecord() {
@@ -604,11 +690,9 @@ public class KafkaMessageSource<K, V> extends AbstractMessageSource<Object>
 	}
 
 	private Object recordToMessage(ConsumerRecord<K, V> record) {
-		if (record.value() == null && this.checkNullValueForExceptions) {
-			checkDeserializationException(record, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER);
-		}
-		if (record.key() == null && this.checkNullKeyForExceptions) {
-			checkDeserializationException(record, SerializationUtils.KEY_DESERIALIZER_EXCEPTION_HEADER);
+		DeserializationException deserializationException = getDeserializationException(record);
+		if (deserializationException != null) {
+			throw deserializationException;
 		}
 
 		TopicPartition topicPartition = new TopicPartition(record.topic(), record.partition());
@@ -641,13 +725,97 @@ public class KafkaMessageSource<K, V> extends AbstractMessageSource<Object>
 		}
 	}
 
-	private void checkDeserializationException(ConsumerRecord<K, V> record, String headerName) {
-		DeserializationException exception = SerializationUtils.getExceptionFromHeader(record, headerName, this.logger);
-		if (exception != null) {
-			throw exception;
+	@Nullable
+	private Object recordsToMessage(ConsumerRecords<K, V> records) {
+		List<ConsumerRecord<?, ?>> recordList = new ArrayList<>(records.count());
+		Map<TopicPartition, List<ConsumerRecord<K, V>>> partitionRecords = new LinkedHashMap<>();
+		Set<RecordPosition> skipped = new HashSet<>();
+		DeserializationException deserializationException = null;
+		for (ConsumerRecord<K, V> record : records) {
+			TopicPartition topicPartition = new TopicPartition(record.topic(), record.partition());
+			RecordPosition position = new RecordPosition(topicPartition, record.offset());
+			if (this.skippedRecords.contains(position)) {
+				skipped.add(position);
+				continue;
+			}
+			DeserializationException exception = getDeserializationException(record);
+			if (exception != null) {
+				this.skippedRecords.add(position);
+				if (deserializationException == null) {
+					deserializationException = exception;
+				}
+			}
+			recordList.add(record);
+			partitionRecords.computeIfAbsent(topicPartition, (key) -> new ArrayList<>()).add(record);
+		}
+		if (deserializationException != null) {
+			rewind(records);
+			throw deserializationException;
+		}
+		this.skippedRecords.removeAll(skipped);
+		if (recordList.isEmpty()) {
+			return null;
+		}
+		KafkaBatchAckCallback ackCallback;
+		this.consumerLock.lock();
+		try {
+			ackCallback = new KafkaBatchAckCallback(partitionRecords);
+		}
+		finally {
+			this.consumerLock.unlock();
+		}
+		Message<?> message =
+				this.batchMessageConverter.toMessage(recordList, ackCallback, this.consumer, this.payloadType);
+		if (message.getHeaders() instanceof KafkaMessageHeaders kafkaMessageHeaders) {
+			Map<String, Object> rawHeaders = kafkaMessageHeaders.getRawHeaders();
+			rawHeaders.put(IntegrationMessageHeaderAccessor.ACKNOWLEDGMENT_CALLBACK, ackCallback);
+			if (this.rawMessageHeader) {
+				rawHeaders.put(KafkaHeaders.RAW_DATA, records);
+				rawHeaders.put(IntegrationMessageHeaderAccessor.SOURCE_DATA, records);
+			}
+			return message;
+		}
+		else {
+			AbstractIntegrationMessageBuilder<?> builder = getMessageBuilderFactory().fromMessage(message)
+					.setHeader(IntegrationMessageHeaderAccessor.ACKNOWLEDGMENT_CALLBACK, ackCallback);
+			if (this.rawMessageHeader) {
+				builder.setHeader(KafkaHeaders.RAW_DATA, records);
+				builder.setHeader(IntegrationMessageHeaderAccessor.SOURCE_DATA, records);
+			}
+			return builder;
 		}
 	}
 
+	/**
+	 * Seek to the first offset of each partition in the batch,
+	 * so the records (except skipped ones) are re-fetched by the next poll.
+	 */
+	private void rewind(ConsumerRecords<K, V> records) {
+		this.consumerLock.lock();
+		try {
+			for (TopicPartition topicPartition : records.partitions()) {
+				this.consumer.seek(topicPartition, records.records(topicPartition).get(0).offset());
+			}
+		}
+		finally {
+			this.consumerLock.unlock();
+		}
+	}
+
+	@Nullable
+	private DeserializationException getDeserializationException(ConsumerRecord<K, V> record) {
+		DeserializationException exception = null;
+		if (record.value() == null && this.checkNullValueForExceptions) {
+			exception = SerializationUtils.getExceptionFromHeader(record,
+					SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, this.logger);
+		}
+		if (exception == null && record.key() == null && this.checkNullKeyForExceptions) {
+			exception = SerializationUtils.getExceptionFromHeader(record,
+					SerializationUtils.KEY_DESERIALIZER_EXCEPTION_HEADER, this.logger);
+		}
+		return exception;
+	}
+
 	@Override
 	public void destroy() {
 		this.receiveLock.lock();
@@ -667,6 +835,7 @@ public class KafkaMessageSource<K, V> extends AbstractMessageSource<Object>
 				this.consumer.close(this.closeTimeout);
 				this.consumer = null;
 				this.assignedPartitions.clear();
+				this.inflightBatches.clear();
 			}
 		}
 		finally {
@@ -701,6 +870,8 @@ public class KafkaMessageSource<K, V> extends AbstractMessageSource<Object>
 		@Override
 		public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
 			KafkaMessageSource.this.assignedPartitions.removeAll(partitions);
+			KafkaMessageSource.this.skippedRecords
+					.removeIf((position) -> partitions.contains(position.topicPartition()));
 			KafkaMessageSource.this.logger.info(() -> "Partitions revoked: " + partitions);
 			if (this.providedRebalanceListener != null) {
 				if (this.isConsumerAware) {
@@ -943,6 +1114,177 @@ public class KafkaMessageSource<K, V> extends AbstractMessageSource<Object>
 
 	}
 
+	/**
+	 * The {@link AcknowledgmentCallback} for a batch of records in the batch mode.
+	 * Commits the highest offset per partition, or seeks to the lowest one on requeue.
+	 * The batches are tracked per partition in the order they have been received:
+	 * a commit is deferred until all the earlier batches for the partition are acknowledged.
+	 */
+	private final class KafkaBatchAckCallback implements AcknowledgmentCallback, Acknowledgment {
+
+		private final Map<TopicPartition, OffsetAndMetadata> offsetsToCommit = new LinkedHashMap<>();
+
+		private final Map<TopicPartition, Long> offsetsToSeek = new LinkedHashMap<>();
+
+		private final LogIfLevelEnabled commitLogger;
+
+		private volatile boolean acknowledged;
+
+		private volatile boolean rolledBack;
+
+		private boolean commitPending;
+
+		private boolean autoAckEnabled = true;
+
+		/**
+		 * Must be called with the {@code consumerLock} held.
+		 */
+		KafkaBatchAckCallback(Map<TopicPartition, List<ConsumerRecord<K, V>>> partitionRecords) {
+			partitionRecords.forEach((topicPartition, records) -> {
+				this.offsetsToSeek.put(topicPartition, records.get(0).offset());
+				this.offsetsToCommit.put(topicPartition,
+						new OffsetAndMetadata(records.get(records.size() - 1).offset() + 1));
+				KafkaMessageSource.this.inflightBatches
+						.computeIfAbsent(topicPartition, (key) -> new ArrayDeque<>())
+						.add(this);
+			});
+			this.commitLogger = new LogIfLevelEnabled(KafkaMessageSource.this.logger,
+					KafkaMessageSource.this.consumerProperties.getCommitLogLevel());
+		}
+
+		@Override
+		public void acknowledge(Status status) {
+			Assert.notNull(status, "'status' cannot be null");
+			if (this.acknowledged) {
+				throw new IllegalStateException("Already acknowledged");
+			}
+			KafkaMessageSource.this.consumerLock.lock();
+			try {
+				Consumer<K, V> kafkaConsumer = KafkaMessageSource.this.consumer;
+				Assert.state(kafkaConsumer != null, "The consumer has been stopped");
+				switch (status) {
+					case ACCEPT, REJECT -> commitIfPossible(kafkaConsumer);
+					case REQUEUE -> rollback(kafkaConsumer);
+					default -> {
+					}
+				}
+			}
+			catch (WakeupException e) {
+				throw new IllegalStateException(e);
+			}
+			finally {
+				this.acknowledged = true;
+				KafkaMessageSource.this.consumerLock.unlock();
+			}
+		}
+
+		private void rollback(Consumer<K, V> kafkaConsumer) {
+			this.offsetsToSeek.forEach(kafkaConsumer::seek);
+			for (TopicPartition topicPartition : this.offsetsToSeek.keySet()) {
+				Deque<KafkaBatchAckCallback> inflight = KafkaMessageSource.this.inflightBatches.get(topicPartition);
+				if (inflight != null) {
+					boolean later = false;
+					Iterator<KafkaBatchAckCallback> iterator = inflight.iterator();
+					while (iterator.hasNext()) {
+						KafkaBatchAckCallback batch = iterator.next();
+						if (batch == this) {
+							iterator.remove();
+							later = true;
+						}
+						else if (later) {
+							batch.rolledBack = true;
+							if (batch.commitPending) {
+								iterator.remove();
+							}
+						}
+					}
+				}
+			}
+		}
+
+		private void commitIfPossible(Consumer<K, V> kafkaConsumer) {
+			if (this.rolledBack) {
+				KafkaMessageSource.this.logger.warn(() -> "Cannot commit batch offsets " + this.offsetsToCommit
+						+ "; an earlier batch was rolled back");
+				for (TopicPartition topicPartition : this.offsetsToCommit.keySet()) {
+					Deque<KafkaBatchAckCallback> inflight =
+							KafkaMessageSource.this.inflightBatches.get(topicPartition);
+					if (inflight != null) {
+						inflight.remove(this);
+					}
+				}
+			}
+			else {
+				this.commitPending = true;
+			}
+			Map<TopicPartition, OffsetAndMetadata> toCommit = new LinkedHashMap<>();
+			for (TopicPartition topicPartition : this.offsetsToCommit.keySet()) {
+				Deque<KafkaBatchAckCallback> inflight = KafkaMessageSource.this.inflightBatches.get(topicPartition);
+				KafkaBatchAckCallback lastCommitted = null;
+				while (inflight != null && !inflight.isEmpty() && inflight.peekFirst().commitPending) {
+					lastCommitted = inflight.pollFirst();
+				}
+				if (lastCommitted != null) {
+					toCommit.put(topicPartition, lastCommitted.offsetsToCommit.get(topicPartition));
+				}
+			}
+			if (!toCommit.isEmpty()) {
+				commit(kafkaConsumer, toCommit);
+			}
+			else if (!this.rolledBack) {
+				KafkaMessageSource.this.logger.debug(
+						"Deferring commit of batch offsets; earlier batches are in flight.");
+			}
+		}
+
+		private void commit(Consumer<K, V> kafkaConsumer, Map<TopicPartition, OffsetAndMetadata> toCommit) {
+			this.commitLogger.log(() -> "Committing batch offsets " + toCommit);
+			ConsumerProperties properties = KafkaMessageSource.this.consumerProperties;
+			if (properties.isSyncCommits()) {
+				Duration commitTimeout = properties.getSyncCommitTimeout();
+				if (commitTimeout == null) {
+					kafkaConsumer.commitSync(toCommit);
+				}
+				else {
+					kafkaConsumer.commitSync(toCommit, commitTimeout);
+				}
+			}
+			else {
+				OffsetCommitCallback commitCallback = properties.getCommitCallback();
+				kafkaConsumer.commitAsync(toCommit,
+						commitCallback != null ? commitCallback : new LoggingCommitCallback());
+			}
+		}
+
+		@Override
+		public boolean isAcknowledged() {
+			return this.acknowledged;
+		}
+
+		@Override
+		public void acknowledge() {
+			acknowledge(Status.ACCEPT);
+		}
+
+		@Override
+		public void noAutoAck() {
+			this.autoAckEnabled = false;
+		}
+
+		@Override
+		public boolean isAutoAck() {
+			return this.autoAckEnabled;
+		}
+
+	}
+
+	/**
+	 * The position of a record skipped in the batch mode because of a deserialization exception.
+	 */
+	private record RecordPosition(TopicPartition topicPartition, long offset) {
+
+	}
+
 	/**
 	 * Information for building an KafkaAckCallback.
 	 */
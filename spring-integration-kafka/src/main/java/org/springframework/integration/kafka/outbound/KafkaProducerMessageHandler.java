@@ -1,5 +1,5 @@
 /*
- * Copyright 2013-2024 the original author or authors.
+ * Copyright 2013-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,18 +19,26 @@ package org.springframework.integration.kafka.outbound;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.header.internals.RecordHeaders;
 
@@ -79,6 +87,11 @@ import org.springframework.util.StringUtils;
  * {@link KafkaHeaders#REPLY_TOPIC} unless it already contains such a header. The handler
  * will not map any additional headers; providing such a payload assumes the headers have
  * already been mapped.
+ * <p>
+ * In the channel adapter mode, the number of outstanding (not yet acknowledged) sends can be
+ * bounded with the {@link #setMaxInFlight(int)}, the successful send results can be emitted
+ * in batches with the {@link #setSuccessBatchSize(int)} and the producer can be flushed
+ * periodically with the {@link #setFlushLinger(Duration)}.
  *
  * @param <K> the key type.
  * @param <V> the value type.
@@ -118,6 +131,16 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 
 	private final long deliveryTimeoutMsProperty;
 
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final Lock successBatchLock = new ReentrantLock();
+
+	private final List<Message<?>> successBatch = new ArrayList<>();
+
+	private final List<RecordMetadata> successBatchMetadata = new ArrayList<>();
+
+	private final AtomicBoolean lingerFlushScheduled = new AtomicBoolean();
+
 	private EvaluationContext evaluationContext;
 
 	private Expression topicExpression;
@@ -165,6 +188,18 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 
 	private Duration assignmentDuration = DEFAULT_ASSIGNMENT_TIMEOUT;
 
+	private int maxInFlight;
+
+	private int successBatchSize = 1;
+
+	@Nullable
+	private Duration flushLinger;
+
+	@Nullable
+	private Semaphore inFlightPermits;
+
+	private boolean windowed;
+
 	private volatile byte[] singleReplyTopic;
 
 	public KafkaProducerMessageHandler(final KafkaTemplate<K, V> kafkaTemplate) {
@@ -428,6 +463,56 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 		this.assignmentDuration = assignmentDuration;
 	}
 
+	/**
+	 * Set the maximum number of sends which may be outstanding (not yet acknowledged by
+	 * the broker) at any time. When reached, the next send waits for a completion, up to
+	 * the {@link #setSendTimeout(long) sendTimeout}; a {@link MessageTimeoutException} is
+	 * thrown if no send has completed in time. Since the sends are issued in order, the
+	 * per-partition ordering is still guaranteed by the producer. Only supported in the
+	 * async channel adapter mode. Defaults to {@code 0} - no limit.
+	 * @param maxInFlight the maximum number of outstanding sends.
+	 * @since 6.5
+	 */
+	public void setMaxInFlight(int maxInFlight) {
+		Assert.isTrue(maxInFlight >= 0, "'maxInFlight' must not be negative");
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * Set the number of successful send results to collect before emitting them to the
+	 * {@link #setSendSuccessChannel(MessageChannel) sendSuccessChannel} as a single message.
+	 * The payload of such a message is a {@link List} of the sent messages and the
+	 * {@link KafkaHeaders#RECORD_METADATA} header is a {@link List} of the respective
+	 * {@link RecordMetadata}. A partial batch is emitted when there are no more outstanding
+	 * sends, on a {@link #setFlushLinger(Duration) linger flush}, or when this handler is
+	 * stopped. Failures are still sent to the {@link #setSendFailureChannel(MessageChannel)
+	 * sendFailureChannel} individually. Only supported in the async channel adapter mode.
+	 * Defaults to {@code 1} - no batching.
+	 * @param successBatchSize the batch size.
+	 * @since 6.5
+	 */
+	public void setSuccessBatchSize(int successBatchSize) {
+		Assert.isTrue(successBatchSize > 0, "'successBatchSize' must be greater than 0");
+		this.successBatchSize = successBatchSize;
+	}
+
+	/**
+	 * Flush the producer at most this time after a send, instead of relying on a
+	 * {@link #setFlushExpression(Expression) flushExpression} evaluated per message.
+	 * The flush is performed on the {@link #getTaskScheduler() taskScheduler} thread,
+	 * so the sending thread is never blocked; a pending
+	 * {@link #setSuccessBatchSize(int) success batch} is emitted after the flush.
+	 * Not supported with a transactional {@link KafkaTemplate}, unless it allows
+	 * non-transactional sends.
+	 * @param flushLinger the linger duration; null (default) to disable.
+	 * @since 6.5
+	 */
+	public void setFlushLinger(@Nullable Duration flushLinger) {
+		Assert.state(flushLinger == null || !this.transactional || this.allowNonTransactional,
+				"A 'flushLinger' cannot be used with a transactional 'KafkaTemplate'");
+		this.flushLinger = flushLinger;
+	}
+
 	@Override
 	public String getComponentType() {
 		return this.isGateway ? "kafka:outbound-gateway" : "kafka:outbound-channel-adapter";
@@ -470,6 +555,16 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 	@Override
 	protected void doInit() {
 		this.evaluationContext = ExpressionUtils.createStandardEvaluationContext(getBeanFactory());
+		if (this.maxInFlight > 0 || this.successBatchSize > 1) {
+			Assert.state(!this.isGateway && !this.sync,
+					"The 'maxInFlight' and 'successBatchSize' are supported only in the async channel adapter mode");
+			if (this.maxInFlight > 0) {
+				this.inFlightPermits = new Semaphore(this.maxInFlight);
+			}
+			this.windowed = true;
+		}
+		Assert.state(this.flushLinger == null || getTaskScheduler() != null,
+				"A 'taskScheduler' is required for the 'flushLinger'");
 	}
 
 	@Override
@@ -481,6 +576,7 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 	public void stop() {
 		if (this.running.compareAndSet(true, false) && (!this.transactional || this.allowNonTransactional)) {
 			this.kafkaTemplate.flush();
+			emitSuccessBatch(getSendSuccessChannel());
 		}
 	}
 
@@ -510,6 +606,9 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 		}
 		CompletableFuture<SendResult<K, V>> sendFuture;
 		RequestReplyFuture<K, V, Object> gatewayFuture = null;
+		if (this.windowed) {
+			acquireInFlightPermit(message);
+		}
 		try {
 			if (this.isGateway) {
 				waitForAssignment();
@@ -528,13 +627,22 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 			}
 		}
 		catch (RuntimeException rtex) {
+			if (this.windowed) {
+				releaseInFlightPermit();
+			}
 			sendFailure(message, producerRecord, getSendFailureChannel(), rtex);
 			throw rtex;
 		}
+		if (this.windowed) {
+			sendFuture = releaseInFlightPermitOnCompletion(sendFuture);
+		}
 		sendFutureIfRequested(sendFuture, futureToken);
 		if (flush) {
 			this.kafkaTemplate.flush();
 		}
+		else if (this.flushLinger != null) {
+			scheduleLingerFlush();
+		}
 		try {
 			processSendResult(message, producerRecord, sendFuture, getSendSuccessChannel());
 		}
@@ -589,6 +697,72 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 				headers);
 	}
 
+	private void acquireInFlightPermit(Message<?> message) {
+		if (this.inFlightPermits != null) {
+			Long sendTimeout = evaluateSendTimeout(message);
+			boolean acquired;
+			try {
+				if (sendTimeout == null || sendTimeout < 0) {
+					this.inFlightPermits.acquire();
+					acquired = true;
+				}
+				else {
+					acquired = this.inFlightPermits.tryAcquire(sendTimeout, TimeUnit.MILLISECONDS);
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new MessageHandlingException(message, e);
+			}
+			if (!acquired) {
+				throw new MessageTimeoutException(message,
+						"Timeout waiting for one of " + this.maxInFlight + " in-flight sends to complete");
+			}
+		}
+		this.inFlight.incrementAndGet();
+	}
+
+	private void releaseInFlightPermit() {
+		this.inFlight.decrementAndGet();
+		if (this.inFlightPermits != null) {
+			this.inFlightPermits.release();
+		}
+	}
+
+	private CompletableFuture<SendResult<K, V>> releaseInFlightPermitOnCompletion(
+			CompletableFuture<SendResult<K, V>> sendFuture) {
+
+		// Not the future returned by 'whenComplete()' since it wraps an exception into a 'CompletionException'
+		CompletableFuture<SendResult<K, V>> windowedFuture = new CompletableFuture<>();
+		sendFuture.whenComplete((sendResult, exception) -> {
+			releaseInFlightPermit();
+			if (exception == null) {
+				windowedFuture.complete(sendResult);
+			}
+			else {
+				windowedFuture.completeExceptionally(exception);
+			}
+		});
+		return windowedFuture;
+	}
+
+	private void scheduleLingerFlush() {
+		if (this.lingerFlushScheduled.compareAndSet(false, true)) {
+			getTaskScheduler().schedule(this::lingerFlush, Instant.now().plus(this.flushLinger));
+		}
+	}
+
+	private void lingerFlush() {
+		this.lingerFlushScheduled.set(false);
+		try {
+			this.kafkaTemplate.flush();
+		}
+		catch (Exception ex) {
+			this.logger.error(ex, "Failed to flush the producer");
+		}
+		emitSuccessBatch(getSendSuccessChannel());
+	}
+
 	private void waitForAssignment() {
 		ReplyingKafkaTemplate<?, ?, ?> rkt = (ReplyingKafkaTemplate<?, ?, ?>) this.kafkaTemplate;
 		try {
@@ -641,7 +815,10 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 		if (failureChannel != null || metadataChannel != null) {
 			future.whenComplete((sendResult, exception) -> {
 				if (exception == null) {
-					if (metadataChannel != null) {
+					if (metadataChannel != null && this.successBatchSize > 1) {
+						addToSuccessBatch(message, sendResult.getRecordMetadata(), metadataChannel);
+					}
+					else if (metadataChannel != null) {
 						KafkaProducerMessageHandler.this.messagingTemplate.send(metadataChannel,
 								getMessageBuilderFactory()
 										.fromMessage(message)
@@ -651,19 +828,15 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 				}
 				else {
 					sendFailure(message, producerRecord, failureChannel, exception);
+					if (metadataChannel != null && this.successBatchSize > 1 && this.inFlight.get() == 0) {
+						emitSuccessBatch(metadataChannel);
+					}
 				}
 			});
 		}
 
 		if (this.sync || this.isGateway) {
-			Long sendTimeout = this.sendTimeoutExpression.getValue(this.evaluationContext, message, Long.class);
-			if (sendTimeout != null && sendTimeout <= this.deliveryTimeoutMsProperty) {
-				this.logger.debug(() -> "'sendTimeout' increased to "
-						+ (this.deliveryTimeoutMsProperty + this.timeoutBuffer)
-						+ "ms; it must be greater than the 'delivery.timeout.ms' Kafka producer "
-						+ "property to avoid false failures");
-				sendTimeout = this.deliveryTimeoutMsProperty + this.timeoutBuffer;
-			}
+			Long sendTimeout = evaluateSendTimeout(message);
 			if (sendTimeout == null || sendTimeout < 0) {
 				future.get();
 			}
@@ -678,6 +851,67 @@ public class KafkaProducerMessageHandler<K, V> extends AbstractReplyProducingMes
 		}
 	}
 
+	@Nullable
+	private Long evaluateSendTimeout(Message<?> message) {
+		Long sendTimeout = this.sendTimeoutExpression.getValue(this.evaluationContext, message, Long.class);
+		if (sendTimeout != null && sendTimeout <= this.deliveryTimeoutMsProperty) {
+			this.logger.debug(() -> "'sendTimeout' increased to "
+					+ (this.deliveryTimeoutMsProperty + this.timeoutBuffer)
+					+ "ms; it must be greater than the 'delivery.timeout.ms' Kafka producer "
+					+ "property to avoid false failures");
+			sendTimeout = this.deliveryTimeoutMsProperty + this.timeoutBuffer;
+		}
+		return sendTimeout;
+	}
+
+	private void addToSuccessBatch(Message<?> message, RecordMetadata recordMetadata, MessageChannel metadataChannel) {
+		Message<?> batch = null;
+		this.successBatchLock.lock();
+		try {
+			this.successBatch.add(message);
+			this.successBatchMetadata.add(recordMetadata);
+			if (this.successBatch.size() >= this.successBatchSize || this.inFlight.get() == 0) {
+				batch = drainSuccessBatch();
+			}
+		}
+		finally {
+			this.successBatchLock.unlock();
+		}
+		if (batch != null) {
+			this.messagingTemplate.send(metadataChannel, batch);
+		}
+	}
+
+	private void emitSuccessBatch(@Nullable MessageChannel metadataChannel) {
+		if (metadataChannel == null || this.successBatchSize == 1) {
+			return;
+		}
+		Message<?> batch = null;
+		this.successBatchLock.lock();
+		try {
+			if (!this.successBatch.isEmpty()) {
+				batch = drainSuccessBatch();
+			}
+		}
+		finally {
+			this.successBatchLock.unlock();
+		}
+		if (batch != null) {
+			this.messagingTemplate.send(metadataChannel, batch);
+		}
+	}
+
+	private Message<?> drainSuccessBatch() {
+		Message<?> batch =
+				getMessageBuilderFactory()
+						.withPayload(new ArrayList<>(this.successBatch))
+						.setHeader(KafkaHeaders.RECORD_METADATA, new ArrayList<>(this.successBatchMetadata))
+						.build();
+		this.successBatch.clear();
+		this.successBatchMetadata.clear();
+		return batch;
+	}
+
 	private void sendFailure(final Message<?> message, final ProducerRecord<K, V> producerRecord,
 			@Nullable MessageChannel failureChannel, Throwable exception) {
 
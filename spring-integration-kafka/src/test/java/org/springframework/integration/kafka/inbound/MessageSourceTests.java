@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -67,6 +68,8 @@ import org.springframework.kafka.listener.ConsumerProperties;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.kafka.support.LogIfLevelEnabled.Level;
 import org.springframework.kafka.support.TopicPartitionOffset;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
 import org.springframework.kafka.test.utils.KafkaTestUtils;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
@@ -84,8 +87,10 @@ import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * @author Gary Russell
@@ -772,6 +777,164 @@ class MessageSourceTests {
 		inOrder.verifyNoMoreInteractions();
 	}
 
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	@Test
+	void testBatchMode() {
+		Consumer consumer = mock(Consumer.class);
+		TopicPartition topicPartition0 = new TopicPartition("foo", 0);
+		TopicPartition topicPartition1 = new TopicPartition("foo", 1);
+		List<TopicPartition> assigned = Arrays.asList(topicPartition0, topicPartition1);
+		willAnswer(i -> {
+			((ConsumerRebalanceListener) i.getArgument(1))
+					.onPartitionsAssigned(assigned);
+			return null;
+		}).given(consumer).subscribe(anyCollection(), any(ConsumerRebalanceListener.class));
+		Map<TopicPartition, List<ConsumerRecord>> records = new LinkedHashMap<>();
+		records.put(topicPartition0, Arrays.asList(
+				new ConsumerRecord("foo", 0, 0L, 0L, TimestampType.NO_TIMESTAMP_TYPE, 0, 0, null, "foo",
+						new RecordHeaders(), Optional.empty()),
+				new ConsumerRecord("foo", 0, 1L, 0L, TimestampType.NO_TIMESTAMP_TYPE, 0, 0, null, "bar",
+						new RecordHeaders(), Optional.empty())));
+		records.put(topicPartition1, Arrays.asList(
+				new ConsumerRecord("foo", 1, 5L, 0L, TimestampType.NO_TIMESTAMP_TYPE, 0, 0, null, "baz",
+						new RecordHeaders(), Optional.empty()),
+				new ConsumerRecord("foo", 1, 6L, 0L, TimestampType.NO_TIMESTAMP_TYPE, 0, 0, null, "qux",
+						new RecordHeaders(), Optional.empty())));
+		ConsumerRecords cr1 = new ConsumerRecords(records);
+		ConsumerRecords cr2 = new ConsumerRecords(Collections.emptyMap());
+		given(consumer.poll(any(Duration.class))).willReturn(cr1, cr1, cr2);
+		ConsumerFactory consumerFactory = mock(ConsumerFactory.class);
+		willReturn(Collections.singletonMap(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 4)).given(consumerFactory)
+				.getConfigurationProperties();
+		given(consumerFactory.createConsumer(isNull(), anyString(), isNull(), any())).willReturn(consumer);
+		KafkaMessageSource source = new KafkaMessageSource(consumerFactory, new ConsumerProperties("foo"), true);
+		source.setBatchMode(true);
+
+		Message<?> received = source.receive();
+		assertThat(received).isNotNull();
+		assertThat(received.getPayload()).isEqualTo(List.of("foo", "bar", "baz", "qux"));
+		assertThat(received.getHeaders().get(KafkaHeaders.OFFSET)).isEqualTo(List.of(0L, 1L, 5L, 6L));
+		assertThat(received.getHeaders().get(KafkaHeaders.RECEIVED_PARTITION)).isEqualTo(List.of(0, 0, 1, 1));
+		StaticMessageHeaderAccessor.getAcknowledgmentCallback(received)
+				.acknowledge(AcknowledgmentCallback.Status.REQUEUE);
+
+		received = source.receive();
+		assertThat(received).isNotNull();
+		AcknowledgmentCallback ackCallback = StaticMessageHeaderAccessor.getAcknowledgmentCallback(received);
+		ackCallback.acknowledge(AcknowledgmentCallback.Status.ACCEPT);
+		assertThat(ackCallback.isAcknowledged()).isTrue();
+		assertThatThrownBy(ackCallback::acknowledge)
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("Already acknowledged");
+
+		received = source.receive();
+		assertThat(received).isNull();
+		source.destroy();
+		Map<TopicPartition, OffsetAndMetadata> expectedCommit = new HashMap<>();
+		expectedCommit.put(topicPartition0, new OffsetAndMetadata(2L));
+		expectedCommit.put(topicPartition1, new OffsetAndMetadata(7L));
+		InOrder inOrder = inOrder(consumer);
+		inOrder.verify(consumer).subscribe(anyCollection(), any(ConsumerRebalanceListener.class));
+		inOrder.verify(consumer).poll(any(Duration.class));
+		inOrder.verify(consumer).seek(topicPartition0, 0L);
+		inOrder.verify(consumer).seek(topicPartition1, 5L);
+		inOrder.verify(consumer).poll(any(Duration.class));
+		inOrder.verify(consumer).commitSync(expectedCommit);
+		inOrder.verify(consumer).poll(any(Duration.class));
+		inOrder.verify(consumer).close(any());
+		inOrder.verifyNoMoreInteractions();
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	@Test
+	void testBatchModeOutOfOrderAcks() {
+		Consumer consumer = mock(Consumer.class);
+		TopicPartition topicPartition = new TopicPartition("foo", 0);
+		willAnswer(i -> {
+			((ConsumerRebalanceListener) i.getArgument(1))
+					.onPartitionsAssigned(List.of(topicPartition));
+			return null;
+		}).given(consumer).subscribe(anyCollection(), any(ConsumerRebalanceListener.class));
+		ConsumerRecords cr1 = new ConsumerRecords(Collections.singletonMap(topicPartition, Arrays.asList(
+				new ConsumerRecord("foo", 0, 0L, 0L, TimestampType.NO_TIMESTAMP_TYPE, 0, 0, null, "foo",
+						new RecordHeaders(), Optional.empty()),
+				new ConsumerRecord("foo", 0, 1L, 0L, TimestampType.NO_TIMESTAMP_TYPE, 0, 0, null, "bar",
+						new RecordHeaders(), Optional.empty()))));
+		ConsumerRecords cr2 = new ConsumerRecords(Collections.singletonMap(topicPartition, Arrays.asList(
+				new ConsumerRecord("foo", 0, 2L, 0L, TimestampType.NO_TIMESTAMP_TYPE, 0, 0, null, "baz",
+						new RecordHeaders(), Optional.empty()),
+				new ConsumerRecord("foo", 0, 3L, 0L, TimestampType.NO_TIMESTAMP_TYPE, 0, 0, null, "qux",
+						new RecordHeaders(), Optional.empty()))));
+		given(consumer.poll(any(Duration.class))).willReturn(cr1, cr2);
+		ConsumerFactory consumerFactory = mock(ConsumerFactory.class);
+		willReturn(Collections.singletonMap(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 2)).given(consumerFactory)
+				.getConfigurationProperties();
+		given(consumerFactory.createConsumer(isNull(), anyString(), isNull(), any())).willReturn(consumer);
+		KafkaMessageSource source = new KafkaMessageSource(consumerFactory, new ConsumerProperties("foo"), true);
+		source.setBatchMode(true);
+
+		Message<?> received1 = source.receive();
+		Message<?> received2 = source.receive();
+		assertThat(received1.getPayload()).isEqualTo(List.of("foo", "bar"));
+		assertThat(received2.getPayload()).isEqualTo(List.of("baz", "qux"));
+
+		StaticMessageHeaderAccessor.getAcknowledgmentCallback(received2)
+				.acknowledge(AcknowledgmentCallback.Status.ACCEPT);
+		verify(consumer, never()).commitSync(any(Map.class));
+
+		StaticMessageHeaderAccessor.getAcknowledgmentCallback(received1)
+				.acknowledge(AcknowledgmentCallback.Status.ACCEPT);
+		verify(consumer).commitSync(Collections.singletonMap(topicPartition, new OffsetAndMetadata(4L)));
+		verify(consumer, times(1)).commitSync(any(Map.class));
+		source.destroy();
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	@Test
+	void testBatchModeDeserializationException() {
+		Consumer consumer = mock(Consumer.class);
+		TopicPartition topicPartition = new TopicPartition("foo", 0);
+		willAnswer(i -> {
+			((ConsumerRebalanceListener) i.getArgument(1))
+					.onPartitionsAssigned(List.of(topicPartition));
+			return null;
+		}).given(consumer).subscribe(anyCollection(), any(ConsumerRebalanceListener.class));
+		RecordHeaders failedHeaders = new RecordHeaders();
+		SerializationUtils.deserializationException(failedHeaders, "junk".getBytes(),
+				new IllegalStateException("test"), false);
+		ConsumerRecords cr = new ConsumerRecords(Collections.singletonMap(topicPartition, Arrays.asList(
+				new ConsumerRecord("foo", 0, 0L, 0L, TimestampType.NO_TIMESTAMP_TYPE, 0, 0, null, "foo",
+						new RecordHeaders(), Optional.empty()),
+				new ConsumerRecord("foo", 0, 1L, 0L, TimestampType.NO_TIMESTAMP_TYPE, 0, 0, null, null,
+						failedHeaders, Optional.empty()),
+				new ConsumerRecord("foo", 0, 2L, 0L, TimestampType.NO_TIMESTAMP_TYPE, 0, 0, null, "bar",
+						new RecordHeaders(), Optional.empty()))));
+		given(consumer.poll(any(Duration.class))).willReturn(cr);
+		ConsumerFactory consumerFactory = mock(ConsumerFactory.class);
+		willReturn(Collections.singletonMap(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 3)).given(consumerFactory)
+				.getConfigurationProperties();
+		given(consumerFactory.createConsumer(isNull(), anyString(), isNull(), any())).willReturn(consumer);
+		ConsumerProperties consumerProperties = new ConsumerProperties("foo");
+		consumerProperties.setClientId("client");
+		consumerProperties.setCheckDeserExWhenValueNull(true);
+		KafkaMessageSource source = new KafkaMessageSource(consumerFactory, consumerProperties, true);
+		source.setBatchMode(true);
+		source.afterPropertiesSet();
+
+		assertThatThrownBy(source::receive)
+				.isInstanceOf(DeserializationException.class)
+				.hasCauseInstanceOf(IllegalStateException.class);
+		verify(consumer).seek(topicPartition, 0L);
+
+		Message<?> received = source.receive();
+		assertThat(received.getPayload()).isEqualTo(List.of("foo", "bar"));
+		assertThat(received.getHeaders().get(KafkaHeaders.OFFSET)).isEqualTo(List.of(0L, 2L));
+		StaticMessageHeaderAccessor.getAcknowledgmentCallback(received)
+				.acknowledge(AcknowledgmentCallback.Status.ACCEPT);
+		verify(consumer).commitSync(Collections.singletonMap(topicPartition, new OffsetAndMetadata(3L)));
+		source.destroy();
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	void testTopicPatternBasedMessageSource() {
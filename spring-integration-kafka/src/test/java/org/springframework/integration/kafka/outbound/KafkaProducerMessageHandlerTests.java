@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2024 the original author or authors.
+ * Copyright 2016-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
@@ -86,6 +87,7 @@ import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.PollableChannel;
 import org.springframework.messaging.support.ErrorMessage;
 import org.springframework.messaging.support.GenericMessage;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.support.AbstractPlatformTransactionManager;
@@ -103,6 +105,7 @@ import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -729,6 +732,113 @@ class KafkaProducerMessageHandlerTests {
 		verify(template).send(any(ProducerRecord.class));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	void testMaxInFlightAndSuccessBatch() throws InterruptedException {
+		KafkaTemplate<String, String> template = mock(KafkaTemplate.class);
+		given(template.getProducerFactory()).willReturn(mock(ProducerFactory.class));
+		CompletableFuture<SendResult<String, String>> future1 = new CompletableFuture<>();
+		CompletableFuture<SendResult<String, String>> future2 = new CompletableFuture<>();
+		CompletableFuture<SendResult<String, String>> future3 = new CompletableFuture<>();
+		given(template.send(any(ProducerRecord.class))).willReturn(future1, future2, future3);
+		KafkaProducerMessageHandler<String, String> handler = new KafkaProducerMessageHandler<>(template);
+		handler.setTopicExpression(new LiteralExpression("topic"));
+		handler.setBeanFactory(mock(BeanFactory.class));
+		QueueChannel successes = new QueueChannel();
+		handler.setSendSuccessChannel(successes);
+		handler.setMaxInFlight(2);
+		handler.setSuccessBatchSize(2);
+		handler.afterPropertiesSet();
+
+		handler.handleMessage(new GenericMessage<>("foo1"));
+		handler.handleMessage(new GenericMessage<>("foo2"));
+		CountDownLatch thirdSent = new CountDownLatch(1);
+		new Thread(() -> {
+			handler.handleMessage(new GenericMessage<>("foo3"));
+			thirdSent.countDown();
+		}).start();
+
+		assertThat(thirdSent.await(500, TimeUnit.MILLISECONDS)).isFalse();
+		verify(template, times(2)).send(any(ProducerRecord.class));
+
+		RecordMetadata metadata = new RecordMetadata(new TopicPartition("topic", 0), 0L, 0, 0L, 0, 0);
+		future1.complete(new SendResult<>(null, metadata));
+		assertThat(thirdSent.await(10, TimeUnit.SECONDS)).isTrue();
+		verify(template, times(3)).send(any(ProducerRecord.class));
+		assertThat(successes.receive(0)).isNull();
+
+		future2.complete(new SendResult<>(null, metadata));
+		Message<?> batch = successes.receive(10_000);
+		assertThat(batch).isNotNull();
+		assertThat((List<Message<?>>) batch.getPayload())
+				.extracting(Message::getPayload)
+				.containsExactly("foo1", "foo2");
+		assertThat((List<RecordMetadata>) batch.getHeaders().get(KafkaHeaders.RECORD_METADATA))
+				.containsExactly(metadata, metadata);
+
+		future3.complete(new SendResult<>(null, metadata));
+		batch = successes.receive(10_000);
+		assertThat(batch).isNotNull();
+		assertThat((List<Message<?>>) batch.getPayload())
+				.extracting(Message::getPayload)
+				.containsExactly("foo3");
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void testFlushLingerEmitsPartialSuccessBatch() {
+		KafkaTemplate<String, String> template = mock(KafkaTemplate.class);
+		given(template.getProducerFactory()).willReturn(mock(ProducerFactory.class));
+		AtomicReference<String> flushThread = new AtomicReference<>();
+		willAnswer(invocation -> {
+			flushThread.set(Thread.currentThread().getName());
+			return null;
+		}).given(template).flush();
+		RecordMetadata metadata = new RecordMetadata(new TopicPartition("topic", 0), 0L, 0, 0L, 0, 0);
+		CompletableFuture<SendResult<String, String>> future1 = new CompletableFuture<>();
+		CompletableFuture<SendResult<String, String>> future2 =
+				CompletableFuture.completedFuture(new SendResult<>(null, metadata));
+		given(template.send(any(ProducerRecord.class))).willReturn(future1, future2);
+		ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+		taskScheduler.setThreadNamePrefix("flushLinger-");
+		taskScheduler.initialize();
+		KafkaProducerMessageHandler<String, String> handler = new KafkaProducerMessageHandler<>(template);
+		handler.setTopicExpression(new LiteralExpression("topic"));
+		handler.setBeanFactory(mock(BeanFactory.class));
+		handler.setTaskScheduler(taskScheduler);
+		QueueChannel successes = new QueueChannel();
+		handler.setSendSuccessChannel(successes);
+		handler.setSuccessBatchSize(10);
+		handler.setFlushLinger(Duration.ofMillis(100));
+		handler.afterPropertiesSet();
+
+		try {
+			handler.handleMessage(new GenericMessage<>("foo1"));
+			handler.handleMessage(new GenericMessage<>("foo2"));
+
+			// No 'flushExpression' match: the flush and the partial batch come from the linger
+			verify(template, timeout(10_000).atLeastOnce()).flush();
+			assertThat(flushThread.get()).startsWith("flushLinger-");
+			Message<?> batch = successes.receive(10_000);
+			assertThat(batch).isNotNull();
+			assertThat((List<Message<?>>) batch.getPayload())
+					.extracting(Message::getPayload)
+					.containsExactly("foo2");
+			assertThat((List<RecordMetadata>) batch.getHeaders().get(KafkaHeaders.RECORD_METADATA))
+					.containsExactly(metadata);
+
+			future1.complete(new SendResult<>(null, metadata));
+			batch = successes.receive(10_000);
+			assertThat(batch).isNotNull();
+			assertThat((List<Message<?>>) batch.getPayload())
+					.extracting(Message::getPayload)
+					.containsExactly("foo1");
+		}
+		finally {
+			taskScheduler.destroy();
+		}
+	}
+
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	@Test
 	void testFlush() {
@@ -22,10 +22,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -328,6 +330,79 @@ public class MongoDbMessageStore extends AbstractMessageGroupStore
 		}
 	}
 
+	/**
+	 * Read the latest document of each group, check which messages are already present
+	 * in their groups with a single query, reserve the sequences for the new documents
+	 * with a single increment and insert them all at once.
+	 * @param additions the additions to write.
+	 * @since 6.5
+	 */
+	@Override
+	protected void doAddMessagesToGroups(List<GroupAddition> additions) {
+		Set<Object> groupIds = new HashSet<>();
+		Set<UUID> messageIds = new HashSet<>();
+		for (GroupAddition addition : additions) {
+			groupIds.add(addition.groupId());
+			for (Message<?> message : addition.messages()) {
+				messageIds.add(message.getHeaders().getId());
+			}
+		}
+		Set<List<String>> existingMessages = new HashSet<>();
+		Query existingQuery =
+				new Query(Criteria.where("headers.id").in(messageIds).and(GROUP_ID_KEY).in(groupIds));
+		for (MessageWrapper existing : this.template.find(existingQuery, MessageWrapper.class, this.collectionName)) {
+			existingMessages.add(groupMessageKey(existing.get_GroupId(), existing.headers.get(MessageHeaders.ID)));
+		}
+
+		Map<Object, MessageWrapper> lastGroupDocuments = new HashMap<>();
+		List<MessageWrapper> documents = new ArrayList<>();
+		for (GroupAddition addition : additions) {
+			Object groupId = addition.groupId();
+			MessageWrapper groupDocument = lastGroupDocuments.containsKey(groupId)
+					? lastGroupDocuments.get(groupId)
+					: this.template.findOne(whereGroupIdOrder(groupId), MessageWrapper.class, this.collectionName);
+
+			long now = System.currentTimeMillis();
+			long createdTime = groupDocument != null ? groupDocument.get_Group_timestamp() : now;
+			for (Message<?> message : addition.messages()) {
+				if (existingMessages.add(groupMessageKey(groupId, message.getHeaders().getId()))) {
+					MessageWrapper wrapper = new MessageWrapper(message);
+					wrapper.set_GroupId(groupId);
+					wrapper.set_Group_timestamp(createdTime);
+					wrapper.set_Group_update_timestamp(groupDocument == null ? createdTime : now);
+					wrapper.set_message_timestamp(now);
+					if (groupDocument != null) {
+						wrapper.set_Group_complete(groupDocument.get_Group_complete());
+						wrapper.set_LastReleasedSequenceNumber(groupDocument.get_LastReleasedSequenceNumber());
+						if (groupDocument.getCondition() != null) {
+							wrapper.setCondition(groupDocument.getCondition());
+						}
+					}
+					documents.add(wrapper);
+					groupDocument = wrapper;
+				}
+			}
+			lastGroupDocuments.put(groupId, groupDocument);
+		}
+
+		if (!documents.isEmpty()) {
+			long sequence = getNextId(documents.size()) - documents.size();
+			for (MessageWrapper document : documents) {
+				document.setSequence(++sequence);
+			}
+			this.template.insert(documents, this.collectionName);
+		}
+	}
+
+	/**
+	 * Build a key for the message in the group which does not depend on the types
+	 * the ids are read back from the MongoDB with (e.g. a {@code Long} group id stored as {@code int}
+	 * or a message id read as a {@code String} instead of a {@link UUID}).
+	 */
+	private static List<String> groupMessageKey(Object groupId, Object messageId) {
+		return List.of(String.valueOf(groupId), String.valueOf(messageId));
+	}
+
 	@Override
 	protected void doRemoveMessagesFromGroup(Object groupId, Collection<Message<?>> messages) {
 		Assert.notNull(groupId, GROUP_ID_MUST_NOT_BE_NULL);
@@ -509,10 +584,19 @@ public class MongoDbMessageStore extends AbstractMessageGroupStore
 	}
 
 	private long getNextId() {
+		return getNextId(1);
+	}
+
+	/**
+	 * Reserve a number of sequences.
+	 * @param count the number of sequences to reserve.
+	 * @return the last reserved sequence.
+	 */
+	private long getNextId(long count) {
 		Query query = Query.query(Criteria.where("_id").is(SEQUENCE_NAME));
 		query.fields().include(SEQUENCE);
 		return ((Number) this.template.findAndModify(query,
-						new Update().inc(SEQUENCE, 1L),
+						new Update().inc(SEQUENCE, count),
 						FindAndModifyOptions.options().returnNew(true).upsert(true),
 						Map.class, this.collectionName)
 				.get(SEQUENCE))  // NOSONAR - never returns null
@@ -1,5 +1,5 @@
 /*
- * Copyright 2007-2022 the original author or authors.
+ * Copyright 2007-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,17 @@
 
 package org.springframework.integration.mongodb.store;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.integration.store.MessageStore;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * @author Oleg Zhurakousky
@@ -42,6 +50,35 @@ class MongoDbMessageGroupStoreTests extends AbstractMongoDbMessageGroupStoreTest
 		return getMessageGroupStore();
 	}
 
+	@Test
+	void testBatchedAdditionsWithDuplicates() throws Exception {
+		MongoDbMessageStore store = getMessageGroupStore();
+		Long groupA = 1L;
+		String groupB = "groupB";
+		Message<?> existing = new GenericMessage<>("existing");
+		store.addMessagesToGroup(groupA, existing);
+
+		store.setAddBatchSize(4);
+		store.setAddBatchLinger(Duration.ofSeconds(10));
+		Message<?> shared = new GenericMessage<>("shared");
+		Message<?> other = new GenericMessage<>("other");
+		CompletableFuture.allOf(
+						CompletableFuture.runAsync(() -> store.addMessagesToGroup(groupA, shared, shared)),
+						CompletableFuture.runAsync(() -> store.addMessagesToGroup(groupB, shared)),
+						CompletableFuture.runAsync(() -> store.addMessagesToGroup(groupA, existing)),
+						CompletableFuture.runAsync(() -> store.addMessagesToGroup(groupB, other)))
+				.get(30, TimeUnit.SECONDS);
+
+		assertThat(store.messageGroupSize(groupA)).isEqualTo(2);
+		assertThat(store.messageGroupSize(groupB)).isEqualTo(2);
+		assertThat(store.getMessageGroup(groupA).getMessages())
+				.extracting(Message::getPayload)
+				.containsExactlyInAnyOrder("existing", "shared");
+		assertThat(store.getMessageGroup(groupB).getMessages())
+				.extracting(Message::getPayload)
+				.containsExactlyInAnyOrder("shared", "other");
+	}
+
 	@Test
 	void testWithAggregatorWithShutdown() {
 		super.testWithAggregatorWithShutdown("mongo-aggregator-config.xml");
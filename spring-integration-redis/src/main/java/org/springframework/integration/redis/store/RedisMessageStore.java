@@ -1,5 +1,5 @@
 /*
- * Copyright 2007-2024 the original author or authors.
+ * Copyright 2007-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,11 +17,15 @@
 package org.springframework.integration.redis.store;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.BoundValueOperations;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.SerializationException;
@@ -128,6 +132,48 @@ public class RedisMessageStore extends AbstractKeyValueMessageStore implements B
 		}
 	}
 
+	@Override
+	protected List<?> doRetrieveAll(List<Object> ids) {
+		List<Object> objects = this.redisTemplate.opsForValue().multiGet(ids);
+		return objects != null ? objects : super.doRetrieveAll(ids);
+	}
+
+	@Override
+	protected void doStoreAll(Map<Object, Object> objectsToStore) {
+		try {
+			this.redisTemplate.opsForValue().multiSet(objectsToStore);
+		}
+		catch (SerializationException e) {
+			rethrowAsIllegalArgumentException(e);
+		}
+	}
+
+	/**
+	 * Send a {@code SETNX} command for each object in a single pipeline.
+	 * @param objectsToStore the objects to store by their ids.
+	 * @since 6.5
+	 */
+	@Override
+	protected void doStoreAllIfAbsent(Map<Object, Object> objectsToStore) {
+		try {
+			this.redisTemplate.executePipelined(new SessionCallback<Object>() {
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) {
+					RedisOperations<Object, Object> redisOperations = (RedisOperations<Object, Object>) operations;
+					objectsToStore.forEach((id, objectToStore) ->
+							redisOperations.opsForValue().setIfAbsent(id, objectToStore));
+					return null;
+				}
+
+			});
+		}
+		catch (SerializationException e) {
+			rethrowAsIllegalArgumentException(e);
+		}
+	}
+
 	@Override
 	protected Object doRemove(Object id) {
 		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
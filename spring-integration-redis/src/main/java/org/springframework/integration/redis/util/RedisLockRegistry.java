@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2024 the original author or authors.
+ * Copyright 2014-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,12 +17,15 @@
 package org.springframework.integration.redis.util;
 
 import java.io.Serial;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.Date;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.UUID;
@@ -48,7 +51,12 @@ import org.springframework.beans.factory.DisposableBean;
 import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisClusterConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.data.redis.core.script.RedisScript;
@@ -57,6 +65,7 @@ import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.Topic;
 import org.springframework.integration.support.locks.ExpirableLockRegistry;
 import org.springframework.integration.support.locks.RenewableLockRegistry;
+import org.springframework.lang.Nullable;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
@@ -72,6 +81,14 @@ import org.springframework.util.ReflectionUtils;
  * <p>
  * Locks are reentrant.
  * <p>
+ * By default, a thread waiting for a lock held in another process is woken up by
+ * a Redis pub-sub unlock notification (see {@link RedisLockType#PUB_SUB_LOCK});
+ * the threads waiting for the same lock in this process are queued fairly.
+ * <p>
+ * When a {@link #setRenewalTaskScheduler(TaskScheduler)} is provided, all the locks held
+ * by this registry are renewed by a single task with one pipelined round trip per run
+ * (or one call per lock if the connection does not support pipelining, e.g. a Jedis cluster).
+ * <p>
  * <b>However, locks are scoped by the registry; a lock from a different registry with the
  * same key (even if the registry uses the same 'registryKey') are different
  * locks, and the second cannot be acquired by the same thread while the first is
@@ -137,7 +154,12 @@ public final class RedisLockRegistry implements ExpirableLockRegistry, Disposabl
 
 	private int cacheCapacity = DEFAULT_CAPACITY;
 
-	private RedisLockType redisLockType = RedisLockType.SPIN_LOCK;
+	private RedisLockType redisLockType = RedisLockType.PUB_SUB_LOCK;
+
+	/**
+	 * The locks held by this registry to renew by the {@link #renewalFuture} task.
+	 */
+	private final Map<String, RedisLock> renewableLocks = new ConcurrentHashMap<>();
 
 	/**
 	 * An {@link ExecutorService} to call {@link StringRedisTemplate#delete} in
@@ -148,6 +170,11 @@ public final class RedisLockRegistry implements ExpirableLockRegistry, Disposabl
 
 	private TaskScheduler renewalTaskScheduler;
 
+	private volatile ScheduledFuture<?> renewalFuture;
+
+	@Nullable
+	private volatile Boolean pipeliningSupported;
+
 	/**
 	 * Flag to denote whether the {@link ExecutorService} was provided via the setter and
 	 * thus should not be shutdown when {@link #destroy()} is called
@@ -245,9 +272,10 @@ public final class RedisLockRegistry implements ExpirableLockRegistry, Disposabl
 
 	/**
 	 * Set {@link RedisLockType} mode to work in.
-	 * By default, the {@link RedisLockType#SPIN_LOCK} is used - works in all the environment.
-	 * The {@link RedisLockType#PUB_SUB_LOCK} is a preferred mode when not in Master/Replica connections -
-	 * less network chatter.
+	 * By default, the {@link RedisLockType#PUB_SUB_LOCK} is used - less network chatter
+	 * and the lock is handed off as soon as it is released.
+	 * The {@link RedisLockType#SPIN_LOCK} has to be used in Master/Replica connections,
+	 * where pub-sub is not supported.
 	 * Set the type of unlockType, Select the lock method.
 	 * @param redisLockType the {@link RedisLockType} to work in.
 	 * @since 5.5.13
@@ -292,6 +320,12 @@ public final class RedisLockRegistry implements ExpirableLockRegistry, Disposabl
 
 	@Override
 	public void destroy() {
+		ScheduledFuture<?> future = this.renewalFuture;
+		if (future != null) {
+			future.cancel(true);
+			this.renewalFuture = null;
+		}
+		this.renewableLocks.clear();
 		if (!this.executorExplicitlySet) {
 			((ExecutorService) this.executor).shutdown();
 		}
@@ -327,6 +361,190 @@ public final class RedisLockRegistry implements ExpirableLockRegistry, Disposabl
 		}
 	}
 
+	private void scheduleRenewal(RedisLock redisLock) {
+		this.renewableLocks.put(redisLock.lockKey, redisLock);
+		if (this.renewalFuture == null) {
+			this.lock.lock();
+			try {
+				if (this.renewalFuture == null) {
+					Duration delay = Duration.ofMillis(this.expireAfter / 3);
+					this.renewalFuture = this.renewalTaskScheduler.scheduleWithFixedDelay(this::renewLocks, delay);
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Renew all the held locks with the {@code RENEW_SCRIPT} calls ({@code EVALSHA}, falling back to
+	 * {@code EVAL} if the script is not cached yet) in a single pipeline.
+	 * When pipelining is not supported (e.g. a Jedis cluster connection) or the pipeline fails,
+	 * the locks are renewed one by one.
+	 * A lock which cannot be renewed (already expired or taken by another client)
+	 * is not renewed anymore.
+	 * A lock which cannot be renewed because of an error is retried on the next run,
+	 * until it is not renewed for the {@code expireAfter}; then it is considered as lost.
+	 * The errors are re-thrown to the {@link TaskScheduler}'s error handler.
+	 */
+	private void renewLocks() {
+		List<RedisLock> toRenew = new ArrayList<>(this.renewableLocks.values());
+		if (toRenew.isEmpty()) {
+			return;
+		}
+		long[] acquisitions = new long[toRenew.size()];
+		for (int i = 0; i < acquisitions.length; i++) {
+			acquisitions[i] = toRenew.get(i).acquisition;
+		}
+		List<?> results = null;
+		if (isPipeliningSupported()) {
+			try {
+				results = renewPipelined(toRenew);
+			}
+			catch (Exception ex) {
+				if (isPipeliningUnsupportedError(ex)) {
+					this.pipeliningSupported = false;
+					LOGGER.info("Pipelining is not supported by the connection; the locks are renewed one by one");
+				}
+				else {
+					LOGGER.warn("Failed to renew locks in a pipeline; renewing them one by one", ex);
+				}
+			}
+		}
+		if (results == null) {
+			results = renewOneByOne(toRenew);
+		}
+		processRenewalResults(toRenew, acquisitions, results);
+	}
+
+	private boolean isPipeliningSupported() {
+		Boolean pipelining = this.pipeliningSupported;
+		if (pipelining == null) {
+			pipelining =
+					Boolean.TRUE.equals(this.redisTemplate.execute((RedisCallback<Boolean>) connection ->
+							!(connection instanceof RedisClusterConnection)));
+			this.pipeliningSupported = pipelining;
+		}
+		return pipelining;
+	}
+
+	private List<Object> renewPipelined(List<RedisLock> toRenew) {
+		try {
+			return executeRenewalPipeline(toRenew, true);
+		}
+		catch (RuntimeException ex) {
+			if (isNoScriptError(ex)) {
+				return executeRenewalPipeline(toRenew, false);
+			}
+			throw ex;
+		}
+	}
+
+	private List<Object> executeRenewalPipeline(List<RedisLock> toRenew, boolean evalSha) {
+		byte[] clientIdArg = this.clientId.getBytes(StandardCharsets.UTF_8);
+		byte[] expireAfterArg = String.valueOf(this.expireAfter).getBytes(StandardCharsets.UTF_8);
+		return this.redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			RedisScriptingCommands scriptingCommands = connection.scriptingCommands();
+			for (RedisLock redisLock : toRenew) {
+				byte[] key = redisLock.lockKey.getBytes(StandardCharsets.UTF_8);
+				if (evalSha) {
+					scriptingCommands.evalSha(RedisLock.RENEW_REDIS_SCRIPT.getSha1(), ReturnType.BOOLEAN, 1,
+							key, clientIdArg, expireAfterArg);
+				}
+				else {
+					scriptingCommands.eval(RedisLock.RENEW_SCRIPT_BYTES, ReturnType.BOOLEAN, 1,
+							key, clientIdArg, expireAfterArg);
+				}
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * Renew the locks one by one; the result for a failed renewal is its exception.
+	 */
+	private List<Object> renewOneByOne(List<RedisLock> toRenew) {
+		List<Object> results = new ArrayList<>(toRenew.size());
+		for (RedisLock redisLock : toRenew) {
+			try {
+				results.add(this.redisTemplate.execute(RedisLock.RENEW_REDIS_SCRIPT,
+						Collections.singletonList(redisLock.lockKey), this.clientId, String.valueOf(this.expireAfter)));
+			}
+			catch (Exception ex) {
+				results.add(ex);
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Apply the renewal results; a result is ignored if the lock has been released
+	 * and acquired again since the renewal has been started:
+	 * a new acquisition has just set the key and is scheduled for renewal on its own.
+	 */
+	private void processRenewalResults(List<RedisLock> toRenew, long[] acquisitions, List<?> results) {
+		long now = System.currentTimeMillis();
+		Exception failure = null;
+		int failed = 0;
+		for (int i = 0; i < toRenew.size(); i++) {
+			RedisLock redisLock = toRenew.get(i);
+			if (redisLock.acquisition != acquisitions[i]) {
+				continue;
+			}
+			Object result = results.get(i);
+			if (Boolean.TRUE.equals(result)) {
+				redisLock.renewedAt = now;
+			}
+			else if (result instanceof Exception ex) {
+				failed++;
+				failure = ex;
+				if (now - redisLock.renewedAt >= this.expireAfter) {
+					this.renewableLocks.remove(redisLock.lockKey, redisLock);
+					LOGGER.error("The lock has not been renewed for " + this.expireAfter
+							+ "ms and is considered as lost; " + redisLock);
+				}
+			}
+			else {
+				this.renewableLocks.remove(redisLock.lockKey, redisLock);
+				LOGGER.warn("Could not renew lock, it is expired or taken by another client; " + redisLock);
+			}
+		}
+		if (failure != null) {
+			throw new IllegalStateException("Failed to renew " + failed + " lock(s); will retry on the next run",
+					failure);
+		}
+	}
+
+	private static boolean isNoScriptError(Throwable ex) {
+		Throwable cause = ex;
+		while (cause != null) {
+			if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+				return true;
+			}
+			if (cause instanceof RedisPipelineException pipelineException) {
+				for (Object result : pipelineException.getPipelineResult()) {
+					if (result instanceof Throwable throwable && isNoScriptError(throwable)) {
+						return true;
+					}
+				}
+			}
+			cause = cause.getCause() != cause ? cause.getCause() : null;
+		}
+		return false;
+	}
+
+	private static boolean isPipeliningUnsupportedError(Throwable ex) {
+		Throwable cause = ex;
+		while (cause != null) {
+			if (cause instanceof UnsupportedOperationException) {
+				return true;
+			}
+			cause = cause.getCause() != cause ? cause.getCause() : null;
+		}
+		return false;
+	}
+
 	/**
 	 * The mode in which this registry is going to work with locks.
 	 */
@@ -334,11 +552,14 @@ public final class RedisLockRegistry implements ExpirableLockRegistry, Disposabl
 
 		/**
 		 * The lock is acquired by periodically(idleBetweenTries property) checking whether the lock can be acquired.
+		 * Has to be used in Master/Replica connections, where pub-sub is not supported.
 		 */
 		SPIN_LOCK,
 
 		/**
 		 * The lock is acquired by redis pub-sub subscription.
+		 * The threads waiting for the same lock in this process are queued fairly.
+		 * Default.
 		 */
 		PUB_SUB_LOCK
 	}
@@ -378,16 +599,24 @@ public final class RedisLockRegistry implements ExpirableLockRegistry, Disposabl
 		public static final RedisScript<Boolean> RENEW_REDIS_SCRIPT =
 				new DefaultRedisScript<>(RENEW_SCRIPT, Boolean.class);
 
+		private static final byte[] RENEW_SCRIPT_BYTES = RENEW_SCRIPT.getBytes(StandardCharsets.UTF_8);
+
 		protected final String lockKey;
 
-		private final ReentrantLock localLock = new ReentrantLock();
+		private final ReentrantLock localLock;
 
 		private volatile long lockedAt;
 
-		private volatile ScheduledFuture<?> renewFuture;
+		private volatile long renewedAt;
 
-		private RedisLock(String path) {
+		/**
+		 * Incremented on every acquisition to ignore the renewal results for a previous one.
+		 */
+		private volatile long acquisition;
+
+		private RedisLock(String path, boolean fair) {
 			this.lockKey = constructLockKey(path);
+			this.localLock = new ReentrantLock(fair);
 		}
 
 		private String constructLockKey(String path) {
@@ -502,11 +731,11 @@ public final class RedisLockRegistry implements ExpirableLockRegistry, Disposabl
 				if (LOGGER.isDebugEnabled()) {
 					LOGGER.debug("Acquired lock; " + this);
 				}
+				this.acquisition++; // NOSONAR - guarded by the local lock
 				this.lockedAt = System.currentTimeMillis();
+				this.renewedAt = this.lockedAt;
 				if (RedisLockRegistry.this.renewalTaskScheduler != null) {
-					Duration delay = Duration.ofMillis(RedisLockRegistry.this.expireAfter / 3);
-					this.renewFuture =
-							RedisLockRegistry.this.renewalTaskScheduler.scheduleWithFixedDelay(this::renew, delay);
+					scheduleRenewal(this);
 				}
 			}
 			return acquired;
@@ -590,17 +819,17 @@ public final class RedisLockRegistry implements ExpirableLockRegistry, Disposabl
 			boolean res = Boolean.TRUE.equals(RedisLockRegistry.this.redisTemplate.execute(
 					RENEW_REDIS_SCRIPT, Collections.singletonList(this.lockKey),
 					RedisLockRegistry.this.clientId, String.valueOf(RedisLockRegistry.this.expireAfter)));
-			if (!res) {
+			if (res) {
+				this.renewedAt = System.currentTimeMillis();
+			}
+			else {
 				stopRenew();
 			}
 			return res;
 		}
 
 		protected final void stopRenew() {
-			if (this.renewFuture != null) {
-				this.renewFuture.cancel(true);
-				this.renewFuture = null;
-			}
+			RedisLockRegistry.this.renewableLocks.remove(this.lockKey, this);
 		}
 
 		@Override
@@ -687,7 +916,7 @@ public final class RedisLockRegistry implements ExpirableLockRegistry, Disposabl
 				DELETE_UNLOCK_REDIS_SCRIPT = new DefaultRedisScript<>(DELETE_UNLOCK_SCRIPT, Boolean.class);
 
 		private RedisPubSubLock(String path) {
-			super(path);
+			super(path, true);
 		}
 
 		@Override
@@ -826,7 +1055,7 @@ public final class RedisLockRegistry implements ExpirableLockRegistry, Disposabl
 				DELETE_UNLOCK_REDIS_SCRIPT = new DefaultRedisScript<>(DELETE_UNLOCK_SCRIPT, Boolean.class);
 
 		private RedisSpinLock(String path) {
-			super(path);
+			super(path, false);
 		}
 
 		@Override
@@ -16,12 +16,14 @@
 
 package org.springframework.integration.redis.store;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -119,6 +121,34 @@ class RedisMessageGroupStoreTests implements RedisContainerTest {
 		assertThat(messageGroup.size()).isEqualTo(2);
 	}
 
+	@Test
+	void testBatchedAdditionsWithDuplicates() throws Exception {
+		UUID otherGroupId = UUID.randomUUID();
+		Message<?> existing = new GenericMessage<>("existing");
+		this.store.addMessagesToGroup(this.groupId, existing);
+
+		this.store.setAddBatchSize(4);
+		this.store.setAddBatchLinger(Duration.ofSeconds(10));
+		Message<?> shared = new GenericMessage<>("shared");
+		Message<?> other = new GenericMessage<>("other");
+		CompletableFuture.allOf(
+						CompletableFuture.runAsync(() -> this.store.addMessagesToGroup(this.groupId, shared, shared)),
+						CompletableFuture.runAsync(() -> this.store.addMessagesToGroup(otherGroupId, shared)),
+						CompletableFuture.runAsync(() -> this.store.addMessagesToGroup(this.groupId, existing)),
+						CompletableFuture.runAsync(() -> this.store.addMessagesToGroup(otherGroupId, other)))
+				.get(30, TimeUnit.SECONDS);
+
+		// make sure the store is properly rebuild from Redis
+		RedisMessageStore newStore = new RedisMessageStore(redisConnectionFactory);
+		assertThat(newStore.getMessageGroup(this.groupId).getMessages())
+				.extracting(Message::getPayload)
+				.containsExactlyInAnyOrder("existing", "shared");
+		assertThat(newStore.getMessageGroup(otherGroupId).getMessages())
+				.extracting(Message::getPayload)
+				.containsExactlyInAnyOrder("shared", "other");
+		assertThat(newStore.getMessageFromGroup(otherGroupId, shared.getHeaders().getId())).isNotNull();
+	}
+
 	@Test
 	void testMessageGroupWithAddedMessage() {
 		Message<?> message = new GenericMessage<>("Hello");
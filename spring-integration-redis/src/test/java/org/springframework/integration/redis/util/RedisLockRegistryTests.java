@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2024 the original author or authors.
+ * Copyright 2014-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -52,11 +52,14 @@ import org.springframework.integration.redis.RedisContainerTest;
 import org.springframework.integration.redis.util.RedisLockRegistry.RedisLockType;
 import org.springframework.integration.test.util.TestUtils;
 import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -444,6 +447,60 @@ class RedisLockRegistryTests implements RedisContainerTest {
 		registry.destroy();
 	}
 
+	@ParameterizedTest
+	@EnumSource(RedisLockType.class)
+	void testSingleRenewalTaskForAllLocks(RedisLockType redisLockType) throws Exception {
+		long expireAfter = 300L;
+		ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+		taskScheduler.initialize();
+		RedisLockRegistry registry = new RedisLockRegistry(redisConnectionFactory, this.registryKey, expireAfter);
+		registry.setRenewalTaskScheduler(taskScheduler);
+		registry.setRedisLockType(redisLockType);
+		Lock lock1 = registry.obtain("foo");
+		Lock lock2 = registry.obtain("bar");
+		assertThat(lock1.tryLock()).isTrue();
+		assertThat(lock2.tryLock()).isTrue();
+		assertThat(taskScheduler.getScheduledThreadPoolExecutor().getQueue()).hasSize(1);
+		Thread.sleep(expireAfter * 2);
+
+		Map<?, ?> renewableLocks = TestUtils.getPropertyValue(registry, "renewableLocks", Map.class);
+		assertThat(renewableLocks).containsOnlyKeys(this.registryKey + ":foo", this.registryKey + ":bar");
+
+		createTemplate().opsForValue().set(this.registryKey + ":bar", "anotherClient");
+		await().untilAsserted(() -> assertThat(renewableLocks).containsOnlyKeys(this.registryKey + ":foo"));
+
+		lock1.unlock();
+		assertThatThrownBy(lock2::unlock).isInstanceOf(ConcurrentModificationException.class);
+		createTemplate().delete(this.registryKey + ":bar");
+		registry.destroy();
+		taskScheduler.destroy();
+	}
+
+	@ParameterizedTest
+	@EnumSource(RedisLockType.class)
+	void staleRenewalResultDoesNotStopRenewalOfNewAcquisition(RedisLockType redisLockType) {
+		ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+		taskScheduler.initialize();
+		RedisLockRegistry registry = new RedisLockRegistry(redisConnectionFactory, this.registryKey, 10_000L);
+		registry.setRenewalTaskScheduler(taskScheduler);
+		registry.setRedisLockType(redisLockType);
+		Lock lock = registry.obtain("foo");
+		assertThat(lock.tryLock()).isTrue();
+		long staleAcquisition = TestUtils.getPropertyValue(lock, "acquisition", Long.class);
+		lock.unlock();
+		assertThat(lock.tryLock()).isTrue();
+
+		// A 'false' renewal result for the previous acquisition arrives after the lock is acquired again
+		ReflectionTestUtils.invokeMethod(registry, "processRenewalResults",
+				List.of(lock), new long[] {staleAcquisition}, List.of(false));
+
+		Map<?, ?> renewableLocks = TestUtils.getPropertyValue(registry, "renewableLocks", Map.class);
+		assertThat(renewableLocks).containsOnlyKeys(this.registryKey + ":foo");
+		lock.unlock();
+		registry.destroy();
+		taskScheduler.destroy();
+	}
+
 	@ParameterizedTest
 	@EnumSource(RedisLockType.class)
 	void testEquals(RedisLockType testRedisLockType) {